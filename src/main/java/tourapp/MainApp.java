@@ -3,8 +3,12 @@ package tourapp;
 import javafx.application.Application;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
+import tourapp.service.tour_service.TourService;
+import tourapp.service.user_service.CredentialService;
 import tourapp.util.AppContext;
+import tourapp.util.ConnectionFactory;
 import tourapp.util.ControllerFactory;
+import tourapp.view.ViewCache;
 import tourapp.view.auth_controller.LoginController;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -12,10 +16,15 @@ import org.slf4j.LoggerFactory;
 public class MainApp extends Application {
     private static final Logger logger = LoggerFactory.getLogger(MainApp.class);
 
+    private AppContext appContext;
+
     @Override
     public void start(Stage primaryStage) {
-        AppContext appContext = new AppContext();
+        appContext = new AppContext();
         appContext.getServiceLocator().register(Stage.class, primaryStage);
+        appContext.getServiceLocator().register(ViewCache.class, new ViewCache(
+                Integer.getInteger("tourapp.viewCache.maxScreens", ViewCache.DEFAULT_MAX_SCREENS),
+                Long.getLong("tourapp.viewCache.maxNodes", ViewCache.DEFAULT_MAX_NODES)));
 
         ControllerFactory controllerFactory = new ControllerFactory(appContext.getServiceLocator());
 
@@ -23,6 +32,20 @@ public class MainApp extends Application {
         loginController.show();
     }
 
+    @Override
+    public void stop() {
+        if (appContext != null) {
+            appContext.getServiceLocator().resolve(TourService.class).getSearchCacheStats().ifPresent(stats ->
+                    logger.info("Кеш пошуку турів: {} влучань, {} промахів ({}%), заощаджено {} мс",
+                            stats.hits(), stats.misses(), Math.round(stats.hitRatio() * 100), stats.savedMillis()));
+            ViewCache.Stats views = appContext.getServiceLocator().resolve(ViewCache.class).stats();
+            logger.info("Кеш екранів: {} повторних показів, {} побудов, {} витіснень",
+                    views.hits(), views.misses(), views.evictions());
+            appContext.getServiceLocator().resolve(CredentialService.class).close();
+            appContext.getServiceLocator().resolve(ConnectionFactory.class).close();
+        }
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
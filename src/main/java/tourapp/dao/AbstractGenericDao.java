@@ -6,16 +6,38 @@ import tourapp.dao.location_dao.LocationDao;
 import tourapp.util.ConnectionFactory;
 import tourapp.util.DaoUtils;
 import tourapp.util.DaoUtils.JoinInfo;
+import tourapp.util.FacetValue;
+import tourapp.util.FullTextIndex;
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
 
 import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
 
 public abstract class AbstractGenericDao<T> {
+    private static final int MAX_IN_LIST_SIZE = 512;
+    // The relevance-ordered search() list keeps only the best-ranked matches; nobody reads further down it.
+    // searchPage, stream and facet counts filter by every match.
+    public static final int MAX_KEYWORD_MATCHES = 1000;
+
+    // Where the keyword index of a DAO takes its text from: the first column of sql is the id,
+    // the remaining columns are joined into the indexed text. textOf must read the same fields from an entity.
+    public record FullTextSource<T>(String sql, ToIntFunction<T> idOf, Function<T, String> textOf) {
+    }
+
     protected Logger logger = LoggerFactory.getLogger(LocationDao.class);
     protected final ConnectionFactory connectionFactory;
     public final String tableName;
@@ -23,6 +45,9 @@ public abstract class AbstractGenericDao<T> {
 
     protected Map<String, String> columnMappings;
     protected List<JoinInfo> joinInfos;
+    protected final DaoUtils.QueryTemplate queryTemplate;
+    private final FullTextSource<T> fullTextSource;
+    private final FullTextIndex fullTextIndex;
 
     public AbstractGenericDao(ConnectionFactory connectionFactory, String tableName, DaoUtils.ResultSetMapper<T> rowMapper) {
         this.connectionFactory = connectionFactory;
@@ -30,6 +55,10 @@ public abstract class AbstractGenericDao<T> {
         this.rowMapper = rowMapper;
         this.columnMappings = initColumnMappings();
         this.joinInfos = initJoinInfos();
+        this.queryTemplate = new DaoUtils.QueryTemplate(tableName, getBaseAlias(), columnMappings, joinInfos,
+                getDefaultOrderColumn());
+        this.fullTextSource = initFullTextSource();
+        this.fullTextIndex = fullTextSource != null ? new FullTextIndex() : null;
     }
 
     protected Map<String, String> initColumnMappings() {
@@ -40,61 +69,197 @@ public abstract class AbstractGenericDao<T> {
         return new ArrayList<>();
     }
 
+    // DAOs that return a source answer the "keyword" filter from a ranked full-text index instead of LIKE.
+    protected FullTextSource<T> initFullTextSource() {
+        return null;
+    }
+
     public String getBaseAlias() {
         return tableName.substring(0, 1);
     }
 
+    // Column used by findAll/search and by pages requested without sort keys.
+    protected String getDefaultOrderColumn() {
+        return getBaseAlias() + ".name";
+    }
+
     public List<T> findAll() throws SQLException {
         try (Connection conn = connectionFactory.getConnection()) {
-            return DaoUtils.executeSearchQuery(
-                    conn,
-                    tableName,
-                    getBaseAlias(),
-                    Map.of(),
-                    columnMappings,
-                    joinInfos,
-                    rowMapper
-            );
+            return DaoUtils.executeSearchQuery(conn, queryTemplate, Map.of(), rowMapper);
         }
     }
 
     public T findById(int id) throws SQLException {
         try (Connection conn = connectionFactory.getConnection()) {
-            List<T> results = DaoUtils.executeSearchQuery(
-                    conn,
-                    tableName,
-                    getBaseAlias(),
-                    Map.of("id", id),
-                    columnMappings,
-                    joinInfos,
-                    rowMapper
-            );
+            List<T> results = DaoUtils.executeSearchQuery(conn, queryTemplate, Map.of("id", id), rowMapper);
             return results.isEmpty() ? null : results.getFirst();
         }
     }
 
+    public List<T> findByIds(Collection<Integer> ids) throws SQLException {
+        List<T> result = new ArrayList<>();
+        if (ids.isEmpty()) return result;
+
+        List<Integer> distinctIds = List.copyOf(new LinkedHashSet<>(ids));
+        try (Connection conn = connectionFactory.getConnection()) {
+            for (int from = 0; from < distinctIds.size(); from += MAX_IN_LIST_SIZE) {
+                List<Integer> chunk = distinctIds.subList(from, Math.min(from + MAX_IN_LIST_SIZE, distinctIds.size()));
+                result.addAll(DaoUtils.executeSearchQuery(conn, queryTemplate, Map.of("id", padToPowerOfTwo(chunk)), rowMapper));
+            }
+        }
+        return result;
+    }
+
+    // Repeating the last id keeps the number of distinct IN (...) shapes, and so cached statements, small.
+    private static List<Integer> padToPowerOfTwo(List<Integer> ids) {
+        int size = Integer.highestOneBit(ids.size());
+        if (size == ids.size()) return ids;
+
+        List<Integer> padded = new ArrayList<>(size * 2);
+        padded.addAll(ids);
+        while (padded.size() < size * 2) {
+            padded.add(ids.getLast());
+        }
+        return padded;
+    }
+
+    // Distinct non-null values of a column of this table with their row counts, for filter options.
+    // Only reads the one column, so it is cheap even where findAll() would load large rows.
+    public List<FacetValue> findDistinctValues(String param) throws SQLException {
+        String column = columnMappings.get(param);
+        if (column == null || !column.startsWith(getBaseAlias() + ".")) {
+            throw new IllegalArgumentException("Невідоме поле для фільтра: " + param);
+        }
+
+        String sql = "SELECT " + column + " AS value, COUNT(*) AS value_count FROM " + tableName + " " + getBaseAlias() +
+                " WHERE " + column + " IS NOT NULL GROUP BY " + column + " ORDER BY " + column;
+        try (Connection conn = connectionFactory.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql);
+             ResultSet rs = stmt.executeQuery()) {
+            List<FacetValue> values = new ArrayList<>();
+            while (rs.next()) {
+                values.add(new FacetValue(rs.getString("value"), rs.getInt("value_count")));
+            }
+            return values;
+        }
+    }
+
     public boolean delete(int id) throws SQLException {
         String sql = "DELETE FROM " + tableName + " WHERE id = ?";
         try (Connection conn = connectionFactory.getConnection();
              var stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, id);
-            return stmt.executeUpdate() > 0;
+            boolean deleted = stmt.executeUpdate() > 0;
+            if (deleted && fullTextIndex != null) {
+                synchronized (fullTextIndex) {
+                    fullTextIndex.remove(id);
+                }
+            }
+            return deleted;
         }
     }
 
+    // Without a keyword this is a plain filtered query; with one, results come in relevance order.
     public List<T> search(Map<String, Object> searchParams) throws SQLException {
+        List<Integer> rankedIds = keywordMatches(searchParams, MAX_KEYWORD_MATCHES);
+        if (rankedIds != null && rankedIds.isEmpty()) return new ArrayList<>();
+
+        List<T> result;
         try (Connection conn = connectionFactory.getConnection()) {
-            List<JoinInfo> effectiveJoins = new ArrayList<>(joinInfos);
-
-            return DaoUtils.executeSearchQuery(
-                    conn,
-                    tableName,
-                    getBaseAlias(),
-                    searchParams,
-                    columnMappings,
-                    effectiveJoins,
-                    rowMapper
-            );
+            result = DaoUtils.executeSearchQuery(conn, queryTemplate, withKeywordMatches(searchParams, rankedIds), rowMapper);
+        }
+        if (rankedIds != null) {
+            Map<Integer, Integer> rank = new HashMap<>();
+            for (int i = 0; i < rankedIds.size(); i++) {
+                rank.put(rankedIds.get(i), i);
+            }
+            result = new ArrayList<>(result);
+            result.sort(Comparator.comparingInt(entity -> rank.get(fullTextSource.idOf().applyAsInt(entity))));
+        }
+        return result;
+    }
+
+    // Pages keep their keyset order; the keyword only narrows the rows.
+    public Page<T> searchPage(Map<String, Object> searchParams, PageRequest request) throws SQLException {
+        List<Integer> rankedIds = keywordMatches(searchParams);
+        if (rankedIds != null && rankedIds.isEmpty()) return new Page<>(List.of(), null);
+
+        try (Connection conn = connectionFactory.getConnection()) {
+            return DaoUtils.executePageQuery(conn, queryTemplate, withKeywordMatches(searchParams, rankedIds), request, rowMapper);
+        }
+    }
+
+    // Rows are read one at a time from a streaming result set; close the stream to release the connection.
+    public Stream<T> stream(Map<String, Object> searchParams) throws SQLException {
+        List<Integer> rankedIds = keywordMatches(searchParams);
+        if (rankedIds != null && rankedIds.isEmpty()) return Stream.empty();
+
+        Map<String, Object> params = withKeywordMatches(searchParams, rankedIds);
+        return DaoUtils.streamQuery(connectionFactory.getConnection(), queryTemplate.getSql(params),
+                stmt -> queryTemplate.setParameters(stmt, params), rowMapper);
+    }
+
+    // Ids matching the keyword, best first; null when the search has no keyword or the DAO has no index.
+    protected List<Integer> keywordMatches(Map<String, Object> searchParams) throws SQLException {
+        return keywordMatches(searchParams, Integer.MAX_VALUE);
+    }
+
+    // The same, cut to the limit best-ranked matches.
+    protected List<Integer> keywordMatches(Map<String, Object> searchParams, int limit) throws SQLException {
+        if (fullTextIndex == null || !(searchParams.get("keyword") instanceof String keyword)) return null;
+
+        ensureFullTextIndexLoaded();
+        return fullTextIndex.search(keyword, limit).stream()
+                .map(FullTextIndex.Hit::id)
+                .toList();
+    }
+
+    protected static Map<String, Object> withKeywordMatches(Map<String, Object> searchParams, List<Integer> rankedIds) {
+        if (rankedIds == null) return searchParams;
+
+        Map<String, Object> params = new HashMap<>(searchParams);
+        params.remove("keyword");
+        params.put("id", rankedIds.isEmpty() ? rankedIds : padToPowerOfTwo(rankedIds));
+        return params;
+    }
+
+    // The index is built from the table on the first keyword search and kept current by create, update and delete.
+    // Holding the index monitor while loading makes writes that land meanwhile wait and apply on top of the snapshot.
+    private void ensureFullTextIndexLoaded() throws SQLException {
+        if (fullTextIndex.isLoaded()) return;
+
+        synchronized (fullTextIndex) {
+            if (fullTextIndex.isLoaded()) return;
+
+            Map<Integer, String> texts = new HashMap<>();
+            try (Connection conn = connectionFactory.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(fullTextSource.sql());
+                 ResultSet rs = stmt.executeQuery()) {
+                int columns = rs.getMetaData().getColumnCount();
+                while (rs.next()) {
+                    StringBuilder text = new StringBuilder();
+                    for (int column = 2; column <= columns; column++) {
+                        String value = rs.getString(column);
+                        if (value != null) {
+                            text.append(value).append(' ');
+                        }
+                    }
+                    texts.put(rs.getInt(1), text.toString());
+                }
+            }
+            fullTextIndex.load(texts);
+            logger.info("Повнотекстовий індекс {} побудовано: {} записів", tableName, texts.size());
+        }
+    }
+
+    // Call after a committed insert or update of an entity.
+    protected void updateFullTextIndex(T entity) {
+        if (fullTextIndex == null) return;
+
+        synchronized (fullTextIndex) {
+            if (fullTextIndex.isLoaded()) {
+                fullTextIndex.put(fullTextSource.idOf().applyAsInt(entity), fullTextSource.textOf().apply(entity));
+            }
         }
     }
 
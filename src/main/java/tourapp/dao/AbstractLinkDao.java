@@ -1,12 +1,27 @@
 package tourapp.dao;
 
 import tourapp.util.ConnectionFactory;
+import tourapp.util.DaoUtils;
+import tourapp.util.UnitOfWork;
 
 import java.sql.*;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public abstract class AbstractLinkDao<T> {
+    private static final int STREAM_CHUNK_SIZE = 512;
+
     protected final ConnectionFactory connectionFactory;
 
     public AbstractLinkDao(ConnectionFactory connectionFactory) {
@@ -20,25 +35,48 @@ public abstract class AbstractLinkDao<T> {
     protected abstract T mapWithAdditionalData(int id1, int id2) throws SQLException;
 
     public boolean create(int id1, int id2) throws SQLException {
-        String sql = String.format("INSERT INTO %s (%s, %s) VALUES (?, ?)", getTableName(), getId1Column(), getId2Column());
         try (Connection conn = connectionFactory.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(insertSql())) {
             stmt.setInt(1, id1);
             stmt.setInt(2, id2);
             return stmt.executeUpdate() > 0;
         }
     }
 
+    public boolean createAll(int id1, Collection<Integer> id2s) throws SQLException {
+        return executeBatch(insertSql(), id1, id2s);
+    }
+
     public boolean delete(int id1, int id2) throws SQLException {
-        String sql = String.format("DELETE FROM %s WHERE %s = ? AND %s = ?", getTableName(), getId1Column(), getId2Column());
         try (Connection conn = connectionFactory.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+             PreparedStatement stmt = conn.prepareStatement(deleteSql())) {
             stmt.setInt(1, id1);
             stmt.setInt(2, id2);
             return stmt.executeUpdate() > 0;
         }
     }
 
+    public boolean deleteAll(int id1, Collection<Integer> id2s) throws SQLException {
+        return executeBatch(deleteSql(), id1, id2s);
+    }
+
+    public boolean syncLinks(int id1, Collection<Integer> id2s) throws SQLException {
+        int[] target = toSortedSet(id2s);
+        return UnitOfWork.execute(connectionFactory, conn -> {
+            int[] current = findId2s(conn, id1);
+            int[] removed = difference(current, target);
+            int[] added = difference(target, current);
+
+            if (removed.length > 0) {
+                executeBatch(conn, deleteSql(), id1, removed);
+            }
+            if (added.length > 0) {
+                executeBatch(conn, insertSql(), id1, added);
+            }
+            return removed.length > 0 || added.length > 0;
+        });
+    }
+
     public boolean deleteAllById1(int id1) throws SQLException {
         String sql = String.format("DELETE FROM %s WHERE %s = ?", getTableName(), getId1Column());
         try (Connection conn = connectionFactory.getConnection();
@@ -57,6 +95,85 @@ public abstract class AbstractLinkDao<T> {
         }
     }
 
+    private String insertSql() {
+        return String.format("INSERT INTO %s (%s, %s) VALUES (?, ?)", getTableName(), getId1Column(), getId2Column());
+    }
+
+    private String deleteSql() {
+        return String.format("DELETE FROM %s WHERE %s = ? AND %s = ?", getTableName(), getId1Column(), getId2Column());
+    }
+
+    private boolean executeBatch(String sql, int id1, Collection<Integer> id2s) throws SQLException {
+        if (id2s.isEmpty()) return false;
+
+        try (Connection conn = connectionFactory.getConnection()) {
+            return executeBatch(conn, sql, id1, id2s.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    private static boolean executeBatch(Connection conn, String sql, int id1, int[] id2s) throws SQLException {
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int id2 : id2s) {
+                stmt.setInt(1, id1);
+                stmt.setInt(2, id2);
+                stmt.addBatch();
+            }
+
+            for (int count : stmt.executeBatch()) {
+                if (count == 0) return false;
+            }
+            return true;
+        }
+    }
+
+    private int[] findId2s(Connection conn, int id1) throws SQLException {
+        String sql = String.format("SELECT %s FROM %s WHERE %s = ?", getId2Column(), getTableName(), getId1Column());
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, id1);
+            try (ResultSet rs = stmt.executeQuery()) {
+                int[] ids = new int[8];
+                int size = 0;
+                while (rs.next()) {
+                    if (size == ids.length) {
+                        ids = Arrays.copyOf(ids, size * 2);
+                    }
+                    ids[size++] = rs.getInt(1);
+                }
+                return distinctSorted(ids, size);
+            }
+        }
+    }
+
+    private static int[] toSortedSet(Collection<Integer> ids) {
+        int[] values = ids.stream().mapToInt(Integer::intValue).toArray();
+        return distinctSorted(values, values.length);
+    }
+
+    private static int[] distinctSorted(int[] values, int size) {
+        Arrays.sort(values, 0, size);
+        int unique = 0;
+        for (int i = 0; i < size; i++) {
+            if (unique == 0 || values[unique - 1] != values[i]) {
+                values[unique++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, unique);
+    }
+
+    // Both arrays are sorted and distinct; returns the elements of a that are missing from b.
+    private static int[] difference(int[] a, int[] b) {
+        int[] result = new int[a.length];
+        int size = 0;
+        int j = 0;
+        for (int value : a) {
+            while (j < b.length && b[j] < value) j++;
+            if (j == b.length || b[j] != value) {
+                result[size++] = value;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
     public boolean existsLink(int id1, int id2) throws SQLException {
         String sql = String.format("SELECT 1 FROM %s WHERE %s = ? AND %s = ?", getTableName(), getId1Column(), getId2Column());
         try (Connection conn = connectionFactory.getConnection();
@@ -71,51 +188,101 @@ public abstract class AbstractLinkDao<T> {
 
     public List<T> findAllLinks() throws SQLException {
         String sql = String.format("SELECT %s, %s FROM %s", getId1Column(), getId2Column(), getTableName());
+        List<Link> links = new ArrayList<>();
         try (Connection conn = connectionFactory.getConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
 
-            List<T> result = new ArrayList<>();
             while (rs.next()) {
-                int id1 = rs.getInt(getId1Column());
-                int id2 = rs.getInt(getId2Column());
-                result.add(mapWithAdditionalData(id1, id2));
+                links.add(new Link(rs.getInt(getId1Column()), rs.getInt(getId2Column())));
             }
-            return result;
         }
+        return links.isEmpty() ? new ArrayList<>() : mapAllWithAdditionalData(links);
+    }
+
+    // Links are streamed from the table and hydrated in chunks through mapAllWithAdditionalData on a second
+    // connection, so this must not be called inside a unit of work. Close the stream to release the connection.
+    public Stream<T> streamAllLinks() throws SQLException {
+        String sql = String.format("SELECT %s, %s FROM %s", getId1Column(), getId2Column(), getTableName());
+        Stream<Link> links = DaoUtils.streamQuery(connectionFactory.getConnection(), sql, stmt -> {},
+                rs -> new Link(rs.getInt(1), rs.getInt(2)));
+        Iterator<Link> rows = links.iterator();
+
+        Spliterator<T> hydrated = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            private Iterator<T> chunk = Collections.emptyIterator();
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                while (!chunk.hasNext()) {
+                    if (!rows.hasNext()) {
+                        return false;
+                    }
+                    List<Link> batch = new ArrayList<>(STREAM_CHUNK_SIZE);
+                    while (rows.hasNext() && batch.size() < STREAM_CHUNK_SIZE) {
+                        batch.add(rows.next());
+                    }
+                    try {
+                        chunk = mapAllWithAdditionalData(batch).iterator();
+                    } catch (SQLException e) {
+                        throw new DaoUtils.UncheckedSQLException(e);
+                    }
+                }
+                action.accept(chunk.next());
+                return true;
+            }
+        };
+        return StreamSupport.stream(hydrated, false).onClose(links::close);
     }
 
     public List<T> findById1(int id1) throws SQLException {
         String sql = String.format("SELECT %s FROM %s WHERE %s = ?", getId2Column(), getTableName(), getId1Column());
+        List<Link> links = new ArrayList<>();
         try (Connection conn = connectionFactory.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, id1);
             try (ResultSet rs = stmt.executeQuery()) {
-                List<T> result = new ArrayList<>();
                 while (rs.next()) {
-                    int id2 = rs.getInt(getId2Column());
-                    result.add(mapWithAdditionalData(id1, id2));
+                    links.add(new Link(id1, rs.getInt(getId2Column())));
                 }
-                return result;
             }
         }
+        return links.isEmpty() ? new ArrayList<>() : mapAllWithAdditionalData(links);
     }
 
     public List<T> findById2(int id2) throws SQLException {
         String sql = String.format("SELECT %s FROM %s WHERE %s = ?", getId1Column(), getTableName(), getId2Column());
+        List<Link> links = new ArrayList<>();
         try (Connection conn = connectionFactory.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
 
             stmt.setInt(1, id2);
             try (ResultSet rs = stmt.executeQuery()) {
-                List<T> result = new ArrayList<>();
                 while (rs.next()) {
-                    int id1 = rs.getInt(getId1Column());
-                    result.add(mapWithAdditionalData(id1, id2));
+                    links.add(new Link(rs.getInt(getId1Column()), id2));
                 }
-                return result;
             }
         }
+        return links.isEmpty() ? new ArrayList<>() : mapAllWithAdditionalData(links);
+    }
+
+    // Subclasses override this to load every referenced id2 entity in one query instead of one per row.
+    protected List<T> mapAllWithAdditionalData(List<Link> links) throws SQLException {
+        List<T> result = new ArrayList<>(links.size());
+        for (Link link : links) {
+            result.add(mapWithAdditionalData(link.id1(), link.id2()));
+        }
+        return result;
+    }
+
+    protected static Set<Integer> distinctId2s(List<Link> links) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (Link link : links) {
+            ids.add(link.id2());
+        }
+        return ids;
+    }
+
+    public record Link(int id1, int id2) {
     }
 }
@@ -1,31 +1,54 @@
 package tourapp.dao;
 
 import tourapp.util.ConnectionFactory;
-import tourapp.util.DaoUtils;
 
 import java.sql.*;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 
+// Type tables are tiny and rarely change, so the whole table is kept in memory after the first lookup.
+// Lookups by id and exact name are served from the cache; pattern searches and paging still go to the database.
 public abstract class AbstractTypeDao<T> extends AbstractGenericDao<T> {
 
+    public record CacheStats(long hits, long misses) {
+    }
+
+    private record Entry(int id, String name) {
+    }
+
+    private record Snapshot(List<Entry> ordered, Map<Integer, Entry> byId, Map<String, Entry> byName) {
+    }
+
+    private final BiFunction<Integer, String, T> factory;
     private final Function<T, String> nameGetter;
     private final Function<T, Optional<Integer>> idGetter;
     private final BiConsumer<T, Integer> idSetter;
 
+    private volatile Snapshot cache;
+    private long cacheVersion;
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
     public AbstractTypeDao(
             ConnectionFactory connectionFactory,
             String tableName,
-            DaoUtils.ResultSetMapper<T> rowMapper,
+            BiFunction<Integer, String, T> factory,
             Function<T, String> nameGetter,
             Function<T, Optional<Integer>> idGetter,
             BiConsumer<T, Integer> idSetter
     ) {
-        super(connectionFactory, tableName, rowMapper);
+        super(connectionFactory, tableName, rs -> factory.apply(rs.getInt("id"), rs.getString("name")));
+        this.factory = factory;
         this.nameGetter = nameGetter;
         this.idGetter = idGetter;
         this.idSetter = idSetter;
@@ -54,6 +77,7 @@ public abstract class AbstractTypeDao<T> extends AbstractGenericDao<T> {
                 try (ResultSet keys = stmt.getGeneratedKeys()) {
                     if (keys.next()) {
                         idSetter.accept(entity, keys.getInt(1));
+                        invalidateCache();
                         return true;
                     }
                 }
@@ -81,8 +105,50 @@ public abstract class AbstractTypeDao<T> extends AbstractGenericDao<T> {
             stmt.setString(1, nameGetter.apply(entity));
             stmt.setInt(2, entityId);
 
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            if (updated) {
+                invalidateCache();
+            }
+            return updated;
+        }
+    }
+
+    @Override
+    public boolean delete(int id) throws SQLException {
+        boolean deleted = super.delete(id);
+        if (deleted) {
+            invalidateCache();
+        }
+        return deleted;
+    }
+
+    @Override
+    public List<T> findAll() throws SQLException {
+        List<T> result = new ArrayList<>();
+        for (Entry entry : snapshot().ordered()) {
+            result.add(toEntity(entry));
+        }
+        return result;
+    }
+
+    @Override
+    public T findById(int id) throws SQLException {
+        return toEntity(snapshot().byId().get(id));
+    }
+
+    @Override
+    public List<T> findByIds(Collection<Integer> ids) throws SQLException {
+        List<T> result = new ArrayList<>();
+        if (ids.isEmpty()) return result;
+
+        Map<Integer, Entry> byId = snapshot().byId();
+        for (Integer id : new LinkedHashSet<>(ids)) {
+            Entry entry = byId.get(id);
+            if (entry != null) {
+                result.add(toEntity(entry));
+            }
         }
+        return result;
     }
 
     public List<T> findByName(String name) throws SQLException {
@@ -92,34 +158,70 @@ public abstract class AbstractTypeDao<T> extends AbstractGenericDao<T> {
     }
 
     public T findByExactName(String name) throws SQLException {
-        String query = "SELECT * FROM " + tableName + " WHERE name = ?";
-        try (Connection connection = connectionFactory.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(query)) {
+        return toEntity(snapshot().byName().get(nameKey(name)));
+    }
 
-            stmt.setString(1, name);
+    public boolean existsWithName(String name) throws SQLException {
+        return snapshot().byName().containsKey(nameKey(name));
+    }
 
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rowMapper.map(rs);
-                }
-            }
-        }
-        return null;
+    public CacheStats getCacheStats() {
+        return new CacheStats(cacheHits.get(), cacheMisses.get());
     }
 
-    public boolean existsWithName(String name) throws SQLException {
-        String query = "SELECT COUNT(*) FROM " + tableName + " WHERE name = ?";
-        try (Connection connection = connectionFactory.getConnection();
-             PreparedStatement stmt = connection.prepareStatement(query)) {
+    // Drops the cached table; the next lookup reloads it. Needed only after writes that bypass this DAO.
+    public synchronized void invalidateCache() {
+        cacheVersion++;
+        cache = null;
+    }
 
-            stmt.setString(1, name);
+    private Snapshot snapshot() throws SQLException {
+        Snapshot current = cache;
+        if (current != null) {
+            cacheHits.incrementAndGet();
+            return current;
+        }
 
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1) > 0;
-                }
+        long version;
+        synchronized (this) {
+            if (cache != null) {
+                cacheHits.incrementAndGet();
+                return cache;
             }
+            version = cacheVersion;
         }
-        return false;
+
+        cacheMisses.incrementAndGet();
+        Snapshot loaded = load();
+        synchronized (this) {
+            // A write that happened while the table was loading may not be in it; keep it uncached then.
+            if (version == cacheVersion) {
+                cache = loaded;
+            }
+        }
+        return loaded;
+    }
+
+    private Snapshot load() throws SQLException {
+        List<Entry> ordered = new ArrayList<>();
+        Map<Integer, Entry> byId = new HashMap<>();
+        Map<String, Entry> byName = new HashMap<>();
+        for (T entity : super.findAll()) {
+            Entry entry = new Entry(idGetter.apply(entity).orElseThrow(), nameGetter.apply(entity));
+            ordered.add(entry);
+            byId.put(entry.id(), entry);
+            byName.putIfAbsent(nameKey(entry.name()), entry);
+        }
+        return new Snapshot(List.copyOf(ordered), Map.copyOf(byId), Map.copyOf(byName));
+    }
+
+    // Callers get their own instance: edit forms mutate the entity before saving it.
+    private T toEntity(Entry entry) {
+        return entry == null ? null : factory.apply(entry.id(), entry.name());
+    }
+
+    // Name columns use MySQL's case-insensitive collation, so "customer" matches "CUSTOMER" there as well.
+    private static String nameKey(String name) {
+        return name == null ? "" : name.toLowerCase(Locale.ROOT);
     }
-}
\ No newline at end of file
+}
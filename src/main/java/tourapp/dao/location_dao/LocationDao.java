@@ -11,6 +11,9 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class LocationDao extends AbstractGenericDao<Location> {
     public LocationDao(ConnectionFactory connectionFactory) {
@@ -35,6 +38,14 @@ public class LocationDao extends AbstractGenericDao<Location> {
         });
     }
 
+    @Override
+    protected FullTextSource<Location> initFullTextSource() {
+        return new FullTextSource<>("SELECT id, name, description, country FROM locations", Location::getId,
+                location -> Stream.of(location.getName(), location.getDescription(), location.getCountry())
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.joining(" ")));
+    }
+
     @Override
     public List<JoinInfo> initJoinInfos() {
         List<JoinInfo> joins = new ArrayList<>();
@@ -87,6 +98,7 @@ public class LocationDao extends AbstractGenericDao<Location> {
                 }
             }
 
+            updateFullTextIndex(location);
             return true;
         }
     }
@@ -112,7 +124,11 @@ public class LocationDao extends AbstractGenericDao<Location> {
             }
 
             stmt.setInt(5, location.getId());
-            return stmt.executeUpdate() > 0;
+            boolean updated = stmt.executeUpdate() > 0;
+            if (updated) {
+                updateFullTextIndex(location);
+            }
+            return updated;
         }
     }
 }
\ No newline at end of file
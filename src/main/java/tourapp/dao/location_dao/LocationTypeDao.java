@@ -11,7 +11,7 @@ public class LocationTypeDao extends AbstractTypeDao<LocationType> {
         super(
                 connectionFactory,
                 "location_types",
-                rs -> new LocationType(rs.getInt("id"), rs.getString("name")),
+                LocationType::new,
                 LocationType::getName,
                 locationType -> Optional.of(locationType.getId()),
                 LocationType::setId
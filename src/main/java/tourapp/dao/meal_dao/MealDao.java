@@ -5,6 +5,9 @@ import tourapp.model.meal.Meal;
 import tourapp.model.meal.MealType;
 import tourapp.util.ConnectionFactory;
 import tourapp.util.DaoUtils.JoinInfo;
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
+import tourapp.util.UnitOfWork;
 
 import java.sql.*;
 import java.util.ArrayList;
@@ -13,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 public class MealDao extends AbstractGenericDao<Meal> {
+    private static final int MEAL_TYPES_BATCH_SIZE = 512;
 
     private final MealMealTypeDao mealTypeLinkDao;
 
@@ -57,6 +61,7 @@ public class MealDao extends AbstractGenericDao<Meal> {
         columnMappings.put("mealsPerDay", baseAlias + ".meals_per_day");
         columnMappings.put("minCostPerDay", baseAlias + ".cost_per_day");
         columnMappings.put("maxCostPerDay", baseAlias + ".cost_per_day");
+        columnMappings.put("costPerDay", baseAlias + ".cost_per_day");
         columnMappings.put("mealType", "mt.name");
         return columnMappings;
     }
@@ -65,16 +70,61 @@ public class MealDao extends AbstractGenericDao<Meal> {
     public Meal findById(int id) throws SQLException {
         Meal meal = super.findById(id);
         if (meal != null) {
-            meal.setMealTypes(mealTypeLinkDao.findById1(id));
+            attachMealTypes(List.of(meal));
         }
         return meal;
     }
 
     @Override
     public List<Meal> findAll() throws SQLException {
-        List<Meal> meals = super.findAll();
+        return attachMealTypes(super.findAll());
+    }
+
+    @Override
+    public List<Meal> search(Map<String, Object> searchParams) throws SQLException {
+        return attachMealTypes(super.search(searchParams));
+    }
+
+    @Override
+    public Page<Meal> searchPage(Map<String, Object> searchParams, PageRequest request) throws SQLException {
+        Page<Meal> page = super.searchPage(searchParams, request);
+        attachMealTypes(page.items());
+        return page;
+    }
+
+    // Loads the types of all given meals with one query per batch instead of one (or more) per meal.
+    private List<Meal> attachMealTypes(List<Meal> meals) throws SQLException {
+        if (meals.isEmpty()) return meals;
+
+        Map<Integer, List<MealType>> typesByMeal = new HashMap<>();
+        for (Meal meal : meals) {
+            typesByMeal.put(meal.getId(), new ArrayList<>());
+        }
+
+        List<Integer> mealIds = List.copyOf(typesByMeal.keySet());
+        try (Connection conn = connectionFactory.getConnection()) {
+            for (int from = 0; from < mealIds.size(); from += MEAL_TYPES_BATCH_SIZE) {
+                List<Integer> batch = mealIds.subList(from, Math.min(from + MEAL_TYPES_BATCH_SIZE, mealIds.size()));
+                String sql = "SELECT mmt.meal_id, mt.id, mt.name FROM meal_meal_types mmt " +
+                        "JOIN meal_types mt ON mmt.meal_type_id = mt.id " +
+                        "WHERE mmt.meal_id IN (" + "?,".repeat(batch.size() - 1) + "?) ORDER BY mt.name";
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    int index = 1;
+                    for (int mealId : batch) {
+                        stmt.setInt(index++, mealId);
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            typesByMeal.get(rs.getInt("meal_id"))
+                                    .add(new MealType(rs.getInt("id"), rs.getString("name")));
+                        }
+                    }
+                }
+            }
+        }
+
         for (Meal meal : meals) {
-            meal.setMealTypes(mealTypeLinkDao.findById1(meal.getId()));
+            meal.setMealTypes(typesByMeal.get(meal.getId()));
         }
         return meals;
     }
@@ -82,52 +132,68 @@ public class MealDao extends AbstractGenericDao<Meal> {
     public boolean create(Meal meal) throws SQLException {
         String sql = "INSERT INTO meals (name, meals_per_day, cost_per_day) VALUES (?, ?, ?)";
 
-        try (var conn = connectionFactory.getConnection();
-             var stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+        return UnitOfWork.execute(connectionFactory, conn -> {
+            try (var stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
 
-            stmt.setString(1, meal.getName());
-            stmt.setInt(2, meal.getMealsPerDay());
-            stmt.setDouble(3, meal.getCostPerDay());
+                stmt.setString(1, meal.getName());
+                stmt.setInt(2, meal.getMealsPerDay());
+                stmt.setDouble(3, meal.getCostPerDay());
 
-            int affectedRows = stmt.executeUpdate();
-            if (affectedRows == 0) return false;
+                int affectedRows = stmt.executeUpdate();
+                if (affectedRows == 0) return false;
 
-            try (var keys = stmt.getGeneratedKeys()) {
-                if (keys.next()) {
-                    meal.setId(keys.getInt(1));
+                try (var keys = stmt.getGeneratedKeys()) {
+                    if (keys.next()) {
+                        meal.setId(keys.getInt(1));
+                    }
                 }
-            }
 
-            for (MealType type : meal.getMealTypes()) {
-                mealTypeLinkDao.create(meal.getId(), type.getId());
-            }
+                saveMealTypes(meal);
 
-            return true;
-        }
+                return true;
+            }
+        });
     }
 
     public boolean update(Meal meal) throws SQLException {
         String sql = "UPDATE meals SET name = ?, meals_per_day = ?, cost_per_day = ? WHERE id = ?";
 
-        try (var conn = connectionFactory.getConnection();
-             var stmt = conn.prepareStatement(sql)) {
+        return UnitOfWork.execute(connectionFactory, conn -> {
+            try (var stmt = conn.prepareStatement(sql)) {
 
-            stmt.setString(1, meal.getName());
-            stmt.setInt(2, meal.getMealsPerDay());
-            stmt.setDouble(3, meal.getCostPerDay());
-            stmt.setInt(4, meal.getId());
+                stmt.setString(1, meal.getName());
+                stmt.setInt(2, meal.getMealsPerDay());
+                stmt.setDouble(3, meal.getCostPerDay());
+                stmt.setInt(4, meal.getId());
 
-            mealTypeLinkDao.deleteAllById1(meal.getId());
-
-            for (MealType type : meal.getMealTypes()) {
-                mealTypeLinkDao.create(meal.getId(), type.getId());
+                // Links are only touched once the meal row is known to exist.
+                if (stmt.executeUpdate() == 0) {
+                    return false;
+                }
+                mealTypeLinkDao.syncLinks(meal.getId(), mealTypeIds(meal));
+                return true;
             }
+        });
+    }
+
+    private void saveMealTypes(Meal meal) throws SQLException {
+        List<Integer> mealTypeIds = mealTypeIds(meal);
+        if (!mealTypeIds.isEmpty()) {
+            mealTypeLinkDao.createAll(meal.getId(), mealTypeIds);
+        }
+    }
 
-            return stmt.executeUpdate() > 0;
+    private static List<Integer> mealTypeIds(Meal meal) {
+        if (meal.getMealTypes() == null) {
+            return List.of();
         }
+        return meal.getMealTypes().stream()
+                .map(MealType::getId)
+                .toList();
     }
 
     public boolean delete(int id) throws SQLException {
-        return super.delete(id) && mealTypeLinkDao.deleteAllById1(id);
+        return UnitOfWork.execute(connectionFactory, conn ->
+                super.delete(id) && mealTypeLinkDao.deleteAllById1(id));
     }
 }
\ No newline at end of file
@@ -5,6 +5,11 @@ import tourapp.model.meal.MealType;
 import tourapp.util.ConnectionFactory;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class MealMealTypeDao extends AbstractLinkDao<MealType> {
 
@@ -32,6 +37,34 @@ public class MealMealTypeDao extends AbstractLinkDao<MealType> {
         return new MealType(mealTypeId, fetchMealTypeName(mealTypeId));
     }
 
+    @Override
+    protected List<MealType> mapAllWithAdditionalData(List<Link> links) throws SQLException {
+        Map<Integer, String> names = fetchMealTypeNames(distinctId2s(links));
+        List<MealType> result = new ArrayList<>(links.size());
+        for (Link link : links) {
+            result.add(new MealType(link.id2(), names.get(link.id2())));
+        }
+        return result;
+    }
+
+    private Map<Integer, String> fetchMealTypeNames(Set<Integer> ids) throws SQLException {
+        String sql = "SELECT id, name FROM meal_types WHERE id IN (" + "?,".repeat(ids.size() - 1) + "?)";
+        Map<Integer, String> names = new HashMap<>();
+        try (var conn = connectionFactory.getConnection();
+             var stmt = conn.prepareStatement(sql)) {
+            int index = 1;
+            for (int id : ids) {
+                stmt.setInt(index++, id);
+            }
+            try (var rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    names.put(rs.getInt("id"), rs.getString("name"));
+                }
+            }
+        }
+        return names;
+    }
+
     private String fetchMealTypeName(int id) throws SQLException {
         String sql = "SELECT name FROM meal_types WHERE id = ?";
         try (var conn = connectionFactory.getConnection();
@@ -11,7 +11,7 @@ public class MealTypeDao extends AbstractTypeDao<MealType> {
         super(
                 connectionFactory,
                 "meal_types",
-                rs -> new MealType(rs.getInt("id"), rs.getString("name")),
+                MealType::new,
                 MealType::getName,
                 mealType -> Optional.of(mealType.getId()),
                 MealType::setId
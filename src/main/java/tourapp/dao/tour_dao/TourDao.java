@@ -1,44 +1,68 @@
 package tourapp.dao.tour_dao;
 
 import tourapp.dao.AbstractGenericDao;
-import tourapp.dao.meal_dao.MealDao;
-import tourapp.dao.transport_dao.TransportDao;
 import tourapp.model.location.Location;
+import tourapp.model.location.LocationType;
 import tourapp.model.meal.Meal;
+import tourapp.model.meal.MealType;
 import tourapp.model.tour.Tour;
-import tourapp.model.tour.TourLocation;
 import tourapp.model.tour.TourType;
 import tourapp.model.transport.Transport;
 import tourapp.model.transport.TransportType;
 import tourapp.util.ConnectionFactory;
+import tourapp.util.DaoUtils;
 import tourapp.util.DaoUtils.JoinInfo;
+import tourapp.util.FacetCounter;
+import tourapp.util.FacetValue;
+import tourapp.util.UnitOfWork;
 
 import java.sql.*;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 public class TourDao extends AbstractGenericDao<Tour> {
 
-    private final MealDao mealDao;
-    private final TransportDao transportDao;
-    private final TourTypeDao tourTypeDao;
+    // Dashboard filters that get per-option counts; the keys are the search parameters they set.
+    public static final List<String> FACETS = List.of("country", "tour_type", "meal_types", "transport_type");
+
+    private static final String FACET_ROWS_SQL =
+            "SELECT t.id AS tour_id, l.country AS country, tt.name AS tour_type, " +
+            "mt.name AS meal_types, tr.name AS transport_type FROM tours t" +
+            " LEFT JOIN tour_types tt ON t.type_id = tt.id" +
+            " LEFT JOIN transports tr ON t.transport_id = tr.id" +
+            " LEFT JOIN meal_meal_types mmt ON t.meal_id = mmt.meal_id" +
+            " LEFT JOIN meal_types mt ON mmt.meal_type_id = mt.id" +
+            " LEFT JOIN tour_locations tl ON t.id = tl.tour_id" +
+            " LEFT JOIN locations l ON tl.location_id = l.id" +
+            " WHERE 1=1";
+
+    private static final Map<TourFetchPlan, String> FETCH_PLAN_SQL = new EnumMap<>(TourFetchPlan.class);
+
+    static {
+        for (TourFetchPlan plan : TourFetchPlan.values()) {
+            FETCH_PLAN_SQL.put(plan, buildFetchPlanSql(plan));
+        }
+    }
+
     private final TourLocationDao tourLocationDao;
 
-    public TourDao(ConnectionFactory connectionFactory,
-                   MealDao mealDao,
-                   TransportDao transportDao,
-                   TourTypeDao tourTypeDao,
-                   TourLocationDao tourLocationDao) {
+    public TourDao(ConnectionFactory connectionFactory, TourLocationDao tourLocationDao) {
         super(connectionFactory, "tours", TourDao::mapTour);
-        this.mealDao = mealDao;
-        this.transportDao = transportDao;
-        this.tourTypeDao = tourTypeDao;
         this.tourLocationDao = tourLocationDao;
     }
 
+    // Keyword search on tours looks at the description only.
+    @Override
+    protected FullTextSource<Tour> initFullTextSource() {
+        return new FullTextSource<>("SELECT id, description FROM tours", Tour::getId, Tour::getDescription);
+    }
+
     @Override
     public List<JoinInfo> initJoinInfos() {
         List<JoinInfo> joins = new ArrayList<>();
@@ -81,106 +105,256 @@ public class TourDao extends AbstractGenericDao<Tour> {
         return joins;
     }
 
-    public Tour findByIdWithDependencies(int id) throws SQLException {
-        Tour tour = findById(id);
-        if (tour == null) return null;
+    // Per-option counts for every facet under the given filters, from a single query: the non-facet filters
+    // (keyword, price, dates, activity) go to the database, the facet selections are applied in memory.
+    public Map<String, List<FacetValue>> countFacets(Map<String, Object> filters) throws SQLException {
+        Map<String, Object> baseFilters = new HashMap<>(filters);
+        Map<String, List<String>> selections = new HashMap<>();
+        for (String facet : FACETS) {
+            Object selected = baseFilters.remove(facet);
+            if (selected instanceof Collection<?> values) {
+                selections.put(facet, values.stream().map(String::valueOf).toList());
+            } else if (selected != null) {
+                selections.put(facet, List.of(selected.toString()));
+            }
+        }
 
-        if (tour.getType() != null) {
-            tour.setType(tourTypeDao.findById(tour.getType().getId()));
+        FacetCounter counter = new FacetCounter(FACETS);
+        List<Integer> keywordIds = keywordMatches(baseFilters);
+        if (keywordIds != null && keywordIds.isEmpty()) {
+            return counter.count(selections);
         }
 
-        if (tour.getTransport() != null) {
-            tour.setTransport(transportDao.findById(tour.getTransport().getId()));
+        Map<String, Object> params = withKeywordMatches(baseFilters, keywordIds);
+        String sql = FACET_ROWS_SQL + DaoUtils.buildConditions(tableName, getBaseAlias(), params, columnMappings);
+        try (Connection conn = connectionFactory.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            DaoUtils.setWhereParameters(stmt, tableName, params, columnMappings);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    int tourId = rs.getInt("tour_id");
+                    for (String facet : FACETS) {
+                        counter.add(tourId, facet, rs.getString(facet));
+                    }
+                }
+            }
         }
+        return counter.count(selections);
+    }
 
-        if (tour.getMeal() != null) {
-            tour.setMeal(mealDao.findById(tour.getMeal().getId()));
+    public Tour findByIdWithDependencies(int id) throws SQLException {
+        return findById(id, TourFetchPlan.EDIT);
+    }
+
+    public Tour findById(int id, TourFetchPlan plan) throws SQLException {
+        try (Connection conn = connectionFactory.getConnection()) {
+            Tour tour;
+            try (PreparedStatement stmt = conn.prepareStatement(FETCH_PLAN_SQL.get(plan))) {
+                stmt.setInt(1, id);
+                try (ResultSet rs = stmt.executeQuery()) {
+                    tour = foldTourGraph(rs, plan);
+                }
+            }
+
+            if (tour != null && plan.withMealTypes() && tour.getMeal() != null) {
+                tour.getMeal().setMealTypes(fetchMealTypes(conn, tour.getMeal().getId()));
+            }
+            return tour;
         }
+    }
 
-        List<Location> locations = tourLocationDao.findById1(tour.getId()).stream()
-                .map(TourLocation::getLocation)
-                .toList();
-        tour.setLocations(locations);
+    private static String buildFetchPlanSql(TourFetchPlan plan) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT t.*, tt.name AS tour_type_name, " +
+                "tr.name AS transport_name, tr.price_per_person AS transport_price, " +
+                "tr.type_id AS transport_type_id, trt.name AS transport_type_name, " +
+                "m.name AS meal_name, m.meals_per_day AS meal_meals_per_day, m.cost_per_day AS meal_cost_per_day");
+        if (plan.withLocations()) {
+            sql.append(", l.id AS location_id, l.name AS location_name, l.country AS location_country, " +
+                    "l.description AS location_description, lt.id AS location_type_id, lt.name AS location_type_name");
+        }
+        sql.append(" FROM tours t" +
+                " LEFT JOIN tour_types tt ON t.type_id = tt.id" +
+                " LEFT JOIN transports tr ON t.transport_id = tr.id" +
+                " LEFT JOIN transport_types trt ON tr.type_id = trt.id" +
+                " LEFT JOIN meals m ON t.meal_id = m.id");
+        if (plan.withLocations()) {
+            sql.append(" LEFT JOIN tour_locations tl ON t.id = tl.tour_id" +
+                    " LEFT JOIN locations l ON tl.location_id = l.id" +
+                    " LEFT JOIN location_types lt ON l.location_type_id = lt.id");
+        }
+        sql.append(" WHERE t.id = ?");
+        return sql.toString();
+    }
+
+    // The joined query returns one row per location; the tour columns repeat and are read from the first row.
+    private static Tour foldTourGraph(ResultSet rs, TourFetchPlan plan) throws SQLException {
+        Tour tour = null;
+        Map<Integer, Location> locations = new LinkedHashMap<>();
+
+        while (rs.next()) {
+            if (tour == null) {
+                tour = mapTour(rs);
+                if (tour.getType() != null) {
+                    tour.getType().setName(rs.getString("tour_type_name"));
+                }
+                if (tour.getTransport() != null) {
+                    Transport transport = tour.getTransport();
+                    transport.setName(rs.getString("transport_name"));
+                    transport.setPricePerPerson(rs.getDouble("transport_price"));
+                    int transportTypeId = rs.getInt("transport_type_id");
+                    if (!rs.wasNull()) {
+                        transport.setType(new TransportType(transportTypeId, rs.getString("transport_type_name")));
+                    }
+                }
+                if (tour.getMeal() != null) {
+                    Meal meal = tour.getMeal();
+                    meal.setName(rs.getString("meal_name"));
+                    meal.setMealsPerDay(rs.getInt("meal_meals_per_day"));
+                    meal.setCostPerDay(rs.getDouble("meal_cost_per_day"));
+                }
+            }
 
+            if (plan.withLocations()) {
+                int locationId = rs.getInt("location_id");
+                if (!rs.wasNull() && !locations.containsKey(locationId)) {
+                    locations.put(locationId, mapLocation(rs, locationId));
+                }
+            }
+        }
+
+        if (tour != null && plan.withLocations()) {
+            tour.setLocations(new ArrayList<>(locations.values()));
+        }
         return tour;
     }
 
+    private static Location mapLocation(ResultSet rs, int locationId) throws SQLException {
+        Location location = new Location();
+        location.setId(locationId);
+        location.setName(rs.getString("location_name"));
+        location.setCountry(rs.getString("location_country"));
+        location.setDescription(rs.getString("location_description"));
+        int typeId = rs.getInt("location_type_id");
+        if (!rs.wasNull()) {
+            location.setLocationType(new LocationType(typeId, rs.getString("location_type_name")));
+        }
+        return location;
+    }
+
+    private static List<MealType> fetchMealTypes(Connection conn, int mealId) throws SQLException {
+        String sql = "SELECT mt.id, mt.name FROM meal_meal_types mmt " +
+                "JOIN meal_types mt ON mmt.meal_type_id = mt.id WHERE mmt.meal_id = ?";
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, mealId);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<MealType> mealTypes = new ArrayList<>();
+                while (rs.next()) {
+                    mealTypes.add(new MealType(rs.getInt("id"), rs.getString("name")));
+                }
+                return mealTypes;
+            }
+        }
+    }
+
     public boolean create(Tour tour) throws SQLException {
         String sql = "INSERT INTO tours (description, type_id, transport_id, meal_id, start_date, end_date, price, is_active) " +
                 "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
 
-        try (Connection conn = connectionFactory.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
-
-            stmt.setString(1, tour.getDescription());
-            stmt.setInt(2, tour.getType().getId());
-            stmt.setInt(3, tour.getTransport().getId());
-            stmt.setInt(4, tour.getMeal().getId());
-            stmt.setDate(5, Date.valueOf(tour.getStartDate()));
-            stmt.setDate(6, Date.valueOf(tour.getEndDate()));
-            stmt.setDouble(7, tour.getPrice());
-            stmt.setBoolean(8, tour.isActive());
-
-            int affectedRows = stmt.executeUpdate();
-            if (affectedRows == 0) return false;
-
-            try (ResultSet keys = stmt.getGeneratedKeys()) {
-                if (keys.next()) {
-                    tour.setId(keys.getInt(1));
+        boolean created = UnitOfWork.execute(connectionFactory, conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+
+                stmt.setString(1, tour.getDescription());
+                stmt.setInt(2, tour.getType().getId());
+                stmt.setInt(3, tour.getTransport().getId());
+                stmt.setInt(4, tour.getMeal().getId());
+                stmt.setDate(5, Date.valueOf(tour.getStartDate()));
+                stmt.setDate(6, Date.valueOf(tour.getEndDate()));
+                stmt.setDouble(7, tour.getPrice());
+                stmt.setBoolean(8, tour.isActive());
+
+                int affectedRows = stmt.executeUpdate();
+                if (affectedRows == 0) return false;
+
+                try (ResultSet keys = stmt.getGeneratedKeys()) {
+                    if (keys.next()) {
+                        tour.setId(keys.getInt(1));
+                    }
                 }
-            }
 
-            saveTourLocations(tour);
+                List<Integer> locationIds = locationIds(tour);
+                if (!locationIds.isEmpty()) {
+                    tourLocationDao.createAll(tour.getId(), locationIds);
+                }
 
-            return true;
+                return true;
+            }
+        });
+        if (created) {
+            updateFullTextIndex(tour);
         }
+        return created;
     }
 
     public boolean update(Tour tour) throws SQLException {
         String sql = "UPDATE tours SET description = ?, type_id = ?, transport_id = ?, meal_id = ?, " +
                 "start_date = ?, end_date = ?, price = ?, is_active = ? WHERE id = ?";
 
-        try (Connection conn = connectionFactory.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        boolean updated = UnitOfWork.execute(connectionFactory, conn -> {
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
 
-            stmt.setString(1, tour.getDescription());
-            if (tour.getType() != null) {
-                stmt.setInt(2, tour.getType().getId());
-            } else {
-                stmt.setNull(2, Types.INTEGER);
-            }
+                stmt.setString(1, tour.getDescription());
+                if (tour.getType() != null) {
+                    stmt.setInt(2, tour.getType().getId());
+                } else {
+                    stmt.setNull(2, Types.INTEGER);
+                }
 
-            if (tour.getTransport() != null) {
-                stmt.setInt(3, tour.getTransport().getId());
-            } else {
-                stmt.setNull(3, Types.INTEGER);
-            }
+                if (tour.getTransport() != null) {
+                    stmt.setInt(3, tour.getTransport().getId());
+                } else {
+                    stmt.setNull(3, Types.INTEGER);
+                }
 
-            if (tour.getMeal() != null) {
-                stmt.setInt(4, tour.getMeal().getId());
-            } else {
-                stmt.setNull(4, Types.INTEGER);
-            }
+                if (tour.getMeal() != null) {
+                    stmt.setInt(4, tour.getMeal().getId());
+                } else {
+                    stmt.setNull(4, Types.INTEGER);
+                }
 
-            stmt.setDate(5, Date.valueOf(tour.getStartDate()));
-            stmt.setDate(6, Date.valueOf(tour.getEndDate()));
-            stmt.setDouble(7, tour.getPrice());
-            stmt.setBoolean(8, tour.isActive());
-            stmt.setInt(9, tour.getId());
+                stmt.setDate(5, Date.valueOf(tour.getStartDate()));
+                stmt.setDate(6, Date.valueOf(tour.getEndDate()));
+                stmt.setDouble(7, tour.getPrice());
+                stmt.setBoolean(8, tour.isActive());
+                stmt.setInt(9, tour.getId());
 
-            saveTourLocations(tour);
-            return stmt.executeUpdate() > 0;
+                // Links are only touched once the tour row is known to exist.
+                if (stmt.executeUpdate() == 0) {
+                    return false;
+                }
+                tourLocationDao.syncLinks(tour.getId(), locationIds(tour));
+                return true;
+            }
+        });
+        if (updated) {
+            updateFullTextIndex(tour);
         }
+        return updated;
     }
 
-    private void saveTourLocations(Tour tour) throws SQLException {
-        tourLocationDao.deleteAllById1(tour.getId());
-
-        if (tour.getLocations() != null) {
-            for (Location location : tour.getLocations()) {
-                tourLocationDao.create(tour.getId(), location.getId());
-            }
+    private static List<Integer> locationIds(Tour tour) {
+        if (tour.getLocations() == null) {
+            return List.of();
         }
+        return tour.getLocations().stream()
+                .map(Location::getId)
+                .toList();
+    }
+
+    // Tours have no name column; list them chronologically.
+    @Override
+    protected String getDefaultOrderColumn() {
+        return "t.start_date";
     }
 
     @Override
@@ -195,6 +369,7 @@ public class TourDao extends AbstractGenericDao<Tour> {
         columnMappings.put("endDate", "t.end_date");
         columnMappings.put("minPrice", "t.price");
         columnMappings.put("maxPrice", "t.price");
+        columnMappings.put("price", "t.price");
         columnMappings.put("is_active", "t.is_active");
         columnMappings.put("country", "l.country");
         columnMappings.put("tour_type", "tt.name");
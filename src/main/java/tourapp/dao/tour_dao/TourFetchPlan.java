@@ -0,0 +1,24 @@
+package tourapp.dao.tour_dao;
+
+public enum TourFetchPlan {
+    // Tour with type, transport and meal names plus locations, for the details dialog.
+    DETAILS(true, false),
+    // Complete graph for the edit form and for updates, including the meal's types.
+    EDIT(true, true);
+
+    private final boolean withLocations;
+    private final boolean withMealTypes;
+
+    TourFetchPlan(boolean withLocations, boolean withMealTypes) {
+        this.withLocations = withLocations;
+        this.withMealTypes = withMealTypes;
+    }
+
+    public boolean withLocations() {
+        return withLocations;
+    }
+
+    public boolean withMealTypes() {
+        return withMealTypes;
+    }
+}
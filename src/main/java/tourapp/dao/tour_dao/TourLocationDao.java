@@ -7,6 +7,10 @@ import tourapp.model.tour.TourLocation;
 import tourapp.util.ConnectionFactory;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 public class TourLocationDao extends AbstractLinkDao<TourLocation> {
 
@@ -37,4 +41,21 @@ public class TourLocationDao extends AbstractLinkDao<TourLocation> {
         Location location = locationDao.findById(locationId);
         return new TourLocation(tourId, location);
     }
+
+    @Override
+    protected List<TourLocation> mapAllWithAdditionalData(List<Link> links) throws SQLException {
+        Map<Integer, Location> locations = new HashMap<>();
+        for (Location location : locationDao.findByIds(distinctId2s(links))) {
+            locations.put(location.getId(), location);
+        }
+
+        List<TourLocation> result = new ArrayList<>(links.size());
+        for (Link link : links) {
+            Location location = locations.get(link.id2());
+            result.add(location != null
+                    ? new TourLocation(link.id1(), location)
+                    : new TourLocation(link.id1(), link.id2()));
+        }
+        return result;
+    }
 }
@@ -11,7 +11,7 @@ public class TourTypeDao extends AbstractTypeDao<TourType> {
         super(
                 connectionFactory,
                 "tour_types",
-                rs -> new TourType(rs.getInt("id"), rs.getString("name")),
+                TourType::new,
                 TourType::getName,
                 tourType -> Optional.of(tourType.getId()),
                 TourType::setId
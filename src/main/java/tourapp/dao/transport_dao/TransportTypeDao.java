@@ -11,7 +11,7 @@ public class TransportTypeDao extends AbstractTypeDao<TransportType> {
         super(
                 connectionFactory,
                 "transport_types",
-                rs -> new TransportType(rs.getInt("id"), rs.getString("name")),
+                TransportType::new,
                 TransportType::getName,
                 transportType -> Optional.of(transportType.getId()),
                 TransportType::setId
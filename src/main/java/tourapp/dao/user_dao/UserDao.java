@@ -176,6 +176,20 @@ public class UserDao extends AbstractGenericDao<User> {
         }
     }
 
+    // Swaps in an upgraded hash only if the stored one is unchanged, so a concurrent password change wins.
+    public boolean replacePasswordHash(int userId, String expectedHash, String newHash) throws SQLException {
+        String sql = "UPDATE users SET password = ? WHERE id = ? AND password = ?";
+
+        try (Connection conn = connectionFactory.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+
+            stmt.setString(1, newHash);
+            stmt.setInt(2, userId);
+            stmt.setString(3, expectedHash);
+            return stmt.executeUpdate() > 0;
+        }
+    }
+
     public boolean authenticate(String email, String password) throws SQLException {
         String sql = "SELECT password FROM users WHERE email = ?";
 
@@ -192,13 +206,22 @@ public class UserDao extends AbstractGenericDao<User> {
         return false;
     }
 
+    // Loads the user with its hash and type in one query and verifies the password against the loaded hash.
+    public User findByCredentials(String email, String password) throws SQLException {
+        User user = findByEmail(email);
+        if (user == null || !User.verifyPassword(password, user.getPasswordHash())) {
+            return null;
+        }
+        return user;
+    }
+
     private static User mapUser(ResultSet rs) throws SQLException {
         UserType userType = new UserType(
                 rs.getInt("type_id"),
                 rs.getString("type_name")
         );
 
-        return new User(
+        return User.fromStoredHash(
                 rs.getInt("id"),
                 rs.getString("name"),
                 rs.getString("email"),
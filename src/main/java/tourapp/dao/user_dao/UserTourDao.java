@@ -3,6 +3,7 @@ package tourapp.dao.user_dao;
 import tourapp.dao.AbstractLinkDao;
 import tourapp.dao.tour_dao.TourDao;
 import tourapp.model.tour.Tour;
+import tourapp.model.tour.TourBookingCount;
 import tourapp.model.user.UserTour;
 import tourapp.util.ConnectionFactory;
 
@@ -39,6 +40,21 @@ public class UserTourDao extends AbstractLinkDao<UserTour> {
         return (tour != null) ? new UserTour(userId, tour) : new UserTour(userId, tourId);
     }
 
+    @Override
+    protected List<UserTour> mapAllWithAdditionalData(List<Link> links) throws SQLException {
+        Map<Integer, Tour> tours = new HashMap<>();
+        for (Tour tour : tourDao.findByIds(distinctId2s(links))) {
+            tours.put(tour.getId(), tour);
+        }
+
+        List<UserTour> result = new ArrayList<>(links.size());
+        for (Link link : links) {
+            Tour tour = tours.get(link.id2());
+            result.add((tour != null) ? new UserTour(link.id1(), tour) : new UserTour(link.id1(), link.id2()));
+        }
+        return result;
+    }
+
     public List<UserTour> search(Integer userId, Integer tourId, Integer locationId, Integer tourTypeId,
                                  Date startDate, Date endDate, Double minPrice, Double maxPrice) throws SQLException {
 
@@ -82,6 +98,7 @@ public class UserTourDao extends AbstractLinkDao<UserTour> {
             params.add(maxPrice);
         }
 
+        List<Link> links = new ArrayList<>();
         try (Connection conn = connectionFactory.getConnection();
              PreparedStatement stmt = conn.prepareStatement(query.toString())) {
 
@@ -90,15 +107,12 @@ public class UserTourDao extends AbstractLinkDao<UserTour> {
             }
 
             try (ResultSet rs = stmt.executeQuery()) {
-                List<UserTour> result = new ArrayList<>();
                 while (rs.next()) {
-                    int uid = rs.getInt("user_id");
-                    int tid = rs.getInt("tour_id");
-                    result.add(mapWithAdditionalData(uid, tid));
+                    links.add(new Link(rs.getInt("user_id"), rs.getInt("tour_id")));
                 }
-                return result;
             }
         }
+        return links.isEmpty() ? new ArrayList<>() : mapAllWithAdditionalData(links);
     }
 
     public int countUsersByTourId(int tourId) throws SQLException {
@@ -111,4 +125,26 @@ public class UserTourDao extends AbstractLinkDao<UserTour> {
             }
         }
     }
+
+    public List<TourBookingCount> countBookingsPerTour() throws SQLException {
+        return countBookingsPerTour(0, Integer.MAX_VALUE);
+    }
+
+    public List<TourBookingCount> countBookingsPerTour(int offset, int limit) throws SQLException {
+        String query = "SELECT t.*, COUNT(DISTINCT ut.user_id) AS booking_count FROM tours t " +
+                "LEFT JOIN user_tours ut ON ut.tour_id = t.id " +
+                "GROUP BY t.id ORDER BY t.id LIMIT ? OFFSET ?";
+        try (Connection conn = connectionFactory.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(query)) {
+            stmt.setInt(1, limit);
+            stmt.setInt(2, offset);
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<TourBookingCount> result = new ArrayList<>();
+                while (rs.next()) {
+                    result.add(new TourBookingCount(tourDao.rowMapper.map(rs), rs.getInt("booking_count")));
+                }
+                return result;
+            }
+        }
+    }
 }
@@ -11,7 +11,7 @@ public class UserTypeDao extends AbstractTypeDao<UserType> {
         super(
                 connectionFactory,
                 "user_types",
-                rs -> new UserType(rs.getInt("id"), rs.getString("name")),
+                UserType::new,
                 UserType::getName,
                 userType -> Optional.of(userType.getId()),
                 UserType::setId
@@ -0,0 +1,4 @@
+package tourapp.model.tour;
+
+public record TourBookingCount(Tour tour, int bookingCount) {
+}
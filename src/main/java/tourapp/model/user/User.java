@@ -4,6 +4,13 @@ import org.mindrot.jbcrypt.BCrypt;
 import java.util.Objects;
 
 public class User {
+    // jBCrypt accepts log2 rounds from 4 to 30; 10 is what BCrypt.gensalt() uses.
+    public static final int MIN_PASSWORD_COST = 4;
+    public static final int MAX_PASSWORD_COST = 30;
+    public static final int DEFAULT_PASSWORD_COST = 10;
+
+    private static volatile int passwordCost = DEFAULT_PASSWORD_COST;
+
     private int id;
     private String name;
     private String email;
@@ -24,8 +31,55 @@ public class User {
         this(-1, name, email, password, userType);
     }
 
+    // For rows loaded from the database: the stored value is already a BCrypt hash and must not be hashed again.
+    public static User fromStoredHash(int id, String name, String email, String passwordHash, UserType userType) {
+        User user = new User();
+        user.id = id;
+        user.name = name;
+        user.email = email;
+        user.passwordHash = passwordHash;
+        user.userType = userType;
+        return user;
+    }
+
     public static String hashPassword(String password) {
-        return BCrypt.hashpw(password, BCrypt.gensalt());
+        return hashPassword(password, passwordCost);
+    }
+
+    public static String hashPassword(String password, int cost) {
+        return BCrypt.hashpw(password, BCrypt.gensalt(cost));
+    }
+
+    public static int getPasswordCost() {
+        return passwordCost;
+    }
+
+    // Applies to hashes created from now on; existing ones are upgraded as their owners log in.
+    public static void setPasswordCost(int cost) {
+        if (cost < MIN_PASSWORD_COST || cost > MAX_PASSWORD_COST) {
+            throw new IllegalArgumentException("Вартість BCrypt має бути в межах від "
+                    + MIN_PASSWORD_COST + " до " + MAX_PASSWORD_COST + ": " + cost);
+        }
+        passwordCost = cost;
+    }
+
+    // Reads the cost from a "$2a$10$..." hash; -1 when the value is not a BCrypt hash.
+    public static int costOf(String hash) {
+        if (hash == null || hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$' || hash.charAt(6) != '$') {
+            return -1;
+        }
+        char tens = hash.charAt(4);
+        char ones = hash.charAt(5);
+        if (!Character.isDigit(tens) || !Character.isDigit(ones)) {
+            return -1;
+        }
+        return (tens - '0') * 10 + (ones - '0');
+    }
+
+    // Only well-formed hashes are compared: anything else could not have been verified in the first place.
+    public static boolean needsRehash(String hash) {
+        int cost = costOf(hash);
+        return cost != -1 && cost != passwordCost;
     }
 
     public static boolean verifyPassword(String password, String storedHash) {
@@ -1,18 +1,32 @@
 package tourapp.service;
 
 import tourapp.dao.AbstractGenericDao;
-import tourapp.model.location.Location;
+import tourapp.util.FacetValue;
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
 
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public abstract class AbstractGenericService<T> {
     protected final AbstractGenericDao<T> dao;
+    // Filter options change only when this service writes, so they are kept until the next create, update or delete.
+    private final Map<String, List<FacetValue>> facetCache = new ConcurrentHashMap<>();
+    private final AtomicLong facetVersion = new AtomicLong();
+    // Null for services whose searches are not repeated often enough to be worth caching.
+    private final SearchCache<T> searchCache;
 
     protected AbstractGenericService(AbstractGenericDao<T> dao) {
+        this(dao, null);
+    }
+
+    protected AbstractGenericService(AbstractGenericDao<T> dao, SearchCache<T> searchCache) {
         this.dao = dao;
+        this.searchCache = searchCache;
     }
 
     public List<T> getAll() throws SQLException {
@@ -24,19 +38,66 @@ public abstract class AbstractGenericService<T> {
     }
 
     public boolean create(T entity) throws SQLException {
-        return dao.create(entity);
+        return invalidateIfWritten(dao.create(entity));
     }
 
     public boolean update(T entity) throws SQLException {
-        return dao.update(entity);
+        return invalidateIfWritten(dao.update(entity));
     }
 
     public boolean delete(int id) throws SQLException {
-        return dao.delete(id);
+        return invalidateIfWritten(dao.delete(id));
+    }
+
+    public List<FacetValue> getDistinctValues(String field) throws SQLException {
+        List<FacetValue> cached = facetCache.get(field);
+        if (cached != null) return cached;
+
+        // A write that lands while the query runs bumps the version, and the possibly stale result is not kept.
+        long version = facetVersion.get();
+        List<FacetValue> values = List.copyOf(dao.findDistinctValues(field));
+        if (facetVersion.get() == version) {
+            facetCache.put(field, values);
+        }
+        return values;
+    }
+
+    public void invalidateFacets() {
+        facetVersion.incrementAndGet();
+        facetCache.clear();
+    }
+
+    private boolean invalidateIfWritten(boolean written) {
+        if (written) {
+            invalidateFacets();
+            invalidateSearchCache();
+        }
+        return written;
     }
 
     public List<T> search(Map<String, Object> searchParams) throws SQLException {
-        return dao.search(searchParams);
+        if (searchCache == null) {
+            return dao.search(searchParams);
+        }
+        return searchCache.get(searchParams, () -> dao.search(searchParams));
+    }
+
+    // For writes that bypass this service but change what its searches return, e.g. link tables.
+    public void invalidateSearchCache() {
+        if (searchCache != null) {
+            searchCache.invalidateAll();
+        }
+    }
+
+    public Optional<SearchCache.Stats> getSearchCacheStats() {
+        return Optional.ofNullable(searchCache).map(SearchCache::stats);
+    }
+
+    public Page<T> searchPage(Map<String, Object> searchParams, PageRequest request) throws SQLException {
+        if (searchCache == null) {
+            return dao.searchPage(searchParams, request);
+        }
+        return searchCache.getPage(searchParams, request, () -> dao.searchPage(searchParams, request));
     }
 }
 
@@ -0,0 +1,165 @@
+package tourapp.service;
+
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.LongSupplier;
+
+// Keeps recent search results keyed by their filters (and, for pages, the page request with its cursor),
+// so repeating an identical search or reopening the same page skips the database.
+// Bounded by entry count and by the total number of cached rows (least recently used go first), and every entry
+// expires after the TTL. Writes call invalidateAll(): any changed row can enter or leave any cached result.
+public class SearchCache<T> {
+    public static final int DEFAULT_MAX_ENTRIES = 64;
+    public static final long DEFAULT_MAX_ROWS = 20_000;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+
+    public record Stats(long hits, long misses, long evictions, int entries, long rows, long savedMillis) {
+        public double hitRatio() {
+            long lookups = hits + misses;
+            return lookups == 0 ? 0 : (double) hits / lookups;
+        }
+    }
+
+    public interface Loader<T> {
+        List<T> load() throws SQLException;
+    }
+
+    public interface PageLoader<T> {
+        Page<T> load() throws SQLException;
+    }
+
+    // request is null for a whole-result search.
+    private record Key(Map<String, Object> filters, PageRequest request) {
+    }
+
+    private record Entry<T>(List<T> rows, Page.Cursor next, long loadNanos, long expiresAt) {
+    }
+
+    private final int maxEntries;
+    private final long maxRows;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+
+    private final LinkedHashMap<Key, Entry<T>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedRows;
+    private long generation;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long savedNanos;
+
+    public SearchCache() {
+        this(DEFAULT_MAX_ENTRIES, DEFAULT_MAX_ROWS, DEFAULT_TTL);
+    }
+
+    public SearchCache(int maxEntries, long maxRows, Duration ttl) {
+        this(maxEntries, maxRows, ttl, System::nanoTime);
+    }
+
+    SearchCache(int maxEntries, long maxRows, Duration ttl, LongSupplier clock) {
+        if (maxEntries <= 0 || maxRows <= 0 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Параметри кешу пошуку мають бути додатними");
+        }
+        this.maxEntries = maxEntries;
+        this.maxRows = maxRows;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+    }
+
+    // Returns a copy of the cached rows, or runs the loader and caches what it returns.
+    public List<T> get(Map<String, Object> filters, Loader<T> loader) throws SQLException {
+        return load(new Key(normalize(filters), null), () -> new Page<>(loader.load(), null)).items();
+    }
+
+    // Same for one page; pages of one search are separate entries, told apart by their cursor.
+    public Page<T> getPage(Map<String, Object> filters, PageRequest request, PageLoader<T> loader) throws SQLException {
+        return load(new Key(normalize(filters), request), loader);
+    }
+
+    private Page<T> load(Key key, PageLoader<T> loader) throws SQLException {
+        long loadGeneration;
+        synchronized (this) {
+            Entry<T> entry = entries.get(key);
+            if (entry != null && clock.getAsLong() - entry.expiresAt() < 0) {
+                hits++;
+                savedNanos += entry.loadNanos();
+                return new Page<>(new ArrayList<>(entry.rows()), entry.next());
+            }
+            if (entry != null) {
+                remove(key);
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        long start = clock.getAsLong();
+        Page<T> page = loader.load();
+        long loadNanos = clock.getAsLong() - start;
+        List<T> rows = page.items();
+
+        synchronized (this) {
+            // A write during the load may not be in these rows; serve them once but do not keep them.
+            if (generation == loadGeneration && rows.size() <= maxRows) {
+                remove(key);
+                entries.put(key, new Entry<>(List.copyOf(rows), page.next(), loadNanos, clock.getAsLong() + ttlNanos));
+                cachedRows += rows.size();
+                evictOverflow();
+            }
+        }
+        return page;
+    }
+
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        cachedRows = 0;
+    }
+
+    public synchronized Stats stats() {
+        return new Stats(hits, misses, evictions, entries.size(), cachedRows, savedNanos / 1_000_000);
+    }
+
+    // Key order and the order of chosen options do not change the result, so they do not change the key either.
+    // A filter present with a null value stays in the key: the DAO may treat it differently from an absent one.
+    static Map<String, Object> normalize(Map<String, Object> filters) {
+        Map<String, Object> key = new TreeMap<>();
+        filters.forEach((name, value) -> {
+            if (value instanceof Collection<?> values) {
+                List<Object> sorted = new ArrayList<>(values);
+                sorted.sort((a, b) -> Objects.toString(a).compareTo(Objects.toString(b)));
+                key.put(name, Collections.unmodifiableList(sorted));
+            } else {
+                key.put(name, value);
+            }
+        });
+        return Collections.unmodifiableMap(key);
+    }
+
+    private void remove(Key key) {
+        Entry<T> removed = entries.remove(key);
+        if (removed != null) {
+            cachedRows -= removed.rows().size();
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Entry<T>> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || cachedRows > maxRows) && eldest.hasNext()) {
+            cachedRows -= eldest.next().rows().size();
+            eldest.remove();
+            evictions++;
+        }
+    }
+}
@@ -4,35 +4,49 @@ import tourapp.dao.AbstractLinkDao;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public abstract class AbstractLinkService<T> implements LinkService<T> {
     protected final AbstractLinkDao<T> dao;
+    private final List<Runnable> changeListeners = new CopyOnWriteArrayList<>();
 
     protected AbstractLinkService(AbstractLinkDao<T> dao) {
         this.dao = dao;
     }
 
+    // Called after every link write that changed rows, e.g. to drop cached searches that join this table.
+    public void addChangeListener(Runnable listener) {
+        changeListeners.add(listener);
+    }
+
+    private boolean notifyIfChanged(boolean changed) {
+        if (changed) {
+            changeListeners.forEach(Runnable::run);
+        }
+        return changed;
+    }
+
     @Override
     public boolean createLink(int id1, int id2) throws SQLException {
         if (dao.existsLink(id1, id2)) {
             throw new IllegalArgumentException("Звʼязок уже існує.");
         }
-        return dao.create(id1, id2);
+        return notifyIfChanged(dao.create(id1, id2));
     }
 
     @Override
     public boolean deleteLink(int id1, int id2) throws SQLException {
-        return dao.delete(id1, id2);
+        return notifyIfChanged(dao.delete(id1, id2));
     }
 
     @Override
     public boolean deleteAllById1(int id1) throws SQLException {
-        return dao.deleteAllById1(id1);
+        return notifyIfChanged(dao.deleteAllById1(id1));
     }
 
     @Override
     public boolean deleteAllById2(int id2) throws SQLException {
-        return dao.deleteAllById2(id2);
+        return notifyIfChanged(dao.deleteAllById2(id2));
     }
 
     @Override
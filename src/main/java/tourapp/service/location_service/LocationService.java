@@ -3,7 +3,15 @@ package tourapp.service.location_service;
 import tourapp.dao.location_dao.LocationDao;
 import tourapp.model.location.Location;
 import tourapp.service.AbstractGenericService;
+import tourapp.util.FacetValue;
+
+import java.sql.SQLException;
+import java.util.List;
 
 public class LocationService extends AbstractGenericService<Location> {
     public LocationService(LocationDao locationDao) { super(locationDao); }
+
+    public List<String> getCountries() throws SQLException {
+        return getDistinctValues("country").stream().map(FacetValue::value).toList();
+    }
 }
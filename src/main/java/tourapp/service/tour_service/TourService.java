@@ -1,8 +1,11 @@
 package tourapp.service.tour_service;
 import tourapp.dao.tour_dao.TourDao;
+import tourapp.dao.tour_dao.TourFetchPlan;
 import tourapp.model.location.Location;
 import tourapp.model.tour.Tour;
 import tourapp.service.AbstractGenericService;
+import tourapp.service.SearchCache;
+import tourapp.util.FacetValue;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -12,7 +15,12 @@ public class TourService extends AbstractGenericService<Tour> {
     private final TourDao tourDao;
 
     public TourService(TourDao tourDao) {
-        super(tourDao);
+        this(tourDao, new SearchCache<>());
+    }
+
+    // The dashboard repeats the same tour search on every filter click, reset and return from a dialog.
+    public TourService(TourDao tourDao, SearchCache<Tour> searchCache) {
+        super(tourDao, searchCache);
         this.tourDao = tourDao;
     }
 
@@ -20,6 +28,21 @@ public class TourService extends AbstractGenericService<Tour> {
         return tourDao.findByIdWithDependencies(id);
     }
 
+    // For each dashboard filter, how many tours every option would leave under the other filters.
+    public Map<String, List<FacetValue>> getFacetCounts(Map<String, Object> filters) throws SQLException {
+        return tourDao.countFacets(filters);
+    }
+
+    // Tour with its locations, for the details dialog.
+    public Tour getForDetails(int id) throws SQLException {
+        return tourDao.findById(id, TourFetchPlan.DETAILS);
+    }
+
+    // Complete tour for the edit form, including the meal's types.
+    public Tour getForEdit(int id) throws SQLException {
+        return tourDao.findById(id, TourFetchPlan.EDIT);
+    }
+
     public boolean toggleActiveStatus(int tourId, boolean active) throws SQLException {
         Tour tour = getByIdWithDependencies(tourId);
         if (tour == null) {
@@ -41,7 +64,7 @@ public class TourService extends AbstractGenericService<Tour> {
 
 
     public List<Location> getLocationsForTour(int tourId) throws SQLException {
-        Tour tour = getByIdWithDependencies(tourId);
+        Tour tour = getForDetails(tourId);
         if (tour != null && tour.getLocations() != null) {
             return tour.getLocations();
         }
@@ -3,7 +3,15 @@ package tourapp.service.transport_service;
 import tourapp.dao.transport_dao.TransportDao;
 import tourapp.model.transport.Transport;
 import tourapp.service.AbstractGenericService;
+import tourapp.util.FacetValue;
+
+import java.sql.SQLException;
+import java.util.List;
 
 public class TransportService extends AbstractGenericService<Transport> {
     public TransportService(TransportDao transportDao) { super(transportDao); }
-}
\ No newline at end of file
+
+    public List<String> getNames() throws SQLException {
+        return getDistinctValues("name").stream().map(FacetValue::value).toList();
+    }
+}
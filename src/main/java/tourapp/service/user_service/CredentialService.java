@@ -0,0 +1,137 @@
+package tourapp.service.user_service;
+
+import tourapp.model.user.User;
+import tourapp.model.user.UserType;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Runs BCrypt hashing and verification on a small pool so the JavaFX thread never waits for it.
+// BCrypt is pure CPU work, so the pool is capped at half the cores and the queue is bounded:
+// once it is full new requests fail fast instead of piling up behind a burst of password resets.
+// Background rehashes after login get their own single low-priority thread (newRehashExecutor), so a burst of
+// them can never fill this queue and get a login rejected.
+public class CredentialService implements AutoCloseable {
+    public static final int DEFAULT_QUEUE_CAPACITY = 256;
+    public static final int REHASH_QUEUE_CAPACITY = 64;
+
+    public record Metrics(int queued, int running, long completed, long rejected,
+                          double averageLatencyMillis, long maxLatencyMillis) {
+    }
+
+    private final UserService userService;
+    private final ThreadPoolExecutor executor;
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalLatencyNanos = new AtomicLong();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public CredentialService(UserService userService) {
+        this(userService, newExecutor());
+    }
+
+    public CredentialService(UserService userService, int threads, int queueCapacity) {
+        this(userService, newExecutor(threads, queueCapacity));
+    }
+
+    public CredentialService(UserService userService, ThreadPoolExecutor executor) {
+        this.userService = userService;
+        this.executor = executor;
+    }
+
+    public static ThreadPoolExecutor newExecutor() {
+        return newExecutor(Math.max(1, Runtime.getRuntime().availableProcessors() / 2), DEFAULT_QUEUE_CAPACITY);
+    }
+
+    public static ThreadPoolExecutor newExecutor(int threads, int queueCapacity) {
+        AtomicInteger threadNumber = new AtomicInteger(1);
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "credential-worker-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // A rehash is only an upgrade: when the queue is full it is dropped and the hash is upgraded on a later login.
+    public static ThreadPoolExecutor newRehashExecutor() {
+        return newRehashExecutor(REHASH_QUEUE_CAPACITY);
+    }
+
+    public static ThreadPoolExecutor newRehashExecutor(int queueCapacity) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "credential-rehash");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Completes with the user, or with null when the email or password does not match.
+    public CompletableFuture<User> authenticate(String email, String password) {
+        return submit(() -> userService.authenticate(email, password));
+    }
+
+    // Hashes the password and stores the new user; completes with null when the insert did not happen.
+    public CompletableFuture<User> register(String name, String email, String password, UserType userType) {
+        return submit(() -> userService.register(new User(name, email, password, userType)));
+    }
+
+    public CompletableFuture<Boolean> changePassword(int userId, String newPassword) {
+        return submit(() -> userService.changePassword(userId, newPassword));
+    }
+
+    public Metrics metrics() {
+        long done = completed.get();
+        double average = done == 0 ? 0 : totalLatencyNanos.get() / (double) done / 1_000_000;
+        return new Metrics(executor.getQueue().size(), executor.getActiveCount(), done, rejected.get(),
+                average, TimeUnit.NANOSECONDS.toMillis(maxLatencyNanos.get()));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // The future completes with the task's own exception (SQLException and so on), not a wrapper.
+    private <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                T result;
+                try {
+                    result = task.call();
+                } catch (Throwable e) {
+                    recordLatency(System.nanoTime() - submittedAt);
+                    future.completeExceptionally(e);
+                    return;
+                }
+                // Recorded before completing, so callers that join the future see up-to-date metrics.
+                recordLatency(System.nanoTime() - submittedAt);
+                future.complete(result);
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private void recordLatency(long nanos) {
+        completed.incrementAndGet();
+        totalLatencyNanos.addAndGet(nanos);
+        maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+    }
+}
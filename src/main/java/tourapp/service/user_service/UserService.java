@@ -1,18 +1,32 @@
 package tourapp.service.user_service;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import tourapp.dao.user_dao.UserDao;
 import tourapp.model.user.User;
 import tourapp.service.AbstractGenericService;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 public class UserService extends AbstractGenericService<User> {
+    private static final Logger logger = LoggerFactory.getLogger(UserService.class);
+
     private final UserDao userDao;
+    private final Executor rehashExecutor;
 
+    // Without a rehash executor stale hashes are left as they are.
     public UserService(UserDao userDao) {
+        this(userDao, null);
+    }
+
+    // The application passes CredentialService.newRehashExecutor(), so rehashes never take a slot a login needs.
+    public UserService(UserDao userDao, Executor rehashExecutor) {
         super(userDao);
         this.userDao = userDao;
+        this.rehashExecutor = rehashExecutor;
     }
 
     public User findByEmail(String email) throws SQLException {
@@ -27,10 +41,34 @@ public class UserService extends AbstractGenericService<User> {
         return userDao.changePassword(userId, newPassword);
     }
 
+    // The plain password is only available here, so hashes made with another cost are upgraded on login.
+    // The new hash is computed in the background and does not delay the login itself.
     public User authenticate(String email, String password) throws SQLException {
-        if (userDao.authenticate(email, password)) {
-            return userDao.findByEmail(email);
+        User user = userDao.findByCredentials(email, password);
+        if (user != null && rehashExecutor != null && User.needsRehash(user.getPasswordHash())) {
+            scheduleRehash(user.getId(), user.getPasswordHash(), password);
+        }
+        return user;
+    }
+
+    private void scheduleRehash(int userId, String storedHash, String password) {
+        try {
+            rehashExecutor.execute(() -> {
+                try {
+                    if (userDao.replacePasswordHash(userId, storedHash, User.hashPassword(password))) {
+                        logger.info("Оновлено хеш пароля користувача {} до вартості {}", userId, User.getPasswordCost());
+                    }
+                } catch (SQLException e) {
+                    logger.warn("Не вдалося оновити хеш пароля користувача {}: {}", userId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Оновлення хешу пароля користувача {} відкладено до наступного входу", userId);
         }
-        return null;
+    }
+
+    // The new user already carries its hash and generated id, so it can start a session without logging in again.
+    public User register(User newUser) throws SQLException {
+        return userDao.create(newUser) ? newUser : null;
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package tourapp.service.user_service;
 
 import tourapp.dao.user_dao.UserTourDao;
+import tourapp.model.tour.TourBookingCount;
 import tourapp.model.user.UserTour;
 import tourapp.service.link_service.AbstractLinkService;
 
@@ -25,4 +26,12 @@ public class UserTourService extends AbstractLinkService<UserTour> {
     public int countUsersByTourId(int tourId) throws SQLException {
         return userTourDao.countUsersByTourId(tourId);
     }
+
+    public List<TourBookingCount> countBookingsPerTour() throws SQLException {
+        return userTourDao.countBookingsPerTour();
+    }
+
+    public List<TourBookingCount> countBookingsPerTour(int offset, int limit) throws SQLException {
+        return userTourDao.countBookingsPerTour(offset, limit);
+    }
 }
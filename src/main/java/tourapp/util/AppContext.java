@@ -5,12 +5,16 @@ import tourapp.dao.meal_dao.*;
 import tourapp.dao.tour_dao.*;
 import tourapp.dao.transport_dao.*;
 import tourapp.dao.user_dao.*;
+import tourapp.service.SearchCache;
 import tourapp.service.location_service.*;
 import tourapp.service.meal_service.*;
 import tourapp.service.tour_service.*;
 import tourapp.service.transport_service.*;
+import tourapp.model.user.User;
 import tourapp.service.user_service.*;
 
+import java.time.Duration;
+
 public class AppContext {
 
     private final ServiceLocator serviceLocator;
@@ -28,6 +32,8 @@ public class AppContext {
     }
 
     private void configureServices() {
+        configurePasswordCost();
+
         ConnectionFactory connectionFactory = new ConnectionFactory();
         serviceLocator.register(ConnectionFactory.class, connectionFactory);
 
@@ -35,6 +41,19 @@ public class AppContext {
         registerServices();
     }
 
+    // A target verify time wins over a fixed cost; with neither set BCrypt keeps its default cost.
+    // Calibration hashes a sample password at each cost up to the target, which can take seconds, so it runs in the
+    // background; until it finishes passwords use the fixed cost, and those hashes are upgraded on a later login.
+    private void configurePasswordCost() {
+        User.setPasswordCost(Integer.getInteger("tourapp.bcrypt.cost", User.DEFAULT_PASSWORD_COST));
+        Long targetMillis = Long.getLong("tourapp.bcrypt.targetVerifyMs");
+        if (targetMillis != null) {
+            Duration target = Duration.ofMillis(targetMillis);
+            Thread.ofPlatform().name("bcrypt-calibration").daemon().priority(Thread.MIN_PRIORITY)
+                    .start(() -> User.setPasswordCost(PasswordCostCalibrator.calibrate(target)));
+        }
+    }
+
     private void registerDaos(ConnectionFactory connectionFactory) {
         // USER
 
@@ -70,7 +89,7 @@ public class AppContext {
         // TOUR
         TourTypeDao tourTypeDao = new TourTypeDao(connectionFactory);
         TourLocationDao tourLocationDao = new TourLocationDao(connectionFactory, locationDao);
-        TourDao tourDao = new TourDao(connectionFactory, mealDao, transportDao, tourTypeDao, tourLocationDao);
+        TourDao tourDao = new TourDao(connectionFactory, tourLocationDao);
         UserTourDao userTourDao = new UserTourDao(connectionFactory, tourDao);
 
         serviceLocator.register(TourTypeDao.class, tourTypeDao);
@@ -81,7 +100,10 @@ public class AppContext {
 
     private void registerServices() {
         // USER
-        serviceLocator.register(UserService.class, new UserService(serviceLocator.resolve(UserDao.class)));
+        // Rehashes after login run on their own low-priority thread, apart from the pool serving logins and registrations.
+        UserService userService = new UserService(serviceLocator.resolve(UserDao.class), CredentialService.newRehashExecutor());
+        serviceLocator.register(UserService.class, userService);
+        serviceLocator.register(CredentialService.class, new CredentialService(userService));
         serviceLocator.register(UserTypeService.class, new UserTypeService(serviceLocator.resolve(UserTypeDao.class)));
         serviceLocator.register(UserTourService.class, new UserTourService(serviceLocator.resolve(UserTourDao.class)));
 
@@ -99,9 +121,16 @@ public class AppContext {
         serviceLocator.register(TransportTypeService.class, new TransportTypeService(serviceLocator.resolve(TransportTypeDao.class)));
 
         // TOUR
-        serviceLocator.register(TourService.class, new TourService(serviceLocator.resolve(TourDao.class)));
+        TourService tourService = new TourService(serviceLocator.resolve(TourDao.class), new SearchCache<>(
+                Integer.getInteger("tourapp.searchCache.maxEntries", SearchCache.DEFAULT_MAX_ENTRIES),
+                Long.getLong("tourapp.searchCache.maxRows", SearchCache.DEFAULT_MAX_ROWS),
+                Duration.ofSeconds(Long.getLong("tourapp.searchCache.ttlSeconds", SearchCache.DEFAULT_TTL.toSeconds()))));
+        TourLocationService tourLocationService = new TourLocationService(serviceLocator.resolve(TourLocationDao.class));
+        // Tour searches filter by country through tour_locations.
+        tourLocationService.addChangeListener(tourService::invalidateSearchCache);
+        serviceLocator.register(TourService.class, tourService);
         serviceLocator.register(TourTypeService.class, new TourTypeService(serviceLocator.resolve(TourTypeDao.class)));
-        serviceLocator.register(TourLocationService.class, new TourLocationService(serviceLocator.resolve(TourLocationDao.class)));
+        serviceLocator.register(TourLocationService.class, tourLocationService);
     }
 
     public SessionManager getSessionManager() {
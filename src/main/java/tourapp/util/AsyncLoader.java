@@ -0,0 +1,122 @@
+package tourapp.util;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+// Runs controller work (service calls and the JDBC behind them) on a background executor and hands the result
+// back on the JavaFX thread. One loader serves one kind of request, e.g. the rows of one table: each submit
+// supersedes the previous one, so a slow older search can never overwrite the result of a newer one.
+// A superseded request that has not started yet is skipped; one already inside JDBC runs to the end and its
+// result is dropped. Interrupting it could leave a pooled connection in an unknown state.
+// At most one task per loader runs at a time: a burst of submits leaves one query running and only the newest
+// waiting behind it, so fast typing cannot pile up queries on the database.
+public class AsyncLoader {
+    // Blocking JDBC calls park a virtual thread instead of holding a platform thread.
+    public static final ExecutorService VIRTUAL_THREADS = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("ui-loader-", 1).factory());
+
+    @FunctionalInterface
+    public interface Task<R> {
+        R call() throws Exception;
+    }
+
+    private final Executor executor;
+    private final Consumer<Runnable> fxDispatcher;
+    private final AtomicLong latestRequest = new AtomicLong();
+    private final ReadOnlyBooleanWrapper loading = new ReadOnlyBooleanWrapper(false);
+    private final Object queueLock = new Object();
+    private boolean running;
+    private Runnable waiting;
+
+    public AsyncLoader() {
+        this(VIRTUAL_THREADS, AsyncLoader::runOnFxThread);
+    }
+
+    public AsyncLoader(Executor executor, Consumer<Runnable> fxDispatcher) {
+        this.executor = executor;
+        this.fxDispatcher = fxDispatcher;
+    }
+
+    // Call from the JavaFX thread. Exactly one of onSuccess and onError runs, on the JavaFX thread,
+    // and only if no newer request was submitted in the meantime.
+    public <R> void submit(Task<R> task, Consumer<R> onSuccess, Consumer<Throwable> onError) {
+        long request = latestRequest.incrementAndGet();
+        loading.set(true);
+
+        Runnable work = () -> {
+            try {
+                run(request, task, onSuccess, onError);
+            } finally {
+                startWaiting();
+            }
+        };
+        synchronized (queueLock) {
+            if (running) {
+                // Replaces any request already waiting; that one is superseded anyway.
+                waiting = work;
+                return;
+            }
+            running = true;
+        }
+        executor.execute(work);
+    }
+
+    private <R> void run(long request, Task<R> task, Consumer<R> onSuccess, Consumer<Throwable> onError) {
+        if (request != latestRequest.get()) return;
+
+        Runnable delivery;
+        try {
+            R result = task.call();
+            delivery = () -> onSuccess.accept(result);
+        } catch (Throwable e) {
+            delivery = () -> onError.accept(e);
+        }
+        Runnable outcome = delivery;
+        fxDispatcher.accept(() -> {
+            if (request != latestRequest.get()) return;
+            loading.set(false);
+            outcome.run();
+        });
+    }
+
+    private void startWaiting() {
+        Runnable next;
+        synchronized (queueLock) {
+            next = waiting;
+            waiting = null;
+            running = next != null;
+        }
+        if (next != null) {
+            executor.execute(next);
+        }
+    }
+
+    // Drops whatever is in flight, e.g. when the view is being closed.
+    public void cancel() {
+        latestRequest.incrementAndGet();
+        loading.set(false);
+    }
+
+    public boolean isLoading() {
+        return loading.get();
+    }
+
+    public ReadOnlyBooleanProperty loadingProperty() {
+        return loading.getReadOnlyProperty();
+    }
+
+    private static void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package tourapp.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.Duration;
+
+public class ConnectionFactory implements AutoCloseable {
+    private static final String DEFAULT_URL = "jdbc:mysql://localhost:3306/tour_app?rewriteBatchedStatements=true";
+    private static final String DEFAULT_USER = "root";
+    private static final String DEFAULT_PASSWORD = "";
+
+    private final ConnectionPool.ConnectionSupplier connectionSupplier;
+    private final ConnectionPool pool;
+    private final ThreadLocal<Connection> transactionConnection = new ThreadLocal<>();
+
+    public ConnectionFactory() {
+        this(
+                System.getProperty("tourapp.db.url", DEFAULT_URL),
+                System.getProperty("tourapp.db.user", DEFAULT_USER),
+                System.getProperty("tourapp.db.password", DEFAULT_PASSWORD),
+                Boolean.parseBoolean(System.getProperty("tourapp.db.pool.enabled", "true"))
+                        ? settingsFromSystemProperties()
+                        : null
+        );
+    }
+
+    public ConnectionFactory(String url, String user, String password) {
+        this(url, user, password, null);
+    }
+
+    public ConnectionFactory(String url, String user, String password, ConnectionPool.Settings poolSettings) {
+        this(() -> DriverManager.getConnection(url, user, password), poolSettings);
+    }
+
+    ConnectionFactory(ConnectionPool.ConnectionSupplier connectionSupplier, ConnectionPool.Settings poolSettings) {
+        this.connectionSupplier = connectionSupplier;
+        this.pool = poolSettings != null ? new ConnectionPool(connectionSupplier, poolSettings) : null;
+    }
+
+    public Connection getConnection() throws SQLException {
+        Connection bound = transactionConnection.get();
+        if (bound != null) {
+            return participantHandle(bound);
+        }
+        return pool != null ? pool.getConnection() : connectionSupplier.get();
+    }
+
+    boolean isInTransaction() {
+        return transactionConnection.get() != null;
+    }
+
+    void bindTransaction(Connection connection) {
+        if (transactionConnection.get() != null) {
+            throw new IllegalStateException("Транзакція вже активна в поточному потоці");
+        }
+        transactionConnection.set(connection);
+    }
+
+    void unbindTransaction() {
+        transactionConnection.remove();
+    }
+
+    // DAO calls nested in a unit of work share its connection; close() must not end the transaction,
+    // and commit(), rollback() or switching auto-commit back on would end it under the unit of work, so they fail.
+    private static Connection participantHandle(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (endsTransaction(method.getName(), args)) {
+                        throw new SQLException("Вкладений виклик не може завершити транзакцію: " + method.getName());
+                    }
+                    return switch (method.getName()) {
+                        case "close" -> null;
+                        case "isClosed" -> connection.isClosed();
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "toString" -> "TransactionParticipant[" + connection + "]";
+                        default -> {
+                            try {
+                                yield method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        }
+                    };
+                });
+    }
+
+    // rollback(Savepoint) only undoes part of the transaction and stays allowed.
+    private static boolean endsTransaction(String method, Object[] args) {
+        return switch (method) {
+            case "commit" -> true;
+            case "rollback" -> args == null;
+            case "setAutoCommit" -> Boolean.TRUE.equals(args[0]);
+            default -> false;
+        };
+    }
+
+    public boolean isPooled() {
+        return pool != null;
+    }
+
+    public ConnectionPool.Stats getPoolStats() {
+        return pool != null ? pool.getStats() : null;
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private static ConnectionPool.Settings settingsFromSystemProperties() {
+        ConnectionPool.Settings defaults = ConnectionPool.Settings.defaults();
+        return defaults
+                .withMaxSize(Integer.getInteger("tourapp.db.pool.maxSize", defaults.maxSize()))
+                .withConnectionTimeout(durationProperty("tourapp.db.pool.connectionTimeoutMs", defaults.connectionTimeout()))
+                .withIdleTimeout(durationProperty("tourapp.db.pool.idleTimeoutMs", defaults.idleTimeout()))
+                .withMaxLifetime(durationProperty("tourapp.db.pool.maxLifetimeMs", defaults.maxLifetime()))
+                .withLeakDetectionThreshold(durationProperty("tourapp.db.pool.leakDetectionMs", defaults.leakDetectionThreshold()));
+    }
+
+    private static Duration durationProperty(String name, Duration defaultValue) {
+        Long millis = Long.getLong(name);
+        return millis != null ? Duration.ofMillis(millis) : defaultValue;
+    }
+}
@@ -0,0 +1,458 @@
+package tourapp.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class ConnectionPool implements AutoCloseable {
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPool.class);
+    private static final long VALIDATION_BYPASS_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    public record Settings(int maxSize,
+                           Duration connectionTimeout,
+                           Duration idleTimeout,
+                           Duration maxLifetime,
+                           Duration validationTimeout,
+                           Duration leakDetectionThreshold,
+                           Duration housekeepingPeriod) {
+
+        public Settings {
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("Розмір пулу має бути не менше 1");
+            }
+        }
+
+        public static Settings defaults() {
+            return new Settings(
+                    10,
+                    Duration.ofSeconds(30),
+                    Duration.ofMinutes(10),
+                    Duration.ofMinutes(30),
+                    Duration.ofSeconds(5),
+                    Duration.ZERO,
+                    Duration.ofSeconds(30)
+            );
+        }
+
+        public Settings withMaxSize(int maxSize) {
+            return new Settings(maxSize, connectionTimeout, idleTimeout, maxLifetime,
+                    validationTimeout, leakDetectionThreshold, housekeepingPeriod);
+        }
+
+        public Settings withConnectionTimeout(Duration connectionTimeout) {
+            return new Settings(maxSize, connectionTimeout, idleTimeout, maxLifetime,
+                    validationTimeout, leakDetectionThreshold, housekeepingPeriod);
+        }
+
+        public Settings withIdleTimeout(Duration idleTimeout) {
+            return new Settings(maxSize, connectionTimeout, idleTimeout, maxLifetime,
+                    validationTimeout, leakDetectionThreshold, housekeepingPeriod);
+        }
+
+        public Settings withMaxLifetime(Duration maxLifetime) {
+            return new Settings(maxSize, connectionTimeout, idleTimeout, maxLifetime,
+                    validationTimeout, leakDetectionThreshold, housekeepingPeriod);
+        }
+
+        public Settings withLeakDetectionThreshold(Duration leakDetectionThreshold) {
+            return new Settings(maxSize, connectionTimeout, idleTimeout, maxLifetime,
+                    validationTimeout, leakDetectionThreshold, housekeepingPeriod);
+        }
+    }
+
+    public record Stats(int active,
+                        int idle,
+                        long borrowed,
+                        long created,
+                        long evicted,
+                        long timeouts,
+                        long leaksDetected,
+                        long totalWaitNanos,
+                        long maxWaitNanos) {
+
+        public double averageWaitMillis() {
+            return borrowed == 0 ? 0 : totalWaitNanos / 1_000_000.0 / borrowed;
+        }
+
+        public double maxWaitMillis() {
+            return maxWaitNanos / 1_000_000.0;
+        }
+    }
+
+    @FunctionalInterface
+    public interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    private final ConnectionSupplier connectionSupplier;
+    private final Settings settings;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final Deque<PooledEntry> idle = new ArrayDeque<>();
+    private final Set<PooledEntry> inUse = ConcurrentHashMap.newKeySet();
+    private int totalConnections;
+    private boolean closed;
+
+    private final AtomicLong borrowed = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong leaksDetected = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+
+    private volatile ScheduledExecutorService housekeeper;
+
+    public ConnectionPool(ConnectionSupplier connectionSupplier, Settings settings) {
+        this.connectionSupplier = connectionSupplier;
+        this.settings = settings;
+    }
+
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        startHousekeeperIfNeeded();
+
+        PooledEntry entry = acquire(start);
+        recordWait(System.nanoTime() - start);
+        borrowed.incrementAndGet();
+
+        entry.borrowedAt = System.nanoTime();
+        entry.borrowSite = isLeakDetectionEnabled() ? new Throwable("Місце отримання з'єднання") : null;
+        entry.leakReported = false;
+        inUse.add(entry);
+
+        return entry.newHandle();
+    }
+
+    private PooledEntry acquire(long start) throws SQLException {
+        long deadline = start + settings.connectionTimeout().toNanos();
+
+        while (true) {
+            PooledEntry candidate = null;
+            boolean mayCreate = false;
+
+            lock.lock();
+            try {
+                while (true) {
+                    if (closed) {
+                        throw new SQLException("Пул з'єднань закрито");
+                    }
+                    candidate = idle.pollFirst();
+                    if (candidate != null) break;
+                    if (totalConnections < settings.maxSize()) {
+                        totalConnections++;
+                        mayCreate = true;
+                        break;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        timeouts.incrementAndGet();
+                        throw new SQLTransientConnectionException(
+                                "Не вдалося отримати з'єднання з пулу за " + settings.connectionTimeout().toMillis() + " мс");
+                    }
+                    try {
+                        available.awaitNanos(remaining);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new SQLException("Очікування з'єднання перервано", e);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (mayCreate) {
+                return createEntry();
+            }
+
+            boolean recentlyUsed = System.nanoTime() - candidate.lastUsedAt < VALIDATION_BYPASS_NANOS;
+            if (isExpired(candidate) || (!recentlyUsed && !isValid(candidate))) {
+                discard(candidate);
+                continue;
+            }
+            return candidate;
+        }
+    }
+
+    private PooledEntry createEntry() throws SQLException {
+        try {
+            PooledEntry entry = new PooledEntry(connectionSupplier.get());
+            created.incrementAndGet();
+            return entry;
+        } catch (SQLException | RuntimeException e) {
+            lock.lock();
+            try {
+                totalConnections--;
+                available.signal();
+            } finally {
+                lock.unlock();
+            }
+            throw e;
+        }
+    }
+
+    private boolean isValid(PooledEntry entry) {
+        try {
+            int timeoutSeconds = (int) Math.max(1, settings.validationTimeout().toSeconds());
+            return entry.physical.isValid(timeoutSeconds);
+        } catch (SQLException e) {
+            logger.warn("Перевірка з'єднання завершилась помилкою: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isExpired(PooledEntry entry) {
+        long maxLifetime = settings.maxLifetime().toNanos();
+        return maxLifetime > 0 && System.nanoTime() - entry.createdAt >= maxLifetime;
+    }
+
+    private void release(PooledEntry entry) {
+        inUse.remove(entry);
+        entry.borrowSite = null;
+
+        boolean reusable = !isExpired(entry) && resetState(entry);
+
+        lock.lock();
+        try {
+            if (!closed && reusable) {
+                entry.lastUsedAt = System.nanoTime();
+                idle.addFirst(entry);
+                available.signal();
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        discard(entry);
+    }
+
+    private boolean resetState(PooledEntry entry) {
+        try {
+            if (entry.physical.isClosed()) {
+                return false;
+            }
+            if (!entry.physical.getAutoCommit()) {
+                entry.physical.rollback();
+                entry.physical.setAutoCommit(true);
+            }
+            return true;
+        } catch (SQLException e) {
+            logger.warn("Не вдалося повернути з'єднання до пулу: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void discard(PooledEntry entry) {
+        try {
+            entry.physical.close();
+        } catch (SQLException e) {
+            logger.debug("Помилка закриття з'єднання: {}", e.getMessage());
+        }
+        evicted.incrementAndGet();
+
+        lock.lock();
+        try {
+            totalConnections--;
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recordWait(long waitNanos) {
+        totalWaitNanos.addAndGet(waitNanos);
+        maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    private boolean isLeakDetectionEnabled() {
+        return !settings.leakDetectionThreshold().isZero() && !settings.leakDetectionThreshold().isNegative();
+    }
+
+    private void startHousekeeperIfNeeded() {
+        if (housekeeper != null) return;
+
+        lock.lock();
+        try {
+            if (housekeeper != null || closed) return;
+            housekeeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "connection-pool-housekeeper");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long period = settings.housekeepingPeriod().toMillis();
+            housekeeper.scheduleAtFixedRate(this::housekeep, period, period, TimeUnit.MILLISECONDS);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void housekeep() {
+        evictIdle();
+        detectLeaks();
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+        long idleTimeout = settings.idleTimeout().toNanos();
+        List<PooledEntry> toEvict = new ArrayList<>();
+
+        lock.lock();
+        try {
+            idle.removeIf(entry -> {
+                boolean stale = (idleTimeout > 0 && now - entry.lastUsedAt >= idleTimeout) || isExpired(entry);
+                if (stale) toEvict.add(entry);
+                return stale;
+            });
+        } finally {
+            lock.unlock();
+        }
+
+        toEvict.forEach(this::discard);
+    }
+
+    private void detectLeaks() {
+        if (!isLeakDetectionEnabled()) return;
+
+        long now = System.nanoTime();
+        long threshold = settings.leakDetectionThreshold().toNanos();
+        for (PooledEntry entry : inUse) {
+            if (!entry.leakReported && now - entry.borrowedAt >= threshold) {
+                entry.leakReported = true;
+                leaksDetected.incrementAndGet();
+                logger.warn("Можливий витік з'єднання: утримується понад {} мс",
+                        settings.leakDetectionThreshold().toMillis(), entry.borrowSite);
+            }
+        }
+    }
+
+    public Stats getStats() {
+        lock.lock();
+        try {
+            return new Stats(
+                    inUse.size(),
+                    idle.size(),
+                    borrowed.get(),
+                    created.get(),
+                    evicted.get(),
+                    timeouts.get(),
+                    leaksDetected.get(),
+                    totalWaitNanos.get(),
+                    maxWaitNanos.get()
+            );
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public Settings getSettings() {
+        return settings;
+    }
+
+    @Override
+    public void close() {
+        List<PooledEntry> toClose;
+        lock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+            toClose = new ArrayList<>(idle);
+            idle.clear();
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        if (housekeeper != null) {
+            housekeeper.shutdownNow();
+        }
+        toClose.forEach(this::discard);
+    }
+
+    private final class PooledEntry {
+        private final Connection physical;
+        private final long createdAt;
+        private volatile long lastUsedAt;
+        private volatile long borrowedAt;
+        private volatile Throwable borrowSite;
+        private volatile boolean leakReported;
+
+        private PooledEntry(Connection physical) {
+            this.physical = physical;
+            this.createdAt = System.nanoTime();
+            this.lastUsedAt = createdAt;
+        }
+
+        private Connection newHandle() {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    new Handle(this)
+            );
+        }
+    }
+
+    private final class Handle implements InvocationHandler {
+        private final PooledEntry entry;
+        private boolean returned;
+
+        private Handle(PooledEntry entry) {
+            this.entry = entry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close" -> {
+                    if (!returned) {
+                        returned = true;
+                        release(entry);
+                    }
+                    return null;
+                }
+                case "isClosed" -> {
+                    return returned || entry.physical.isClosed();
+                }
+                case "equals" -> {
+                    return proxy == args[0];
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(proxy);
+                }
+                case "toString" -> {
+                    return "PooledConnection[" + entry.physical + "]";
+                }
+            }
+
+            if (returned) {
+                throw new SQLException("З'єднання вже повернуто до пулу");
+            }
+
+            try {
+                return method.invoke(entry.physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -43,22 +43,23 @@ public class ControllerFactory {
     }
 
     public LoginController createLoginController() {
-        return new LoginController(
-                serviceLocator.resolve(UserService.class),
+        return screen(new LoginController(
+                serviceLocator.resolve(CredentialService.class),
                 serviceLocator.resolve(SessionManager.class),
                 serviceLocator.resolve(Stage.class),
                 this
-        );
+        ));
     }
 
     public RegisterController createRegisterController() {
-        return new RegisterController(
+        return screen(new RegisterController(
                 serviceLocator.resolve(UserService.class),
+                serviceLocator.resolve(CredentialService.class),
                 serviceLocator.resolve(UserTypeService.class),
                 serviceLocator.resolve(SessionManager.class),
                 serviceLocator.resolve(Stage.class),
                 this
-        );
+        ));
     }
 
     public NavigationController createNavigationController() {
@@ -69,7 +70,7 @@ public class ControllerFactory {
     }
 
     public DashboardController createDashboardController() {
-        return new DashboardController(
+        return screen(new DashboardController(
                 serviceLocator.resolve(Stage.class),
                 serviceLocator.resolve(SessionManager.class),
                 serviceLocator.resolve(TourService.class),
@@ -79,55 +80,54 @@ public class ControllerFactory {
                 serviceLocator.resolve(TransportService.class),
                 serviceLocator.resolve(UserTourService.class),
                 this
-        );
+        ));
     }
 
     public AdminPanelController createAdminPanelController() {
-        return new AdminPanelController(
+        return screen(new AdminPanelController(
                 serviceLocator.resolve(Stage.class),
                 serviceLocator.resolve(SessionManager.class),
-                this);
+                this));
     }
 
     public LocationController createLocationController() {
-        return new LocationController(
+        return screen(new LocationController(
                 serviceLocator.resolve(Stage.class),
                 serviceLocator.resolve(SessionManager.class),
                 serviceLocator.resolve(LocationService.class),
                 serviceLocator.resolve(LocationTypeService.class),
                 this
-        );
+        ));
     }
 
     public MealController createMealController() {
-        return new MealController(
+        return screen(new MealController(
                 serviceLocator.resolve(Stage.class),
                 serviceLocator.resolve(SessionManager.class),
                 serviceLocator.resolve(MealService.class),
                 serviceLocator.resolve(MealTypeService.class),
-                serviceLocator.resolve(MealMealTypeService.class),
                 this
-        );
+        ));
     }
 
     public TransportController createTransportController() {
-        return new TransportController(
+        return screen(new TransportController(
                 serviceLocator.resolve(Stage.class),
                 serviceLocator.resolve(SessionManager.class),
                 serviceLocator.resolve(TransportService.class),
                 serviceLocator.resolve(TransportTypeService.class),
                 this
-        );
+        ));
     }
 
     public UserController createUserController() {
-        return new UserController(
+        return screen(new UserController(
                 serviceLocator.resolve(Stage.class),
                 serviceLocator.resolve(SessionManager.class),
                 serviceLocator.resolve(UserService.class),
                 serviceLocator.resolve(UserTypeService.class),
                 this
-        );
+        ));
     }
 
     public UserEditController createUserEditController(User user) {
@@ -135,29 +135,31 @@ public class ControllerFactory {
                 serviceLocator.resolve(Stage.class),
                 serviceLocator.resolve(SessionManager.class),
                 serviceLocator.resolve(UserService.class),
+                serviceLocator.resolve(CredentialService.class),
                 serviceLocator.resolve(UserTypeService.class),
                 user
         );
     }
 
     public UserCabinetController createUserCabinetController() {
-        return new UserCabinetController(
+        return screen(new UserCabinetController(
                 serviceLocator.resolve(Stage.class),
                 serviceLocator.resolve(SessionManager.class),
                 serviceLocator.resolve(UserService.class),
+                serviceLocator.resolve(CredentialService.class),
                 this
-        );
+        ));
     }
 
     public BookedToursController createBookedToursController() {
-        return new BookedToursController(
+        return screen(new BookedToursController(
                 serviceLocator.resolve(Stage.class),
                 serviceLocator.resolve(SessionManager.class),
                 serviceLocator.resolve(TourService.class),
                 serviceLocator.resolve(UserTourService.class),
                 serviceLocator.resolve(UserService.class),
                 this
-        );
+        ));
     }
 
     public TourEditController createTourEditController(Tour tour) {
@@ -238,4 +240,14 @@ public class ControllerFactory {
                 mealType
         );
     }
-}
\ No newline at end of file
+
+    // Screens run their service calls on virtual threads and get the results back on the JavaFX thread,
+    // and share the view cache, so going back to a screen reuses its scene.
+    private <C extends BaseController> C screen(C controller) {
+        controller.setBackgroundExecutor(AsyncLoader.VIRTUAL_THREADS);
+        if (serviceLocator.contains(ViewCache.class)) {
+            controller.setViewCache(serviceLocator.resolve(ViewCache.class));
+        }
+        return controller;
+    }
+}
@@ -3,9 +3,15 @@ package tourapp.util;
 import java.sql.*;
 import java.util.*;
 import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class DaoUtils {
+    // MySQL Connector/J only streams rows one at a time for forward-only, read-only statements with this fetch size.
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
 
     public static void setParameter(PreparedStatement stmt, int index, Object value) throws SQLException {
         switch (value) {
@@ -63,115 +69,303 @@ public class DaoUtils {
         }
     }
 
-    public static StringBuilder buildWhereClause(String baseTable, String baseAlias,
-                                                 Map<String, Object> searchParams,
-                                                 Map<String, String> columnMappings,
-                                                 List<JoinInfo> joinInfos) {
-        Set<String> activeParams = searchParams.keySet();
+    public static class JoinGraph {
+        private final String baseAlias;
+        private final List<JoinInfo> sortedJoins;
+        private final Map<String, Set<String>> dependencies;
 
-        Set<String> addedJoins = new HashSet<>();
+        public JoinGraph(String baseAlias, List<JoinInfo> joinInfos) {
+            this.baseAlias = baseAlias;
+            this.dependencies = collectDependencies(baseAlias, joinInfos);
+            this.sortedJoins = sortByDependencies(baseAlias, joinInfos, dependencies);
+        }
 
-        Map<String, Set<String>> joinAliasToTables = new HashMap<>();
-        Map<String, Set<String>> tableToJoinAliases = new HashMap<>();
+        private static Map<String, Set<String>> collectDependencies(String baseAlias, List<JoinInfo> joinInfos) {
+            Map<String, Set<String>> joinAliasToTables = new HashMap<>();
 
-        for (JoinInfo joinInfo : joinInfos) {
-            String condition = joinInfo.getCondition();
-            String[] parts = condition.split(" (AND|OR) | ON | = ");
+            for (JoinInfo joinInfo : joinInfos) {
+                String condition = joinInfo.getCondition();
+                String[] parts = condition.split(" (AND|OR) | ON | = ");
 
-            for (String part : parts) {
-                String trimmedPart = part.trim();
-                if (trimmedPart.contains(".")) {
-                    String alias = trimmedPart.split("\\.")[0].trim();
+                for (String part : parts) {
+                    String trimmedPart = part.trim();
+                    if (trimmedPart.contains(".")) {
+                        String alias = trimmedPart.split("\\.")[0].trim();
 
-                    if (!alias.equals(baseAlias) && !alias.equals(joinInfo.getAlias())) {
-                        joinAliasToTables.computeIfAbsent(joinInfo.getAlias(), k -> new HashSet<>())
-                                .add(alias);
-                        tableToJoinAliases.computeIfAbsent(alias, k -> new HashSet<>())
-                                .add(joinInfo.getAlias());
+                        if (!alias.equals(baseAlias) && !alias.equals(joinInfo.getAlias())) {
+                            joinAliasToTables.computeIfAbsent(joinInfo.getAlias(), k -> new HashSet<>())
+                                    .add(alias);
+                        }
                     }
                 }
             }
+            return joinAliasToTables;
         }
 
-        Set<String> requiredJoins = new HashSet<>();
+        private static List<JoinInfo> sortByDependencies(String baseAlias, List<JoinInfo> joinInfos,
+                                                         Map<String, Set<String>> joinAliasToTables) {
+            List<JoinInfo> sortedJoins = new ArrayList<>();
+            Set<String> processedJoins = new HashSet<>();
 
-        for (Map.Entry<String, Object> entry : searchParams.entrySet()) {
-            String param = entry.getKey();
-            String column = resolveColumn(param, columnMappings);
+            while (sortedJoins.size() < joinInfos.size()) {
+                boolean addedAny = false;
+
+                for (JoinInfo joinInfo : joinInfos) {
+                    if (!processedJoins.contains(joinInfo.getAlias())) {
+                        boolean allDependenciesProcessed = true;
+
+                        for (String dependency : joinAliasToTables.getOrDefault(joinInfo.getAlias(), Set.of())) {
+                            if (!dependency.equals(baseAlias) && !processedJoins.contains(dependency)) {
+                                allDependenciesProcessed = false;
+                                break;
+                            }
+                        }
+
+                        if (allDependenciesProcessed) {
+                            sortedJoins.add(joinInfo);
+                            processedJoins.add(joinInfo.getAlias());
+                            addedAny = true;
+                        }
+                    }
+                }
 
-            if (column != null && column.contains(".")) {
-                String alias = column.split("\\.")[0].trim();
-                if (!alias.equals(baseAlias)) {
-                    requiredJoins.add(alias);
+                if (!addedAny) {
+                    for (JoinInfo joinInfo : joinInfos) {
+                        if (!processedJoins.contains(joinInfo.getAlias())) {
+                            sortedJoins.add(joinInfo);
+                            processedJoins.add(joinInfo.getAlias());
+                        }
+                    }
+                    break;
                 }
             }
+            return List.copyOf(sortedJoins);
         }
 
-        Set<String> allRequiredJoins = new HashSet<>(requiredJoins);
-        boolean changed;
-        do {
-            changed = false;
-            Set<String> newJoins = new HashSet<>();
+        public List<JoinInfo> resolveJoins(Set<String> activeParams, Map<String, String> columnMappings) {
+            Set<String> allRequiredJoins = new HashSet<>();
 
-            for (String join : allRequiredJoins) {
-                if (joinAliasToTables.containsKey(join)) {
-                    for (String dependency : joinAliasToTables.get(join)) {
-                        if (!allRequiredJoins.contains(dependency)) {
-                            newJoins.add(dependency);
-                            changed = true;
-                        }
+            for (String param : activeParams) {
+                String column = resolveColumn(param, columnMappings);
+
+                if (column != null && column.contains(".")) {
+                    String alias = column.split("\\.")[0].trim();
+                    if (!alias.equals(baseAlias)) {
+                        allRequiredJoins.add(alias);
                     }
                 }
             }
 
-            allRequiredJoins.addAll(newJoins);
-        } while (changed);
+            Deque<String> pending = new ArrayDeque<>(allRequiredJoins);
+            while (!pending.isEmpty()) {
+                for (String dependency : dependencies.getOrDefault(pending.pop(), Set.of())) {
+                    if (allRequiredJoins.add(dependency)) {
+                        pending.push(dependency);
+                    }
+                }
+            }
 
-        List<JoinInfo> filteredJoins = new ArrayList<>();
-        for (JoinInfo joinInfo : joinInfos) {
-            if (joinInfo.isRequired(activeParams) || allRequiredJoins.contains(joinInfo.getAlias())) {
-                filteredJoins.add(joinInfo);
+            List<JoinInfo> filteredJoins = new ArrayList<>();
+            for (JoinInfo joinInfo : sortedJoins) {
+                if (joinInfo.isRequired(activeParams) || allRequiredJoins.contains(joinInfo.getAlias())) {
+                    filteredJoins.add(joinInfo);
+                }
             }
+            return filteredJoins;
         }
+    }
 
-        List<JoinInfo> sortedJoins = new ArrayList<>();
-        Set<String> processedJoins = new HashSet<>();
+    public static class QueryTemplate {
+        private static final int MAX_CACHED_SHAPES = 256;
 
-        while (sortedJoins.size() < filteredJoins.size()) {
-            boolean addedAny = false;
+        private final String baseTable;
+        private final String baseAlias;
+        private final Map<String, String> columnMappings;
+        private final JoinGraph joinGraph;
+        private final String defaultOrderColumn;
+        private final Map<String, String> sqlByShape = new ConcurrentHashMap<>();
 
-            for (JoinInfo joinInfo : filteredJoins) {
-                if (!processedJoins.contains(joinInfo.getAlias())) {
-                    boolean allDependenciesProcessed = true;
+        public QueryTemplate(String baseTable, String baseAlias,
+                             Map<String, String> columnMappings, List<JoinInfo> joinInfos) {
+            this(baseTable, baseAlias, columnMappings, joinInfos, baseAlias + ".name");
+        }
 
-                    if (joinAliasToTables.containsKey(joinInfo.getAlias())) {
-                        for (String dependency : joinAliasToTables.get(joinInfo.getAlias())) {
-                            if (!dependency.equals(baseAlias) && !processedJoins.contains(dependency)) {
-                                allDependenciesProcessed = false;
-                                break;
-                            }
-                        }
-                    }
+        public QueryTemplate(String baseTable, String baseAlias,
+                             Map<String, String> columnMappings, List<JoinInfo> joinInfos,
+                             String defaultOrderColumn) {
+            this.baseTable = baseTable;
+            this.baseAlias = baseAlias;
+            this.columnMappings = columnMappings;
+            this.joinGraph = new JoinGraph(baseAlias, joinInfos);
+            this.defaultOrderColumn = defaultOrderColumn;
+        }
 
-                    if (allDependenciesProcessed) {
-                        sortedJoins.add(joinInfo);
-                        processedJoins.add(joinInfo.getAlias());
-                        addedAny = true;
-                    }
+        public String getSql(Map<String, Object> searchParams) {
+            String shape = shapeOf(searchParams);
+            String sql = sqlByShape.get(shape);
+            if (sql == null) {
+                sql = renderQuery(baseTable, baseAlias, searchParams, columnMappings, joinGraph)
+                        .append(" ORDER BY ").append(defaultOrderColumn)
+                        .toString();
+                cacheSql(shape, sql);
+            }
+            return sql;
+        }
+
+        public void setParameters(PreparedStatement stmt, Map<String, Object> searchParams) throws SQLException {
+            bindParameters(stmt, searchParams, columnMappings, keywordColumnCount(baseTable));
+        }
+
+        // Keyset pagination: rows strictly after the cursor in (sort columns..., id) order, one extra row
+        // is fetched to tell whether another page follows.
+        public String getPageSql(Map<String, Object> searchParams, PageRequest request) {
+            List<SortColumn> sortColumns = resolveSort(request.sort());
+            String shape = "page|" + sortColumns + "|" + (request.after() != null) + "|" + shapeOf(searchParams);
+            String sql = sqlByShape.get(shape);
+            if (sql == null) {
+                StringBuilder query = renderQuery(baseTable, baseAlias, searchParams, columnMappings, joinGraph);
+                if (request.after() != null) {
+                    appendKeysetPredicate(query, sortColumns);
+                }
+
+                query.append(" ORDER BY ");
+                for (SortColumn sortColumn : sortColumns) {
+                    query.append(sortColumn.column()).append(sortColumn.descending() ? " DESC, " : " ASC, ");
                 }
+                query.append(idColumn()).append(" ASC LIMIT ?");
+
+                sql = query.toString();
+                cacheSql(shape, sql);
             }
+            return sql;
+        }
 
-            if (!addedAny) {
-                for (JoinInfo joinInfo : filteredJoins) {
-                    if (!processedJoins.contains(joinInfo.getAlias())) {
-                        sortedJoins.add(joinInfo);
-                        processedJoins.add(joinInfo.getAlias());
+        public void setPageParameters(PreparedStatement stmt, Map<String, Object> searchParams,
+                                      PageRequest request) throws SQLException {
+            int paramIndex = bindParameters(stmt, searchParams, columnMappings, keywordColumnCount(baseTable));
+
+            Page.Cursor after = request.after();
+            if (after != null) {
+                List<SortColumn> sortColumns = resolveSort(request.sort());
+                if (after.sortValues().size() != sortColumns.size()) {
+                    throw new IllegalArgumentException("Курсор не відповідає порядку сортування");
+                }
+
+                for (int i = 0; i <= sortColumns.size(); i++) {
+                    for (int j = 0; j < i; j++) {
+                        setParameter(stmt, paramIndex++, after.sortValues().get(j));
+                    }
+                    if (i < sortColumns.size()) {
+                        setParameter(stmt, paramIndex++, after.sortValues().get(i));
+                    } else {
+                        stmt.setInt(paramIndex++, after.id());
                     }
                 }
-                break;
             }
+
+            stmt.setInt(paramIndex, request.size() + 1);
+        }
+
+        Page.Cursor cursorOf(ResultSet rs, PageRequest request) throws SQLException {
+            List<SortColumn> sortColumns = resolveSort(request.sort());
+            List<Object> sortValues = new ArrayList<>(sortColumns.size());
+            for (SortColumn sortColumn : sortColumns) {
+                sortValues.add(rs.getObject(sortColumn.label()));
+            }
+            return new Page.Cursor(sortValues, rs.getInt("id"));
+        }
+
+        // (c1 > ?) OR (c1 = ? AND c2 > ?) OR ... OR (c1 = ? AND ... AND id > ?)
+        private void appendKeysetPredicate(StringBuilder query, List<SortColumn> sortColumns) {
+            query.append(" AND (");
+            for (int i = 0; i <= sortColumns.size(); i++) {
+                if (i > 0) query.append(" OR ");
+                query.append('(');
+                for (int j = 0; j < i; j++) {
+                    query.append(sortColumns.get(j).column()).append(" = ? AND ");
+                }
+                if (i < sortColumns.size()) {
+                    SortColumn sortColumn = sortColumns.get(i);
+                    query.append(sortColumn.column()).append(sortColumn.descending() ? " < ?" : " > ?");
+                } else {
+                    query.append(idColumn()).append(" > ?");
+                }
+                query.append(')');
+            }
+            query.append(')');
+        }
+
+        // Only base table columns can be sorted on: they are the ones selected by alias.* and read back
+        // into the cursor. The id is always the final tie-breaker, so it is not repeated here.
+        private List<SortColumn> resolveSort(List<PageRequest.SortKey> sort) {
+            if (sort.isEmpty()) {
+                return List.of(new SortColumn(defaultOrderColumn, false));
+            }
+
+            List<SortColumn> sortColumns = new ArrayList<>(sort.size());
+            for (PageRequest.SortKey key : sort) {
+                String column = columnMappings.get(key.property());
+                if (column == null || !column.startsWith(baseAlias + ".")) {
+                    throw new IllegalArgumentException("Сортування за полем '" + key.property() + "' не підтримується");
+                }
+                if (!column.equals(idColumn())) {
+                    sortColumns.add(new SortColumn(column, key.descending()));
+                }
+            }
+            return sortColumns;
+        }
+
+        private String idColumn() {
+            return baseAlias + ".id";
+        }
+
+        private void cacheSql(String shape, String sql) {
+            if (sqlByShape.size() < MAX_CACHED_SHAPES) {
+                sqlByShape.putIfAbsent(shape, sql);
+            }
+        }
+
+        int cachedShapeCount() {
+            return sqlByShape.size();
+        }
+
+        private String shapeOf(Map<String, Object> searchParams) {
+            StringBuilder shape = new StringBuilder();
+            for (Map.Entry<String, Object> entry : searchParams.entrySet()) {
+                shape.append(entry.getKey()).append(':');
+                Object value = entry.getValue();
+                if (value instanceof List<?> list) {
+                    shape.append(list.size());
+                } else if (value instanceof String) {
+                    shape.append('s');
+                } else {
+                    shape.append('v');
+                }
+                shape.append(';');
+            }
+            return shape.toString();
         }
 
+        private record SortColumn(String column, boolean descending) {
+            String label() {
+                return column.substring(column.indexOf('.') + 1);
+            }
+        }
+    }
+
+    public static StringBuilder buildWhereClause(String baseTable, String baseAlias,
+                                                 Map<String, Object> searchParams,
+                                                 Map<String, String> columnMappings,
+                                                 List<JoinInfo> joinInfos) {
+        return renderQuery(baseTable, baseAlias, searchParams, columnMappings, new JoinGraph(baseAlias, joinInfos));
+    }
+
+    private static StringBuilder renderQuery(String baseTable, String baseAlias,
+                                             Map<String, Object> searchParams,
+                                             Map<String, String> columnMappings,
+                                             JoinGraph joinGraph) {
+        List<JoinInfo> sortedJoins = joinGraph.resolveJoins(searchParams.keySet(), columnMappings);
+
         StringBuilder selectPart = new StringBuilder();
         selectPart.append(baseAlias).append(".*");
 
@@ -183,7 +377,8 @@ public class DaoUtils {
                 selectPart.append(", ").append(joinAlias).append(".name AS location_type_name");
             }
 
-            else if (joinInfo.getJoinTable().equals("transport_types")) {
+            else if (joinInfo.getJoinTable().equals("transport_types")
+                    || joinInfo.getJoinTable().equals("user_types")) {
                 selectPart.append(", ").append(joinAlias).append(".id AS type_id");
                 selectPart.append(", ").append(joinAlias).append(".name AS type_name");
             }
@@ -198,11 +393,24 @@ public class DaoUtils {
 
         for (JoinInfo joinInfo : sortedJoins) {
             query.append(" ").append(joinInfo.getJoinSql());
-            addedJoins.add(joinInfo.getAlias());
         }
 
         query.append(" WHERE 1=1");
+        appendConditions(query, baseTable, baseAlias, searchParams, columnMappings);
+        return query;
+    }
+
+    // The " AND ..." conditions for searchParams, for queries that build their own SELECT and FROM;
+    // bind the values with setWhereParameters.
+    public static String buildConditions(String baseTable, String baseAlias, Map<String, Object> searchParams,
+                                         Map<String, String> columnMappings) {
+        StringBuilder conditions = new StringBuilder();
+        appendConditions(conditions, baseTable, baseAlias, searchParams, columnMappings);
+        return conditions.toString();
+    }
 
+    private static void appendConditions(StringBuilder query, String baseTable, String baseAlias,
+                                         Map<String, Object> searchParams, Map<String, String> columnMappings) {
         for (Map.Entry<String, Object> entry : searchParams.entrySet()) {
             String param = entry.getKey();
             Object value = entry.getValue();
@@ -213,6 +421,10 @@ public class DaoUtils {
                             .append(baseAlias).append(".description LIKE ? OR ")
                             .append(baseAlias).append(".country LIKE ?)");
                 }
+                else if (baseTable.equals("users")) {
+                    query.append(" AND (").append(baseAlias).append(".name LIKE ? OR ")
+                            .append(baseAlias).append(".email LIKE ?)");
+                }
                 else {
                     query.append(" AND (").append(baseAlias).append(".name LIKE ? OR tt.name LIKE ?)");
                 }
@@ -243,12 +455,20 @@ public class DaoUtils {
                 query.append(" AND ").append(column).append(" = ?");
             }
         }
-
-        return query;
     }
 
-    public static void setWhereParameters(PreparedStatement stmt, Map<String, Object> searchParams,
+    // baseTable must be the one the conditions were built for: it decides how many columns a keyword is matched in.
+    public static void setWhereParameters(PreparedStatement stmt, String baseTable, Map<String, Object> searchParams,
                                           Map<String, String> columnMappings) throws SQLException {
+        bindParameters(stmt, searchParams, columnMappings, keywordColumnCount(baseTable));
+    }
+
+    private static int keywordColumnCount(String baseTable) {
+        return baseTable.equals("locations") ? 3 : 2;
+    }
+
+    private static int bindParameters(PreparedStatement stmt, Map<String, Object> searchParams,
+                                       Map<String, String> columnMappings, int keywordColumns) throws SQLException {
         int paramIndex = 1;
 
         for (Map.Entry<String, Object> entry : searchParams.entrySet()) {
@@ -258,9 +478,9 @@ public class DaoUtils {
             if (param.equals("keyword") && value instanceof String) {
                 String searchValue = "%" + value + "%";
 
-                stmt.setString(paramIndex++, searchValue);
-                stmt.setString(paramIndex++, searchValue);
-                stmt.setString(paramIndex++, searchValue);
+                for (int i = 0; i < keywordColumns; i++) {
+                    stmt.setString(paramIndex++, searchValue);
+                }
                 continue;
             }
 
@@ -277,6 +497,7 @@ public class DaoUtils {
                 setParameter(stmt, paramIndex++, value);
             }
         }
+        return paramIndex;
     }
 
     public static <T> List<T> executeSearchQuery(Connection connection, String baseTable, String baseAlias,
@@ -290,7 +511,7 @@ public class DaoUtils {
         queryBuilder.append(" ORDER BY ").append(baseAlias).append(".name");
 
         try (PreparedStatement stmt = connection.prepareStatement(queryBuilder.toString())) {
-            setWhereParameters(stmt, searchParams, columnMappings);
+            setWhereParameters(stmt, baseTable, searchParams, columnMappings);
 
             try (ResultSet rs = stmt.executeQuery()) {
                 List<T> result = new ArrayList<>();
@@ -300,14 +521,129 @@ public class DaoUtils {
                 return result;
             }
         } catch (SQLException e) {
-            System.err.println("SQL Error executing query: " + queryBuilder.toString());
-            System.err.println("Parameters: " + searchParams.entrySet().stream()
-                    .map(entry -> entry.getKey() + "=" + entry.getValue())
-                    .collect(Collectors.joining(", ")));
+            logQueryError(queryBuilder.toString(), searchParams);
             throw e;
         }
     }
 
+    private static void logQueryError(String sql, Map<String, Object> searchParams) {
+        System.err.println("SQL Error executing query: " + sql);
+        System.err.println("Parameters: " + searchParams.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(Collectors.joining(", ")));
+    }
+
+    public static <T> List<T> executeSearchQuery(Connection connection, QueryTemplate template,
+                                                 Map<String, Object> searchParams,
+                                                 ResultSetMapper<T> mapper) throws SQLException {
+        String sql = template.getSql(searchParams);
+
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            template.setParameters(stmt, searchParams);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<T> result = new ArrayList<>();
+                while (rs.next()) {
+                    result.add(mapper.map(rs));
+                }
+                return result;
+            }
+        } catch (SQLException e) {
+            logQueryError(sql, searchParams);
+            throw e;
+        }
+    }
+
+    public static <T> Page<T> executePageQuery(Connection connection, QueryTemplate template,
+                                               Map<String, Object> searchParams, PageRequest request,
+                                               ResultSetMapper<T> mapper) throws SQLException {
+        String sql = template.getPageSql(searchParams, request);
+
+        try (PreparedStatement stmt = connection.prepareStatement(sql)) {
+            template.setPageParameters(stmt, searchParams, request);
+
+            try (ResultSet rs = stmt.executeQuery()) {
+                List<T> items = new ArrayList<>(request.size());
+                Page.Cursor last = null;
+                while (rs.next()) {
+                    if (items.size() == request.size()) {
+                        return new Page<>(items, last);
+                    }
+                    items.add(mapper.map(rs));
+                    if (items.size() == request.size()) {
+                        last = template.cursorOf(rs, request);
+                    }
+                }
+                return new Page<>(items, null);
+            }
+        } catch (SQLException e) {
+            logQueryError(sql, searchParams);
+            throw e;
+        }
+    }
+
+    // The returned stream owns the connection and releases it on close, so it must be used in try-with-resources.
+    // While it is open the connection cannot run other statements.
+    public static <T> Stream<T> streamQuery(Connection connection, String sql, StatementBinder binder,
+                                            ResultSetMapper<T> mapper) throws SQLException {
+        PreparedStatement stmt = null;
+        ResultSet rs = null;
+        try {
+            stmt = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            stmt.setFetchSize(STREAMING_FETCH_SIZE);
+            binder.bind(stmt);
+            rs = stmt.executeQuery();
+        } catch (SQLException | RuntimeException e) {
+            SQLException closeFailure = closeAll(rs, stmt, connection);
+            if (closeFailure != null) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+
+        ResultSet resultSet = rs;
+        PreparedStatement statement = stmt;
+        Spliterator<T> rows = new Spliterators.AbstractSpliterator<>(Long.MAX_VALUE, Spliterator.ORDERED) {
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!resultSet.next()) {
+                        return false;
+                    }
+                    action.accept(mapper.map(resultSet));
+                    return true;
+                } catch (SQLException e) {
+                    throw new UncheckedSQLException(e);
+                }
+            }
+        };
+
+        return StreamSupport.stream(rows, false).onClose(() -> {
+            SQLException closeFailure = closeAll(resultSet, statement, connection);
+            if (closeFailure != null) {
+                throw new UncheckedSQLException(closeFailure);
+            }
+        });
+    }
+
+    private static SQLException closeAll(AutoCloseable... resources) {
+        SQLException failure = null;
+        for (AutoCloseable resource : resources) {
+            if (resource == null) continue;
+            try {
+                resource.close();
+            } catch (Exception e) {
+                SQLException sqlException = e instanceof SQLException sql ? sql : new SQLException(e);
+                if (failure == null) {
+                    failure = sqlException;
+                } else {
+                    failure.addSuppressed(sqlException);
+                }
+            }
+        }
+        return failure;
+    }
+
     static String resolveColumn(String param, Map<String, String> columnMappings) {
         if (columnMappings.containsKey(param)) return columnMappings.get(param);
 
@@ -325,4 +661,21 @@ public class DaoUtils {
     public interface ResultSetMapper<T> {
         T map(ResultSet rs) throws SQLException;
     }
+
+    @FunctionalInterface
+    public interface StatementBinder {
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+
+    // Carries a SQLException out of a Stream pipeline, where checked exceptions cannot be thrown.
+    public static class UncheckedSQLException extends RuntimeException {
+        public UncheckedSQLException(SQLException cause) {
+            super(cause.getMessage(), cause);
+        }
+
+        @Override
+        public synchronized SQLException getCause() {
+            return (SQLException) super.getCause();
+        }
+    }
 }
\ No newline at end of file
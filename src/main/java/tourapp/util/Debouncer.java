@@ -0,0 +1,61 @@
+package tourapp.util;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// Runs an action once input has been quiet for the delay, e.g. a search after the user stops typing.
+// Every trigger restarts the wait, so a burst of keystrokes becomes one call with the last state.
+public class Debouncer {
+    private static final ScheduledExecutorService TIMER = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("ui-debounce").daemon().factory());
+
+    private final Duration delay;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<Runnable> dispatcher;
+    private long latestTrigger;
+    private ScheduledFuture<?> pending;
+
+    public Debouncer(Duration delay, Consumer<Runnable> dispatcher) {
+        this(delay, TIMER, dispatcher);
+    }
+
+    // dispatcher decides where the action runs once the wait is over, e.g. on the JavaFX thread.
+    public Debouncer(Duration delay, ScheduledExecutorService scheduler, Consumer<Runnable> dispatcher) {
+        if (delay.isNegative()) {
+            throw new IllegalArgumentException("Затримка не може бути від'ємною");
+        }
+        this.delay = delay;
+        this.scheduler = scheduler;
+        this.dispatcher = dispatcher;
+    }
+
+    public synchronized void trigger(Runnable action) {
+        long trigger = ++latestTrigger;
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        pending = scheduler.schedule(() -> dispatcher.accept(() -> {
+            // The timer may fire just as a newer trigger or cancel arrives; only the latest one may run.
+            if (isLatest(trigger)) {
+                action.run();
+            }
+        }), delay.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    // Drops the pending action, e.g. when an explicit search makes it redundant.
+    public synchronized void cancel() {
+        latestTrigger++;
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    private synchronized boolean isLatest(long trigger) {
+        return trigger == latestTrigger;
+    }
+}
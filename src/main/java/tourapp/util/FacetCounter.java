@@ -0,0 +1,82 @@
+package tourapp.util;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// Counts, for every option of every facet, how many documents the search would return if that option were chosen.
+// Each option keeps a bitmap of the documents holding it, so all counts come from bitmap intersections
+// over one set of rows instead of one search per option.
+// Options of one facet combine with OR, facets with AND; a facet's own selection is ignored when counting its options,
+// so the other options of a single-choice filter still show what switching to them would give.
+public class FacetCounter {
+    private final List<String> facets;
+    private final Map<String, Map<String, BitSet>> optionDocuments = new LinkedHashMap<>();
+    private final Map<Integer, Integer> documentIndex = new HashMap<>();
+
+    public FacetCounter(List<String> facets) {
+        this.facets = List.copyOf(facets);
+        for (String facet : this.facets) {
+            // Sorted so the counts come back in option order.
+            optionDocuments.put(facet, new TreeMap<>());
+        }
+    }
+
+    // Records that a document holds a value of a facet; repeated rows for the same pair are harmless.
+    public void add(int documentId, String facet, String value) {
+        Map<String, BitSet> options = optionDocuments.get(facet);
+        if (options == null) {
+            throw new IllegalArgumentException("Невідомий фасет: " + facet);
+        }
+        if (value == null) return;
+
+        int index = documentIndex.computeIfAbsent(documentId, id -> documentIndex.size());
+        options.computeIfAbsent(value, v -> new BitSet()).set(index);
+    }
+
+    public int documentCount() {
+        return documentIndex.size();
+    }
+
+    // selections maps a facet to its chosen options; facets without an entry, or with an empty one, do not filter.
+    public Map<String, List<FacetValue>> count(Map<String, ? extends Collection<String>> selections) {
+        Map<String, BitSet> matching = new HashMap<>();
+        for (String facet : facets) {
+            Collection<String> selected = selections.get(facet);
+            if (selected != null && !selected.isEmpty()) {
+                BitSet union = new BitSet();
+                for (String option : selected) {
+                    BitSet documents = optionDocuments.get(facet).get(option);
+                    if (documents != null) {
+                        union.or(documents);
+                    }
+                }
+                matching.put(facet, union);
+            }
+        }
+
+        Map<String, List<FacetValue>> counts = new LinkedHashMap<>();
+        for (String facet : facets) {
+            BitSet others = new BitSet();
+            others.set(0, documentIndex.size());
+            matching.forEach((otherFacet, documents) -> {
+                if (!otherFacet.equals(facet)) {
+                    others.and(documents);
+                }
+            });
+
+            counts.put(facet, optionDocuments.get(facet).entrySet().stream()
+                    .map(option -> {
+                        BitSet documents = (BitSet) option.getValue().clone();
+                        documents.and(others);
+                        return new FacetValue(option.getKey(), documents.cardinality());
+                    })
+                    .toList());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,5 @@
+package tourapp.util;
+
+// One distinct value of a column and the number of rows holding it.
+public record FacetValue(String value, int count) {
+}
@@ -0,0 +1,211 @@
+package tourapp.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index for keyword search over free text (tour descriptions, location names and so on).
+// Every query word must occur in a document; results are ranked with BM25. A query word also matches longer
+// words it is a prefix of, which covers Ukrainian case endings well enough ("карпат" finds "Карпатах").
+public class FullTextIndex {
+    public static final Locale UKRAINIAN = Locale.of("uk");
+
+    // Shorter query words would expand to a large part of the vocabulary; they only match whole words.
+    static final int MIN_PREFIX_LENGTH = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    // A whole-word match ranks above a match on a longer word sharing the prefix.
+    private static final double PREFIX_MATCH_WEIGHT = 0.8;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "і", "й", "та", "а", "але", "або", "в", "у", "на", "з", "із", "зі", "до", "по", "за", "для",
+            "від", "о", "об", "при", "під", "над", "що", "як", "це", "the", "and", "of", "in", "to");
+
+    public record Hit(int id, double score) {
+    }
+
+    private record Document(Map<String, Integer> frequencies, int length) {
+    }
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Integer, Integer>> postings = new TreeMap<>();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private long totalLength;
+    private volatile boolean loaded;
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) return tokens;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(UKRAINIAN);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (isApostrophe(c)) {
+                // Part of the word: "п'ять", "пʼять" and "п’ять" are the same token.
+                if (!word.isEmpty() && i + 1 < normalized.length() && Character.isLetter(normalized.charAt(i + 1))) {
+                    word.append('\'');
+                } else {
+                    addToken(tokens, word);
+                }
+            } else if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else {
+                addToken(tokens, word);
+            }
+        }
+        addToken(tokens, word);
+        return tokens;
+    }
+
+    private static boolean isApostrophe(char c) {
+        return c == '\'' || c == '’' || c == 'ʼ' || c == '`';
+    }
+
+    private static void addToken(List<String> tokens, StringBuilder word) {
+        if (!word.isEmpty()) {
+            String token = word.toString();
+            if (!STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+            word.setLength(0);
+        }
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    // Replaces the whole index, e.g. with the rows read on first use.
+    public void load(Map<Integer, String> texts) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+            texts.forEach(this::putLocked);
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void put(int id, String text) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            putLocked(id, text);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Best matches first; ties keep ascending id so the order is stable between calls.
+    public List<Hit> search(String query, int limit) {
+        List<String> queryTokens = tokenize(query).stream().distinct().toList();
+        if (queryTokens.isEmpty()) return List.of();
+
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) return List.of();
+
+            double averageLength = (double) totalLength / documents.size();
+            Map<Integer, Double> scores = null;
+            for (String token : queryTokens) {
+                Map<Integer, Double> tokenScores = scoreToken(token, averageLength);
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    scores.keySet().retainAll(tokenScores.keySet());
+                    scores.replaceAll((id, score) -> score + tokenScores.get(id));
+                }
+                if (scores.isEmpty()) return List.of();
+            }
+
+            return scores.entrySet().stream()
+                    .map(entry -> new Hit(entry.getKey(), entry.getValue()))
+                    .sorted(Comparator.comparingDouble(Hit::score).reversed().thenComparingInt(Hit::id))
+                    .limit(limit)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Best score per document among the indexed words the query word matches.
+    private Map<Integer, Double> scoreToken(String token, double averageLength) {
+        Map<Integer, Double> scores = new HashMap<>();
+        Map<String, Map<Integer, Integer>> matches = token.length() < MIN_PREFIX_LENGTH
+                ? (postings.containsKey(token) ? Map.of(token, postings.get(token)) : Map.of())
+                : postings.subMap(token, true, token + Character.MAX_VALUE, false);
+
+        int documentCount = documents.size();
+        for (Map.Entry<String, Map<Integer, Integer>> match : matches.entrySet()) {
+            Map<Integer, Integer> postingList = match.getValue();
+            double idf = Math.log(1 + (documentCount - postingList.size() + 0.5) / (postingList.size() + 0.5));
+            double weight = match.getKey().equals(token) ? 1.0 : PREFIX_MATCH_WEIGHT;
+
+            for (Map.Entry<Integer, Integer> posting : postingList.entrySet()) {
+                int frequency = posting.getValue();
+                int length = documents.get(posting.getKey()).length();
+                double score = weight * idf * frequency * (K1 + 1)
+                        / (frequency + K1 * (1 - B + B * length / averageLength));
+                scores.merge(posting.getKey(), score, Math::max);
+            }
+        }
+        return scores;
+    }
+
+    private void putLocked(int id, String text) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        List<String> tokens = tokenize(text);
+        for (String token : tokens) {
+            frequencies.merge(token, 1, Integer::sum);
+        }
+        documents.put(id, new Document(frequencies, tokens.size()));
+        totalLength += tokens.size();
+        frequencies.forEach((token, frequency) ->
+                postings.computeIfAbsent(token, t -> new HashMap<>()).put(id, frequency));
+    }
+
+    private void removeLocked(int id) {
+        Document document = documents.remove(id);
+        if (document == null) return;
+
+        totalLength -= document.length();
+        for (Map.Entry<String, Integer> entry : document.frequencies().entrySet()) {
+            Map<Integer, Integer> postingList = postings.get(entry.getKey());
+            postingList.remove(id);
+            if (postingList.isEmpty()) {
+                postings.remove(entry.getKey());
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package tourapp.util;
+
+import java.util.List;
+
+public record Page<T>(List<T> items, Cursor next) {
+
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    // Sort values and id of the last row of a page; the next page starts strictly after it.
+    public record Cursor(List<Object> sortValues, int id) {
+    }
+}
@@ -0,0 +1,32 @@
+package tourapp.util;
+
+import java.util.List;
+
+public record PageRequest(List<SortKey> sort, Page.Cursor after, int size) {
+
+    public PageRequest {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Розмір сторінки має бути більшим за нуль");
+        }
+        sort = List.copyOf(sort);
+    }
+
+    public static PageRequest first(int size, SortKey... sort) {
+        return new PageRequest(List.of(sort), null, size);
+    }
+
+    public PageRequest after(Page.Cursor cursor) {
+        return new PageRequest(sort, cursor, size);
+    }
+
+    public record SortKey(String property, boolean descending) {
+
+        public static SortKey asc(String property) {
+            return new SortKey(property, false);
+        }
+
+        public static SortKey desc(String property) {
+            return new SortKey(property, true);
+        }
+    }
+}
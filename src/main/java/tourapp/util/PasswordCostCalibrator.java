@@ -0,0 +1,50 @@
+package tourapp.util;
+
+import tourapp.model.user.User;
+
+import java.time.Duration;
+import java.util.function.IntToLongFunction;
+
+// Picks the BCrypt cost for this machine: the largest one whose password check still fits the target time.
+public final class PasswordCostCalibrator {
+    // Every step doubles the work, so anything above this would take seconds per login on current hardware.
+    static final int MAX_CALIBRATED_COST = 16;
+    private static final String SAMPLE_PASSWORD = "calibration-sample";
+
+    private PasswordCostCalibrator() {
+    }
+
+    public static int calibrate(Duration targetVerifyTime) {
+        // The first BCrypt call also pays for class loading and JIT; keep it out of the measurements.
+        measureVerifyNanos(User.MIN_PASSWORD_COST);
+        return calibrate(targetVerifyTime, PasswordCostCalibrator::measureVerifyNanos);
+    }
+
+    static int calibrate(Duration targetVerifyTime, IntToLongFunction verifyNanos) {
+        if (targetVerifyTime.isNegative() || targetVerifyTime.isZero()) {
+            throw new IllegalArgumentException("Цільовий час перевірки пароля має бути додатним");
+        }
+
+        long target = targetVerifyTime.toNanos();
+        int chosen = User.MIN_PASSWORD_COST;
+        for (int cost = User.MIN_PASSWORD_COST; cost <= MAX_CALIBRATED_COST; cost++) {
+            long elapsed = verifyNanos.applyAsLong(cost);
+            if (elapsed > target) {
+                break;
+            }
+            chosen = cost;
+            // The next cost takes about twice as long; no need to spend that time just to reject it.
+            if (elapsed * 2 > target) {
+                break;
+            }
+        }
+        return chosen;
+    }
+
+    private static long measureVerifyNanos(int cost) {
+        String hash = User.hashPassword(SAMPLE_PASSWORD, cost);
+        long start = System.nanoTime();
+        User.verifyPassword(SAMPLE_PASSWORD, hash);
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,63 @@
+package tourapp.util;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+public final class UnitOfWork {
+
+    @FunctionalInterface
+    public interface Work<R> {
+        R execute(Connection connection) throws SQLException;
+    }
+
+    private UnitOfWork() {
+    }
+
+    public static <R> R execute(ConnectionFactory connectionFactory, Work<R> work) throws SQLException {
+        if (connectionFactory.isInTransaction()) {
+            try (Connection connection = connectionFactory.getConnection()) {
+                return work.execute(connection);
+            }
+        }
+
+        try (Connection connection = connectionFactory.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            connectionFactory.bindTransaction(connection);
+
+            Exception failure = null;
+            try {
+                R result = work.execute(connection);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                failure = e;
+                rollbackQuietly(connection, e);
+                throw e;
+            } finally {
+                connectionFactory.unbindTransaction();
+                restoreAutoCommit(connection, autoCommit, failure);
+            }
+        }
+    }
+
+    // A failed restore must not replace the exception that ended the work; it is attached to it instead.
+    private static void restoreAutoCommit(Connection connection, boolean autoCommit, Exception failure) throws SQLException {
+        try {
+            connection.setAutoCommit(autoCommit);
+        } catch (SQLException restoreError) {
+            if (failure == null) {
+                throw restoreError;
+            }
+            failure.addSuppressed(restoreError);
+        }
+    }
+
+    private static void rollbackQuietly(Connection connection, Exception cause) {
+        try {
+            connection.rollback();
+        } catch (SQLException rollbackError) {
+            cause.addSuppressed(rollbackError);
+        }
+    }
+}
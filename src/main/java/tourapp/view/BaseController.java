@@ -1,5 +1,6 @@
 package tourapp.view;
 
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -7,17 +8,30 @@ import javafx.scene.control.Alert;
 import javafx.scene.image.Image;
 import javafx.stage.Stage;
 import org.slf4j.LoggerFactory;
+import tourapp.util.AsyncLoader;
 import tourapp.util.SessionManager;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import org.slf4j.Logger;
 
 
 public abstract class BaseController {
     public static Logger logger = LoggerFactory.getLogger(BaseController.class);
+    private static final String STYLESHEET = BaseController.class.getResource("/tourapp/css/styles.css").toExternalForm();
+    // Icons are decoded once and shared by every window that shows them.
+    private static final Map<String, Image> IMAGES = new ConcurrentHashMap<>();
 
     protected final Stage stage;
     protected final SessionManager sessionManager;
+    // Where loaders run their work. ControllerFactory moves controllers to virtual threads; until then work runs
+    // inline, so a controller constructed directly, as in the view tests, loads synchronously.
+    private Executor backgroundExecutor = Runnable::run;
+    // Set by ControllerFactory; without it every show() builds the screen anew.
+    private ViewCache viewCache;
 
     protected BaseController(Stage stage, SessionManager sessionManager) {
         this.stage = stage;
@@ -25,32 +39,103 @@ public abstract class BaseController {
     }
 
     public void loadAndShow(String fxmlPath, String title) {
+        String role = null;
+        if (viewCache != null) {
+            if (!isAuthenticated()) {
+                // Login or registration: whoever signs in next must not get the previous user's screens.
+                viewCache.clear();
+            } else {
+                role = viewRole();
+                ViewCache.Screen cached = viewCache.get(fxmlPath, role);
+                if (cached != null) {
+                    showScene(cached.scene(), title);
+                    cached.controller().refresh();
+                    return;
+                }
+            }
+        }
+
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
             loader.setController(this);
             Parent root = loader.load();
 
             Scene scene = new Scene(root);
-            scene.getStylesheets().add(getClass().getResource("/tourapp/css/styles.css").toExternalForm());
-            Image icon = new Image(getClass().getResourceAsStream("/tourapp/images/icon.png"));
-            stage.getIcons().add(icon);
-            stage.setScene(scene);
-            stage.setTitle(title);
-            stage.centerOnScreen();
-            stage.show();
+            scene.getStylesheets().add(STYLESHEET);
+            showScene(scene, title);
+            if (role != null) {
+                viewCache.put(fxmlPath, role, this, scene);
+            }
 
         } catch (IOException e) {
             showError("Не вдалося завантажити інтерфейс: " + e.getMessage());
         }
     }
 
+    private void showScene(Scene scene, String title) {
+        Image icon = image("/tourapp/images/icon.png");
+        if (!stage.getIcons().contains(icon)) {
+            stage.getIcons().add(icon);
+        }
+        stage.setScene(scene);
+        stage.setTitle(title);
+        stage.centerOnScreen();
+        stage.show();
+    }
+
+    protected static Image image(String path) {
+        return IMAGES.computeIfAbsent(path, p -> new Image(BaseController.class.getResource(p).toExternalForm()));
+    }
+
+    // Screens are set up per role (staff see tables and edit buttons, customers see cards), so they are cached per role.
+    private String viewRole() {
+        if (isAdmin()) return "admin";
+        if (isManager()) return "manager";
+        if (isCustomer()) return "customer";
+        return "guest";
+    }
+
+    // Called when a cached screen is shown again; reloads whatever may have changed while it was hidden.
+    protected void refresh() {
+    }
+
     public abstract void show();
 
+    // Background work reports back through here; UI updates must happen on the JavaFX thread.
+    protected void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+
+    public void setViewCache(ViewCache viewCache) {
+        this.viewCache = viewCache;
+    }
+
+    public void setBackgroundExecutor(Executor backgroundExecutor) {
+        this.backgroundExecutor = backgroundExecutor;
+    }
+
+    // The executor is read on every submit, so loaders created in field initializers follow a later setBackgroundExecutor.
+    protected AsyncLoader newLoader() {
+        return new AsyncLoader(task -> backgroundExecutor.execute(task), this::runOnFxThread);
+    }
+
+    // CompletableFuture wraps failures from dependent stages; the message worth showing is on the cause.
+    protected static Throwable unwrap(Throwable error) {
+        while (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        return error;
+    }
+
     public void showError(String message) {
         Alert alert = new Alert(Alert.AlertType.ERROR);
         Stage alertStage = (Stage) alert.getDialogPane().getScene().getWindow();
-        alertStage.getIcons().add(new Image(getClass().getResource("/tourapp/images/cross.png").toExternalForm()));
-        alert.getDialogPane().getStylesheets().add(getClass().getResource("/tourapp/css/styles.css").toExternalForm());
+        alertStage.getIcons().add(image("/tourapp/images/cross.png"));
+        alert.getDialogPane().getStylesheets().add(STYLESHEET);
         alert.setTitle("Помилка");
         alert.setHeaderText(null);
         alert.setContentText(message);
@@ -61,8 +146,8 @@ public abstract class BaseController {
     public void showInfo(String message) {
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         Stage alertStage = (Stage) alert.getDialogPane().getScene().getWindow();
-        alertStage.getIcons().add(new Image(getClass().getResource("/tourapp/images/info.png").toExternalForm()));
-        alert.getDialogPane().getStylesheets().add(getClass().getResource("/tourapp/css/styles.css").toExternalForm());
+        alertStage.getIcons().add(image("/tourapp/images/info.png"));
+        alert.getDialogPane().getStylesheets().add(STYLESHEET);
         alert.setTitle("Інформація");
         alert.setHeaderText(null);
         alert.setContentText(message);
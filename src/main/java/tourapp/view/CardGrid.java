@@ -0,0 +1,149 @@
+package tourapp.view;
+
+import javafx.application.Platform;
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.HBox;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+
+// Shows items as a grid of cards. Each row of cards is a ListView cell, so only the rows on screen have nodes,
+// and a row scrolled out of view hands its card nodes the items of the row scrolled in instead of building new ones.
+public class CardGrid<T> extends ListView<List<T>> {
+
+    // A card that can show any item; one is created per visible slot and then reused.
+    public interface Card<T> {
+        Node getNode();
+
+        void show(T item);
+    }
+
+    // Rows this close to the end ask for more items, so the next page is there before the user reaches it.
+    private static final int PRELOAD_ROWS = 2;
+    // Room for the vertical scroll bar, which takes width from the rows once the grid overflows.
+    private static final double SCROLL_BAR_ALLOWANCE = 20;
+
+    private final List<T> cardItems = new ArrayList<>();
+    private Supplier<? extends Card<T>> cardFactory;
+    private double cardWidth = 250;
+    private double gap = 20;
+    private int columns = 1;
+    private Runnable onNearEnd;
+
+    public CardGrid() {
+        getStyleClass().add("card-grid");
+        setCellFactory(list -> new RowCell());
+        widthProperty().addListener((obs, oldWidth, width) -> updateColumns());
+    }
+
+    public void setCardFactory(Supplier<? extends Card<T>> cardFactory) {
+        this.cardFactory = cardFactory;
+        refresh();
+    }
+
+    public void setCardWidth(double cardWidth) {
+        this.cardWidth = cardWidth;
+        updateColumns();
+    }
+
+    public void setGap(double gap) {
+        this.gap = gap;
+        updateColumns();
+        refresh();
+    }
+
+    // Called on the JavaFX thread when the user scrolls close to the last row; may be called more than once.
+    public void setOnNearEnd(Runnable onNearEnd) {
+        this.onNearEnd = onNearEnd;
+    }
+
+    public List<T> getCardItems() {
+        return Collections.unmodifiableList(cardItems);
+    }
+
+    public void setCards(List<T> items) {
+        cardItems.clear();
+        cardItems.addAll(items);
+        rebuildRows(0);
+        if (!getItems().isEmpty()) {
+            scrollTo(0);
+        }
+    }
+
+    // Keeps the rows above the old last one untouched, so the scroll position and their cells stay as they are.
+    public void appendCards(List<T> items) {
+        if (items.isEmpty()) return;
+
+        int firstChangedRow = cardItems.size() / columns;
+        cardItems.addAll(items);
+        rebuildRows(firstChangedRow);
+    }
+
+    int getColumns() {
+        return columns;
+    }
+
+    private void updateColumns() {
+        double available = getWidth() - snappedLeftInset() - snappedRightInset() - SCROLL_BAR_ALLOWANCE;
+        int fit = Math.max(1, (int) ((available + gap) / (cardWidth + gap)));
+        if (fit != columns) {
+            columns = fit;
+            rebuildRows(0);
+        }
+    }
+
+    private void rebuildRows(int fromRow) {
+        List<List<T>> rows = new ArrayList<>();
+        for (int start = fromRow * columns; start < cardItems.size(); start += columns) {
+            rows.add(List.copyOf(cardItems.subList(start, Math.min(start + columns, cardItems.size()))));
+        }
+
+        if (fromRow == 0) {
+            getItems().setAll(rows);
+        } else {
+            getItems().remove(fromRow, getItems().size());
+            getItems().addAll(rows);
+        }
+    }
+
+    private class RowCell extends ListCell<List<T>> {
+        private final HBox row = new HBox();
+        private final List<Card<T>> cards = new ArrayList<>();
+
+        @Override
+        protected void updateItem(List<T> items, boolean empty) {
+            super.updateItem(items, empty);
+            setText(null);
+            if (empty || items == null || cardFactory == null) {
+                setGraphic(null);
+                return;
+            }
+
+            while (cards.size() < items.size()) {
+                cards.add(cardFactory.get());
+            }
+            List<Node> nodes = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                Card<T> card = cards.get(i);
+                card.show(items.get(i));
+                nodes.add(card.getNode());
+            }
+            if (!row.getChildren().equals(nodes)) {
+                row.getChildren().setAll(nodes);
+            }
+            row.setSpacing(gap);
+            setPadding(new Insets(0, 0, gap, 0));
+            setGraphic(row);
+
+            if (onNearEnd != null && getIndex() >= getListView().getItems().size() - PRELOAD_ROWS) {
+                // Not while the list is laying out its cells: the handler may add rows.
+                Platform.runLater(onNearEnd);
+            }
+        }
+    }
+}
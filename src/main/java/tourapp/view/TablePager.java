@@ -0,0 +1,167 @@
+package tourapp.view;
+
+import javafx.collections.FXCollections;
+import javafx.geometry.Orientation;
+import javafx.scene.Node;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import tourapp.util.AsyncLoader;
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
+import tourapp.util.PageRequest.SortKey;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// Fills a table one page at a time and fetches the next page when the user scrolls near the bottom.
+// Pages are fetched through the loader, off the JavaFX thread; a reload supersedes any page still being fetched.
+// Sorting is done by the query: a header click reloads from the first page in the new order, since sorting only
+// the rows on screen would leave later pages arriving in the old order underneath them.
+public class TablePager<T> {
+    public static final int PAGE_SIZE = 50;
+    private static final double LOAD_THRESHOLD = 0.9;
+
+    @FunctionalInterface
+    public interface PageSource<T> {
+        Page<T> fetch(PageRequest request) throws SQLException;
+    }
+
+    private final TableView<T> table;
+    private final AsyncLoader loader;
+    private final Consumer<SQLException> onError;
+    private final Node placeholder;
+    private final ProgressIndicator progress = new ProgressIndicator();
+    private final Map<TableColumn<T, ?>, String> sortProperties = new HashMap<>();
+    private PageSource<T> source;
+    private PageSource<T> requestedSource;
+    private List<SortKey> sort = List.of();
+    private PageRequest nextRequest;
+    private boolean scrollListenerAttached;
+
+    public TablePager(TableView<T> table, AsyncLoader loader, Consumer<SQLException> onError) {
+        this.table = table;
+        this.loader = loader;
+        this.onError = onError;
+        this.placeholder = table.getPlaceholder();
+
+        // An empty table shows a spinner instead of "no content" while its rows are on the way.
+        loader.loadingProperty().addListener((obs, wasLoading, isLoading) ->
+                table.setPlaceholder(isLoading ? progress : placeholder));
+
+        // Only columns given a sort property can be sorted; the others have no column the query could order by.
+        table.getColumns().forEach(column -> column.setSortable(false));
+        table.setSortPolicy(sortedTable -> {
+            sortOrderChanged();
+            return true;
+        });
+
+        if (table.getSkin() != null) {
+            attachScrollListener();
+        }
+        table.skinProperty().addListener((obs, oldSkin, newSkin) -> attachScrollListener());
+    }
+
+    // property is the search parameter the DAO maps to the column, e.g. "startDate".
+    public TablePager<T> sortable(TableColumn<T, ?> column, String property) {
+        sortProperties.put(column, property);
+        column.setSortable(true);
+        return this;
+    }
+
+    // Reloads from the first page in the order currently chosen in the table header.
+    public void reload(PageSource<T> source, Consumer<List<T>> onLoaded) {
+        reload(source, PageRequest.first(PAGE_SIZE, sort.toArray(SortKey[]::new)), onLoaded);
+    }
+
+    // onLoaded gets the first page once it is on screen; failures go to the pager's error handler.
+    public void reload(PageSource<T> source, PageRequest firstPage, Consumer<List<T>> onLoaded) {
+        requestedSource = source;
+        loader.submit(() -> source.fetch(firstPage), page -> {
+            this.source = source;
+            this.nextRequest = page.hasNext() ? firstPage.after(page.next()) : null;
+            table.setItems(FXCollections.observableArrayList(page.items()));
+            onLoaded.accept(page.items());
+            loadMoreIfNothingToScroll();
+        }, error -> onError.accept(asSqlException(error)));
+    }
+
+    public boolean hasMore() {
+        return nextRequest != null;
+    }
+
+    public void loadNextPage() {
+        // While a reload is in flight the rows on screen are about to be replaced; appending to them is pointless.
+        if (nextRequest == null || loader.isLoading()) return;
+
+        PageRequest request = nextRequest;
+        loader.submit(() -> source.fetch(request), page -> {
+            nextRequest = page.hasNext() ? request.after(page.next()) : null;
+            table.getItems().addAll(page.items());
+            loadMoreIfNothingToScroll();
+        }, error -> {
+            nextRequest = null;
+            onError.accept(asSqlException(error));
+        });
+    }
+
+    private static SQLException asSqlException(Throwable error) {
+        return error instanceof SQLException sql ? sql : new SQLException(error.getMessage(), error);
+    }
+
+    // The table also calls its sort policy when nothing about the order changed, so only a new order reloads.
+    private void sortOrderChanged() {
+        List<SortKey> newSort = new ArrayList<>();
+        for (TableColumn<T, ?> column : table.getSortOrder()) {
+            String property = sortProperties.get(column);
+            if (property != null) {
+                newSort.add(new SortKey(property, column.getSortType() == TableColumn.SortType.DESCENDING));
+            }
+        }
+        if (newSort.equals(sort)) return;
+
+        sort = List.copyOf(newSort);
+        if (requestedSource != null) {
+            reload(requestedSource, rows -> { });
+        }
+    }
+
+    // Rows that fit without a scroll bar give the user nothing to scroll, so the next page would never be asked for.
+    private void loadMoreIfNothingToScroll() {
+        if (nextRequest == null || table.getSkin() == null || !table.isVisible()) return;
+
+        table.layout();
+        ScrollBar bar = verticalScrollBar();
+        if (bar != null && !bar.isVisible()) {
+            loadNextPage();
+        }
+    }
+
+    private void attachScrollListener() {
+        if (scrollListenerAttached) return;
+
+        ScrollBar bar = verticalScrollBar();
+        if (bar != null) {
+            bar.valueProperty().addListener((obs, oldValue, value) -> {
+                if (value.doubleValue() >= bar.getMax() * LOAD_THRESHOLD) {
+                    loadNextPage();
+                }
+            });
+            scrollListenerAttached = true;
+        }
+    }
+
+    private ScrollBar verticalScrollBar() {
+        for (Node node : table.lookupAll(".scroll-bar")) {
+            if (node instanceof ScrollBar bar && bar.getOrientation() == Orientation.VERTICAL) {
+                return bar;
+            }
+        }
+        return null;
+    }
+}
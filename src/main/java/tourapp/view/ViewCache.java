@@ -0,0 +1,113 @@
+package tourapp.view;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Keeps the scenes of recently shown screens with their controllers, so going back to a screen skips building
+// a controller, parsing its FXML and styling a new scene; the cached controller only refreshes its data.
+// Screens are keyed by FXML path and role, since one FXML is set up differently for a customer and for staff.
+// Bounded by screen count and by the total node count of the cached scenes, which stands in for their memory;
+// the least recently shown screens go first. Used from the JavaFX thread only.
+public class ViewCache {
+    public static final int DEFAULT_MAX_SCREENS = 6;
+    public static final int DEFAULT_MAX_NODES = 50_000;
+
+    public record Screen(BaseController controller, Scene scene) {
+    }
+
+    public record Stats(long hits, long misses, long evictions, int screens, long nodes) {
+    }
+
+    private record Key(String fxmlPath, String role) {
+    }
+
+    private record Cached(Screen screen, int nodes) {
+    }
+
+    private final int maxScreens;
+    private final long maxNodes;
+    private final LinkedHashMap<Key, Cached> screens = new LinkedHashMap<>(16, 0.75f, true);
+    private long cachedNodes;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public ViewCache() {
+        this(DEFAULT_MAX_SCREENS, DEFAULT_MAX_NODES);
+    }
+
+    public ViewCache(int maxScreens, long maxNodes) {
+        if (maxScreens <= 0 || maxNodes <= 0) {
+            throw new IllegalArgumentException("Параметри кешу екранів мають бути додатними");
+        }
+        this.maxScreens = maxScreens;
+        this.maxNodes = maxNodes;
+    }
+
+    public Screen get(String fxmlPath, String role) {
+        Key key = new Key(fxmlPath, role);
+        Cached entry = screens.get(key);
+        if (entry == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        // Tables and card grids grow while a screen is used; recount so the budget follows.
+        put(key, entry.screen());
+        return entry.screen();
+    }
+
+    public void put(String fxmlPath, String role, BaseController controller, Scene scene) {
+        put(new Key(fxmlPath, role), new Screen(controller, scene));
+    }
+
+    // Screens belong to the user who opened them; call when the session ends.
+    public void clear() {
+        screens.clear();
+        cachedNodes = 0;
+    }
+
+    public Stats stats() {
+        return new Stats(hits, misses, evictions, screens.size(), cachedNodes);
+    }
+
+    private void put(Key key, Screen screen) {
+        Cached removed = screens.remove(key);
+        if (removed != null) {
+            cachedNodes -= removed.nodes();
+        }
+        int nodes = countNodes(screen.scene().getRoot());
+        screens.put(key, new Cached(screen, nodes));
+        cachedNodes += nodes;
+        evictOverflow(key);
+    }
+
+    // The screen just put is on the stage, so it stays even if it alone is over the budget.
+    private void evictOverflow(Key current) {
+        Iterator<Map.Entry<Key, Cached>> eldest = screens.entrySet().iterator();
+        while ((screens.size() > maxScreens || cachedNodes > maxNodes) && eldest.hasNext()) {
+            Map.Entry<Key, Cached> entry = eldest.next();
+            if (entry.getKey().equals(current)) continue;
+            cachedNodes -= entry.getValue().nodes();
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    static int countNodes(Node node) {
+        if (node == null) return 0;
+
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
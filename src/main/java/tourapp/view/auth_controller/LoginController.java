@@ -1,11 +1,16 @@
 package tourapp.view.auth_controller;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
 import javafx.scene.control.PasswordField;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.stage.Stage;
 import tourapp.model.user.User;
-import tourapp.service.user_service.UserService;
+import tourapp.service.user_service.CredentialService;
 import tourapp.util.ControllerFactory;
 import tourapp.util.validation.FormValidator;
 import tourapp.util.SessionManager;
@@ -13,18 +18,21 @@ import tourapp.view.BaseController;
 
 public class LoginController extends BaseController {
 
-    private final UserService userService;
+    private final CredentialService credentialService;
     private final ControllerFactory controllerFactory;
+    private final BooleanProperty authenticating = new SimpleBooleanProperty(false);
 
     @FXML private TextField emailField;
     @FXML private PasswordField passwordField;
+    @FXML private Button loginButton;
+    @FXML private ProgressIndicator loginProgress;
 
-    public LoginController(UserService userService,
+    public LoginController(CredentialService credentialService,
                            SessionManager sessionManager,
                            Stage stage,
                            ControllerFactory controllerFactory) {
         super(stage, sessionManager);
-        this.userService = userService;
+        this.credentialService = credentialService;
         this.controllerFactory = controllerFactory;
     }
 
@@ -33,8 +41,21 @@ public class LoginController extends BaseController {
         loadAndShow("/tourapp/view/auth/login.fxml", "Вхід");
     }
 
+    @FXML
+    public void initialize() {
+        loginButton.disableProperty().bind(authenticating);
+        loginProgress.visibleProperty().bind(authenticating);
+    }
+
+    // True while the password is being checked in the background.
+    public ReadOnlyBooleanProperty authenticatingProperty() {
+        return authenticating;
+    }
+
     @FXML
     public void handleLogin() {
+        if (authenticating.get()) return;
+
         if (!FormValidator.validateLoginForm(emailField, passwordField)) {
             FormValidator.showValidationErrors(stage);
             emailField.clear();
@@ -45,14 +66,24 @@ public class LoginController extends BaseController {
         String email = emailField.getText().trim();
         String password = passwordField.getText();
 
-        try {
-            User user = userService.authenticate(email, password);
-
-            if (user == null) {
-                showError("Неправильна електронна пошта або пароль.");
+        authenticating.set(true);
+        credentialService.authenticate(email, password).whenComplete((user, error) -> runOnFxThread(() -> {
+            authenticating.set(false);
+            if (error != null) {
+                showError("Сталася помилка при вході: " + unwrap(error).getMessage());
                 return;
             }
+            onAuthenticated(user);
+        }));
+    }
+
+    private void onAuthenticated(User user) {
+        if (user == null) {
+            showError("Неправильна електронна пошта або пароль.");
+            return;
+        }
 
+        try {
             sessionManager.startSession(user);
             showInfo("Вітаємо, " + user.getName() + "!");
             logger.info("Виконано вхід: {}.", user);
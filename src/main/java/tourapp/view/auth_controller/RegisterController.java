@@ -1,13 +1,19 @@
 package tourapp.view.auth_controller;
 
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
 import javafx.fxml.FXML;
+import javafx.scene.control.Button;
 import javafx.scene.control.PasswordField;
 import javafx.scene.control.TextField;
 import javafx.stage.Stage;
 import tourapp.model.user.User;
 import tourapp.model.user.UserType;
+import tourapp.service.user_service.CredentialService;
 import tourapp.service.user_service.UserService;
 import tourapp.service.user_service.UserTypeService;
+import tourapp.util.AsyncLoader;
 import tourapp.util.ControllerFactory;
 import tourapp.util.validation.FormValidator;
 import tourapp.util.SessionManager;
@@ -18,21 +24,27 @@ import java.sql.SQLException;
 public class RegisterController extends BaseController {
 
     private final UserService userService;
+    private final CredentialService credentialService;
     private final UserTypeService userTypeService;
     private final ControllerFactory controllerFactory;
+    private final BooleanProperty registering = new SimpleBooleanProperty(false);
+    private final AsyncLoader lookupLoader = newLoader();
 
     @FXML private TextField usernameField;
     @FXML private TextField emailField;
     @FXML private PasswordField passwordField;
     @FXML private PasswordField confirmPasswordField;
+    @FXML private Button registerButton;
 
     public RegisterController(UserService userService,
+                              CredentialService credentialService,
                               UserTypeService userTypeService,
                               SessionManager sessionManager,
                               Stage stage,
                               ControllerFactory controllerFactory) {
         super(stage, sessionManager);
         this.userService = userService;
+        this.credentialService = credentialService;
         this.userTypeService = userTypeService;
         this.controllerFactory = controllerFactory;
     }
@@ -42,8 +54,20 @@ public class RegisterController extends BaseController {
         loadAndShow("/tourapp/view/auth/register.fxml", "Реєстрація");
     }
 
+    @FXML
+    public void initialize() {
+        registerButton.disableProperty().bind(registering);
+    }
+
+    // True from the first lookup until the account is created or the attempt fails.
+    public ReadOnlyBooleanProperty registeringProperty() {
+        return registering;
+    }
+
     @FXML
     void handleRegister() {
+        if (registering.get()) return;
+
         if (!FormValidator.validateRegisterForm(usernameField, emailField, passwordField, confirmPasswordField)) {
             FormValidator.showValidationErrors(stage);
             usernameField.clear();
@@ -56,37 +80,58 @@ public class RegisterController extends BaseController {
         String email = emailField.getText().trim();
         String password = passwordField.getText();
 
-        try {
-            User existingUser = userService.findByEmail(email);
-            if (existingUser != null) {
+        registering.set(true);
+        // The email and role lookups are JDBC calls, so they run on the loader's thread like the hashing after them.
+        lookupLoader.submit(() -> lookup(email), lookup -> {
+            if (lookup.emailTaken()) {
+                registering.set(false);
                 showError("Користувач з такою поштою вже існує.");
                 return;
             }
-
-            UserType role = userTypeService.findByExactName("CUSTOMER");
-            if (role == null) {
+            if (lookup.role() == null) {
+                registering.set(false);
                 showError("Роль користувача не знайдена. Зверніться до адміністратора.");
                 return;
             }
 
-            User newUser = new User(username, email, password, role);
-
-            boolean created = userService.create(newUser);
-            if (created) {
-                showInfo("Реєстрація успішна!");
-                logger.info("Виконано реєстрацію: {}.", newUser);
-                User authenticatedUser = userService.authenticate(email, password);
-                if (authenticatedUser != null) {
-                    sessionManager.startSession(authenticatedUser);
-                    controllerFactory.createDashboardController().show();
-                } else {
-                    showError("Помилка автентифікації після реєстрації.");
-                }
+            // Hashing the password is the slow part, so it runs on the credential pool.
+            credentialService.register(username, email, password, lookup.role())
+                    .whenComplete((registeredUser, error) -> runOnFxThread(() -> onRegistered(registeredUser, error)));
+        }, error -> onRegistered(null, error));
+    }
+
+    private RegistrationLookup lookup(String email) throws SQLException {
+        if (userService.findByEmail(email) != null) {
+            return new RegistrationLookup(true, null);
+        }
+        return new RegistrationLookup(false, userTypeService.findByExactName("CUSTOMER"));
+    }
+
+    private record RegistrationLookup(boolean emailTaken, UserType role) {
+    }
+
+    private void onRegistered(User registeredUser, Throwable error) {
+        registering.set(false);
+        if (error != null) {
+            Throwable cause = unwrap(error);
+            if (cause instanceof SQLException) {
+                showError("Помилка при реєстрації: " + cause.getMessage());
             } else {
-                showError("Не вдалося створити користувача.");
+                showError("Невідома помилка при реєстрації: " + cause.getMessage());
             }
-        } catch (SQLException e) {
-            showError("Помилка при реєстрації: " + e.getMessage());
+            return;
+        }
+
+        if (registeredUser == null) {
+            showError("Не вдалося створити користувача.");
+            return;
+        }
+
+        try {
+            showInfo("Реєстрація успішна!");
+            logger.info("Виконано реєстрацію: {}.", registeredUser);
+            sessionManager.startSession(registeredUser);
+            controllerFactory.createDashboardController().show();
         } catch (Exception e) {
             showError("Невідома помилка при реєстрації: " + e.getMessage());
         }
@@ -14,6 +14,7 @@ import tourapp.model.location.Location;
 import tourapp.model.location.LocationType;
 import tourapp.service.location_service.LocationService;
 import tourapp.service.location_service.LocationTypeService;
+import tourapp.util.AsyncLoader;
 import tourapp.util.ControllerFactory;
 import tourapp.util.SessionManager;
 import tourapp.util.validation.FormValidator;
@@ -50,6 +51,9 @@ public class LocationController extends BaseController {
     private final LocationService locationService;
     LocationTypeService locationTypeService;
     private final ControllerFactory controllerFactory;
+    private TablePager<Location> locationPager;
+    private final AsyncLoader filterLoader = newLoader();
+    private final AsyncLoader detailsLoader = newLoader();
 
     public LocationController(Stage stage,
                               SessionManager sessionManager,
@@ -67,6 +71,11 @@ public class LocationController extends BaseController {
         loadAndShow("/tourapp/view/location/locationDashboard.fxml", "TourApp - Керування локаціями");
     }
 
+    @Override
+    protected void refresh() {
+        loadLocations();
+    }
+
     @FXML
     public void initialize() {
         initializeTableColumns();
@@ -161,9 +170,7 @@ public class LocationController extends BaseController {
     }
 
     void showLocationDetails(Location location) {
-        try {
-            Location locationWithDetails = locationService.getById(location.getId());
-
+        detailsLoader.submit(() -> locationService.getById(location.getId()), locationWithDetails -> {
             if (locationWithDetails != null) {
                 StringBuilder details = new StringBuilder();
                 details.append("Назва: ").append(locationWithDetails.getName()).append("\n");
@@ -185,10 +192,7 @@ public class LocationController extends BaseController {
             } else {
                 showError("Не вдалося знайти локацію з ID: " + location.getId());
             }
-        } catch (SQLException e) {
-            showError("Помилка при отриманні деталей локації: " + e.getMessage());
-            
-        }
+        }, e -> showError("Помилка при отриманні деталей локації: " + e.getMessage()));
     }
 
     private void initializeFilters() {
@@ -200,28 +204,23 @@ public class LocationController extends BaseController {
     }
 
     void loadFilterData() {
-        try {
+        filterLoader.submit(() -> new FilterOptions(locationService.getCountries(), locationTypeService.getAll()), options -> {
             ObservableList<String> countries = FXCollections.observableArrayList("Всі");
-            List<Location> locations = locationService.getAll();
-            locations.stream()
-                    .map(Location::getCountry)
-                    .distinct()
-                    .sorted()
-                    .forEach(countries::add);
+            countries.addAll(options.countries());
             countryFilterCombo.setItems(countries);
             countryFilterCombo.setValue("Всі");
 
             ObservableList<String> locationTypes = FXCollections.observableArrayList("Всі");
-            List<LocationType> types = locationTypeService.getAll();
-            types.stream()
+            options.locationTypes().stream()
                     .map(LocationType::getName)
                     .sorted()
                     .forEach(locationTypes::add);
             countryTypeFilterCombo.setItems(locationTypes);
             countryTypeFilterCombo.setValue("Всі");
-        } catch (SQLException e) {
-            showError("Помилка завантаження даних для фільтрів: " + e.getMessage());
-        }
+        }, e -> showError("Помилка завантаження даних для фільтрів: " + e.getMessage()));
+    }
+
+    private record FilterOptions(List<String> countries, List<LocationType> locationTypes) {
     }
 
     @FXML
@@ -249,6 +248,16 @@ public class LocationController extends BaseController {
         return true;
     }
 
+    private TablePager<Location> locationPager() {
+        if (locationPager == null) {
+            locationPager = new TablePager<>(locationTable, newLoader(), e -> showError("Помилка завантаження локацій: " + e.getMessage()))
+                    .sortable(idCol, "id")
+                    .sortable(nameCol, "name")
+                    .sortable(countryCol, "country");
+        }
+        return locationPager;
+    }
+
     void loadLocations() {
         Map<String, Object> filters = new HashMap<>();
 
@@ -267,16 +276,11 @@ public class LocationController extends BaseController {
             filters.put("locationType", locationType);
         }
 
-        try {
-            List<Location> locations = locationService.search(filters);
-            locationTable.setItems(FXCollections.observableArrayList(locations));
+        locationPager().reload(request -> locationService.searchPage(filters, request), locations -> {
             if (locations.isEmpty()) {
                 showInfo("За вказаними критеріями локацій не знайдено");
             }
-        } catch (SQLException e) {
-            showError("Помилка завантаження локацій: " + e.getMessage());
-            
-        }
+        });
     }
 
     @FXML
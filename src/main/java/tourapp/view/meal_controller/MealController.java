@@ -1,5 +1,6 @@
 package tourapp.view.meal_controller;
 
+import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
@@ -12,14 +13,15 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import tourapp.model.meal.Meal;
 import tourapp.model.meal.MealType;
-import tourapp.service.meal_service.MealMealTypeService;
 import tourapp.service.meal_service.MealService;
 import tourapp.service.meal_service.MealTypeService;
+import tourapp.util.AsyncLoader;
 import tourapp.util.ControllerFactory;
 import tourapp.util.SessionManager;
 import tourapp.util.validation.FormValidator;
 import tourapp.view.BaseController;
 import tourapp.view.NavigationController;
+import tourapp.view.TablePager;
 
 import java.sql.SQLException;
 import java.util.HashMap;
@@ -52,19 +54,19 @@ public class MealController extends BaseController {
 
     private final MealService mealService;
     private final MealTypeService mealTypeService;
-    private final MealMealTypeService mealMealTypeService;
+    private TablePager<Meal> mealPager;
+    private final AsyncLoader filterLoader = newLoader();
+    private final AsyncLoader detailsLoader = newLoader();
     private final ControllerFactory controllerFactory;
 
     public MealController(Stage stage,
                           SessionManager sessionManager,
                           MealService mealService,
                           MealTypeService mealTypeService,
-                          MealMealTypeService mealMealTypeService,
                           ControllerFactory controllerFactory) {
         super(stage, sessionManager);
         this.mealService = mealService;
         this.mealTypeService = mealTypeService;
-        this.mealMealTypeService = mealMealTypeService;
         this.controllerFactory = controllerFactory;
     }
 
@@ -73,6 +75,11 @@ public class MealController extends BaseController {
         loadAndShow("/tourapp/view/meal/mealDashboard.fxml", "TourApp - Управління харчуванням");
     }
 
+    @Override
+    protected void refresh() {
+        loadMeals();
+    }
+
     @FXML
     public void initialize() {
         initializeTableColumns();
@@ -167,26 +174,8 @@ public class MealController extends BaseController {
         mealsPerDayCol.setCellValueFactory(new PropertyValueFactory<>("mealsPerDay"));
         costCol.setCellValueFactory(new PropertyValueFactory<>("costPerDay"));
 
-        mealTypesCol.setCellFactory(col -> new TableCell<>() {
-            @Override
-            protected void updateItem(String item, boolean empty) {
-                super.updateItem(item, empty);
-                if (empty) {
-                    setText(null);
-                } else {
-                    Meal meal = getTableView().getItems().get(getIndex());
-                    try {
-                        List<MealType> types = mealMealTypeService.findById1(meal.getId());
-                        String typesStr = types.stream()
-                                .map(MealType::getName)
-                                .collect(Collectors.joining(", "));
-                        setText(typesStr);
-                    } catch (SQLException e) {
-                        setText("Помилка завантаження");
-                    }
-                }
-            }
-        });
+        // MealDao attaches the types to every loaded meal, so rendering never goes back to the database.
+        mealTypesCol.setCellValueFactory(data -> new ReadOnlyStringWrapper(formatMealTypes(data.getValue())));
 
         costCol.setCellFactory(col -> new TableCell<>() {
             @Override
@@ -213,8 +202,7 @@ public class MealController extends BaseController {
     }
 
     void showMealDetails(Meal meal) {
-        try {
-            Meal mealWithDetails = mealService.getById(meal.getId());
+        detailsLoader.submit(() -> mealService.getById(meal.getId()), mealWithDetails -> {
             List<MealType> mealTypes = meal.getMealTypes();
 
             StringBuilder details = new StringBuilder();
@@ -238,9 +226,7 @@ public class MealController extends BaseController {
             alert.setHeaderText("Харчування #" + mealWithDetails.getId());
             alert.setContentText(details.toString());
             alert.showAndWait();
-        } catch (SQLException e) {
-            showError("Помилка при отриманні деталей харчування: " + e.getMessage());
-        }
+        }, e -> showError("Помилка при отриманні деталей харчування: " + e.getMessage()));
     }
 
     private void initializeFilters() {
@@ -262,9 +248,8 @@ public class MealController extends BaseController {
     }
 
     private void loadFilterData() {
-        try {
+        filterLoader.submit(mealTypeService::getAll, types -> {
             ObservableList<String> mealTypes = FXCollections.observableArrayList("Всі");
-            List<MealType> types = mealTypeService.getAll();
             types.stream()
                     .map(MealType::getName)
                     .sorted()
@@ -272,9 +257,7 @@ public class MealController extends BaseController {
 
             mealTypeFilterCombo.setItems(mealTypes);
             mealTypeFilterCombo.setValue("Всі");
-        } catch (SQLException e) {
-            showError("Помилка завантаження даних для фільтрів: " + e.getMessage());
-        }
+        }, e -> showError("Помилка завантаження даних для фільтрів: " + e.getMessage()));
     }
 
     @FXML
@@ -309,48 +292,58 @@ public class MealController extends BaseController {
         return isValid;
     }
 
-    private void loadMeals() {
-        Map<String, Object> filters = new HashMap<>();
+    static String formatMealTypes(Meal meal) {
+        if (meal.getMealTypes() == null) return "";
+        return meal.getMealTypes().stream()
+                .map(MealType::getName)
+                .collect(Collectors.joining(", "));
+    }
 
-        try {
-            String keyword = keywordField.getText();
-            if (keyword != null && !keyword.isBlank()) {
-                filters.put("name", keyword.trim());
-            }
+    private TablePager<Meal> mealPager() {
+        if (mealPager == null) {
+            mealPager = new TablePager<>(mealTable, newLoader(), e -> showError("Помилка завантаження даних харчування: " + e.getMessage()))
+                    .sortable(idCol, "id")
+                    .sortable(nameCol, "name")
+                    .sortable(mealsPerDayCol, "mealsPerDay")
+                    .sortable(costCol, "costPerDay");
+        }
+        return mealPager;
+    }
 
-            double minPrice = minPriceSpinner.getValue();
-            double maxPrice = maxPriceSpinner.getValue();
+    private void loadMeals() {
+        Map<String, Object> filters = new HashMap<>();
 
-            if (minPrice >= 0 && maxPrice >= 0 && minPrice <= maxPrice) {
-                filters.put("minPrice", minPrice);
-                filters.put("maxPrice", maxPrice);
-            }
+        String keyword = keywordField.getText();
+        if (keyword != null && !keyword.isBlank()) {
+            filters.put("name", keyword.trim());
+        }
 
-            int minMeals = minMealsSpinner.getValue();
-            int maxMeals = maxMealsSpinner.getValue();
+        double minPrice = minPriceSpinner.getValue();
+        double maxPrice = maxPriceSpinner.getValue();
 
-            if (minMeals >= 1 && maxMeals >= 1 && minMeals <= maxMeals) {
-                filters.put("minMealsPerDay", minMeals);
-                filters.put("maxMealsPerDay", maxMeals);
-            }
+        if (minPrice >= 0 && maxPrice >= 0 && minPrice <= maxPrice) {
+            filters.put("minPrice", minPrice);
+            filters.put("maxPrice", maxPrice);
+        }
 
-            String mealType = mealTypeFilterCombo.getValue();
-            if (mealType != null && !mealType.equals("Всі")) {
-                filters.put("meal_type", mealType);
-            }
+        int minMeals = minMealsSpinner.getValue();
+        int maxMeals = maxMealsSpinner.getValue();
 
-            List<Meal> meals = mealService.search(filters);
+        if (minMeals >= 1 && maxMeals >= 1 && minMeals <= maxMeals) {
+            filters.put("minMealsPerDay", minMeals);
+            filters.put("maxMealsPerDay", maxMeals);
+        }
 
-            mealTable.setItems(FXCollections.observableArrayList(meals));
+        String mealType = mealTypeFilterCombo.getValue();
+        if (mealType != null && !mealType.equals("Всі")) {
+            filters.put("meal_type", mealType);
+        }
 
+        mealPager().reload(request -> mealService.searchPage(filters, request), meals -> {
             if (meals.isEmpty()) {
                 showInfo("За вказаними критеріями харчування не знайдено");
             }
-
-        } catch (SQLException e) {
-            showError("Помилка завантаження даних харчування: " + e.getMessage());
-            
-        }
+        });
     }
 
     @FXML
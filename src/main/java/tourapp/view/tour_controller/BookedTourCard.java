@@ -0,0 +1,82 @@
+package tourapp.view.tour_controller;
+
+import javafx.geometry.Insets;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import tourapp.model.tour.Tour;
+import tourapp.model.user.UserTour;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
+
+// The customer's card for one booked tour. Built in code rather than loaded from FXML, so a page of bookings
+// costs neither a template parse nor label lookups per card; show() can also put another booking into it.
+public class BookedTourCard {
+    static final double WIDTH = 280;
+    static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    private static final Font TITLE_FONT = Font.font("Arial", FontWeight.BOLD, 16);
+    private static final Font PRICE_FONT = Font.font("Arial", 14);
+    private static final Font DETAIL_FONT = Font.font("Arial", 12);
+
+    private final VBox node = new VBox(10);
+    private final Label titleLabel = new Label();
+    private final Label priceLabel = new Label();
+    private final Label datesLabel = new Label();
+    private final Label statusLabel = new Label();
+    private Tour tour;
+    private UserTour userTour;
+
+    public BookedTourCard(Consumer<Tour> onDetails, Consumer<UserTour> onCancel) {
+        node.setPadding(new Insets(15));
+        node.setPrefWidth(WIDTH);
+        node.getStyleClass().add("user-dashboard-card");
+
+        titleLabel.setFont(TITLE_FONT);
+        titleLabel.setWrapText(true);
+        priceLabel.setFont(PRICE_FONT);
+        datesLabel.setFont(DETAIL_FONT);
+        datesLabel.setWrapText(true);
+        statusLabel.setFont(DETAIL_FONT);
+
+        Button detailsButton = new Button("Деталі туру");
+        detailsButton.setMaxWidth(Double.MAX_VALUE);
+        detailsButton.setOnAction(e -> onDetails.accept(tour));
+
+        Button cancelButton = new Button("Скасувати бронювання");
+        cancelButton.setMaxWidth(Double.MAX_VALUE);
+        cancelButton.setStyle("-fx-background-color: #ff6b6b; -fx-text-fill: white;");
+        cancelButton.setOnAction(e -> onCancel.accept(userTour));
+
+        node.setOnMouseClicked(event -> {
+            if (event.getClickCount() == 2) {
+                onDetails.accept(tour);
+            }
+        });
+
+        node.getChildren().addAll(titleLabel, priceLabel, datesLabel, statusLabel, detailsButton, cancelButton);
+    }
+
+    public static String formatDate(LocalDate date) {
+        return date != null ? date.format(DATE_FORMAT) : "Не вказано";
+    }
+
+    public VBox getNode() {
+        return node;
+    }
+
+    public void show(Tour tour, UserTour userTour) {
+        this.tour = tour;
+        this.userTour = userTour;
+
+        titleLabel.setText(tour.getDescription() != null ? tour.getDescription() : "Тур #" + tour.getId());
+        priceLabel.setText(String.format("Ціна: %.2f грн", tour.getPrice()));
+        datesLabel.setText(String.format("Період: %s - %s", formatDate(tour.getStartDate()), formatDate(tour.getEndDate())));
+        statusLabel.setText("Статус: " + (tour.isActive() ? "Активний" : "Неактивний"));
+        statusLabel.setStyle(tour.isActive() ? "-fx-text-fill: #5DB994;" : "-fx-text-fill: #D37373;");
+    }
+}
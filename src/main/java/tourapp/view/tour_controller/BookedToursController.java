@@ -3,7 +3,6 @@ package tourapp.view.tour_controller;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
 import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
@@ -17,21 +16,21 @@ import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
 import tourapp.model.location.Location;
 import tourapp.model.tour.Tour;
+import tourapp.model.tour.TourBookingCount;
 import tourapp.model.user.User;
 import tourapp.model.user.UserTour;
 import tourapp.service.tour_service.TourService;
 import tourapp.service.user_service.UserService;
 import tourapp.service.user_service.UserTourService;
+import tourapp.util.AsyncLoader;
 import tourapp.util.ControllerFactory;
 import tourapp.util.SessionManager;
 import tourapp.view.BaseController;
 import tourapp.view.NavigationController;
 import tourapp.view.auth_controller.LoginController;
 
-import java.io.IOException;
 import java.sql.SQLException;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -55,6 +54,9 @@ public class BookedToursController extends BaseController {
     private final UserTourService userTourService;
     private final UserService userService;
     private final ControllerFactory controllerFactory;
+    private final AsyncLoader bookingsLoader = newLoader();
+    private final AsyncLoader statisticsLoader = newLoader();
+    private final AsyncLoader detailsLoader = newLoader();
 
     public BookedToursController(Stage stage,
                                  SessionManager sessionManager,
@@ -74,6 +76,11 @@ public class BookedToursController extends BaseController {
         loadAndShow("/tourapp/view/bookedTours.fxml", "TourApp - Заброньовані тури");
     }
 
+    @Override
+    protected void refresh() {
+        loadBookedTours();
+    }
+
     @FXML
     public void initialize() {
         initializeNavigationBar();
@@ -189,10 +196,8 @@ public class BookedToursController extends BaseController {
     }
 
     void loadCustomerBookedTours() {
-        try {
-            int currentUserId = sessionManager.getCurrentSession().user().getId();
-            List<UserTour> userTours = userTourService.findById1(currentUserId);
-
+        int currentUserId = sessionManager.getCurrentSession().user().getId();
+        bookingsLoader.submit(() -> userTourService.findById1(currentUserId), userTours -> {
             if (userTours.isEmpty()) {
                 bookedTourCardContainer.getChildren().clear();
                 noBookingsLabel.setVisible(true);
@@ -200,29 +205,20 @@ public class BookedToursController extends BaseController {
             } else {
                 displayUserToursAsCards(userTours);
             }
-        } catch (SQLException e) {
-            showError("Помилка завантаження заброньованих турів: " + e.getMessage());
-            
-        }
+        }, e -> showError("Помилка завантаження заброньованих турів: " + e.getMessage()));
     }
 
     @FXML
     public void loadBookingStatistics() {
-        try {
-            List<Tour> allTours = tourService.getAll();
+        statisticsLoader.submit(userTourService::countBookingsPerTour, counts -> {
             ObservableList<BookingStatistic> statistics = FXCollections.observableArrayList();
 
-            for (Tour tour : allTours) {
-                int bookingCount = userTourService.countUsersByTourId(tour.getId());
-                statistics.add(new BookingStatistic(tour, bookingCount));
+            for (TourBookingCount count : counts) {
+                statistics.add(new BookingStatistic(count.tour(), count.bookingCount()));
             }
 
             bookingTable.setItems(statistics);
-
-        } catch (SQLException e) {
-            showError("Помилка завантаження статистики бронювань: " + e.getMessage());
-            
-        }
+        }, e -> showError("Помилка завантаження статистики бронювань: " + e.getMessage()));
     }
 
     void displayUserToursAsCards(List<UserTour> userTours) {
@@ -235,177 +231,137 @@ public class BookedToursController extends BaseController {
             Tour tour = userTour.getTour();
             if (tour == null) continue;
 
-            try {
-                VBox card = createTourCard(tour, userTour);
-                bookedTourCardContainer.getChildren().add(card);
-            } catch (IOException e) {
-                showError("Помилка завантаження картки туру: " + e.getMessage());
-            }
+            bookedTourCardContainer.getChildren().add(createTourCard(tour, userTour));
         }
     }
 
-    VBox createTourCard(Tour tour, UserTour userTour) throws IOException {
-        FXMLLoader loader = new FXMLLoader(getClass().getResource("/tourapp/view/tour/tourCard.fxml"));
-        VBox card = loader.load();
-
-        Label titleLabel = (Label) card.lookup("#titleLabel");
-        Label priceLabel = (Label) card.lookup("#priceLabel");
-        Label datesLabel = (Label) card.lookup("#datesLabel");
-        Label statusLabel = (Label) card.lookup("#statusLabel");
-        Button detailsButton = (Button) card.lookup("#detailsButton");
-        Button cancelButton = (Button) card.lookup("#cancelButton");
-
-        String title = tour.getDescription() != null ? tour.getDescription() : "Тур #" + tour.getId();
-        titleLabel.setText(title);
-
-        priceLabel.setText(String.format("Ціна: %.2f грн", tour.getPrice()));
-
-        String startDate = tour.getStartDate() != null ?
-                tour.getStartDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy")) : "Не вказано";
-        String endDate = tour.getEndDate() != null ?
-                tour.getEndDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy")) : "Не вказано";
-        datesLabel.setText(String.format("Період: %s - %s", startDate, endDate));
-
-        String statusText = "Статус: " + (tour.isActive() ? "Активний" : "Неактивний");
-        statusLabel.setText(statusText);
-        statusLabel.setStyle(tour.isActive() ? "-fx-text-fill: #5DB994;" : "-fx-text-fill: #D37373;");
-
-        detailsButton.setOnAction(e -> showTourDetails(tour));
-        cancelButton.setOnAction(e -> cancelBooking(userTour));
-
-        card.setOnMouseClicked(event -> {
-            if (event.getClickCount() == 2) {
-                showTourDetails(tour);
-            }
-        });
-
-        return card;
+    VBox createTourCard(Tour tour, UserTour userTour) {
+        BookedTourCard card = new BookedTourCard(this::showTourDetails, this::cancelBooking);
+        card.show(tour, userTour);
+        return card.getNode();
     }
 
     void showTourDetails(Tour tour) {
-        try {
-            Tour tourWithDetails = tour;
-            try {
-                tourWithDetails = (Tour) tourService.getClass().getMethod("getByIdWithDependencies", int.class)
-                        .invoke(tourService, tour.getId());
-            } catch (Exception ignored) {
-                tourWithDetails = tourService.getById(tour.getId());
-            }
-
-            if (tourWithDetails == null) {
-                tourWithDetails = tour;
-            }
-
-            StringBuilder details = new StringBuilder();
-            details.append("ID туру: ").append(tourWithDetails.getId()).append("\n");
-            details.append("Опис: ").append(tourWithDetails.getDescription() != null ?
-                    tourWithDetails.getDescription() : "Не вказано").append("\n");
-            details.append("Ціна: ").append(String.format("%.2f грн", tourWithDetails.getPrice())).append("\n");
-
-            String startDate = tourWithDetails.getStartDate() != null ?
-                    tourWithDetails.getStartDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy")) : "Не вказано";
-            String endDate = tourWithDetails.getEndDate() != null ?
-                    tourWithDetails.getEndDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy")) : "Не вказано";
-
-            details.append("Період: ").append(startDate).append(" - ").append(endDate).append("\n");
-            details.append("Статус: ").append(tourWithDetails.isActive() ? "Активний" : "Неактивний").append("\n");
-
-            if (tourWithDetails.getType() != null) {
-                details.append("Тип туру: ").append(tourWithDetails.getType().getName()).append("\n");
-            }
-
-            if (tourWithDetails.getMeal() != null) {
-                details.append("Харчування: ").append(tourWithDetails.getMeal().getName()).append("\n");
-            }
-
-            if (tourWithDetails.getTransport() != null) {
-                details.append("Транспорт: ").append(tourWithDetails.getTransport().getName()).append("\n");
-            }
-
-            try {
-                @SuppressWarnings("unchecked")
-                List<Location> tourLocations = (List<Location>) tourService.getClass()
-                        .getMethod("getLocationsForTour", int.class)
-                        .invoke(tourService, tourWithDetails.getId());
-
-                if (tourLocations != null && !tourLocations.isEmpty()) {
-                    details.append("Локації: ");
-                    String locations = tourLocations.stream()
-                            .map(location -> location.getName() + " (" + location.getCountry() + ")")
-                            .collect(Collectors.joining(", "));
-                    details.append(locations);
-                }
-            } catch (Exception ignored) {
-            }
-
+        detailsLoader.submit(() -> tourDetails(tour), details -> {
             Alert alert = new Alert(Alert.AlertType.INFORMATION);
             Stage alertStage = (Stage) alert.getDialogPane().getScene().getWindow();
             alertStage.getIcons().add(new Image(getClass().getResource("/tourapp/images/info.png").toExternalForm()));
             alert.getDialogPane().getStylesheets().add(getClass().getResource("/tourapp/css/styles.css").toExternalForm());
             alert.setTitle("Деталі туру");
-            alert.setHeaderText("Тур #" + tourWithDetails.getId());
-            alert.setContentText(details.toString());
+            alert.setHeaderText("Тур #" + tour.getId());
+            alert.setContentText(details);
             alert.getDialogPane().setPrefSize(400, 300);
             alert.setResizable(true);
             alert.showAndWait();
-
-        } catch (SQLException e) {
-            showError("Помилка при отриманні деталей туру: " + e.getMessage());
-        }
+        }, e -> showError("Помилка при отриманні деталей туру: " + e.getMessage()));
     }
 
-    void showTourBookingDetails(BookingStatistic statistic) {
+    // Builds the dialog text off the JavaFX thread; the lookups behind it are JDBC calls.
+    private String tourDetails(Tour tour) throws SQLException {
+        Tour tourWithDetails = tour;
         try {
-            List<UserTour> userTours = userTourService.findById2(statistic.getTourId());
+            tourWithDetails = (Tour) tourService.getClass().getMethod("getByIdWithDependencies", int.class)
+                    .invoke(tourService, tour.getId());
+        } catch (Exception ignored) {
+            tourWithDetails = tourService.getById(tour.getId());
+        }
 
-            StringBuilder details = new StringBuilder();
-            details.append("Тур: ").append(statistic.getTourDescription()).append("\n");
-            details.append("Ціна: ").append(String.format("%.2f грн", statistic.getTourPrice())).append("\n");
+        if (tourWithDetails == null) {
+            tourWithDetails = tour;
+        }
 
-            String startDate = statistic.getTourStartDate() != null ?
-                    statistic.getTourStartDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy")) : "Не вказано";
-            String endDate = statistic.getTourEndDate() != null ?
-                    statistic.getTourEndDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy")) : "Не вказано";
+        StringBuilder details = new StringBuilder();
+        details.append("ID туру: ").append(tourWithDetails.getId()).append("\n");
+        details.append("Опис: ").append(tourWithDetails.getDescription() != null ?
+                tourWithDetails.getDescription() : "Не вказано").append("\n");
+        details.append("Ціна: ").append(String.format("%.2f грн", tourWithDetails.getPrice())).append("\n");
 
-            details.append("Період: ").append(startDate).append(" - ").append(endDate).append("\n");
-            details.append("Статус: ").append(statistic.getTourActive() ? "Активний" : "Неактивний").append("\n");
-            details.append("Кількість бронювань: ").append(statistic.bookingCount()).append("\n\n");
+        String startDate = BookedTourCard.formatDate(tourWithDetails.getStartDate());
+        String endDate = BookedTourCard.formatDate(tourWithDetails.getEndDate());
 
-            details.append("Користувачі, що забронювали:\n");
-            if (userTours.isEmpty()) {
-                details.append("Немає бронювань\n");
-            } else {
-                for (int i = 0; i < userTours.size(); i++) {
-                    UserTour userTour = userTours.get(i);
-                    try {
-                        User user = userService.getById(userTour.getUserId());
-                        if (user != null) {
-                            details.append(String.format("%d. %s (%s)\n",
-                                    i + 1, user.getName(), user.getEmail()));
-                        } else {
-                            details.append(String.format("%d. Користувач ID: %d (не знайдено)\n",
-                                    i + 1, userTour.getUserId()));
-                            }
-                    } catch (SQLException e) {
-                        logger.error("Помилка при завантаженні користувача ID {}: {}", userTour.getUserId(), e.getMessage());
-                        details.append(String.format("%d. Користувач ID: %d (помилка завантаження даних)\n",
-                                i + 1, userTour.getUserId()));
-                    }
-                }
+        details.append("Період: ").append(startDate).append(" - ").append(endDate).append("\n");
+        details.append("Статус: ").append(tourWithDetails.isActive() ? "Активний" : "Неактивний").append("\n");
+
+        if (tourWithDetails.getType() != null) {
+            details.append("Тип туру: ").append(tourWithDetails.getType().getName()).append("\n");
+        }
+
+        if (tourWithDetails.getMeal() != null) {
+            details.append("Харчування: ").append(tourWithDetails.getMeal().getName()).append("\n");
+        }
+
+        if (tourWithDetails.getTransport() != null) {
+            details.append("Транспорт: ").append(tourWithDetails.getTransport().getName()).append("\n");
+        }
+
+        try {
+            @SuppressWarnings("unchecked")
+            List<Location> tourLocations = (List<Location>) tourService.getClass()
+                    .getMethod("getLocationsForTour", int.class)
+                    .invoke(tourService, tourWithDetails.getId());
+
+            if (tourLocations != null && !tourLocations.isEmpty()) {
+                details.append("Локації: ");
+                String locations = tourLocations.stream()
+                        .map(location -> location.getName() + " (" + location.getCountry() + ")")
+                        .collect(Collectors.joining(", "));
+                details.append(locations);
             }
+        } catch (Exception ignored) {
+        }
+        return details.toString();
+    }
 
+    void showTourBookingDetails(BookingStatistic statistic) {
+        detailsLoader.submit(() -> tourBookingDetails(statistic), details -> {
             Alert alert = new Alert(Alert.AlertType.INFORMATION);
             alert.setTitle("Деталі бронювань туру");
             alert.setHeaderText("Тур #" + statistic.getTourId());
-            alert.setContentText(details.toString());
+            alert.setContentText(details);
             alert.getDialogPane().setPrefSize(500, 400);
             alert.setResizable(true);
             alert.showAndWait();
+        }, e -> showError("Помилка при отриманні деталей бронювань: " + e.getMessage()));
+    }
 
-        } catch (SQLException e) {
-            showError("Помилка при отриманні деталей бронювань: " + e.getMessage());
-            
+    // One user lookup per booking, so this runs on the loader's thread rather than the JavaFX one.
+    private String tourBookingDetails(BookingStatistic statistic) throws SQLException {
+        List<UserTour> userTours = userTourService.findById2(statistic.getTourId());
+
+        StringBuilder details = new StringBuilder();
+        details.append("Тур: ").append(statistic.getTourDescription()).append("\n");
+        details.append("Ціна: ").append(String.format("%.2f грн", statistic.getTourPrice())).append("\n");
+
+        String startDate = BookedTourCard.formatDate(statistic.getTourStartDate());
+        String endDate = BookedTourCard.formatDate(statistic.getTourEndDate());
+
+        details.append("Період: ").append(startDate).append(" - ").append(endDate).append("\n");
+        details.append("Статус: ").append(statistic.getTourActive() ? "Активний" : "Неактивний").append("\n");
+        details.append("Кількість бронювань: ").append(statistic.bookingCount()).append("\n\n");
+
+        details.append("Користувачі, що забронювали:\n");
+        if (userTours.isEmpty()) {
+            details.append("Немає бронювань\n");
+        } else {
+            for (int i = 0; i < userTours.size(); i++) {
+                UserTour userTour = userTours.get(i);
+                try {
+                    User user = userService.getById(userTour.getUserId());
+                    if (user != null) {
+                        details.append(String.format("%d. %s (%s)\n",
+                                i + 1, user.getName(), user.getEmail()));
+                    } else {
+                        details.append(String.format("%d. Користувач ID: %d (не знайдено)\n",
+                                i + 1, userTour.getUserId()));
+                        }
+                } catch (SQLException e) {
+                    logger.error("Помилка при завантаженні користувача ID {}: {}", userTour.getUserId(), e.getMessage());
+                    details.append(String.format("%d. Користувач ID: %d (помилка завантаження даних)\n",
+                            i + 1, userTour.getUserId()));
+                }
+            }
         }
+        return details.toString();
     }
 
     void cancelBooking(UserTour userTour) {
@@ -1,38 +1,40 @@
 package tourapp.view.tour_controller;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
-import javafx.geometry.Insets;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
 import javafx.scene.image.Image;
 import javafx.scene.layout.BorderPane;
-import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.VBox;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
 import javafx.stage.Stage;
 import tourapp.model.location.Location;
 import tourapp.model.meal.MealType;
 import tourapp.model.tour.Tour;
 import tourapp.model.tour.TourType;
-import tourapp.model.transport.Transport;
 import tourapp.service.location_service.*;
 import tourapp.service.meal_service.*;
 import tourapp.service.tour_service.*;
 import tourapp.service.transport_service.*;
 import tourapp.service.user_service.UserTourService;
+import tourapp.util.AsyncLoader;
 import tourapp.util.ControllerFactory;
+import tourapp.util.Debouncer;
+import tourapp.util.FacetValue;
+import tourapp.util.PageRequest;
 import tourapp.util.SessionManager;
 import tourapp.util.validation.FormValidator;
 import tourapp.util.validation.TourValidator;
 import tourapp.util.validation.ValidationResult;
 import tourapp.view.BaseController;
+import tourapp.view.CardGrid;
 import tourapp.view.NavigationController;
+import tourapp.view.TablePager;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
@@ -65,13 +67,27 @@ public class DashboardController extends BaseController {
     @FXML Button deleteTourButton;
     @FXML private Button editTourTypeButton;
     @FXML private Button toggleStatusButton;
-    @FXML ScrollPane cardScrollPane;
-    @FXML FlowPane tourCardContainer;
+    @FXML CardGrid<Tour> tourCardGrid;
     @FXML private Button resetFiltersButton;
 
     private final TourService tourService;
     private final ControllerFactory controllerFactory;
     private final UserTourService userTourService;
+    private TablePager<Tour> tourPager;
+    // Cards and counts load independently of the table, so each has its own loader to supersede.
+    private final AsyncLoader cardLoader = newLoader();
+    private Map<String, Object> cardFilters = Map.of();
+    private PageRequest nextCardPage;
+    private final AsyncLoader facetLoader = newLoader();
+    private final AsyncLoader filterLoader = newLoader();
+    private final AsyncLoader detailsLoader = newLoader();
+    // Typing and spinner changes search once the input has been quiet this long.
+    static final Duration LIVE_SEARCH_DELAY = Duration.ofMillis(300);
+    private static final String NOTHING_FOUND = "За вказаними критеріями турів не знайдено";
+
+    private final Debouncer liveSearch = new Debouncer(LIVE_SEARCH_DELAY, this::runOnFxThread);
+    // Tours each filter option would give under the other filters: search parameter -> option -> count.
+    private Map<String, Map<String, Integer>> facetCounts = Map.of();
 
     private final LocationService locationService;
     private final TourTypeService tourTypeService;
@@ -102,17 +118,40 @@ public class DashboardController extends BaseController {
         loadAndShow("/tourapp/view/tour/mainDashboard.fxml", "TourApp - Головна сторінка");
     }
 
+    @Override
+    protected void refresh() {
+        loadTours();
+    }
+
     @FXML
     public void initialize() {
         initializeTableColumns();
+        initializeCardGrid();
         initializeFilters();
         setupAccessControls();
         initializeNavigationBar();
         switchViewMode(isCustomer());
         setupValidationListeners();
+        setupLiveSearch();
         loadTours();
     }
 
+    void setupLiveSearch() {
+        keywordField.textProperty().addListener((observable, oldValue, newValue) -> scheduleLiveSearch());
+        minPriceSpinner.valueProperty().addListener((observable, oldValue, newValue) -> scheduleLiveSearch());
+        maxPriceSpinner.valueProperty().addListener((observable, oldValue, newValue) -> scheduleLiveSearch());
+    }
+
+    private void scheduleLiveSearch() {
+        liveSearch.trigger(() -> {
+            // Invalid input is highlighted on the fields; a dialog on every keystroke would be in the way.
+            if (FormValidator.validateTourFilterForm(keywordField, minPriceSpinner, maxPriceSpinner,
+                    startDatePicker, endDatePicker)) {
+                loadTours();
+            }
+        });
+    }
+
     void setupValidationListeners() {
         keywordField.textProperty().addListener((observable, oldValue, newValue) -> {
             FormValidator.clearErrorsForControls(keywordField);
@@ -208,43 +247,28 @@ public class DashboardController extends BaseController {
     void switchViewMode(boolean isCustomer) {
         tourTable.setVisible(!isCustomer);
         tourTable.setManaged(!isCustomer);
-        cardScrollPane.setVisible(isCustomer);
-        cardScrollPane.setManaged(isCustomer);
+        tourCardGrid.setVisible(isCustomer);
+        tourCardGrid.setManaged(isCustomer);
     }
 
-    void displayToursAsCards(List<Tour> tours) {
-        tourCardContainer.getChildren().clear();
-
-        for (Tour tour : tours) {
-            VBox card = new VBox(10);
-            card.setPadding(new Insets(10));
-            card.setPrefWidth(250);
-            card.getStyleClass().add("user-dashboard-card");
-
-            Label title = new Label(tour.getDescription());
-            title.setFont(Font.font("Arial", FontWeight.BOLD, 16));
-            title.setWrapText(true);
-
-            Label price = new Label(String.format("Ціна: %.2f грн", tour.getPrice()));
-            Label dates = new Label(String.format("Дата: %s - %s",
-                    tour.getStartDate().toString(), tour.getEndDate().toString()));
-            dates.setWrapText(true);
-
-            Button bookButton = new Button("Забронювати");
-            bookButton.setOnAction(e -> handleBooking(tour));
+    void initializeCardGrid() {
+        tourCardGrid.setPlaceholder(new Label(NOTHING_FOUND));
+        tourCardGrid.setCardWidth(TourCard.WIDTH);
+        tourCardGrid.setCardFactory(this::createTourCard);
+        tourCardGrid.setOnNearEnd(this::loadNextCardPage);
+    }
 
-            card.setOnMouseClicked(event -> {
-                if (event.getClickCount() == 2) {
-                    showTourDetails(tour);
-                }
-            });
+    TourCard createTourCard() {
+        return new TourCard(this::handleBooking, this::showTourDetails);
+    }
 
-            card.getChildren().addAll(title, price, dates, bookButton);
-            tourCardContainer.getChildren().add(card);
-        }
+    void displayToursAsCards(List<Tour> tours) {
+        tourCardGrid.setCards(tours);
     }
 
     void initializeTableColumns() {
+        // Live search can come up empty on any keystroke; the table says so itself instead of a dialog.
+        tourTable.setPlaceholder(new Label(NOTHING_FOUND));
         idCol.setCellValueFactory(new PropertyValueFactory<>("id"));
         descCol.setCellValueFactory(new PropertyValueFactory<>("description"));
         priceCol.setCellValueFactory(new PropertyValueFactory<>("price"));
@@ -289,8 +313,7 @@ public class DashboardController extends BaseController {
     }
 
     void showTourDetails(Tour tour) {
-        try {
-            Tour tourWithDetails = tourService.getByIdWithDependencies(tour.getId());
+        detailsLoader.submit(() -> tourService.getForDetails(tour.getId()), tourWithDetails -> {
             System.out.println(tour);
             if (tourWithDetails != null) {
                 StringBuilder details = new StringBuilder();
@@ -311,13 +334,7 @@ public class DashboardController extends BaseController {
                     details.append("Транспорт: ").append(tourWithDetails.getTransport().getName()).append("\n");
                 }
 
-                List<Location> tourLocations;
-                if (tourWithDetails.getLocations() != null && !tourWithDetails.getLocations().isEmpty()) {
-                    tourLocations = tourWithDetails.getLocations();
-                } else {
-                    tourLocations = tourService.getLocationsForTour(tourWithDetails.getId());
-                }
-
+                List<Location> tourLocations = tourWithDetails.getLocations();
                 if (tourLocations != null && !tourLocations.isEmpty()) {
                     details.append("Локації: ");
                     String locations = tourLocations.stream()
@@ -337,10 +354,7 @@ public class DashboardController extends BaseController {
             } else {
                 showError("Не вдалося знайти тур з ID: " + tour.getId());
             }
-        } catch (SQLException e) {
-            showError("Помилка при отриманні деталей туру: " + e.getMessage());
-            
-        }
+        }, e -> showError("Помилка при отриманні деталей туру: " + e.getMessage()));
     }
 
     void initializeFilters() {
@@ -351,26 +365,24 @@ public class DashboardController extends BaseController {
             maxPriceSpinner.setValueFactory(maxFactory);
 
             loadFilterData();
+            installFacetCells();
+            setupFacetListeners();
         } catch (Exception e) {
             showError("Помилка ініціалізації фільтрів: " + e.getMessage());
         }
     }
 
+    // The four lookups run together off the JavaFX thread; the combo boxes fill in once all of them are back.
     void loadFilterData() {
-        try {
+        filterLoader.submit(() -> new FilterOptions(locationService.getCountries(), tourTypeService.getAll(),
+                mealTypeService.getAll(), transportService.getNames()), options -> {
             ObservableList<String> countries = FXCollections.observableArrayList("Всі");
-            List<Location> locations = locationService.getAll();
-            locations.stream()
-                    .map(Location::getCountry)
-                    .distinct()
-                    .sorted()
-                    .forEach(countries::add);
+            countries.addAll(options.countries());
             countryFilterCombo.setItems(countries);
             countryFilterCombo.setValue("Всі");
 
             ObservableList<String> tourTypes = FXCollections.observableArrayList("Всі");
-            List<TourType> types = tourTypeService.getAll();
-            types.stream()
+            options.tourTypes().stream()
                     .map(TourType::getName)
                     .sorted()
                     .forEach(tourTypes::add);
@@ -378,8 +390,7 @@ public class DashboardController extends BaseController {
             tourTypeFilterCombo.setValue("Всі");
 
             ObservableList<String> mealTypes = FXCollections.observableArrayList();
-            List<MealType> meal_type_list = mealTypeService.getAll();
-            meal_type_list.stream()
+            options.mealTypes().stream()
                     .map(MealType::getName)
                     .sorted()
                     .forEach(mealTypes::add);
@@ -387,23 +398,20 @@ public class DashboardController extends BaseController {
             mealTypeFilterList.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
 
             ObservableList<String> transportTypes = FXCollections.observableArrayList("Всі");
-            List<Transport> transports = transportService.getAll();
-            transports.stream()
-                    .map(Transport::getName)
-                    .sorted()
-                    .forEach(transportTypes::add);
+            transportTypes.addAll(options.transports());
             transportTypeFilterCombo.setItems(transportTypes);
             transportTypeFilterCombo.setValue("Всі");
+        }, e -> showError("Помилка завантаження даних для фільтрів: " + e.getMessage()));
+    }
 
-        } catch (SQLException e) {
-            showError("Помилка завантаження даних для фільтрів: " + e.getMessage());
-        }
+    private record FilterOptions(List<String> countries, List<TourType> tourTypes, List<MealType> mealTypes,
+                                 List<String> transports) {
     }
 
     @FXML
     private void onFilterButtonClicked() {
         if (validateFilters()) {
-            loadTours();
+            loadTours(true);
         }
     }
 
@@ -541,12 +549,23 @@ public class DashboardController extends BaseController {
         });
     }
 
-    void loadTours() {
+    private TablePager<Tour> tourPager() {
+        if (tourPager == null) {
+            tourPager = new TablePager<>(tourTable, newLoader(), e -> showError("Помилка завантаження турів: " + e.getMessage()))
+                    .sortable(idCol, "id")
+                    .sortable(priceCol, "price")
+                    .sortable(startCol, "startDate")
+                    .sortable(endCol, "endDate");
+        }
+        return tourPager;
+    }
+
+    Map<String, Object> currentFilters() {
         Map<String, Object> filters = new HashMap<>();
 
         String keyword = keywordField.getText();
         if (keyword != null && !keyword.isBlank()) {
-            filters.put("description", keyword);
+            filters.put("keyword", keyword);
         }
 
         double minPrice = minPriceSpinner.getValue();
@@ -585,20 +604,113 @@ public class DashboardController extends BaseController {
         if (isCustomer()) {
             filters.put("is_active", true);
         }
+        return filters;
+    }
 
-        try {
-            List<Tour> tours = tourService.search(filters);
-            if (isCustomer()) {
-                displayToursAsCards(tours);
-            } else {
-                tourTable.setItems(FXCollections.observableArrayList(tours));
+    void loadTours() {
+        loadTours(false);
+    }
+
+    // Only the Search button reports an empty result in a dialog; otherwise the empty grid or table says it.
+    void loadTours(boolean announceEmpty) {
+        // An explicit search (button, reset, after an edit) already covers whatever the user typed.
+        liveSearch.cancel();
+        Map<String, Object> filters = currentFilters();
+        updateFacetCounts(filters);
+
+        if (isCustomer()) {
+            PageRequest firstPage = PageRequest.first(TablePager.PAGE_SIZE);
+            cardLoader.submit(() -> tourService.searchPage(filters, firstPage), page -> {
+                cardFilters = filters;
+                nextCardPage = page.hasNext() ? firstPage.after(page.next()) : null;
+                displayToursAsCards(page.items());
+                if (announceEmpty) {
+                    showIfNothingFound(page.items());
+                }
+            }, e -> showError("Помилка завантаження турів: " + e.getMessage()));
+        } else {
+            tourPager().reload(request -> tourService.searchPage(filters, request), tours -> {
+                if (announceEmpty) {
+                    showIfNothingFound(tours);
+                }
+            });
+        }
+    }
+
+    // Cards come in pages like the table rows; the grid asks for the next one when the user nears the end.
+    void loadNextCardPage() {
+        if (nextCardPage == null || cardLoader.isLoading()) return;
+
+        PageRequest request = nextCardPage;
+        Map<String, Object> filters = cardFilters;
+        cardLoader.submit(() -> tourService.searchPage(filters, request), page -> {
+            nextCardPage = page.hasNext() ? request.after(page.next()) : null;
+            tourCardGrid.appendCards(page.items());
+        }, e -> {
+            nextCardPage = null;
+            showError("Помилка завантаження турів: " + e.getMessage());
+        });
+    }
+
+    private void showIfNothingFound(List<Tour> tours) {
+        if (tours.isEmpty()) {
+            showInfo(NOTHING_FOUND);
+        }
+    }
+
+    private void setupFacetListeners() {
+        countryFilterCombo.valueProperty().addListener((observable, oldValue, newValue) -> updateFacetCounts(currentFilters()));
+        tourTypeFilterCombo.valueProperty().addListener((observable, oldValue, newValue) -> updateFacetCounts(currentFilters()));
+        transportTypeFilterCombo.valueProperty().addListener((observable, oldValue, newValue) -> updateFacetCounts(currentFilters()));
+        mealTypeFilterList.getSelectionModel().getSelectedItems()
+                .addListener((ListChangeListener<String>) change -> updateFacetCounts(currentFilters()));
+    }
+
+    // One grouped query for all four filters; counts are a hint, so a failure only hides them.
+    void updateFacetCounts(Map<String, Object> filters) {
+        facetLoader.submit(() -> tourService.getFacetCounts(filters), facets -> {
+            Map<String, Map<String, Integer>> counts = new HashMap<>();
+            if (facets != null) {
+                facets.forEach((facet, values) -> counts.put(facet, values.stream()
+                        .collect(Collectors.toMap(FacetValue::value, FacetValue::count))));
             }
-            if (tours.isEmpty()) {
-                showInfo("За вказаними критеріями турів не знайдено");
+            showFacetCounts(counts);
+        }, e -> {
+            logger.warn("Не вдалося порахувати кількість турів для фільтрів", e);
+            showFacetCounts(new HashMap<>());
+        });
+    }
+
+    private void showFacetCounts(Map<String, Map<String, Integer>> counts) {
+        facetCounts = counts;
+        installFacetCells();
+    }
+
+    // Setting a fresh cell factory makes the combo boxes redraw their options with the new counts.
+    private void installFacetCells() {
+        countryFilterCombo.setCellFactory(list -> facetCell("country"));
+        tourTypeFilterCombo.setCellFactory(list -> facetCell("tour_type"));
+        transportTypeFilterCombo.setCellFactory(list -> facetCell("transport_type"));
+        mealTypeFilterList.setCellFactory(list -> facetCell("meal_types"));
+        mealTypeFilterList.refresh();
+    }
+
+    private ListCell<String> facetCell(String facet) {
+        return new ListCell<>() {
+            @Override
+            protected void updateItem(String item, boolean empty) {
+                super.updateItem(item, empty);
+                setText(empty || item == null ? null : facetLabel(facet, item));
             }
-        } catch (SQLException e) {
-            showError("Помилка завантаження турів: " + e.getMessage());
+        };
+    }
+
+    String facetLabel(String facet, String option) {
+        Map<String, Integer> counts = facetCounts.get(facet);
+        if (counts == null || option.equals("Всі")) {
+            return option;
         }
+        return option + " (" + counts.getOrDefault(option, 0) + ")";
     }
 
     @FXML
@@ -0,0 +1,59 @@
+package tourapp.view.tour_controller;
+
+import javafx.geometry.Insets;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import tourapp.model.tour.Tour;
+import tourapp.view.CardGrid;
+
+import java.util.function.Consumer;
+
+// The customer's card for one tour. The nodes are built once; show() puts another tour into them,
+// which is what lets the dashboard grid reuse cards while scrolling.
+class TourCard implements CardGrid.Card<Tour> {
+    static final double WIDTH = 250;
+
+    private final VBox node = new VBox(10);
+    private final Label title = new Label();
+    private final Label price = new Label();
+    private final Label dates = new Label();
+    private Tour tour;
+
+    TourCard(Consumer<Tour> onBook, Consumer<Tour> onOpen) {
+        node.setPadding(new Insets(10));
+        node.setPrefWidth(WIDTH);
+        node.getStyleClass().add("user-dashboard-card");
+
+        title.setFont(Font.font("Arial", FontWeight.BOLD, 16));
+        title.setWrapText(true);
+        dates.setWrapText(true);
+
+        Button bookButton = new Button("Забронювати");
+        bookButton.setOnAction(e -> onBook.accept(tour));
+
+        node.setOnMouseClicked(event -> {
+            if (event.getClickCount() == 2) {
+                onOpen.accept(tour);
+            }
+        });
+
+        node.getChildren().addAll(title, price, dates, bookButton);
+    }
+
+    @Override
+    public Node getNode() {
+        return node;
+    }
+
+    @Override
+    public void show(Tour tour) {
+        this.tour = tour;
+        title.setText(tour.getDescription());
+        price.setText(String.format("Ціна: %.2f грн", tour.getPrice()));
+        dates.setText(String.format("Дата: %s - %s", tour.getStartDate().toString(), tour.getEndDate().toString()));
+    }
+}
@@ -152,7 +152,7 @@ public class TourEditController extends BaseEditController<Tour> {
 
     @Override
     protected void loadEntityData() throws SQLException {
-        Tour fullTour = tourService.getByIdWithDependencies(entityToEdit.getId());
+        Tour fullTour = tourService.getForEdit(entityToEdit.getId());
 
         if (fullTour != null) {
             descriptionField.setText(fullTour.getDescription());
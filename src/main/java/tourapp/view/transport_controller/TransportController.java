@@ -14,11 +14,13 @@ import tourapp.model.transport.Transport;
 import tourapp.model.transport.TransportType;
 import tourapp.service.transport_service.TransportService;
 import tourapp.service.transport_service.TransportTypeService;
+import tourapp.util.AsyncLoader;
 import tourapp.util.ControllerFactory;
 import tourapp.util.SessionManager;
 import tourapp.util.validation.FormValidator;
 import tourapp.view.BaseController;
 import tourapp.view.NavigationController;
+import tourapp.view.TablePager;
 
 import java.sql.SQLException;
 import java.util.HashMap;
@@ -47,6 +49,9 @@ public class TransportController extends BaseController {
 
     private final TransportService transportService;
     private final TransportTypeService transportTypeService;
+    private TablePager<Transport> transportPager;
+    private final AsyncLoader filterLoader = newLoader();
+    private final AsyncLoader detailsLoader = newLoader();
     private final ControllerFactory controllerFactory;
 
     public TransportController(Stage stage,
@@ -65,6 +70,11 @@ public class TransportController extends BaseController {
         loadAndShow("/tourapp/view/transport/transportDashboard.fxml", "TourApp - Управління транспортом");
     }
 
+    @Override
+    protected void refresh() {
+        loadTransports();
+    }
+
     @FXML
     public void initialize() {
         initializeTableColumns();
@@ -182,17 +192,14 @@ public class TransportController extends BaseController {
     }
 
     void showTransportDetails(Transport transport) {
-        try {
-            Transport transportWithDetails = transportService.getById(transport.getId());
+        detailsLoader.submit(() -> transportService.getById(transport.getId()), transportWithDetails -> {
             if (transportWithDetails != null) {
                 Alert alert = getAlert(transportWithDetails);
                 alert.showAndWait();
             } else {
                 showError("Не вдалося знайти транспорт з ID: " + transport.getId());
             }
-        } catch (SQLException e) {
-            showError("Помилка при отриманні деталей транспорту: " + e.getMessage());
-        }
+        }, e -> showError("Помилка при отриманні деталей транспорту: " + e.getMessage()));
     }
 
     private Alert getAlert(Transport transportWithDetails) {
@@ -224,18 +231,15 @@ public class TransportController extends BaseController {
     }
 
     private void loadFilterData() {
-        try {
+        filterLoader.submit(transportTypeService::getAll, types -> {
             ObservableList<String> transportTypes = FXCollections.observableArrayList("Всі");
-            List<TransportType> types = transportTypeService.getAll();
             types.stream()
                     .map(TransportType::getName)
                     .sorted()
                     .forEach(transportTypes::add);
             transportTypeFilterCombo.setItems(transportTypes);
             transportTypeFilterCombo.setValue("Всі");
-        } catch (SQLException e) {
-            showError("Помилка завантаження даних для фільтрів: " + e.getMessage());
-        }
+        }, e -> showError("Помилка завантаження даних для фільтрів: " + e.getMessage()));
     }
 
     @FXML
@@ -266,6 +270,16 @@ public class TransportController extends BaseController {
         }
     }
 
+    private TablePager<Transport> transportPager() {
+        if (transportPager == null) {
+            transportPager = new TablePager<>(transportTable, newLoader(), e -> showError("Помилка завантаження транспорту: " + e.getMessage()))
+                    .sortable(idCol, "id")
+                    .sortable(nameCol, "name")
+                    .sortable(priceCol, "pricePerPerson");
+        }
+        return transportPager;
+    }
+
     private void loadTransports() {
         Map<String, Object> filters = new HashMap<>();
 
@@ -284,16 +298,12 @@ public class TransportController extends BaseController {
             filters.put("transport_type", transportType);
         }
 
-        try {
-            List<Transport> transports = transportService.search(filters);
-            transportTable.setItems(FXCollections.observableArrayList(transports));
+        transportPager().reload(request -> transportService.searchPage(filters, request), transports -> {
             if (transports.isEmpty()) {
                 showInfo("За вказаними критеріями транспорт не знайдено");
             }
             logger.info("Завантажено {} записів транспорту за фільтрами", transports.size());
-        } catch (SQLException e) {
-            showError("Помилка завантаження транспорту: " + e.getMessage());
-        }
+        });
     }
 
     @FXML
@@ -6,6 +6,7 @@ import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
 import javafx.stage.Stage;
 import tourapp.model.user.User;
+import tourapp.service.user_service.CredentialService;
 import tourapp.service.user_service.UserService;
 import tourapp.service.user_service.UserTypeService;
 import tourapp.util.ControllerFactory;
@@ -31,15 +32,18 @@ public class UserCabinetController extends BaseController {
 
     private final ControllerFactory controllerFactory;
     private final UserService userService;
+    private final CredentialService credentialService;
     private User currentUser;
 
     public UserCabinetController(Stage stage,
                                  SessionManager sessionManager,
                                  UserService userService,
+                                 CredentialService credentialService,
                                  ControllerFactory controllerFactory) {
         super(stage, sessionManager);
         this.controllerFactory = controllerFactory;
         this.userService = userService;
+        this.credentialService = credentialService;
     }
 
     @Override
@@ -47,6 +51,11 @@ public class UserCabinetController extends BaseController {
         loadAndShow("/tourapp/view/user/userCabinet.fxml", "TourApp - Особистий кабінет");
     }
 
+    @Override
+    protected void refresh() {
+        loadUserData();
+    }
+
     @FXML
     public void initialize() {
         currentUser = sessionManager.getCurrentSession().user();
@@ -161,26 +170,44 @@ public class UserCabinetController extends BaseController {
         String currentPassword = currentPasswordField.getText();
         String newPassword = newPasswordField.getText();
 
-        try {
-            User authenticatedUser = userService.authenticate(currentUser.getEmail(), currentPassword);
-            if (authenticatedUser == null) {
-                FormValidator.addError(currentPasswordField, "Поточний пароль невірний");
-                return;
-            }
+        // Both the check and the new hash are BCrypt work, so they run one after the other on the credential pool.
+        changePasswordButton.setDisable(true);
+        credentialService.authenticate(currentUser.getEmail(), currentPassword)
+                .whenComplete((authenticatedUser, error) -> runOnFxThread(() -> {
+                    if (error != null) {
+                        changePasswordButton.setDisable(false);
+                        showError("Помилка зміни паролю: " + unwrap(error).getMessage());
+                        return;
+                    }
+                    if (authenticatedUser == null) {
+                        changePasswordButton.setDisable(false);
+                        FormValidator.addError(currentPasswordField, "Поточний пароль невірний");
+                        return;
+                    }
+
+                    credentialService.changePassword(currentUser.getId(), newPassword)
+                            .whenComplete((changed, changeError) -> runOnFxThread(() -> {
+                                changePasswordButton.setDisable(false);
+                                onPasswordChanged(changed, changeError);
+                            }));
+                }));
+    }
 
-            boolean changed = userService.changePassword(currentUser.getId(), newPassword);
-            if (changed) {
-                currentPasswordField.clear();
-                newPasswordField.clear();
-                confirmPasswordField.clear();
-                FormValidator.clearErrors();
-                showInfo("Пароль успішно змінено");
-                logger.info("Відредаговано пароль користувача: {}", currentUser.toString());
-            } else {
-                showError("Не вдалося змінити пароль");
-            }
-        } catch (SQLException e) {
-            showError("Помилка зміни паролю: " + e.getMessage());
+    private void onPasswordChanged(Boolean changed, Throwable error) {
+        if (error != null) {
+            showError("Помилка зміни паролю: " + unwrap(error).getMessage());
+            return;
+        }
+
+        if (changed) {
+            currentPasswordField.clear();
+            newPasswordField.clear();
+            confirmPasswordField.clear();
+            FormValidator.clearErrors();
+            showInfo("Пароль успішно змінено");
+            logger.info("Відредаговано пароль користувача: {}", currentUser.toString());
+        } else {
+            showError("Не вдалося змінити пароль");
         }
     }
-}
\ No newline at end of file
+}
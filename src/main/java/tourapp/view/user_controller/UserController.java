@@ -14,12 +14,16 @@ import tourapp.model.user.User;
 import tourapp.model.user.UserType;
 import tourapp.service.user_service.UserService;
 import tourapp.service.user_service.UserTypeService;
+import tourapp.util.AsyncLoader;
 import tourapp.util.ControllerFactory;
 import tourapp.util.SessionManager;
 import tourapp.view.BaseController;
 import tourapp.view.NavigationController;
+import tourapp.view.TablePager;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class UserController extends BaseController {
 
@@ -43,7 +47,8 @@ public class UserController extends BaseController {
     private final ControllerFactory controllerFactory;
     private final UserService userService;
     private final UserTypeService userTypeService;
-    private ObservableList<User> users;
+    private TablePager<User> userPager;
+    private final AsyncLoader filterLoader = newLoader();
     private ObservableList<UserType> userTypes;
 
     public UserController(Stage stage,
@@ -55,7 +60,6 @@ public class UserController extends BaseController {
         this.controllerFactory = controllerFactory;
         this.userService = userService;
         this.userTypeService = userTypeService;
-        this.users = FXCollections.observableArrayList();
         this.userTypes = FXCollections.observableArrayList();
     }
 
@@ -64,6 +68,11 @@ public class UserController extends BaseController {
          loadAndShow("/tourapp/view/user/userDashboard.fxml", "TourApp - Управління користувачами");
     }
 
+    @Override
+    protected void refresh() {
+        handleSearch();
+    }
+
     @FXML
     public void initialize() {
         initializeNavigationBar();
@@ -121,7 +130,6 @@ public class UserController extends BaseController {
             return new ReadOnlyObjectWrapper<>(roleName);
         });
 
-        userTable.setItems(users);
         userTable.getSelectionModel().selectedItemProperty().addListener(
                 (obs, oldSelection, newSelection) -> updateButtonStates()
         );
@@ -157,21 +165,22 @@ public class UserController extends BaseController {
     }
 
     private void loadUserTypes() {
-        try {
-            List<UserType> typeList = userTypeService.getAll();
-            userTypes.setAll(typeList);
-        } catch (Exception e) {
-            showError("Помилка завантаження типів користувачів: " + e.getMessage());
+        filterLoader.submit(userTypeService::getAll, userTypes::setAll,
+                e -> showError("Помилка завантаження типів користувачів: " + e.getMessage()));
+    }
+
+    private TablePager<User> userPager() {
+        if (userPager == null) {
+            userPager = new TablePager<>(userTable, newLoader(), e -> showError("Помилка завантаження користувачів: " + e.getMessage()))
+                    .sortable(idCol, "id")
+                    .sortable(nameCol, "name")
+                    .sortable(emailCol, "email");
         }
+        return userPager;
     }
 
     void loadUsers() {
-        try {
-            List<User> userList = userService.getAll();
-            users.setAll(userList);
-        } catch (Exception e) {
-            showError("Помилка завантаження користувачів: " + e.getMessage());
-        }
+        userPager().reload(request -> userService.searchPage(Map.of(), request), users -> { });
     }
 
     private void updateButtonStates() {
@@ -196,28 +205,19 @@ public class UserController extends BaseController {
             String searchTerm = keywordField != null ? keywordField.getText().trim() : "";
             UserType selectedRole = userTypeFilterCombo != null ? userTypeFilterCombo.getValue() : null;
 
-            List<User> filteredUsers;
-
-            if (searchTerm.isEmpty() && selectedRole == null) {
-                filteredUsers = userService.getAll();
-            } else if (!searchTerm.isEmpty() && selectedRole == null) {
-                filteredUsers = userService.searchByTerm(searchTerm);
-            } else if (searchTerm.isEmpty()) {
-                filteredUsers = userService.getAll().stream()
-                        .filter(user -> user.getUserType() != null &&
-                                user.getUserType().getId() == (selectedRole.getId()))
-                        .toList();
-            } else {
-                filteredUsers = userService.searchByTerm(searchTerm).stream()
-                        .filter(user -> user.getUserType() != null &&
-                                user.getUserType().getId() == (selectedRole.getId()))
-                        .toList();
+            Map<String, Object> filters = new HashMap<>();
+            if (!searchTerm.isEmpty()) {
+                filters.put("keyword", searchTerm);
             }
-
-            users.setAll(filteredUsers);
-            if (filteredUsers.isEmpty()) {
-                showInfo("За вказаними критеріями користувачів не знайдено");
+            if (selectedRole != null) {
+                filters.put("userTypeId", selectedRole.getId());
             }
+
+            userPager().reload(request -> userService.searchPage(filters, request), filteredUsers -> {
+                if (filteredUsers.isEmpty()) {
+                    showInfo("За вказаними критеріями користувачів не знайдено");
+                }
+            });
         } catch (Exception e) {
             showError("Помилка пошуку користувачів: " + e.getMessage());
         }
@@ -11,6 +11,7 @@ import javafx.stage.Modality;
 import javafx.stage.Stage;
 import tourapp.model.user.User;
 import tourapp.model.user.UserType;
+import tourapp.service.user_service.CredentialService;
 import tourapp.service.user_service.UserService;
 import tourapp.service.user_service.UserTypeService;
 import tourapp.util.SessionManager;
@@ -36,6 +37,7 @@ public class UserEditController extends BaseController {
     @FXML private Label titleLabel;
 
     private final UserService userService;
+    private final CredentialService credentialService;
     private final UserTypeService userTypeService;
     private User editingUser;
     private boolean isEditMode = false;
@@ -47,10 +49,12 @@ public class UserEditController extends BaseController {
     public UserEditController(Stage stage,
                               SessionManager sessionManager,
                               UserService userService,
+                              CredentialService credentialService,
                               UserTypeService userTypeService,
                               User editingUser) {
         super(stage, sessionManager);
         this.userService = userService;
+        this.credentialService = credentialService;
         this.userTypeService = userTypeService;
         this.editingUser = editingUser;
         this.isEditMode = editingUser != null;
@@ -232,17 +236,10 @@ public class UserEditController extends BaseController {
             return;
         }
 
-        try {
-            if (isEditMode) {
-                updateExistingUser();
-            } else {
-                createNewUser();
-            }
-
-            onSaveCallback.run();
-            editStage.close();
-        } catch (SQLException e) {
-            showError("Помилка збереження користувача: " + e.getMessage());
+        if (isEditMode) {
+            updateExistingUser();
+        } else {
+            createNewUser();
         }
     }
 
@@ -250,25 +247,33 @@ public class UserEditController extends BaseController {
         return !isEditMode || (changePasswordCheckBox != null && changePasswordCheckBox.isSelected());
     }
 
-    private void createNewUser() throws SQLException {
+    // Hashing runs on the credential pool; the dialog stays open, with Save disabled, until it finishes.
+    private void createNewUser() {
         String name = nameField.getText().trim();
         String email = emailField.getText().trim();
         String password = passwordField.getText();
         UserType userType = userTypeComboBox.getValue();
 
-        User newUser = new User(name, email, password, userType);
+        saveButton.setDisable(true);
+        credentialService.register(name, email, password, userType).whenComplete((newUser, error) -> runOnFxThread(() -> {
+            saveButton.setDisable(false);
+            if (error != null) {
+                showError("Помилка збереження користувача: " + unwrap(error).getMessage());
+                return;
+            }
+            if (newUser == null) {
+                showError("Не вдалося створити користувача");
+                return;
+            }
 
-        boolean created = userService.create(newUser);
-        if (created) {
             FormValidator.clearErrors();
             showInfo("Користувача успішно створено");
             logger.info("Створено користувача: {}", newUser);
-        } else {
-            showError("Не вдалося створити користувача");
-        }
+            finishSave();
+        }));
     }
 
-    private void updateExistingUser() throws SQLException {
+    private void updateExistingUser() {
         String name = nameField.getText().trim();
         String email = emailField.getText().trim();
         UserType userType = userTypeComboBox.getValue();
@@ -277,24 +282,48 @@ public class UserEditController extends BaseController {
         editingUser.setEmail(email);
         editingUser.setUserType(userType);
 
-        boolean updated = userService.update(editingUser);
-        if (!updated) {
-            showError("Не вдалося оновити дані користувача");
+        try {
+            boolean updated = userService.update(editingUser);
+            if (!updated) {
+                showError("Не вдалося оновити дані користувача");
+                return;
+            }
+        } catch (SQLException e) {
+            showError("Помилка збереження користувача: " + e.getMessage());
             return;
         }
 
-        if (changePasswordCheckBox != null && changePasswordCheckBox.isSelected()) {
-            String newPassword = passwordField.getText();
-            boolean passwordUpdated = userService.changePassword(editingUser.getId(), newPassword);
-            if (!passwordUpdated) {
-                showError("Дані користувача оновлено, але не вдалося змінити пароль");
-                return;
-            }
+        if (changePasswordCheckBox == null || !changePasswordCheckBox.isSelected()) {
+            onUserUpdated();
+            return;
         }
 
+        saveButton.setDisable(true);
+        credentialService.changePassword(editingUser.getId(), passwordField.getText())
+                .whenComplete((passwordUpdated, error) -> runOnFxThread(() -> {
+                    saveButton.setDisable(false);
+                    if (error != null) {
+                        showError("Помилка збереження користувача: " + unwrap(error).getMessage());
+                        return;
+                    }
+                    if (!passwordUpdated) {
+                        showError("Дані користувача оновлено, але не вдалося змінити пароль");
+                        return;
+                    }
+                    onUserUpdated();
+                }));
+    }
+
+    private void onUserUpdated() {
         FormValidator.clearErrors();
         showInfo("Дані користувача успішно оновлено");
         logger.info("Відредаговано користувача: {}", editingUser.toString());
+        finishSave();
+    }
+
+    private void finishSave() {
+        onSaveCallback.run();
+        editStage.close();
     }
 
     @FXML
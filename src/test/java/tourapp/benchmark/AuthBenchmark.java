@@ -0,0 +1,59 @@
+package tourapp.benchmark;
+
+import tourapp.dao.user_dao.UserDao;
+import tourapp.dao.user_dao.UserTypeDao;
+import tourapp.model.user.User;
+import tourapp.model.user.UserType;
+import tourapp.service.user_service.UserService;
+import tourapp.service.user_service.UserTypeService;
+import tourapp.util.ConnectionFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reports login and registration latency percentiles for {@link UserService#authenticate} and
+ * {@link UserService#register}. Both are dominated by one BCrypt round, so iteration counts are small.
+ * Runs against the database configured through the {@code tourapp.db.*} system properties and deletes
+ * the users it registers.
+ */
+public class AuthBenchmark {
+
+    private static final String EMAIL_PREFIX = "auth-bench-";
+
+    public static void main(String[] args) throws Exception {
+        int warmup = Integer.getInteger("bench.warmup", 5);
+        int iterations = Integer.getInteger("bench.iterations", 50);
+
+        try (ConnectionFactory connectionFactory = BenchmarkSupport.pooledFactory()) {
+            UserService userService = new UserService(new UserDao(connectionFactory));
+            UserType customer = new UserTypeService(new UserTypeDao(connectionFactory)).findByExactName("CUSTOMER");
+            AtomicInteger sequence = new AtomicInteger();
+
+            try {
+                User loginUser = userService.register(
+                        new User("Auth Bench", EMAIL_PREFIX + "login@test.com", "password123", customer));
+
+                System.out.println(BenchmarkSupport.measure("login (authenticate)", warmup, iterations, () -> {
+                    if (userService.authenticate(loginUser.getEmail(), "password123") == null) {
+                        throw new IllegalStateException("Login failed");
+                    }
+                }));
+                System.out.println(BenchmarkSupport.measure("register (findByEmail + register)", warmup, iterations, () -> {
+                    String email = EMAIL_PREFIX + sequence.incrementAndGet() + "@test.com";
+                    if (userService.findByEmail(email) != null
+                            || userService.register(new User("Auth Bench", email, "password123", customer)) == null) {
+                        throw new IllegalStateException("Registration failed");
+                    }
+                }));
+            } finally {
+                try (Connection conn = connectionFactory.getConnection();
+                     PreparedStatement stmt = conn.prepareStatement("DELETE FROM users WHERE email LIKE ?")) {
+                    stmt.setString(1, EMAIL_PREFIX + "%");
+                    stmt.executeUpdate();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package tourapp.benchmark;
+
+import javafx.application.Platform;
+import tourapp.util.ConnectionFactory;
+import tourapp.util.ConnectionPool;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+final class BenchmarkSupport {
+
+    @FunctionalInterface
+    interface Operation {
+        void run() throws Exception;
+    }
+
+    record Result(String name, int iterations, long totalNanos, long[] samples) {
+
+        double opsPerSecond() {
+            return iterations / (totalNanos / 1_000_000_000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            long[] sorted = samples.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-40s %10.1f ops/s   p50 %8.3f ms   p95 %8.3f ms   p99 %8.3f ms",
+                    name, opsPerSecond(), percentileMillis(50), percentileMillis(95), percentileMillis(99));
+        }
+    }
+
+    private BenchmarkSupport() {
+    }
+
+    static int warmupIterations() {
+        return Integer.getInteger("bench.warmup", 200);
+    }
+
+    static int measuredIterations() {
+        return Integer.getInteger("bench.iterations", 2000);
+    }
+
+    static ConnectionFactory unpooledFactory() {
+        return new ConnectionFactory(url(), user(), password());
+    }
+
+    static ConnectionFactory pooledFactory() {
+        return new ConnectionFactory(url(), user(), password(), ConnectionPool.Settings.defaults());
+    }
+
+    static Result measure(String name, Operation operation) throws Exception {
+        return measure(name, warmupIterations(), measuredIterations(), operation);
+    }
+
+    static Result measure(String name, int warmup, int iterations, Operation operation) throws Exception {
+        for (int i = 0; i < warmup; i++) {
+            operation.run();
+        }
+
+        long[] samples = new long[iterations];
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            long opStart = System.nanoTime();
+            operation.run();
+            samples[i] = System.nanoTime() - opStart;
+        }
+        return new Result(name, iterations, System.nanoTime() - start, samples);
+    }
+
+    static void startJavaFx() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        Platform.startup(started::countDown);
+        started.await();
+    }
+
+    // Scene graphs may only be built and laid out on the JavaFX thread.
+    static <R> R onFxThread(Callable<R> call) throws Exception {
+        CompletableFuture<R> result = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            try {
+                result.complete(call.call());
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result.get();
+    }
+
+    static int firstId(ConnectionFactory connectionFactory, String table) throws SQLException {
+        try (Connection conn = connectionFactory.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT MIN(id) FROM " + table)) {
+            if (rs.next() && rs.getInt(1) > 0) {
+                return rs.getInt(1);
+            }
+        }
+        throw new IllegalStateException("Benchmark requires at least one row in " + table);
+    }
+
+    static List<Integer> ids(ConnectionFactory connectionFactory, String table, int limit) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        try (Connection conn = connectionFactory.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT id FROM " + table + " ORDER BY id LIMIT " + limit)) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        if (ids.size() < limit) {
+            throw new IllegalStateException("Benchmark requires at least " + limit + " rows in " + table);
+        }
+        return ids;
+    }
+
+    private static String url() {
+        return System.getProperty("tourapp.db.url", "jdbc:mysql://localhost:3306/tour_app?rewriteBatchedStatements=true");
+    }
+
+    private static String user() {
+        return System.getProperty("tourapp.db.user", "root");
+    }
+
+    private static String password() {
+        return System.getProperty("tourapp.db.password", "");
+    }
+}
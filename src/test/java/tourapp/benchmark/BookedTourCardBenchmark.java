@@ -0,0 +1,106 @@
+package tourapp.benchmark;
+
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.VBox;
+import tourapp.model.tour.Tour;
+import tourapp.model.user.UserTour;
+import tourapp.view.tour_controller.BookedTourCard;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Measures building the booked-tour cards of a customer with 500 bookings: loading an FXML template
+ * and looking up its labels for every card, as the booked tours screen used to, against {@link BookedTourCard}.
+ * Each run builds all cards and lays them out once. Needs a display for the JavaFX toolkit; no database.
+ */
+public class BookedTourCardBenchmark {
+
+    private static final int BOOKING_COUNT = 500;
+
+    // The card template the screen parsed once per booking.
+    private static final String CARD_FXML = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <?import javafx.geometry.*?>
+            <?import javafx.scene.control.*?>
+            <?import javafx.scene.layout.*?>
+            <?import javafx.scene.text.*?>
+            <VBox spacing="10" prefWidth="280" styleClass="user-dashboard-card" xmlns:fx="http://javafx.com/fxml/1">
+                <padding><Insets top="15" right="15" bottom="15" left="15" /></padding>
+                <Label fx:id="titleLabel" wrapText="true"><font><Font name="Arial Bold" size="16.0" /></font></Label>
+                <Label fx:id="priceLabel"><font><Font name="Arial" size="14.0" /></font></Label>
+                <Label fx:id="datesLabel" wrapText="true"><font><Font name="Arial" size="12.0" /></font></Label>
+                <Label fx:id="statusLabel"><font><Font name="Arial" size="12.0" /></font></Label>
+                <Button fx:id="detailsButton" text="Деталі туру" maxWidth="Infinity" />
+                <Button fx:id="cancelButton" text="Скасувати бронювання" maxWidth="Infinity" />
+            </VBox>
+            """;
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.startJavaFx();
+
+        List<UserTour> bookings = IntStream.rangeClosed(1, BOOKING_COUNT).mapToObj(BookedTourCardBenchmark::booking).toList();
+        try {
+            System.out.println(BenchmarkSupport.onFxThread(() -> BenchmarkSupport.measure(BOOKING_COUNT + " cards, FXMLLoader per card", 3, 20, () -> {
+                FlowPane pane = new FlowPane(20, 20);
+                for (UserTour booking : bookings) {
+                    pane.getChildren().add(loadFxmlCard(booking));
+                }
+                render(pane);
+            })));
+            System.out.println(BenchmarkSupport.onFxThread(() -> BenchmarkSupport.measure(BOOKING_COUNT + " cards, BookedTourCard", 3, 20, () -> {
+                FlowPane pane = new FlowPane(20, 20);
+                for (UserTour booking : bookings) {
+                    BookedTourCard card = new BookedTourCard(tour -> { }, userTour -> { });
+                    card.show(booking.getTour(), booking);
+                    pane.getChildren().add(card.getNode());
+                }
+                render(pane);
+            })));
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    private static VBox loadFxmlCard(UserTour booking) throws Exception {
+        FXMLLoader loader = new FXMLLoader();
+        VBox card = loader.load(new ByteArrayInputStream(CARD_FXML.getBytes(StandardCharsets.UTF_8)));
+        Tour tour = booking.getTour();
+
+        ((Label) card.lookup("#titleLabel")).setText(tour.getDescription());
+        ((Label) card.lookup("#priceLabel")).setText(String.format("Ціна: %.2f грн", tour.getPrice()));
+        ((Label) card.lookup("#datesLabel")).setText(String.format("Період: %s - %s",
+                tour.getStartDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy")),
+                tour.getEndDate().format(DateTimeFormatter.ofPattern("dd.MM.yyyy"))));
+        ((Label) card.lookup("#statusLabel")).setText("Статус: Активний");
+        ((Button) card.lookup("#detailsButton")).setOnAction(e -> { });
+        ((Button) card.lookup("#cancelButton")).setOnAction(e -> { });
+        return card;
+    }
+
+    private static void render(FlowPane pane) {
+        new Scene(pane, 1100, 800);
+        pane.applyCss();
+        pane.layout();
+    }
+
+    private static UserTour booking(int id) {
+        Tour tour = new Tour();
+        tour.setId(id);
+        tour.setDescription("Тур " + id + " Карпатами");
+        tour.setPrice(1000 + id);
+        tour.setStartDate(LocalDate.of(2026, 6, 1).plusDays(id % 60));
+        tour.setEndDate(LocalDate.of(2026, 6, 10).plusDays(id % 60));
+        tour.setActive(true);
+        return new UserTour(1, tour);
+    }
+}
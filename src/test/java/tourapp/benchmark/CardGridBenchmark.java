@@ -0,0 +1,118 @@
+package tourapp.benchmark;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.VBox;
+import tourapp.view.CardGrid;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Compares rendering the customer's tour cards into a {@link FlowPane}, one node tree per tour,
+ * against the virtualized {@link CardGrid}, which only builds the rows on screen.
+ * Measures building the scene graph plus its first CSS and layout pass, and counts the nodes that remain.
+ * Needs a display for the JavaFX toolkit; no database.
+ */
+public class CardGridBenchmark {
+
+    private static final int TOUR_COUNT = 10_000;
+    private static final double WIDTH = 1100;
+    private static final double HEIGHT = 800;
+
+    public static void main(String[] args) throws Exception {
+        BenchmarkSupport.startJavaFx();
+
+        List<String> tours = IntStream.range(0, TOUR_COUNT).mapToObj(i -> "Тур " + i).toList();
+        try {
+            System.out.println(BenchmarkSupport.onFxThread(() -> BenchmarkSupport.measure(TOUR_COUNT + " cards, FlowPane", 2, 10, () -> {
+                FlowPane pane = new FlowPane(20, 20);
+                for (String tour : tours) {
+                    SampleCard card = new SampleCard();
+                    card.show(tour);
+                    pane.getChildren().add(card.getNode());
+                }
+                render(new ScrollPane(pane));
+            })));
+            System.out.println(BenchmarkSupport.onFxThread(() -> BenchmarkSupport.measure(TOUR_COUNT + " cards, CardGrid", 2, 10, () -> {
+                CardGrid<String> grid = new CardGrid<>();
+                grid.setCardFactory(SampleCard::new);
+                grid.setCards(tours);
+                render(grid);
+            })));
+            System.out.println(BenchmarkSupport.onFxThread(() -> BenchmarkSupport.measure(TOUR_COUNT + " cards, CardGrid in pages of 50", 2, 10, () -> {
+                CardGrid<String> grid = new CardGrid<>();
+                grid.setCardFactory(SampleCard::new);
+                render(grid);
+                for (int start = 0; start < tours.size(); start += 50) {
+                    grid.appendCards(tours.subList(start, Math.min(start + 50, tours.size())));
+                }
+                grid.layout();
+            })));
+
+            System.out.println(BenchmarkSupport.onFxThread(() -> {
+                FlowPane pane = new FlowPane(20, 20);
+                for (String tour : tours) {
+                    SampleCard card = new SampleCard();
+                    card.show(tour);
+                    pane.getChildren().add(card.getNode());
+                }
+                CardGrid<String> grid = new CardGrid<>();
+                grid.setCardFactory(SampleCard::new);
+                grid.setCards(tours);
+                return String.format("Nodes after layout: FlowPane %d, CardGrid %d",
+                        countNodes(render(new ScrollPane(pane))), countNodes(render(grid)));
+            }));
+        } finally {
+            Platform.exit();
+        }
+    }
+
+    private static Parent render(Parent root) {
+        Scene scene = new Scene(root, WIDTH, HEIGHT);
+        root.applyCss();
+        root.layout();
+        return (Parent) scene.getRoot();
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+
+    // Same shape as the dashboard's tour card: a box with three labels and a button.
+    private static final class SampleCard implements CardGrid.Card<String> {
+        private final VBox node = new VBox(10);
+        private final Label title = new Label();
+        private final Label price = new Label();
+        private final Label dates = new Label();
+
+        SampleCard() {
+            node.setPrefWidth(250);
+            node.getChildren().addAll(title, price, dates, new Button("Забронювати"));
+        }
+
+        @Override
+        public Node getNode() {
+            return node;
+        }
+
+        @Override
+        public void show(String tour) {
+            title.setText(tour);
+            price.setText("Ціна: 1000.00 грн");
+            dates.setText("Дата: 2026-06-01 - 2026-06-10");
+        }
+    }
+}
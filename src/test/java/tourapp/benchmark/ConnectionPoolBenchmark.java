@@ -0,0 +1,84 @@
+package tourapp.benchmark;
+
+import tourapp.dao.location_dao.LocationDao;
+import tourapp.dao.tour_dao.TourDao;
+import tourapp.dao.tour_dao.TourLocationDao;
+import tourapp.dao.user_dao.UserDao;
+import tourapp.dao.user_dao.UserTourDao;
+import tourapp.dao.user_dao.UserTypeDao;
+import tourapp.model.tour.Tour;
+import tourapp.model.user.User;
+import tourapp.model.user.UserType;
+import tourapp.service.user_service.UserTourService;
+import tourapp.service.user_service.UserTypeService;
+import tourapp.util.ConnectionFactory;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares pooled and unpooled {@link ConnectionFactory} throughput against a running MySQL
+ * instance with the application schema. Connection settings are taken from the
+ * {@code tourapp.db.url}, {@code tourapp.db.user} and {@code tourapp.db.password} system properties.
+ * The booking benchmark works on a user and a tour it creates for the run and deletes them afterwards.
+ */
+public class ConnectionPoolBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        try (ConnectionFactory unpooled = BenchmarkSupport.unpooledFactory();
+             ConnectionFactory pooled = BenchmarkSupport.pooledFactory()) {
+
+            System.out.println(runSearch("TourDao.search (unpooled)", unpooled));
+            System.out.println(runSearch("TourDao.search (pooled)", pooled));
+            System.out.println(runCreateLink("UserTourService.createLink (unpooled)", unpooled));
+            System.out.println(runCreateLink("UserTourService.createLink (pooled)", pooled));
+
+            System.out.println("Pool stats: " + pooled.getPoolStats());
+        }
+    }
+
+    private static TourDao tourDao(ConnectionFactory connectionFactory) {
+        LocationDao locationDao = new LocationDao(connectionFactory);
+        return new TourDao(connectionFactory, new TourLocationDao(connectionFactory, locationDao));
+    }
+
+    private static BenchmarkSupport.Result runSearch(String name, ConnectionFactory connectionFactory) throws Exception {
+        TourDao tourDao = tourDao(connectionFactory);
+        Map<String, Object> filters = Map.of("minPrice", 0.0, "is_active", true);
+        return BenchmarkSupport.measure(name, () -> tourDao.search(filters));
+    }
+
+    private static BenchmarkSupport.Result runCreateLink(String name, ConnectionFactory connectionFactory) throws Exception {
+        TourDao tourDao = tourDao(connectionFactory);
+        UserDao userDao = new UserDao(connectionFactory);
+        UserTourService userTourService = new UserTourService(new UserTourDao(connectionFactory, tourDao));
+
+        UserType customer = new UserTypeService(new UserTypeDao(connectionFactory)).findByExactName("CUSTOMER");
+        User user = new User("Pool Bench", "pool-bench-" + System.nanoTime() + "@test.com", "password123", customer);
+        // A copy of an existing tour, so the scratch row satisfies the same type, transport and meal references.
+        Tour tour = tourDao.findByIdWithDependencies(BenchmarkSupport.firstId(connectionFactory, "tours"));
+        tour.setId(0);
+        tour.setDescription("Pool bench tour");
+        tour.setLocations(List.of());
+
+        if (!userDao.create(user)) {
+            throw new IllegalStateException("Could not create benchmark user");
+        }
+        try {
+            if (!tourDao.create(tour)) {
+                throw new IllegalStateException("Could not create benchmark tour");
+            }
+            try {
+                return BenchmarkSupport.measure(name, () -> {
+                    userTourService.createLink(user.getId(), tour.getId());
+                    userTourService.deleteLink(user.getId(), tour.getId());
+                });
+            } finally {
+                userTourService.deleteLink(user.getId(), tour.getId());
+                tourDao.delete(tour.getId());
+            }
+        } finally {
+            userDao.delete(user.getId());
+        }
+    }
+}
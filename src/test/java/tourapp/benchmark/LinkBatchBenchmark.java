@@ -0,0 +1,64 @@
+package tourapp.benchmark;
+
+import tourapp.dao.location_dao.LocationDao;
+import tourapp.dao.tour_dao.TourDao;
+import tourapp.dao.tour_dao.TourLocationDao;
+import tourapp.model.location.Location;
+import tourapp.model.tour.Tour;
+import tourapp.util.ConnectionFactory;
+
+import java.util.List;
+
+/**
+ * Measures how long saving one tour takes as its location count grows, comparing one INSERT per
+ * link against the batched {@code createAll} path used by {@link TourDao#update(Tour)}.
+ * Runs against the database configured through the {@code tourapp.db.*} system properties, on a tour
+ * it creates for the run and deletes afterwards.
+ */
+public class LinkBatchBenchmark {
+
+    private static final int[] LOCATION_COUNTS = {1, 5, 10, 30, 60};
+
+    public static void main(String[] args) throws Exception {
+        try (ConnectionFactory connectionFactory = BenchmarkSupport.pooledFactory()) {
+            LocationDao locationDao = new LocationDao(connectionFactory);
+            TourLocationDao tourLocationDao = new TourLocationDao(connectionFactory, locationDao);
+            TourDao tourDao = new TourDao(connectionFactory, tourLocationDao);
+
+            // A copy of an existing tour, so the scratch row satisfies the same type, transport and meal references.
+            Tour tour = tourDao.findByIdWithDependencies(BenchmarkSupport.firstId(connectionFactory, "tours"));
+            tour.setId(0);
+            tour.setDescription("Link batch bench tour");
+            tour.setLocations(List.of());
+            if (!tourDao.create(tour)) {
+                throw new IllegalStateException("Could not create benchmark tour");
+            }
+            int tourId = tour.getId();
+
+            try {
+                for (int count : LOCATION_COUNTS) {
+                    List<Integer> locationIds = BenchmarkSupport.ids(connectionFactory, "locations", count);
+                    tour.setLocations(locationIds.stream().map(LinkBatchBenchmark::location).toList());
+
+                    System.out.println(BenchmarkSupport.measure(count + " locations, one insert per link", 20, 200, () -> {
+                        tourLocationDao.deleteAllById1(tourId);
+                        for (int locationId : locationIds) {
+                            tourLocationDao.create(tourId, locationId);
+                        }
+                    }));
+                    System.out.println(BenchmarkSupport.measure(count + " locations, TourDao.update", 20, 200,
+                            () -> tourDao.update(tour)));
+                }
+            } finally {
+                tourLocationDao.deleteAllById1(tourId);
+                tourDao.delete(tourId);
+            }
+        }
+    }
+
+    private static Location location(int id) {
+        Location location = new Location();
+        location.setId(id);
+        return location;
+    }
+}
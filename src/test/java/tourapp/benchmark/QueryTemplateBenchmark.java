@@ -0,0 +1,46 @@
+package tourapp.benchmark;
+
+import tourapp.dao.tour_dao.TourDao;
+import tourapp.util.DaoUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares rebuilding the search SQL with {@link DaoUtils#buildWhereClause} on every call against the
+ * per-shape cache in {@link DaoUtils.QueryTemplate}, using TourDao's seven-join configuration.
+ * Needs no database.
+ */
+public class QueryTemplateBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        TourDao tourDao = new TourDao(null, null);
+        Map<String, String> columnMappings = tourDao.initColumnMappings();
+        List<DaoUtils.JoinInfo> joinInfos = tourDao.initJoinInfos();
+        DaoUtils.QueryTemplate template = new DaoUtils.QueryTemplate("tours", "t", columnMappings, joinInfos);
+
+        Map<String, Object> filters = new LinkedHashMap<>();
+        filters.put("country", List.of("Україна", "Польща"));
+        filters.put("tour_type", List.of("Екскурсійний"));
+        filters.put("meal_types", List.of("Сніданок", "Вечеря"));
+        filters.put("transport_type", List.of("Автобус"));
+        filters.put("minPrice", 1000.0);
+        filters.put("maxPrice", 50000.0);
+
+        int warmup = 20_000;
+        int iterations = 200_000;
+        long[] sink = new long[1];
+
+        BenchmarkSupport.Result rebuilt = BenchmarkSupport.measure("buildWhereClause (per call)", warmup, iterations,
+                () -> sink[0] += DaoUtils.buildWhereClause("tours", "t", filters, columnMappings, joinInfos)
+                        .append(" ORDER BY t.name").length());
+
+        BenchmarkSupport.Result cached = BenchmarkSupport.measure("QueryTemplate.getSql (cached shape)", warmup, iterations,
+                () -> sink[0] += template.getSql(filters).length());
+
+        System.out.println(rebuilt);
+        System.out.println(cached);
+        System.out.printf("Speed-up: %.1fx (checksum %d)%n", cached.opsPerSecond() / rebuilt.opsPerSecond(), sink[0]);
+    }
+}
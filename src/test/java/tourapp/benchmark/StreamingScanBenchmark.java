@@ -0,0 +1,90 @@
+package tourapp.benchmark;
+
+import tourapp.dao.AbstractGenericDao;
+import tourapp.util.ConnectionFactory;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Generates a large scratch table and walks it through {@link AbstractGenericDao#stream(Map)}.
+ * Run with a small heap, e.g. {@code -Xmx32m -Dbench.rows=500000}: the scan must finish without an
+ * OutOfMemoryError, while {@code findAll()} over the same table would not.
+ * Runs against the database configured through the {@code tourapp.db.*} system properties.
+ */
+public class StreamingScanBenchmark {
+
+    private static final String TABLE = "bench_stream_rows";
+    private static final int INSERT_BATCH = 1000;
+
+    record Row(int id, String name) {
+    }
+
+    static class RowDao extends AbstractGenericDao<Row> {
+        RowDao(ConnectionFactory connectionFactory) {
+            super(connectionFactory, TABLE, rs -> new Row(rs.getInt("id"), rs.getString("name")));
+        }
+
+        @Override
+        public boolean create(Row entity) {
+            return false;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int rows = Integer.getInteger("bench.rows", 500_000);
+
+        try (ConnectionFactory connectionFactory = BenchmarkSupport.pooledFactory()) {
+            generate(connectionFactory, rows);
+            try {
+                RowDao dao = new RowDao(connectionFactory);
+                Runtime runtime = Runtime.getRuntime();
+                long[] peakUsed = {0};
+                long start = System.nanoTime();
+
+                long count;
+                try (Stream<Row> stream = dao.stream(Map.of())) {
+                    count = stream.peek(row -> {
+                        if (row.id() % 10_000 == 0) {
+                            peakUsed[0] = Math.max(peakUsed[0], runtime.totalMemory() - runtime.freeMemory());
+                        }
+                    }).count();
+                }
+
+                System.out.printf("Streamed %d rows in %d ms, max heap %d MB, peak used %d MB%n",
+                        count, (System.nanoTime() - start) / 1_000_000,
+                        runtime.maxMemory() / (1024 * 1024), peakUsed[0] / (1024 * 1024));
+            } finally {
+                try (Connection conn = connectionFactory.getConnection();
+                     Statement stmt = conn.createStatement()) {
+                    stmt.execute("DROP TABLE IF EXISTS " + TABLE);
+                }
+            }
+        }
+    }
+
+    private static void generate(ConnectionFactory connectionFactory, int rows) throws SQLException {
+        try (Connection conn = connectionFactory.getConnection();
+             Statement stmt = conn.createStatement()) {
+            stmt.execute("DROP TABLE IF EXISTS " + TABLE);
+            stmt.execute("CREATE TABLE " + TABLE + " (id INT PRIMARY KEY, name VARCHAR(100) NOT NULL)");
+        }
+
+        try (Connection conn = connectionFactory.getConnection();
+             PreparedStatement stmt = conn.prepareStatement("INSERT INTO " + TABLE + " (id, name) VALUES (?, ?)")) {
+            for (int id = 1; id <= rows; id++) {
+                stmt.setInt(1, id);
+                stmt.setString(2, "Row " + id + " with some padding to make each row a realistic size");
+                stmt.addBatch();
+                if (id % INSERT_BATCH == 0) {
+                    stmt.executeBatch();
+                }
+            }
+            stmt.executeBatch();
+        }
+    }
+}
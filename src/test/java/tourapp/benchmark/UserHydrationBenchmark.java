@@ -0,0 +1,76 @@
+package tourapp.benchmark;
+
+import tourapp.dao.user_dao.UserDao;
+import tourapp.model.user.User;
+import tourapp.model.user.UserType;
+import tourapp.service.user_service.UserService;
+import tourapp.util.ConnectionFactory;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures {@link UserService#getAll()} over an in-memory result set of stored BCrypt hashes, against the
+ * previous hydration through the hashing {@code User} constructor. The old path costs a full BCrypt round per
+ * row, so it is sampled on {@code bench.legacySample} rows and extrapolated to {@code bench.users}.
+ * Needs no database.
+ */
+public class UserHydrationBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("bench.users", 10_000);
+        int legacySample = Integer.getInteger("bench.legacySample", 20);
+        String storedHash = User.hashPassword("password");
+
+        ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connectionFactory.getConnection()).thenReturn(connection);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery(anyString())).thenAnswer(invocation -> userRows(users, storedHash));
+        UserService userService = new UserService(new UserDao(connectionFactory));
+
+        BenchmarkSupport.Result current = BenchmarkSupport.measure("UserService.getAll (" + users + " users)", 5, 50, () -> {
+            List<User> loaded = userService.getAll();
+            if (loaded.size() != users) throw new IllegalStateException("Expected " + users + " users");
+        });
+
+        UserType customer = new UserType(3, "CUSTOMER");
+        BenchmarkSupport.Result legacy = BenchmarkSupport.measure("hashing constructor (" + legacySample + " users)", 1, 3, () -> {
+            for (int id = 1; id <= legacySample; id++) {
+                new User(id, "User " + id, "user" + id + "@test.com", storedHash, customer);
+            }
+        });
+
+        System.out.println(current);
+        System.out.println(legacy);
+        System.out.printf(Locale.ROOT, "hashing constructor extrapolated to %d users: %.1f s%n",
+                users, legacy.percentileMillis(50) / legacySample * users / 1000.0);
+    }
+
+    private static ResultSet userRows(int users, String storedHash) {
+        int[] row = {0};
+        return (ResultSet) Proxy.newProxyInstance(UserHydrationBenchmark.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "next" -> ++row[0] <= users;
+                    case "getInt" -> "type_id".equals(args[0]) ? 3 : row[0];
+                    case "getString" -> switch ((String) args[0]) {
+                        case "name" -> "User " + row[0];
+                        case "email" -> "user" + row[0] + "@test.com";
+                        case "password" -> storedHash;
+                        case "type_name" -> "CUSTOMER";
+                        default -> null;
+                    };
+                    case "close" -> null;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
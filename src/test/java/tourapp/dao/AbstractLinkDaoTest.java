@@ -9,11 +9,19 @@ import tourapp.util.ConnectionFactory;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -72,6 +80,94 @@ class AbstractLinkDaoTest {
         verify(preparedStatement).executeUpdate();
     }
 
+    @Test
+    void testCreateAll() throws Exception {
+        // Given
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 1, 1});
+
+        // When
+        boolean result = dao.createAll(1, List.of(2, 3, 4));
+
+        // Then
+        assertTrue(result);
+        verify(connectionFactory, times(1)).getConnection();
+        verify(connection).prepareStatement("INSERT INTO test_links (entity1_id, entity2_id) VALUES (?, ?)");
+        verify(preparedStatement, times(3)).setInt(1, 1);
+        verify(preparedStatement).setInt(2, 4);
+        verify(preparedStatement, times(3)).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+
+    @Test
+    void testCreateAllWithEmptyCollection() throws Exception {
+        // When
+        boolean result = dao.createAll(1, List.of());
+
+        // Then
+        assertFalse(result);
+        verify(connectionFactory, never()).getConnection();
+    }
+
+    @Test
+    void testDeleteAll() throws Exception {
+        // Given
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeBatch()).thenReturn(new int[]{1, 0});
+
+        // When
+        boolean result = dao.deleteAll(1, List.of(2, 3));
+
+        // Then
+        assertFalse(result);
+        verify(connection).prepareStatement("DELETE FROM test_links WHERE entity1_id = ? AND entity2_id = ?");
+        verify(preparedStatement, times(2)).addBatch();
+    }
+
+    @Test
+    void testSyncLinksAppliesOnlyDelta() throws Exception {
+        // Given
+        PreparedStatement selectStmt = mock(PreparedStatement.class);
+        PreparedStatement deleteStmt = mock(PreparedStatement.class);
+        PreparedStatement insertStmt = mock(PreparedStatement.class);
+        when(connection.prepareStatement("SELECT entity2_id FROM test_links WHERE entity1_id = ?")).thenReturn(selectStmt);
+        when(connection.prepareStatement("DELETE FROM test_links WHERE entity1_id = ? AND entity2_id = ?")).thenReturn(deleteStmt);
+        when(connection.prepareStatement("INSERT INTO test_links (entity1_id, entity2_id) VALUES (?, ?)")).thenReturn(insertStmt);
+        when(selectStmt.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getInt(1)).thenReturn(3, 1, 2);
+        when(deleteStmt.executeBatch()).thenReturn(new int[]{1});
+        when(insertStmt.executeBatch()).thenReturn(new int[]{1});
+
+        // When
+        boolean result = dao.syncLinks(1, List.of(4, 3, 2, 4));
+
+        // Then
+        assertTrue(result);
+        verify(deleteStmt).setInt(2, 1);
+        verify(deleteStmt, times(1)).addBatch();
+        verify(insertStmt).setInt(2, 4);
+        verify(insertStmt, times(1)).addBatch();
+        verify(connection).commit();
+    }
+
+    @Test
+    void testSyncLinksWithoutChanges() throws Exception {
+        // Given
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt(1)).thenReturn(2, 3);
+
+        // When
+        boolean result = dao.syncLinks(1, List.of(3, 2));
+
+        // Then
+        assertFalse(result);
+        verify(connection, times(1)).prepareStatement(anyString());
+        verify(preparedStatement, never()).executeBatch();
+    }
+
     @Test
     void testDelete() throws Exception {
         // Given
@@ -164,6 +260,39 @@ class AbstractLinkDaoTest {
         assertEquals(3, result.getFirst().id2());
     }
 
+    @Test
+    void testStreamAllLinksHydratesInChunks() throws Exception {
+        // Given
+        int rows = 1000;
+        AtomicInteger row = new AtomicInteger();
+        List<Integer> chunkSizes = new ArrayList<>();
+        TestLinkDao chunkingDao = new TestLinkDao(connectionFactory) {
+            @Override
+            protected List<TestLinkEntity> mapAllWithAdditionalData(List<Link> links) throws SQLException {
+                chunkSizes.add(links.size());
+                return super.mapAllWithAdditionalData(links);
+            }
+        };
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenAnswer(invocation -> row.incrementAndGet() <= rows);
+        when(resultSet.getInt(1)).thenAnswer(invocation -> row.get());
+        when(resultSet.getInt(2)).thenReturn(7);
+
+        // When
+        long count;
+        try (Stream<TestLinkEntity> links = chunkingDao.streamAllLinks()) {
+            count = links.filter(link -> link.id2() == 7).count();
+        }
+
+        // Then
+        assertEquals(rows, count);
+        assertEquals(List.of(512, 488), chunkSizes);
+        verify(preparedStatement).setFetchSize(Integer.MIN_VALUE);
+        verify(resultSet).close();
+        verify(connection).close();
+    }
+
     @Test
     void testFindById1() throws Exception {
         // Given
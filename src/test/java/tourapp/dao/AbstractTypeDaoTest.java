@@ -51,7 +51,7 @@ class AbstractTypeDaoTest {
             super(
                     connectionFactory,
                     "test_types",
-                    rs -> new TestTypeEntity(rs.getInt("id"), rs.getString("name")),
+                    TestTypeEntity::new,
                     TestTypeEntity::getName,
                     testTypeEntity -> Optional.of(testTypeEntity.getId()),
                     TestTypeEntity::setId
@@ -107,7 +107,7 @@ class AbstractTypeDaoTest {
     void testFindByName() throws Exception {
         try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(List.of(testEntity));
 
             // When
@@ -125,7 +125,7 @@ class AbstractTypeDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
+        when(resultSet.next()).thenReturn(true, false);
         when(resultSet.getInt("id")).thenReturn(1);
         when(resultSet.getString("name")).thenReturn("Test Type");
 
@@ -136,7 +136,6 @@ class AbstractTypeDaoTest {
         assertNotNull(result);
         assertEquals(1, result.getId());
         assertEquals("Test Type", result.getName());
-        verify(preparedStatement).setString(1, "Test Type");
     }
 
     @Test
@@ -158,15 +157,15 @@ class AbstractTypeDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
-        when(resultSet.getInt(1)).thenReturn(1);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getInt("id")).thenReturn(1);
+        when(resultSet.getString("name")).thenReturn("Test Type");
 
         // When
         boolean result = dao.existsWithName("Test Type");
 
         // Then
         assertTrue(result);
-        verify(preparedStatement).setString(1, "Test Type");
     }
 
     @Test
@@ -174,8 +173,7 @@ class AbstractTypeDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
-        when(resultSet.getInt(1)).thenReturn(0);
+        when(resultSet.next()).thenReturn(false);
 
         // When
         boolean result = dao.existsWithName("NonExistent");
@@ -193,4 +191,90 @@ class AbstractTypeDaoTest {
         assertNotNull(extractor);
         assertEquals("Test Type", extractor.apply(testEntity));
     }
+
+    @Test
+    void testLookupsAreServedFromCacheAfterFirstLoad() throws Exception {
+        try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
+            )).thenReturn(List.of(new TestTypeEntity(1, "Alpha"), new TestTypeEntity(2, "Beta")));
+
+            // When
+            List<TestTypeEntity> all = dao.findAll();
+            TestTypeEntity byId = dao.findById(2);
+            TestTypeEntity byName = dao.findByExactName("alpha");
+            boolean exists = dao.existsWithName("BETA");
+            List<TestTypeEntity> byIds = dao.findByIds(List.of(2, 3, 2));
+
+            // Then
+            assertEquals(List.of("Alpha", "Beta"), all.stream().map(TestTypeEntity::getName).toList());
+            assertEquals("Beta", byId.getName());
+            assertEquals(1, byName.getId());
+            assertTrue(exists);
+            assertEquals(1, byIds.size());
+            mockedDaoUtils.verify(() -> DaoUtils.executeSearchQuery(any(), any(DaoUtils.QueryTemplate.class), any(), any()), times(1));
+            assertEquals(new AbstractTypeDao.CacheStats(4, 1), dao.getCacheStats());
+        }
+    }
+
+    @Test
+    void testCachedEntitiesAreCopies() throws Exception {
+        try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
+            )).thenReturn(List.of(new TestTypeEntity(1, "Alpha")));
+
+            // When
+            dao.findById(1).setName("Changed in a form");
+
+            // Then
+            assertEquals("Alpha", dao.findById(1).getName());
+        }
+    }
+
+    @Test
+    void testWritesInvalidateCache() throws Exception {
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+
+        try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
+            )).thenReturn(List.of(new TestTypeEntity(1, "Alpha")))
+                    .thenReturn(List.of(new TestTypeEntity(1, "Renamed")))
+                    .thenReturn(List.of());
+
+            // When
+            assertEquals("Alpha", dao.findById(1).getName());
+            dao.update(new TestTypeEntity(1, "Renamed"));
+            TestTypeEntity afterUpdate = dao.findById(1);
+            dao.delete(1);
+            TestTypeEntity afterDelete = dao.findById(1);
+
+            // Then
+            assertEquals("Renamed", afterUpdate.getName());
+            assertNull(afterDelete);
+            assertEquals(3, dao.getCacheStats().misses());
+        }
+    }
+
+    @Test
+    void testFailedUpdateKeepsCache() throws Exception {
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenReturn(0);
+
+        try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
+            )).thenReturn(List.of(new TestTypeEntity(1, "Alpha")));
+
+            // When
+            dao.findById(1);
+            dao.update(new TestTypeEntity(1, "Renamed"));
+            dao.findById(1);
+
+            // Then
+            assertEquals(1, dao.getCacheStats().misses());
+        }
+    }
 }
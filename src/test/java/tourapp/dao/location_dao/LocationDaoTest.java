@@ -4,15 +4,22 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import tourapp.dao.AbstractGenericDao;
 import tourapp.model.location.Location;
 import tourapp.model.location.LocationType;
 import tourapp.util.ConnectionFactory;
 import tourapp.util.DaoUtils;
+import tourapp.util.FacetValue;
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
 
 import java.sql.*;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -24,6 +31,9 @@ class LocationDaoTest {
     @Mock private Connection connection;
     @Mock private PreparedStatement preparedStatement;
     @Mock private ResultSet resultSet;
+    @Mock private PreparedStatement indexStatement;
+    @Mock private ResultSet indexResultSet;
+    @Mock private ResultSetMetaData indexMetaData;
 
     private LocationDao dao;
     private Location testLocation;
@@ -170,7 +180,7 @@ class LocationDaoTest {
 
         try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(List.of(expectedLocation));
 
             // When
@@ -188,7 +198,7 @@ class LocationDaoTest {
         // Given
         try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(List.of());
 
             // When
@@ -199,6 +209,36 @@ class LocationDaoTest {
         }
     }
 
+    @Test
+    void testFindByIds() throws Exception {
+        // Given
+        try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
+            )).thenReturn(List.of(testLocation));
+
+            // When
+            List<Location> result = dao.findByIds(List.of(3, 1, 2, 1));
+
+            // Then
+            assertEquals(List.of(testLocation), result);
+            verify(connectionFactory, times(1)).getConnection();
+            mockedDaoUtils.verify(() -> DaoUtils.executeSearchQuery(
+                    eq(connection), any(DaoUtils.QueryTemplate.class), eq(Map.of("id", List.of(3, 1, 2, 2))), any()
+            ));
+        }
+    }
+
+    @Test
+    void testFindByIdsWithEmptyCollection() throws Exception {
+        // When
+        List<Location> result = dao.findByIds(List.of());
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(connectionFactory, never()).getConnection();
+    }
+
     @Test
     void testFindAll() throws Exception {
         // Given
@@ -212,7 +252,7 @@ class LocationDaoTest {
 
         try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(List.of(location1, location2));
 
             // When
@@ -238,7 +278,7 @@ class LocationDaoTest {
 
         try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(List.of(searchResult));
 
             // When
@@ -251,6 +291,194 @@ class LocationDaoTest {
         }
     }
 
+    // Two locations as read by the full-text index loader: id, name, description, country.
+    private void stubKeywordIndexRows() throws SQLException {
+        when(connection.prepareStatement("SELECT id, name, description, country FROM locations")).thenReturn(indexStatement);
+        when(indexStatement.executeQuery()).thenReturn(indexResultSet);
+        when(indexResultSet.getMetaData()).thenReturn(indexMetaData);
+        when(indexMetaData.getColumnCount()).thenReturn(4);
+        when(indexResultSet.next()).thenReturn(true, true, false);
+        when(indexResultSet.getInt(1)).thenReturn(1, 2);
+        when(indexResultSet.getString(2)).thenReturn("Яремче", "Карпати");
+        when(indexResultSet.getString(3)).thenReturn("Містечко поруч Карпати", "Карпати взимку");
+        when(indexResultSet.getString(4)).thenReturn("Україна", "Україна");
+    }
+
+    private static Location location(int id, String name) {
+        Location location = new Location();
+        location.setId(id);
+        location.setName(name);
+        return location;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchByKeywordFiltersByIndexAndRanksResults() throws Exception {
+        // Given
+        stubKeywordIndexRows();
+
+        try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
+            )).thenReturn(List.of(location(1, "Яремче"), location(2, "Карпати")));
+
+            // When
+            List<Location> result = dao.search(Map.of("keyword", "карпати"));
+
+            // Then
+            assertEquals(List.of(2, 1), result.stream().map(Location::getId).toList());
+            mockedDaoUtils.verify(() -> DaoUtils.executeSearchQuery(any(), any(DaoUtils.QueryTemplate.class),
+                    argThat(params -> !params.containsKey("keyword")
+                            && ((List<Integer>) params.get("id")).containsAll(List.of(1, 2))),
+                    any()));
+        }
+    }
+
+    @Test
+    void testSearchByKeywordWithoutMatchesSkipsQuery() throws Exception {
+        // Given
+        stubKeywordIndexRows();
+
+        try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            // When
+            List<Location> result = dao.search(Map.of("keyword", "Париж"));
+
+            // Then
+            assertTrue(result.isEmpty());
+            mockedDaoUtils.verifyNoInteractions();
+        }
+    }
+
+    // count locations that all match "карпати", ids 1..count.
+    private void stubKeywordIndexRows(int count) throws SQLException {
+        AtomicInteger row = new AtomicInteger();
+        when(connection.prepareStatement("SELECT id, name, description, country FROM locations")).thenReturn(indexStatement);
+        when(indexStatement.executeQuery()).thenReturn(indexResultSet);
+        when(indexResultSet.getMetaData()).thenReturn(indexMetaData);
+        when(indexMetaData.getColumnCount()).thenReturn(4);
+        when(indexResultSet.next()).thenAnswer(invocation -> row.incrementAndGet() <= count);
+        when(indexResultSet.getInt(1)).thenAnswer(invocation -> row.get());
+        when(indexResultSet.getString(2)).thenReturn("Карпати");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchByKeywordPadsMatchedIdsToPowerOfTwo() throws Exception {
+        // Given
+        stubKeywordIndexRows(3);
+
+        try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
+            )).thenReturn(List.of());
+
+            // When
+            dao.search(Map.of("keyword", "карпати"));
+
+            // Then
+            mockedDaoUtils.verify(() -> DaoUtils.executeSearchQuery(any(), any(DaoUtils.QueryTemplate.class),
+                    argThat(params -> ((List<Integer>) params.get("id")).size() == 4
+                            && new HashSet<>((List<Integer>) params.get("id")).equals(Set.of(1, 2, 3))),
+                    any()));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchPageByKeywordPagesEveryMatch() throws Exception {
+        // Given
+        stubKeywordIndexRows(AbstractGenericDao.MAX_KEYWORD_MATCHES + 500);
+        PageRequest request = PageRequest.first(20);
+
+        try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            mockedDaoUtils.when(() -> DaoUtils.executePageQuery(
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any(), any()
+            )).thenReturn(new Page<>(List.of(), null));
+
+            // When
+            dao.searchPage(Map.of("keyword", "карпати"), request);
+
+            // Then
+            mockedDaoUtils.verify(() -> DaoUtils.executePageQuery(any(), any(DaoUtils.QueryTemplate.class),
+                    argThat(params -> ((List<Integer>) params.get("id")).size() == 2048
+                            && new HashSet<>((List<Integer>) params.get("id")).size() == AbstractGenericDao.MAX_KEYWORD_MATCHES + 500),
+                    eq(request), any()));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testSearchByKeywordRanksOnlyBestMatches() throws Exception {
+        // Given
+        stubKeywordIndexRows(AbstractGenericDao.MAX_KEYWORD_MATCHES + 500);
+
+        try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
+            )).thenReturn(List.of());
+
+            // When
+            dao.search(Map.of("keyword", "карпати"));
+
+            // Then
+            mockedDaoUtils.verify(() -> DaoUtils.executeSearchQuery(any(), any(DaoUtils.QueryTemplate.class),
+                    argThat(params -> new HashSet<>((List<Integer>) params.get("id")).size()
+                            == AbstractGenericDao.MAX_KEYWORD_MATCHES),
+                    any()));
+        }
+    }
+
+    @Test
+    void testKeywordIndexFollowsUpdatesAndDeletes() throws Exception {
+        // Given
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+        stubKeywordIndexRows();
+
+        try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
+            )).thenReturn(List.of(testLocation));
+            dao.search(Map.of("keyword", "карпати"));
+
+            // When
+            testLocation.setDescription("Гірськолижний курорт");
+            dao.update(testLocation);
+            List<Location> afterUpdate = dao.search(Map.of("keyword", "гірськолижний"));
+            dao.delete(1);
+            List<Location> afterDelete = dao.search(Map.of("keyword", "гірськолижний"));
+
+            // Then
+            assertEquals(1, afterUpdate.size());
+            assertTrue(afterDelete.isEmpty());
+            verify(indexStatement, times(1)).executeQuery();
+        }
+    }
+
+    @Test
+    void testFindDistinctValues() throws Exception {
+        // Given
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString("value")).thenReturn("Італія", "Україна");
+        when(resultSet.getInt("value_count")).thenReturn(2, 5);
+
+        // When
+        List<FacetValue> result = dao.findDistinctValues("country");
+
+        // Then
+        assertEquals(List.of(new FacetValue("Італія", 2), new FacetValue("Україна", 5)), result);
+        verify(connection).prepareStatement("SELECT l.country AS value, COUNT(*) AS value_count FROM locations l " +
+                "WHERE l.country IS NOT NULL GROUP BY l.country ORDER BY l.country");
+    }
+
+    @Test
+    void testFindDistinctValuesRejectsJoinedColumns() {
+        assertThrows(IllegalArgumentException.class, () -> dao.findDistinctValues("locationType"));
+        assertThrows(IllegalArgumentException.class, () -> dao.findDistinctValues("unknown"));
+    }
+
     @Test
     void testDelete() throws Exception {
         // Given
@@ -8,6 +8,8 @@ import tourapp.model.meal.Meal;
 import tourapp.model.meal.MealType;
 import tourapp.util.ConnectionFactory;
 import tourapp.util.DaoUtils;
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
 
 import java.sql.*;
 import java.util.List;
@@ -83,15 +85,18 @@ class MealDaoTest {
     void testFindById() throws Exception {
         // Given
         Meal baseMeal = new Meal(1, "Standard Breakfast", 1, 25.0);
-        List<MealType> mealTypes = List.of(testMealType);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getInt("meal_id")).thenReturn(1);
+        when(resultSet.getInt("id")).thenReturn(1);
+        when(resultSet.getString("name")).thenReturn("Breakfast");
 
         try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(List.of(baseMeal));
 
-            when(mealTypeLinkDao.findById1(1)).thenReturn(mealTypes);
-
             // When
             Meal result = dao.findById(1);
 
@@ -103,7 +108,8 @@ class MealDaoTest {
             assertNotNull(result.getMealTypes());
             assertEquals(1, result.getMealTypes().size());
             assertEquals("Breakfast", result.getMealTypes().getFirst().getName());
-            verify(mealTypeLinkDao).findById1(1);
+            verify(preparedStatement).setInt(1, 1);
+            verify(mealTypeLinkDao, never()).findById1(anyInt());
         }
     }
 
@@ -112,7 +118,7 @@ class MealDaoTest {
         // Given
         try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(List.of());
 
             // When
@@ -120,7 +126,7 @@ class MealDaoTest {
 
             // Then
             assertNull(result);
-            verify(mealTypeLinkDao, never()).findById1(anyInt());
+            verify(connection, never()).prepareStatement(anyString());
         }
     }
 
@@ -129,37 +135,80 @@ class MealDaoTest {
         // Given
         Meal meal1 = new Meal(1, "Standard Breakfast", 1, 25.0);
         Meal meal2 = new Meal(2, "Deluxe Dinner", 1, 45.0);
-        List<Meal> baseMeals = List.of(meal1, meal2);
-        List<MealType> mealTypes1 = List.of(testMealType);
-        List<MealType> mealTypes2 = List.of(new MealType(2, "Dinner"));
+        Meal meal3 = new Meal(3, "No Types", 1, 10.0);
+        List<Meal> baseMeals = List.of(meal1, meal2, meal3);
+
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getInt("meal_id")).thenReturn(1, 2, 2);
+        when(resultSet.getInt("id")).thenReturn(1, 2, 1);
+        when(resultSet.getString("name")).thenReturn("Breakfast", "Dinner", "Breakfast");
 
         try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(baseMeals);
 
-            when(mealTypeLinkDao.findById1(1)).thenReturn(mealTypes1);
-            when(mealTypeLinkDao.findById1(2)).thenReturn(mealTypes2);
-
             // When
             List<Meal> result = dao.findAll();
 
             // Then
             assertNotNull(result);
-            assertEquals(2, result.size());
+            assertEquals(3, result.size());
+            assertEquals(List.of("Breakfast"), result.get(0).getMealTypes().stream().map(MealType::getName).toList());
+            assertEquals(List.of("Dinner", "Breakfast"), result.get(1).getMealTypes().stream().map(MealType::getName).toList());
+            assertTrue(result.get(2).getMealTypes().isEmpty());
+
+            // One query for the types of every meal in the list.
+            verify(connection, times(1)).prepareStatement(contains("WHERE mmt.meal_id IN (?,?,?)"));
+            verify(mealTypeLinkDao, never()).findById1(anyInt());
+        }
+    }
+
+    @Test
+    void testSearchAttachesMealTypes() throws Exception {
+        // Given
+        Meal meal = new Meal(1, "Standard Breakfast", 1, 25.0);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getInt("meal_id")).thenReturn(1);
+        when(resultSet.getInt("id")).thenReturn(1);
+        when(resultSet.getString("name")).thenReturn("Breakfast");
+
+        try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
+            )).thenReturn(List.of(meal));
+
+            // When
+            List<Meal> result = dao.search(Map.of("name", "Standard"));
 
-            Meal resultMeal1 = result.getFirst();
-            assertEquals("Standard Breakfast", resultMeal1.getName());
-            assertNotNull(resultMeal1.getMealTypes());
-            assertEquals(1, resultMeal1.getMealTypes().size());
+            // Then
+            assertEquals("Breakfast", result.getFirst().getMealTypes().getFirst().getName());
+        }
+    }
 
-            Meal resultMeal2 = result.get(1);
-            assertEquals("Deluxe Dinner", resultMeal2.getName());
-            assertNotNull(resultMeal2.getMealTypes());
-            assertEquals(1, resultMeal2.getMealTypes().size());
+    @Test
+    void testSearchPageAttachesMealTypes() throws Exception {
+        // Given
+        Meal meal = new Meal(1, "Standard Breakfast", 1, 25.0);
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(false);
 
-            verify(mealTypeLinkDao).findById1(1);
-            verify(mealTypeLinkDao).findById1(2);
+        try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            mockedDaoUtils.when(() -> DaoUtils.executePageQuery(
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any(), any()
+            )).thenReturn(new Page<>(List.of(meal), null));
+
+            // When
+            Page<Meal> result = dao.searchPage(Map.of(), PageRequest.first(50));
+
+            // Then
+            assertNotNull(result.items().getFirst().getMealTypes());
+            assertTrue(result.items().getFirst().getMealTypes().isEmpty());
         }
     }
 
@@ -172,7 +221,7 @@ class MealDaoTest {
         when(preparedStatement.getGeneratedKeys()).thenReturn(resultSet);
         when(resultSet.next()).thenReturn(true);
         when(resultSet.getInt(1)).thenReturn(2);
-        when(mealTypeLinkDao.create(anyInt(), anyInt())).thenReturn(true);
+        when(mealTypeLinkDao.createAll(anyInt(), anyCollection())).thenReturn(true);
 
         Meal newMeal = new Meal();
         newMeal.setName("New Meal");
@@ -192,7 +241,7 @@ class MealDaoTest {
         verify(preparedStatement).setInt(2, 2);
         verify(preparedStatement).setDouble(3, 30.0);
         verify(preparedStatement).executeUpdate();
-        verify(mealTypeLinkDao).create(2, 1);
+        verify(mealTypeLinkDao).createAll(2, List.of(1));
     }
 
     @Test
@@ -217,8 +266,7 @@ class MealDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeUpdate()).thenReturn(1);
-        when(mealTypeLinkDao.deleteAllById1(anyInt())).thenReturn(true);
-        when(mealTypeLinkDao.create(anyInt(), anyInt())).thenReturn(true);
+        when(mealTypeLinkDao.syncLinks(anyInt(), anyCollection())).thenReturn(true);
 
         // When
         boolean result = dao.update(testMeal);
@@ -230,8 +278,8 @@ class MealDaoTest {
         verify(preparedStatement).setDouble(3, 25.0);
         verify(preparedStatement).setInt(4, 1);
         verify(preparedStatement).executeUpdate();
-        verify(mealTypeLinkDao).deleteAllById1(1);
-        verify(mealTypeLinkDao).create(1, 1);
+        verify(mealTypeLinkDao).syncLinks(1, List.of(1));
+        verify(mealTypeLinkDao, never()).deleteAllById1(anyInt());
     }
 
     @Test
@@ -239,8 +287,7 @@ class MealDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeUpdate()).thenReturn(1);
-        when(mealTypeLinkDao.deleteAllById1(anyInt())).thenReturn(true);
-        when(mealTypeLinkDao.create(anyInt(), anyInt())).thenReturn(true);
+        when(mealTypeLinkDao.syncLinks(anyInt(), anyCollection())).thenReturn(true);
 
         List<MealType> mealTypes = new ArrayList<>();
         mealTypes.add(new MealType(1, "Breakfast"));
@@ -252,9 +299,7 @@ class MealDaoTest {
 
         // Then
         assertTrue(result);
-        verify(mealTypeLinkDao).deleteAllById1(1);
-        verify(mealTypeLinkDao).create(1, 1);
-        verify(mealTypeLinkDao).create(1, 2);
+        verify(mealTypeLinkDao).syncLinks(1, List.of(1, 2));
     }
 
     @Test
@@ -262,14 +307,13 @@ class MealDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeUpdate()).thenReturn(0);
-        when(mealTypeLinkDao.deleteAllById1(anyInt())).thenReturn(true);
-        when(mealTypeLinkDao.create(anyInt(), anyInt())).thenReturn(true);
 
         // When
         boolean result = dao.update(testMeal);
 
         // Then
         assertFalse(result);
+        verify(mealTypeLinkDao, never()).syncLinks(anyInt(), anyCollection());
     }
 
     @Test
@@ -341,6 +385,7 @@ class MealDaoTest {
         assertEquals("m.meals_per_day", columnMappings.get("mealsPerDay"));
         assertEquals("m.cost_per_day", columnMappings.get("minCostPerDay"));
         assertEquals("m.cost_per_day", columnMappings.get("maxCostPerDay"));
+        assertEquals("m.cost_per_day", columnMappings.get("costPerDay"));
         assertEquals("mt.name", columnMappings.get("mealType"));
     }
 }
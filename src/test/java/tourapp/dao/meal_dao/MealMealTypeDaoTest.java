@@ -220,15 +220,16 @@ class MealMealTypeDaoTest {
         when(resultSet.getInt("meal_id")).thenReturn(1, 2);
         when(resultSet.getInt("meal_type_id")).thenReturn(1, 2);
 
-        // Mock the nested connection for mapWithAdditionalData
+        // Mock the single name lookup for all meal types
         Connection nestedConnection = mock(Connection.class);
         PreparedStatement nestedStmt = mock(PreparedStatement.class);
         ResultSet nestedRs = mock(ResultSet.class);
 
-        when(connectionFactory.getConnection()).thenReturn(connection, nestedConnection, nestedConnection);
+        when(connectionFactory.getConnection()).thenReturn(connection, nestedConnection);
         when(nestedConnection.prepareStatement(anyString())).thenReturn(nestedStmt);
         when(nestedStmt.executeQuery()).thenReturn(nestedRs);
-        when(nestedRs.next()).thenReturn(true, true);
+        when(nestedRs.next()).thenReturn(true, true, false);
+        when(nestedRs.getInt("id")).thenReturn(1, 2);
         when(nestedRs.getString("name")).thenReturn("Breakfast", "Lunch");
 
         // When
@@ -239,6 +240,7 @@ class MealMealTypeDaoTest {
         assertEquals(2, result.size());
         assertEquals("Breakfast", result.get(0).getName());
         assertEquals("Lunch", result.get(1).getName());
+        verify(nestedConnection).prepareStatement("SELECT id, name FROM meal_types WHERE id IN (?,?)");
     }
 
     @Test
@@ -246,38 +248,36 @@ class MealMealTypeDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true, true, false);
-        when(resultSet.getInt("meal_type_id")).thenReturn(1, 2);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getInt("meal_type_id")).thenReturn(1, 2, 1);
 
-        // Mock the nested connection for mapWithAdditionalData
-        Connection nestedConnection1 = mock(Connection.class);
-        Connection nestedConnection2 = mock(Connection.class);
-        PreparedStatement nestedStmt1 = mock(PreparedStatement.class);
-        PreparedStatement nestedStmt2 = mock(PreparedStatement.class);
-        ResultSet nestedRs1 = mock(ResultSet.class);
-        ResultSet nestedRs2 = mock(ResultSet.class);
-
-        when(connectionFactory.getConnection()).thenReturn(connection, nestedConnection1, nestedConnection2);
-        when(nestedConnection1.prepareStatement(anyString())).thenReturn(nestedStmt1);
-        when(nestedConnection2.prepareStatement(anyString())).thenReturn(nestedStmt2);
-        when(nestedStmt1.executeQuery()).thenReturn(nestedRs1);
-        when(nestedStmt2.executeQuery()).thenReturn(nestedRs2);
-        when(nestedRs1.next()).thenReturn(true);
-        when(nestedRs2.next()).thenReturn(true);
-        when(nestedRs1.getString("name")).thenReturn("Breakfast");
-        when(nestedRs2.getString("name")).thenReturn("Lunch");
+        // Mock the single name lookup for all meal types
+        Connection nestedConnection = mock(Connection.class);
+        PreparedStatement nestedStmt = mock(PreparedStatement.class);
+        ResultSet nestedRs = mock(ResultSet.class);
+
+        when(connectionFactory.getConnection()).thenReturn(connection, nestedConnection);
+        when(nestedConnection.prepareStatement(anyString())).thenReturn(nestedStmt);
+        when(nestedStmt.executeQuery()).thenReturn(nestedRs);
+        when(nestedRs.next()).thenReturn(true, true, false);
+        when(nestedRs.getInt("id")).thenReturn(2, 1);
+        when(nestedRs.getString("name")).thenReturn("Lunch", "Breakfast");
 
         // When
         List<MealType> result = dao.findById1(1);
 
         // Then
         assertNotNull(result);
-        assertEquals(2, result.size());
+        assertEquals(3, result.size());
         assertEquals(1, result.get(0).getId());
         assertEquals("Breakfast", result.get(0).getName());
         assertEquals(2, result.get(1).getId());
         assertEquals("Lunch", result.get(1).getName());
+        assertEquals("Breakfast", result.get(2).getName());
         verify(preparedStatement).setInt(1, 1);
+        verify(nestedStmt).setInt(1, 1);
+        verify(nestedStmt).setInt(2, 2);
+        verify(connectionFactory, times(2)).getConnection();
     }
 
     @Test
@@ -303,7 +303,7 @@ class MealMealTypeDaoTest {
         when(resultSet.next()).thenReturn(true, false);
         when(resultSet.getInt("meal_id")).thenReturn(1);
 
-        // Mock the nested connection for mapWithAdditionalData
+        // Mock the single name lookup for all meal types
         Connection nestedConnection = mock(Connection.class);
         PreparedStatement nestedStmt = mock(PreparedStatement.class);
         ResultSet nestedRs = mock(ResultSet.class);
@@ -311,7 +311,8 @@ class MealMealTypeDaoTest {
         when(connectionFactory.getConnection()).thenReturn(connection, nestedConnection);
         when(nestedConnection.prepareStatement(anyString())).thenReturn(nestedStmt);
         when(nestedStmt.executeQuery()).thenReturn(nestedRs);
-        when(nestedRs.next()).thenReturn(true);
+        when(nestedRs.next()).thenReturn(true, false);
+        when(nestedRs.getInt("id")).thenReturn(1);
         when(nestedRs.getString("name")).thenReturn("Breakfast");
 
         // When
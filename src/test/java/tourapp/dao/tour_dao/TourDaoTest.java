@@ -6,8 +6,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
-import tourapp.dao.meal_dao.MealDao;
-import tourapp.dao.transport_dao.TransportDao;
 import tourapp.model.location.Location;
 import tourapp.model.meal.Meal;
 import tourapp.model.meal.MealType;
@@ -18,6 +16,7 @@ import tourapp.model.transport.Transport;
 import tourapp.model.transport.TransportType;
 import tourapp.util.ConnectionFactory;
 import tourapp.util.DaoUtils;
+import tourapp.util.FacetValue;
 
 import java.sql.*;
 import java.sql.Date;
@@ -35,9 +34,6 @@ class TourDaoTest {
     @Mock private Connection connection;
     @Mock private PreparedStatement preparedStatement;
     @Mock private ResultSet resultSet;
-    @Mock private MealDao mealDao;
-    @Mock private TransportDao transportDao;
-    @Mock private TourTypeDao tourTypeDao;
     @Mock private TourLocationDao tourLocationDao;
 
     private TourDao tourDao;
@@ -51,7 +47,7 @@ class TourDaoTest {
     void setUp() throws SQLException {
         lenient().when(connectionFactory.getConnection()).thenReturn(connection);
 
-        tourDao = new TourDao(connectionFactory, mealDao, transportDao, tourTypeDao, tourLocationDao);
+        tourDao = new TourDao(connectionFactory, tourLocationDao);
 
         // Setup test data
         setupTestData();
@@ -148,6 +144,7 @@ class TourDaoTest {
         assertEquals("t.end_date", columnMappings.get("endDate"));
         assertEquals("t.price", columnMappings.get("minPrice"));
         assertEquals("t.price", columnMappings.get("maxPrice"));
+        assertEquals("t.price", columnMappings.get("price"));
         assertEquals("t.is_active", columnMappings.get("is_active"));
         assertEquals("l.country", columnMappings.get("country"));
         assertEquals("tt.name", columnMappings.get("tour_type"));
@@ -199,8 +196,8 @@ class TourDaoTest {
         verify(preparedStatement).setBoolean(8, true);
         verify(preparedStatement).executeUpdate();
 
-        verify(tourLocationDao).deleteAllById1(1);
-        verify(tourLocationDao).create(1, 1);
+        verify(tourLocationDao, never()).deleteAllById1(anyInt());
+        verify(tourLocationDao).createAll(1, List.of(1));
     }
 
     @Test
@@ -230,8 +227,7 @@ class TourDaoTest {
         // Then
         assertTrue(result);
         assertEquals(2, newTour.getId());
-        verify(tourLocationDao).deleteAllById1(2);
-        verify(tourLocationDao, never()).create(anyInt(), anyInt());
+        verify(tourLocationDao, never()).createAll(anyInt(), anyCollection());
     }
 
     @Test
@@ -259,8 +255,8 @@ class TourDaoTest {
         verify(preparedStatement).setInt(9, 1);
         verify(preparedStatement).executeUpdate();
 
-        verify(tourLocationDao).deleteAllById1(1);
-        verify(tourLocationDao).create(1, 1);
+        verify(tourLocationDao).syncLinks(1, List.of(1));
+        verify(tourLocationDao, never()).deleteAllById1(anyInt());
     }
 
     @Test
@@ -296,8 +292,7 @@ class TourDaoTest {
         verify(preparedStatement).setBoolean(8, true);
         verify(preparedStatement).setInt(9, 1);
 
-        verify(tourLocationDao).deleteAllById1(1);
-        verify(tourLocationDao, never()).create(anyInt(), anyInt());
+        verify(tourLocationDao).syncLinks(1, List.of());
     }
 
     @Test
@@ -311,6 +306,7 @@ class TourDaoTest {
 
         // Then
         assertFalse(result);
+        verify(tourLocationDao, never()).syncLinks(anyInt(), anyCollection());
     }
 
     @Test
@@ -353,18 +349,44 @@ class TourDaoTest {
     @Test
     void testFindByIdWithDependencies_Success() throws SQLException {
         // Given
-        setupFindByIdMocks();
-
-        // Мокуємо залежні DAO
-        when(tourTypeDao.findById(1)).thenReturn(testTourType);
-        when(transportDao.findById(1)).thenReturn(testTransport);
-        when(mealDao.findById(1)).thenReturn(testMeal);
-
-        TourLocation tourLocation = new TourLocation();
-        tourLocation.setTourId(1);
-        tourLocation.setLocationId(1);
-        tourLocation.setLocation(testLocation);
-        when(tourLocationDao.findById1(1)).thenReturn(List.of(tourLocation));
+        PreparedStatement graphStmt = mock(PreparedStatement.class);
+        PreparedStatement mealTypesStmt = mock(PreparedStatement.class);
+        ResultSet mealTypesRs = mock(ResultSet.class);
+        when(connection.prepareStatement(contains("FROM tours t"))).thenReturn(graphStmt);
+        when(connection.prepareStatement(contains("FROM meal_meal_types"))).thenReturn(mealTypesStmt);
+        when(graphStmt.executeQuery()).thenReturn(resultSet);
+        when(mealTypesStmt.executeQuery()).thenReturn(mealTypesRs);
+
+        // Два рядки: тур з двома локаціями
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.wasNull()).thenReturn(false);
+        when(resultSet.getInt("id")).thenReturn(1);
+        when(resultSet.getString("description")).thenReturn("Paris Cultural Tour");
+        when(resultSet.getDate("start_date")).thenReturn(Date.valueOf("2025-06-15"));
+        when(resultSet.getDate("end_date")).thenReturn(Date.valueOf("2025-07-15"));
+        when(resultSet.getDouble("price")).thenReturn(1200.0);
+        when(resultSet.getBoolean("is_active")).thenReturn(true);
+        when(resultSet.getInt("type_id")).thenReturn(1);
+        when(resultSet.getInt("transport_id")).thenReturn(1);
+        when(resultSet.getInt("meal_id")).thenReturn(1);
+        when(resultSet.getString("tour_type_name")).thenReturn("Cultural");
+        when(resultSet.getString("transport_name")).thenReturn("Express Bus");
+        when(resultSet.getDouble("transport_price")).thenReturn(50.0);
+        when(resultSet.getInt("transport_type_id")).thenReturn(1);
+        when(resultSet.getString("transport_type_name")).thenReturn("Bus");
+        when(resultSet.getString("meal_name")).thenReturn("Full Board");
+        when(resultSet.getInt("meal_meals_per_day")).thenReturn(3);
+        when(resultSet.getDouble("meal_cost_per_day")).thenReturn(45.0);
+        when(resultSet.getInt("location_id")).thenReturn(1, 2);
+        when(resultSet.getString("location_name")).thenReturn("Paris", "Nice");
+        when(resultSet.getString("location_country")).thenReturn("France", "France");
+        when(resultSet.getString("location_description")).thenReturn("City of Light", "Riviera");
+        when(resultSet.getInt("location_type_id")).thenReturn(3, 3);
+        when(resultSet.getString("location_type_name")).thenReturn("City", "City");
+
+        when(mealTypesRs.next()).thenReturn(true, true, false);
+        when(mealTypesRs.getInt("id")).thenReturn(1, 2);
+        when(mealTypesRs.getString("name")).thenReturn("Breakfast", "Lunch");
 
         // When
         Tour result = tourDao.findByIdWithDependencies(1);
@@ -375,21 +397,48 @@ class TourDaoTest {
         assertEquals("Paris Cultural Tour", result.getDescription());
 
         // Перевіряємо заповнені залежності
-        assertNotNull(result.getType());
         assertEquals("Cultural", result.getType().getName());
-        assertNotNull(result.getTransport());
         assertEquals("Express Bus", result.getTransport().getName());
-        assertNotNull(result.getMeal());
+        assertEquals("Bus", result.getTransport().getType().getName());
+        assertEquals("Full Board", result.getMeal().getName());
+        assertEquals(List.of("Breakfast", "Lunch"), result.getMeal().getMealTypes().stream().map(MealType::getName).toList());
+        assertEquals(2, result.getLocations().size());
+        assertEquals("Paris", result.getLocations().get(0).getName());
+        assertEquals("Nice", result.getLocations().get(1).getName());
+        assertEquals("City", result.getLocations().get(1).getLocationType().getName());
+
+        // Один запит на граф туру і один на типи харчування, без звернень до інших DAO
+        verify(graphStmt).setInt(1, 1);
+        verify(mealTypesStmt).setInt(1, 1);
+        verify(connectionFactory, times(1)).getConnection();
+        verifyNoInteractions(tourLocationDao);
+    }
+
+    @Test
+    void testFindById_DetailsPlanSkipsMealTypes() throws SQLException {
+        // Given
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        lenient().when(resultSet.getInt(anyString())).thenReturn(0);
+        when(resultSet.getInt("id")).thenReturn(1);
+        when(resultSet.getInt("meal_id")).thenReturn(1);
+        // Type and transport are null, the meal is set, the tour has no locations.
+        when(resultSet.wasNull()).thenReturn(true, true, false, true);
+        lenient().when(resultSet.getString(anyString())).thenReturn(null);
+        when(resultSet.getString("meal_name")).thenReturn("Full Board");
+
+        // When
+        Tour result = tourDao.findById(1, TourFetchPlan.DETAILS);
+
+        // Then
+        assertNotNull(result);
+        assertNull(result.getType());
+        assertNull(result.getTransport());
         assertEquals("Full Board", result.getMeal().getName());
-        assertNotNull(result.getLocations());
-        assertEquals(1, result.getLocations().size());
-        assertEquals("Paris", result.getLocations().getFirst().getName());
-
-        // Перевіряємо виклики DAO
-        verify(tourTypeDao).findById(1);
-        verify(transportDao).findById(1);
-        verify(mealDao).findById(1);
-        verify(tourLocationDao).findById1(1);
+        assertTrue(result.getLocations().isEmpty());
+        verify(connection, times(1)).prepareStatement(contains("tour_locations"));
+        verify(connection, never()).prepareStatement(contains("meal_meal_types"));
     }
 
     @Test
@@ -439,7 +488,7 @@ class TourDaoTest {
         // Given
         try (MockedStatic<DaoUtils> mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(List.of(testTour));
 
             // When
@@ -459,7 +508,7 @@ class TourDaoTest {
 
         try (MockedStatic<DaoUtils> mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(List.of(testTour));
 
             // When
@@ -472,6 +521,63 @@ class TourDaoTest {
         }
     }
 
+    @Test
+    void testSearch_ByKeywordUsesDescriptionIndex(@Mock ResultSetMetaData metaData) throws SQLException {
+        // Given
+        when(connection.prepareStatement("SELECT id, description FROM tours")).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(2);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt(1)).thenReturn(1, 2);
+        when(resultSet.getString(2)).thenReturn("Paris Cultural Tour", "Екскурсія Києвом");
+        testTour.setId(2);
+
+        try (MockedStatic<DaoUtils> mockedDaoUtils = mockStatic(DaoUtils.class)) {
+            mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
+            )).thenReturn(List.of(testTour));
+
+            // When
+            List<Tour> results = tourDao.search(Map.of("keyword", "києв"));
+
+            // Then
+            assertEquals(List.of(testTour), results);
+            mockedDaoUtils.verify(() -> DaoUtils.executeSearchQuery(any(), any(DaoUtils.QueryTemplate.class),
+                    eq(Map.of("id", List.of(2))), any()));
+        }
+    }
+
+    @Test
+    void testCountFacets_OneQueryForAllFacets() throws SQLException {
+        // Given
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        // Tour 1 in Ukraine by bus with two meal types, tour 2 in Italy by plane
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        when(resultSet.getInt("tour_id")).thenReturn(1, 1, 2);
+        when(resultSet.getString("country")).thenReturn("Україна", "Україна", "Італія");
+        when(resultSet.getString("tour_type")).thenReturn("Відпочинок", "Відпочинок", "Екскурсія");
+        when(resultSet.getString("meal_types")).thenReturn("Сніданок", "Вечеря", "Сніданок");
+        when(resultSet.getString("transport_type")).thenReturn("Автобус", "Автобус", "Літак");
+
+        Map<String, Object> filters = new HashMap<>();
+        filters.put("country", "Україна");
+        filters.put("minPrice", 100.0);
+
+        // When
+        Map<String, List<FacetValue>> counts = tourDao.countFacets(filters);
+
+        // Then
+        assertEquals(List.of(new FacetValue("Італія", 1), new FacetValue("Україна", 1)), counts.get("country"));
+        assertEquals(List.of(new FacetValue("Відпочинок", 1), new FacetValue("Екскурсія", 0)), counts.get("tour_type"));
+        assertEquals(List.of(new FacetValue("Вечеря", 1), new FacetValue("Сніданок", 1)), counts.get("meal_types"));
+        assertEquals(List.of(new FacetValue("Автобус", 1), new FacetValue("Літак", 0)), counts.get("transport_type"));
+        verify(connection).prepareStatement(argThat(sql -> sql.endsWith("WHERE 1=1 AND t.price >= ?")));
+        verify(preparedStatement).setDouble(1, 100.0);
+        verify(preparedStatement, times(1)).executeQuery();
+    }
+
     @Test
     void testSaveTourLocations_WithLocations() throws SQLException {
         // Given
@@ -487,9 +593,7 @@ class TourDaoTest {
         tourDao.update(testTour);
 
         // Then
-        verify(tourLocationDao).deleteAllById1(1);
-        verify(tourLocationDao).create(1, 1);
-        verify(tourLocationDao).create(1, 2);
+        verify(tourLocationDao).syncLinks(1, List.of(1, 2));
     }
 
     @Test
@@ -503,8 +607,7 @@ class TourDaoTest {
         tourDao.update(testTour);
 
         // Then
-        verify(tourLocationDao).deleteAllById1(1);
-        verify(tourLocationDao, never()).create(anyInt(), anyInt());
+        verify(tourLocationDao).syncLinks(1, List.of());
     }
 
     @Test
@@ -526,9 +629,9 @@ class TourDaoTest {
 
         try (MockedStatic<DaoUtils> mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenAnswer(invocation -> {
-                DaoUtils.ResultSetMapper<Tour> mapper = invocation.getArgument(6);
+                DaoUtils.ResultSetMapper<Tour> mapper = invocation.getArgument(3);
                 return List.of(mapper.map(resultSet));
             });
 
@@ -569,9 +672,9 @@ class TourDaoTest {
 
         try (MockedStatic<DaoUtils> mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenAnswer(invocation -> {
-                DaoUtils.ResultSetMapper<Tour> mapper = invocation.getArgument(6);
+                DaoUtils.ResultSetMapper<Tour> mapper = invocation.getArgument(3);
                 return List.of(mapper.map(resultSet));
             });
 
@@ -619,7 +722,7 @@ class TourDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         lenient().when(preparedStatement.executeUpdate()).thenReturn(1);
-        doThrow(new SQLException("Location save error")).when(tourLocationDao).deleteAllById1(anyInt());
+        doThrow(new SQLException("Location save error")).when(tourLocationDao).syncLinks(anyInt(), anyCollection());
 
         // When & Then
         assertThrows(SQLException.class, () -> tourDao.update(testTour));
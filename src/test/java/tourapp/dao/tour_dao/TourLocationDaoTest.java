@@ -15,9 +15,12 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -202,9 +205,8 @@ class TourLocationDaoTest {
         when(statement.executeQuery(anyString())).thenReturn(resultSet);
         when(resultSet.next()).thenReturn(true, true, false);
         when(resultSet.getInt("tour_id")).thenReturn(1, 2);
-        when(resultSet.getInt("location_id")).thenReturn(1, 2);
-        when(locationDao.findById(1)).thenReturn(testLocation);
-        when(locationDao.findById(2)).thenReturn(testLocation);
+        when(resultSet.getInt("location_id")).thenReturn(1, 1);
+        when(locationDao.findByIds(Set.of(1))).thenReturn(List.of(testLocation));
 
         // When
         List<TourLocation> result = dao.findAllLinks();
@@ -214,6 +216,8 @@ class TourLocationDaoTest {
         assertEquals(2, result.size());
         assertEquals(1, result.get(0).getTourId());
         assertEquals(2, result.get(1).getTourId());
+        assertSame(testLocation, result.get(1).getLocation());
+        verify(locationDao, never()).findById(anyInt());
     }
 
     @Test
@@ -223,8 +227,7 @@ class TourLocationDaoTest {
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
         when(resultSet.next()).thenReturn(true, true, false);
         when(resultSet.getInt("location_id")).thenReturn(1, 2);
-        when(locationDao.findById(1)).thenReturn(testLocation);
-        when(locationDao.findById(2)).thenReturn(testLocation);
+        when(locationDao.findByIds(Set.of(1, 2))).thenReturn(List.of(testLocation));
 
         // When
         List<TourLocation> result = dao.findById1(1);
@@ -233,8 +236,11 @@ class TourLocationDaoTest {
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(1, result.get(0).getTourId());
-        assertEquals(1, result.get(1).getTourId());
+        assertEquals("Paris", result.get(0).getLocation().getName());
+        assertEquals(2, result.get(1).getLocationId());
+        assertNull(result.get(1).getLocation());
         verify(preparedStatement).setInt(1, 1);
+        verify(locationDao).findByIds(Set.of(1, 2));
     }
 
     @Test
@@ -244,7 +250,7 @@ class TourLocationDaoTest {
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
         when(resultSet.next()).thenReturn(true, false);
         when(resultSet.getInt("tour_id")).thenReturn(1);
-        when(locationDao.findById(1)).thenReturn(testLocation);
+        when(locationDao.findByIds(Set.of(1))).thenReturn(List.of(testLocation));
 
         // When
         List<TourLocation> result = dao.findById2(1);
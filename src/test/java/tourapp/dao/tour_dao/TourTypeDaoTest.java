@@ -159,7 +159,7 @@ class TourTypeDaoTest {
 
         try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(List.of(expectedType));
 
             // When
@@ -180,7 +180,7 @@ class TourTypeDaoTest {
 
         try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(List.of(type1, type2));
 
             // When
@@ -201,7 +201,7 @@ class TourTypeDaoTest {
 
         try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(List.of(expectedType));
 
             // When
@@ -219,7 +219,7 @@ class TourTypeDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
+        when(resultSet.next()).thenReturn(true, false);
         when(resultSet.getInt("id")).thenReturn(1);
         when(resultSet.getString("name")).thenReturn("Cruise");
 
@@ -230,7 +230,6 @@ class TourTypeDaoTest {
         assertNotNull(result);
         assertEquals(1, result.getId());
         assertEquals("Cruise", result.getName());
-        verify(preparedStatement).setString(1, "Cruise");
     }
 
     @Test
@@ -252,15 +251,15 @@ class TourTypeDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
-        when(resultSet.getInt(1)).thenReturn(1);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getInt("id")).thenReturn(1);
+        when(resultSet.getString("name")).thenReturn("Cruise");
 
         // When
         boolean result = dao.existsWithName("Cruise");
 
         // Then
         assertTrue(result);
-        verify(preparedStatement).setString(1, "Cruise");
     }
 
     @Test
@@ -268,8 +267,7 @@ class TourTypeDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
-        when(resultSet.getInt(1)).thenReturn(0);
+        when(resultSet.next()).thenReturn(false);
 
         // When
         boolean result = dao.existsWithName("NonExistent");
@@ -314,7 +312,7 @@ class TourTypeDaoTest {
 
         try (var mockedDaoUtils = mockStatic(DaoUtils.class)) {
             mockedDaoUtils.when(() -> DaoUtils.executeSearchQuery(
-                    any(), anyString(), anyString(), any(), any(), any(), any()
+                    any(), any(DaoUtils.QueryTemplate.class), any(), any()
             )).thenReturn(List.of(expectedType));
 
             // When
@@ -155,7 +155,7 @@ class TransportTypeDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
+        when(resultSet.next()).thenReturn(true, false);
         when(resultSet.getInt("id")).thenReturn(1);
         when(resultSet.getString("name")).thenReturn("Train");
 
@@ -166,7 +166,6 @@ class TransportTypeDaoTest {
         assertNotNull(result);
         assertEquals(1, result.getId());
         assertEquals("Train", result.getName());
-        verify(preparedStatement).setString(1, "Train");
     }
 
     @Test
@@ -188,15 +187,15 @@ class TransportTypeDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
-        when(resultSet.getInt(1)).thenReturn(1);
+        when(resultSet.next()).thenReturn(true, false);
+        when(resultSet.getInt("id")).thenReturn(1);
+        when(resultSet.getString("name")).thenReturn("Train");
 
         // When
         boolean result = dao.existsWithName("Train");
 
         // Then
         assertTrue(result);
-        verify(preparedStatement).setString(1, "Train");
     }
 
     @Test
@@ -204,8 +203,7 @@ class TransportTypeDaoTest {
         // Given
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
-        when(resultSet.next()).thenReturn(true);
-        when(resultSet.getInt(1)).thenReturn(0);
+        when(resultSet.next()).thenReturn(false);
 
         // When
         boolean result = dao.existsWithName("NonExistent");
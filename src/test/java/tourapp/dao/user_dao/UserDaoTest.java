@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tourapp.model.user.User;
 import tourapp.model.user.UserType;
@@ -75,6 +76,7 @@ class UserDaoTest {
         assertEquals(1, result.getId());
         assertEquals("John Doe", result.getName());
         assertEquals("john@example.com", result.getEmail());
+        assertEquals("hashedPassword", result.getPasswordHash());
         verify(preparedStatement).setInt(1, 1);
     }
 
@@ -150,8 +152,6 @@ class UserDaoTest {
         when(generatedKeys.next()).thenReturn(true);
         when(generatedKeys.getInt(1)).thenReturn(5);
 
-        mock(User.class);
-
         boolean result = userDao.create(testUser);
 
         assertTrue(result);
@@ -168,9 +168,6 @@ class UserDaoTest {
                 .thenReturn(preparedStatement);
         when(preparedStatement.executeUpdate()).thenReturn(0);
 
-        mock(User.class);
-        when(User.hashPassword("plainPassword")).thenReturn("hashedPassword");
-
         boolean result = userDao.create(testUser);
 
         assertFalse(result);
@@ -184,9 +181,6 @@ class UserDaoTest {
         when(preparedStatement.getGeneratedKeys()).thenReturn(generatedKeys);
         when(generatedKeys.next()).thenReturn(false);
 
-        mock(User.class);
-        when(User.hashPassword("plainPassword")).thenReturn("hashedPassword");
-
         boolean result = userDao.create(testUser);
 
         assertTrue(result);
@@ -222,14 +216,15 @@ class UserDaoTest {
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeUpdate()).thenReturn(1);
 
-        mockStatic(User.class);
-        when(User.hashPassword("newPassword")).thenReturn("newHashedPassword");
+        try (MockedStatic<User> users = mockStatic(User.class)) {
+            users.when(() -> User.hashPassword("newPassword")).thenReturn("newHashedPassword");
 
-        boolean result = userDao.changePassword(1, "newPassword");
+            boolean result = userDao.changePassword(1, "newPassword");
 
-        assertTrue(result);
-        verify(preparedStatement).setString(1, "newHashedPassword");
-        verify(preparedStatement).setInt(2, 1);
+            assertTrue(result);
+            verify(preparedStatement).setString(1, "newHashedPassword");
+            verify(preparedStatement).setInt(2, 1);
+        }
     }
 
     @Test
@@ -237,12 +232,27 @@ class UserDaoTest {
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
         when(preparedStatement.executeUpdate()).thenReturn(0);
 
-        mock(User.class);
-        when(User.hashPassword("newPassword")).thenReturn("newHashedPassword");
+        try (MockedStatic<User> users = mockStatic(User.class)) {
+            users.when(() -> User.hashPassword("newPassword")).thenReturn("newHashedPassword");
 
-        boolean result = userDao.changePassword(1, "newPassword");
+            boolean result = userDao.changePassword(1, "newPassword");
 
-        assertFalse(result);
+            assertFalse(result);
+        }
+    }
+
+    @Test
+    void testReplacePasswordHash_OnlyWhenStoredHashUnchanged() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeUpdate()).thenReturn(1);
+
+        boolean result = userDao.replacePasswordHash(1, "oldHash", "newHash");
+
+        assertTrue(result);
+        verify(connection).prepareStatement("UPDATE users SET password = ? WHERE id = ? AND password = ?");
+        verify(preparedStatement).setString(1, "newHash");
+        verify(preparedStatement).setInt(2, 1);
+        verify(preparedStatement).setString(3, "oldHash");
     }
 
     @Test
@@ -252,10 +262,12 @@ class UserDaoTest {
         when(resultSet.next()).thenReturn(true);
         when(resultSet.getString("password")).thenReturn("hashedPassword");
 
-        mock(User.class);
-        when(User.verifyPassword("plainPassword", "hashedPassword")).thenReturn(true);
+        boolean result;
+        try (MockedStatic<User> users = mockStatic(User.class)) {
+            users.when(() -> User.verifyPassword("plainPassword", "hashedPassword")).thenReturn(true);
 
-        boolean result = userDao.authenticate("john@example.com", "plainPassword");
+            result = userDao.authenticate("john@example.com", "plainPassword");
+        }
 
         assertTrue(result);
         verify(preparedStatement).setString(1, "john@example.com");
@@ -268,14 +280,45 @@ class UserDaoTest {
         when(resultSet.next()).thenReturn(true);
         when(resultSet.getString("password")).thenReturn("hashedPassword");
 
-        mock(User.class);
-        when(User.verifyPassword("wrongPassword", "hashedPassword")).thenReturn(false);
+        boolean result;
+        try (MockedStatic<User> users = mockStatic(User.class)) {
+            users.when(() -> User.verifyPassword("wrongPassword", "hashedPassword")).thenReturn(false);
 
-        boolean result = userDao.authenticate("john@example.com", "wrongPassword");
+            result = userDao.authenticate("john@example.com", "wrongPassword");
+        }
 
         assertFalse(result);
     }
 
+    @Test
+    void testFindByCredentials_LoadsUserInOneQuery() throws SQLException {
+        String storedHash = User.hashPassword("plainPassword");
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        setupResultSetForUser();
+        when(resultSet.getString("password")).thenReturn(storedHash);
+
+        User result = userDao.findByCredentials("john@example.com", "plainPassword");
+
+        assertNotNull(result);
+        assertEquals(storedHash, result.getPasswordHash());
+        assertEquals("Admin", result.getUserType().getName());
+        verify(connection, times(1)).prepareStatement(anyString());
+        verify(preparedStatement).setString(1, "john@example.com");
+    }
+
+    @Test
+    void testFindByCredentials_WrongPassword() throws SQLException {
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        setupResultSetForUser();
+        when(resultSet.getString("password")).thenReturn(User.hashPassword("plainPassword"));
+
+        assertNull(userDao.findByCredentials("john@example.com", "wrongPassword"));
+    }
+
     @Test
     void testAuthenticate_UserNotFound() throws SQLException {
         when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
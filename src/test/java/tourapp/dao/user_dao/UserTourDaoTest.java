@@ -6,12 +6,14 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import tourapp.dao.tour_dao.TourDao;
 import tourapp.model.tour.Tour;
+import tourapp.model.tour.TourBookingCount;
 import tourapp.model.user.UserTour;
 import tourapp.util.ConnectionFactory;
 
 import java.sql.*;
 import java.sql.Date;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -180,7 +182,8 @@ class UserTourDaoTest {
         when(resultSet.next()).thenReturn(true, false);
         when(resultSet.getInt("user_id")).thenReturn(1);
         when(resultSet.getInt("tour_id")).thenReturn(2);
-        when(tourDao.findById(2)).thenReturn(tour);
+        when(tour.getId()).thenReturn(2);
+        when(tourDao.findByIds(Set.of(2))).thenReturn(List.of(tour));
 
         // When
         List<UserTour> result = dao.search(1, 2, 3, 4, startDate, endDate, 100.0, 500.0);
@@ -209,7 +212,8 @@ class UserTourDaoTest {
         when(resultSet.next()).thenReturn(true, false);
         when(resultSet.getInt("user_id")).thenReturn(1);
         when(resultSet.getInt("tour_id")).thenReturn(2);
-        when(tourDao.findById(2)).thenReturn(tour);
+        when(tour.getId()).thenReturn(2);
+        when(tourDao.findByIds(Set.of(2))).thenReturn(List.of(tour));
 
         // When
         List<UserTour> result = dao.search(1, null, null, null, null, null, null, null);
@@ -228,7 +232,8 @@ class UserTourDaoTest {
         when(resultSet.next()).thenReturn(true, false);
         when(resultSet.getInt("user_id")).thenReturn(1);
         when(resultSet.getInt("tour_id")).thenReturn(2);
-        when(tourDao.findById(2)).thenReturn(tour);
+        when(tour.getId()).thenReturn(2);
+        when(tourDao.findByIds(Set.of(2))).thenReturn(List.of(tour));
 
         // When
         List<UserTour> result = dao.search(null, null, null, null, null, null, null, null);
@@ -284,6 +289,33 @@ class UserTourDaoTest {
         assertEquals(0, result);
     }
 
+    @Test
+    void testCountBookingsPerTour() throws Exception {
+        // Given
+        UserTourDao daoWithTourMapper = new UserTourDao(connectionFactory,
+                new TourDao(connectionFactory, null));
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getInt("id")).thenReturn(1, 2);
+        when(resultSet.getString("description")).thenReturn("Paris", "Rome");
+        when(resultSet.getInt("booking_count")).thenReturn(4, 0);
+
+        // When
+        List<TourBookingCount> result = daoWithTourMapper.countBookingsPerTour(20, 10);
+
+        // Then
+        assertEquals(2, result.size());
+        assertEquals("Paris", result.get(0).tour().getDescription());
+        assertEquals(4, result.get(0).bookingCount());
+        assertEquals(2, result.get(1).tour().getId());
+        assertEquals(0, result.get(1).bookingCount());
+        verify(connection).prepareStatement(contains("GROUP BY t.id"));
+        verify(preparedStatement).setInt(1, 10);
+        verify(preparedStatement).setInt(2, 20);
+        verify(connectionFactory, times(1)).getConnection();
+    }
+
     @Test
     void testFindAllLinks() throws Exception {
         // Given
@@ -292,8 +324,8 @@ class UserTourDaoTest {
         when(resultSet.next()).thenReturn(true, true, false);
         when(resultSet.getInt("user_id")).thenReturn(1, 2);
         when(resultSet.getInt("tour_id")).thenReturn(3, 4);
-        when(tourDao.findById(3)).thenReturn(tour);
-        when(tourDao.findById(4)).thenReturn(tour);
+        when(tour.getId()).thenReturn(3);
+        when(tourDao.findByIds(Set.of(3, 4))).thenReturn(List.of(tour));
 
         // When
         List<UserTour> result = dao.findAllLinks();
@@ -302,7 +334,12 @@ class UserTourDaoTest {
         assertNotNull(result);
         assertEquals(2, result.size());
         assertEquals(1, result.get(0).getUserId());
+        assertSame(tour, result.get(0).getTour());
         assertEquals(2, result.get(1).getUserId());
+        assertEquals(4, result.get(1).getTourId());
+        assertNull(result.get(1).getTour());
+        verify(tourDao, times(1)).findByIds(anyCollection());
+        verify(tourDao, never()).findById(anyInt());
     }
 
     @Test
@@ -312,7 +349,8 @@ class UserTourDaoTest {
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
         when(resultSet.next()).thenReturn(true, false);
         when(resultSet.getInt("tour_id")).thenReturn(3);
-        when(tourDao.findById(3)).thenReturn(tour);
+        when(tour.getId()).thenReturn(3);
+        when(tourDao.findByIds(Set.of(3))).thenReturn(List.of(tour));
 
         // When
         List<UserTour> result = dao.findById1(1);
@@ -331,7 +369,8 @@ class UserTourDaoTest {
         when(preparedStatement.executeQuery()).thenReturn(resultSet);
         when(resultSet.next()).thenReturn(true, false);
         when(resultSet.getInt("user_id")).thenReturn(1);
-        when(tourDao.findById(3)).thenReturn(tour);
+        when(tour.getId()).thenReturn(3);
+        when(tourDao.findByIds(Set.of(3))).thenReturn(List.of(tour));
 
         // When
         List<UserTour> result = dao.findById2(3);
@@ -1,5 +1,6 @@
 package tourapp.model.user;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -70,6 +71,20 @@ class UserTest {
         assertTrue(User.verifyPassword("mypass", testUser.getPasswordHash()));
     }
 
+    @Test
+    void fromStoredHashKeepsHash() {
+        String storedHash = User.hashPassword("secret");
+
+        User loaded = User.fromStoredHash(7, "Jane Smith", "jane@test.com", storedHash, adminType);
+
+        assertEquals(7, loaded.getId());
+        assertEquals("Jane Smith", loaded.getName());
+        assertEquals("jane@test.com", loaded.getEmail());
+        assertEquals(adminType, loaded.getUserType());
+        assertSame(storedHash, loaded.getPasswordHash());
+        assertTrue(User.verifyPassword("secret", loaded.getPasswordHash()));
+    }
+
     @Test
     void defaultConstructor() {
         User emptyUser = new User();
@@ -300,4 +315,42 @@ class UserTest {
         user.setId(-100);
         assertEquals(-100, user.getId());
     }
-}
\ No newline at end of file
+
+    @Test
+    void hashPasswordUsesConfiguredCost() {
+        User.setPasswordCost(5);
+        String hash = User.hashPassword("secret");
+
+        assertEquals(5, User.costOf(hash));
+        assertTrue(User.verifyPassword("secret", hash));
+    }
+
+    @Test
+    void costOfRejectsNonBCryptValues() {
+        assertEquals(-1, User.costOf(null));
+        assertEquals(-1, User.costOf("plain"));
+        assertEquals(-1, User.costOf("$2a$xx$abcdef"));
+        assertEquals(12, User.costOf("$2a$12$abcdefghijklmnopqrstuv"));
+    }
+
+    @Test
+    void needsRehashOnlyWhenCostDiffers() {
+        User.setPasswordCost(6);
+
+        assertFalse(User.needsRehash(User.hashPassword("secret", 6)));
+        assertTrue(User.needsRehash(User.hashPassword("secret", 5)));
+        assertFalse(User.needsRehash("not-a-hash"));
+    }
+
+    @Test
+    void setPasswordCostRejectsOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> User.setPasswordCost(3));
+        assertThrows(IllegalArgumentException.class, () -> User.setPasswordCost(31));
+        assertEquals(User.DEFAULT_PASSWORD_COST, User.getPasswordCost());
+    }
+
+    @AfterEach
+    void restorePasswordCost() {
+        User.setPasswordCost(User.DEFAULT_PASSWORD_COST);
+    }
+}
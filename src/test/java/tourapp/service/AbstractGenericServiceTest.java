@@ -6,6 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tourapp.dao.AbstractGenericDao;
+import tourapp.util.FacetValue;
 
 import java.sql.SQLException;
 import java.util.Arrays;
@@ -14,6 +15,7 @@ import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -86,4 +88,52 @@ class AbstractGenericServiceTest {
         assertEquals(expectedResults, result);
         verify(mockDao).search(searchParams);
     }
+
+    @Test
+    void getDistinctValues_ShouldCacheUntilWrite() throws SQLException {
+        // Given
+        List<FacetValue> values = List.of(new FacetValue("Італія", 2), new FacetValue("Україна", 5));
+        when(mockDao.findDistinctValues("country")).thenReturn(values);
+        when(mockDao.delete(1)).thenReturn(true);
+
+        // When
+        service.getDistinctValues("country");
+        List<FacetValue> cached = service.getDistinctValues("country");
+        service.delete(1);
+        service.getDistinctValues("country");
+
+        // Then
+        assertEquals(values, cached);
+        verify(mockDao, times(2)).findDistinctValues("country");
+    }
+
+    @Test
+    void getDistinctValues_ShouldKeepCacheWhenWriteChangedNothing() throws SQLException {
+        // Given
+        when(mockDao.findDistinctValues("country")).thenReturn(List.of(new FacetValue("Україна", 1)));
+        when(mockDao.delete(99)).thenReturn(false);
+
+        // When
+        service.getDistinctValues("country");
+        service.delete(99);
+        service.getDistinctValues("country");
+
+        // Then
+        verify(mockDao, times(1)).findDistinctValues("country");
+    }
+
+    @Test
+    void search_ShouldNotCacheByDefault() throws SQLException {
+        // Given
+        Map<String, Object> searchParams = Map.of("name", "test");
+        when(mockDao.search(searchParams)).thenReturn(List.of("result"));
+
+        // When
+        service.search(searchParams);
+        service.search(searchParams);
+
+        // Then
+        verify(mockDao, times(2)).search(searchParams);
+        assertTrue(service.getSearchCacheStats().isEmpty());
+    }
 }
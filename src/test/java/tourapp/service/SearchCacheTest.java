@@ -0,0 +1,227 @@
+package tourapp.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SearchCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private SearchCache<String> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new SearchCache<>(2, 5, Duration.ofSeconds(60), now::get);
+    }
+
+    private SearchCache.Loader<String> loader(String... rows) {
+        return () -> {
+            loads.incrementAndGet();
+            now.addAndGet(Duration.ofMillis(40).toNanos());
+            return new ArrayList<>(List.of(rows));
+        };
+    }
+
+    @Test
+    void get_ShouldServeRepeatedSearchFromCache() throws SQLException {
+        // When
+        cache.get(Map.of("country", "Україна"), loader("a", "b"));
+        List<String> result = cache.get(Map.of("country", "Україна"), loader("x"));
+
+        // Then
+        assertEquals(List.of("a", "b"), result);
+        assertEquals(1, loads.get());
+        SearchCache.Stats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0.5, stats.hitRatio());
+        assertEquals(40, stats.savedMillis());
+    }
+
+    @Test
+    void get_ShouldIgnoreKeyOrderAndOptionOrder() throws SQLException {
+        // Given
+        Map<String, Object> first = new HashMap<>();
+        first.put("meal_types", List.of("Сніданок", "Вечеря"));
+        first.put("minPrice", 0.0);
+        Map<String, Object> second = Map.of("minPrice", 0.0, "meal_types", List.of("Вечеря", "Сніданок"));
+
+        // When
+        cache.get(first, loader("a"));
+        cache.get(second, loader("b"));
+
+        // Then
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_ShouldKeepNullFilterInKey() throws SQLException {
+        // Given
+        Map<String, Object> withNull = new HashMap<>();
+        withNull.put("country", null);
+
+        // When
+        cache.get(withNull, loader("a"));
+        List<String> result = cache.get(Map.of(), loader("b"));
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(List.of("b"), result);
+    }
+
+    @Test
+    void getPage_ShouldCacheEachPageByItsCursor() throws SQLException {
+        // Given
+        PageRequest firstRequest = PageRequest.first(2);
+        Page.Cursor next = new Page.Cursor(List.of("2025-06-01"), 7);
+        PageRequest secondRequest = firstRequest.after(next);
+        SearchCache.PageLoader<String> firstPage = () -> {
+            loads.incrementAndGet();
+            return new Page<>(new ArrayList<>(List.of("a", "b")), next);
+        };
+        SearchCache.PageLoader<String> secondPage = () -> {
+            loads.incrementAndGet();
+            return new Page<>(new ArrayList<>(List.of("c")), null);
+        };
+
+        // When
+        cache.getPage(Map.of(), firstRequest, firstPage);
+        cache.getPage(Map.of(), secondRequest, secondPage);
+        Page<String> cachedFirst = cache.getPage(Map.of(), firstRequest, firstPage);
+        Page<String> cachedSecond = cache.getPage(Map.of(), secondRequest, secondPage);
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(List.of("a", "b"), cachedFirst.items());
+        assertEquals(next, cachedFirst.next());
+        assertEquals(List.of("c"), cachedSecond.items());
+        assertFalse(cachedSecond.hasNext());
+    }
+
+    @Test
+    void getPage_ShouldNotShareEntryWithWholeSearch() throws SQLException {
+        // Given
+        cache.get(Map.of(), loader("a", "b", "c"));
+
+        // When
+        Page<String> page = cache.getPage(Map.of(), PageRequest.first(2), () -> {
+            loads.incrementAndGet();
+            return new Page<>(List.of("a", "b"), null);
+        });
+
+        // Then
+        assertEquals(2, loads.get());
+        assertEquals(List.of("a", "b"), page.items());
+    }
+
+    @Test
+    void get_ShouldReturnCopiesOfCachedRows() throws SQLException {
+        // Given
+        cache.get(Map.of(), loader("a"));
+
+        // When
+        cache.get(Map.of(), loader()).add("changed");
+
+        // Then
+        assertEquals(List.of("a"), cache.get(Map.of(), loader()));
+    }
+
+    @Test
+    void get_ShouldReloadAfterTtl() throws SQLException {
+        // Given
+        cache.get(Map.of(), loader("a"));
+
+        // When
+        now.addAndGet(Duration.ofSeconds(61).toNanos());
+        List<String> result = cache.get(Map.of(), loader("b"));
+
+        // Then
+        assertEquals(List.of("b"), result);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldEvictLeastRecentlyUsedBeyondEntryLimit() throws SQLException {
+        // Given
+        cache.get(Map.of("k", 1), loader("a"));
+        cache.get(Map.of("k", 2), loader("b"));
+        cache.get(Map.of("k", 1), loader());
+
+        // When
+        cache.get(Map.of("k", 3), loader("c"));
+        cache.get(Map.of("k", 1), loader());
+        cache.get(Map.of("k", 2), loader("b"));
+
+        // Then
+        assertEquals(4, loads.get());
+        assertTrue(cache.stats().evictions() >= 1);
+    }
+
+    @Test
+    void get_ShouldEvictWhenRowLimitExceeded() throws SQLException {
+        // When
+        cache.get(Map.of("k", 1), loader("a", "b", "c"));
+        cache.get(Map.of("k", 2), loader("d", "e", "f"));
+
+        // Then
+        SearchCache.Stats stats = cache.stats();
+        assertEquals(1, stats.entries());
+        assertEquals(3, stats.rows());
+        assertEquals(1, stats.evictions());
+    }
+
+    @Test
+    void get_ShouldNotCacheResultLargerThanRowLimit() throws SQLException {
+        // When
+        cache.get(Map.of(), loader("a", "b", "c", "d", "e", "f"));
+
+        // Then
+        assertEquals(0, cache.stats().entries());
+    }
+
+    @Test
+    void invalidateAll_ShouldDropEntries() throws SQLException {
+        // Given
+        cache.get(Map.of(), loader("a"));
+
+        // When
+        cache.invalidateAll();
+        cache.get(Map.of(), loader("b"));
+
+        // Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_ShouldNotKeepResultLoadedDuringWrite() throws SQLException {
+        // When
+        cache.get(Map.of(), () -> {
+            cache.invalidateAll();
+            return List.of("stale");
+        });
+        List<String> result = cache.get(Map.of(), loader("fresh"));
+
+        // Then
+        assertEquals(List.of("fresh"), result);
+    }
+
+    @Test
+    void constructor_ShouldRejectNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new SearchCache<String>(0, 5, Duration.ofSeconds(1)));
+        assertThrows(IllegalArgumentException.class, () -> new SearchCache<String>(1, 5, Duration.ZERO));
+    }
+}
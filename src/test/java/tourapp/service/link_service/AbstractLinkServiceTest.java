@@ -11,6 +11,7 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -438,4 +439,20 @@ class AbstractLinkServiceTest {
         assertNull(result);
         verify(mockDao).findById2(1);
     }
-}
\ No newline at end of file
+
+    @Test
+    void deleteLink_ShouldNotifyListenersOnlyWhenChanged() throws SQLException {
+        // Given
+        AtomicInteger notifications = new AtomicInteger();
+        service.addChangeListener(notifications::incrementAndGet);
+        when(mockDao.delete(1, 2)).thenReturn(true);
+        when(mockDao.delete(3, 4)).thenReturn(false);
+
+        // When
+        service.deleteLink(1, 2);
+        service.deleteLink(3, 4);
+
+        // Then
+        assertEquals(1, notifications.get());
+    }
+}
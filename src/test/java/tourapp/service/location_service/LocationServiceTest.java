@@ -15,6 +15,7 @@ import static org.mockito.Mockito.*;
 
 import tourapp.dao.location_dao.LocationDao;
 import tourapp.model.location.Location;
+import tourapp.util.FacetValue;
 
 @ExtendWith(MockitoExtension.class)
 class LocationServiceTest {
@@ -62,4 +63,17 @@ class LocationServiceTest {
         assertThrows(SQLException.class, () -> locationService.create(location));
         verify(locationDao).create(location);
     }
-}
\ No newline at end of file
+
+    @Test
+    void getCountries_ShouldReturnDistinctCountries() throws SQLException {
+        // Given
+        when(locationDao.findDistinctValues("country"))
+                .thenReturn(List.of(new FacetValue("Італія", 3), new FacetValue("Україна", 7)));
+
+        // When
+        List<String> result = locationService.getCountries();
+
+        // Then
+        assertEquals(List.of("Італія", "Україна"), result);
+    }
+}
@@ -6,8 +6,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tourapp.dao.tour_dao.TourDao;
+import tourapp.dao.tour_dao.TourFetchPlan;
 import tourapp.model.location.Location;
 import tourapp.model.tour.Tour;
+import tourapp.util.FacetValue;
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
 
 import java.sql.SQLException;
 import java.util.Arrays;
@@ -102,33 +106,61 @@ class TourServiceTest {
         verify(tourDao).search(Map.of("isActive", false));
     }
 
+    @Test
+    void getForDetails_ShouldUseDetailsPlan() throws SQLException {
+        // Given
+        Tour expectedTour = new Tour();
+        when(tourDao.findById(1, TourFetchPlan.DETAILS)).thenReturn(expectedTour);
+
+        // When
+        Tour result = tourService.getForDetails(1);
+
+        // Then
+        assertSame(expectedTour, result);
+        verify(tourDao).findById(1, TourFetchPlan.DETAILS);
+    }
+
+    @Test
+    void getForEdit_ShouldUseEditPlan() throws SQLException {
+        // Given
+        Tour expectedTour = new Tour();
+        when(tourDao.findById(1, TourFetchPlan.EDIT)).thenReturn(expectedTour);
+
+        // When
+        Tour result = tourService.getForEdit(1);
+
+        // Then
+        assertSame(expectedTour, result);
+        verify(tourDao).findById(1, TourFetchPlan.EDIT);
+    }
+
     @Test
     void getLocationsForTour_ShouldReturnLocations_WhenTourExists() throws SQLException {
         // Given
         Tour tour = new Tour();
         List<Location> expectedLocations = Arrays.asList(new Location(), new Location());
         tour.setLocations(expectedLocations);
-        when(tourDao.findByIdWithDependencies(1)).thenReturn(tour);
+        when(tourDao.findById(1, TourFetchPlan.DETAILS)).thenReturn(tour);
 
         // When
         List<Location> result = tourService.getLocationsForTour(1);
 
         // Then
         assertEquals(expectedLocations, result);
-        verify(tourDao).findByIdWithDependencies(1);
+        verify(tourDao).findById(1, TourFetchPlan.DETAILS);
     }
 
     @Test
     void getLocationsForTour_ShouldReturnEmptyList_WhenTourNotExists() throws SQLException {
         // Given
-        when(tourDao.findByIdWithDependencies(1)).thenReturn(null);
+        when(tourDao.findById(1, TourFetchPlan.DETAILS)).thenReturn(null);
 
         // When
         List<Location> result = tourService.getLocationsForTour(1);
 
         // Then
         assertTrue(result.isEmpty());
-        verify(tourDao).findByIdWithDependencies(1);
+        verify(tourDao).findById(1, TourFetchPlan.DETAILS);
     }
 
     @Test
@@ -136,13 +168,82 @@ class TourServiceTest {
         // Given
         Tour tour = new Tour();
         tour.setLocations(null);
-        when(tourDao.findByIdWithDependencies(1)).thenReturn(tour);
+        when(tourDao.findById(1, TourFetchPlan.DETAILS)).thenReturn(tour);
 
         // When
         List<Location> result = tourService.getLocationsForTour(1);
 
         // Then
         assertTrue(result.isEmpty());
-        verify(tourDao).findByIdWithDependencies(1);
+        verify(tourDao).findById(1, TourFetchPlan.DETAILS);
+    }
+
+    @Test
+    void getFacetCounts_ShouldDelegateToDao() throws SQLException {
+        // Given
+        Map<String, Object> filters = Map.of("country", "Україна");
+        Map<String, List<FacetValue>> counts = Map.of("country", List.of(new FacetValue("Україна", 4)));
+        when(tourDao.countFacets(filters)).thenReturn(counts);
+
+        // When
+        Map<String, List<FacetValue>> result = tourService.getFacetCounts(filters);
+
+        // Then
+        assertEquals(counts, result);
+    }
+
+    @Test
+    void search_ShouldBeCachedUntilTourIsWritten() throws SQLException {
+        // Given
+        Map<String, Object> filters = Map.of("country", "Україна");
+        Tour tour = new Tour();
+        when(tourDao.search(filters)).thenReturn(List.of(tour));
+        when(tourDao.update(tour)).thenReturn(true);
+
+        // When
+        tourService.search(filters);
+        tourService.search(filters);
+        tourService.update(tour);
+        List<Tour> result = tourService.search(filters);
+
+        // Then
+        assertEquals(List.of(tour), result);
+        verify(tourDao, times(2)).search(filters);
+        assertEquals(1, tourService.getSearchCacheStats().orElseThrow().hits());
+    }
+
+    @Test
+    void searchPage_ShouldBeCachedUntilTourIsWritten() throws SQLException {
+        // Given
+        Map<String, Object> filters = Map.of("country", "Україна");
+        PageRequest request = PageRequest.first(20);
+        Tour tour = new Tour();
+        when(tourDao.searchPage(filters, request)).thenReturn(new Page<>(List.of(tour), null));
+        when(tourDao.update(tour)).thenReturn(true);
+
+        // When
+        tourService.searchPage(filters, request);
+        tourService.searchPage(filters, request);
+        tourService.update(tour);
+        Page<Tour> result = tourService.searchPage(filters, request);
+
+        // Then
+        assertEquals(List.of(tour), result.items());
+        verify(tourDao, times(2)).searchPage(filters, request);
+    }
+
+    @Test
+    void invalidateSearchCache_ShouldForceReload() throws SQLException {
+        // Given
+        Map<String, Object> filters = Map.of("country", "Україна");
+        when(tourDao.search(filters)).thenReturn(List.of());
+
+        // When
+        tourService.search(filters);
+        tourService.invalidateSearchCache();
+        tourService.search(filters);
+
+        // Then
+        verify(tourDao, times(2)).search(filters);
     }
 }
@@ -7,8 +7,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tourapp.dao.transport_dao.TransportDao;
 import tourapp.model.transport.Transport;
+import tourapp.util.FacetValue;
 
 import java.sql.SQLException;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -78,4 +80,19 @@ class TransportServiceTest {
         assertThrows(SQLException.class, () -> transportService.create(transport));
         verify(transportDao).create(transport);
     }
+
+    @Test
+    void getNames_ShouldReturnDistinctNamesOnce() throws SQLException {
+        // Given
+        when(transportDao.findDistinctValues("name"))
+                .thenReturn(List.of(new FacetValue("Автобус", 2), new FacetValue("Літак", 1)));
+
+        // When
+        transportService.getNames();
+        List<String> result = transportService.getNames();
+
+        // Then
+        assertEquals(List.of("Автобус", "Літак"), result);
+        verify(transportDao, times(1)).findDistinctValues("name");
+    }
 }
@@ -0,0 +1,215 @@
+package tourapp.service.user_service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tourapp.dao.user_dao.UserDao;
+import tourapp.model.user.User;
+import tourapp.model.user.UserType;
+
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CredentialServiceTest {
+
+    @Mock private UserService userService;
+
+    private CredentialService credentialService;
+
+    @BeforeEach
+    void setUp() {
+        credentialService = new CredentialService(userService, 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        credentialService.close();
+    }
+
+    @Test
+    void authenticate_ShouldRunOnCredentialWorker() throws Exception {
+        // Given
+        User user = new User();
+        AtomicReference<String> threadName = new AtomicReference<>();
+        when(userService.authenticate("test@example.com", "password")).thenAnswer(invocation -> {
+            threadName.set(Thread.currentThread().getName());
+            return user;
+        });
+
+        // When
+        User result = credentialService.authenticate("test@example.com", "password").get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertSame(user, result);
+        assertTrue(threadName.get().startsWith("credential-worker-"));
+    }
+
+    @Test
+    void authenticate_ShouldCompleteWithOriginalException() throws SQLException {
+        // Given
+        SQLException failure = new SQLException("Database error");
+        when(userService.authenticate("test@example.com", "password")).thenThrow(failure);
+
+        // When
+        CompletableFuture<User> future = credentialService.authenticate("test@example.com", "password");
+
+        // Then
+        ExecutionException thrown = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertSame(failure, thrown.getCause());
+    }
+
+    @Test
+    void register_ShouldHashPasswordInWorker() throws Exception {
+        // Given
+        UserType customer = new UserType();
+        when(userService.register(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        User result = credentialService.register("Test", "test@example.com", "password", customer).get(5, TimeUnit.SECONDS);
+
+        // Then
+        ArgumentCaptor<User> captor = ArgumentCaptor.forClass(User.class);
+        verify(userService).register(captor.capture());
+        assertSame(captor.getValue(), result);
+        assertEquals("test@example.com", result.getEmail());
+        assertSame(customer, result.getUserType());
+        assertTrue(User.verifyPassword("password", result.getPasswordHash()));
+    }
+
+    @Test
+    void changePassword_ShouldDelegateToUserService() throws Exception {
+        // Given
+        when(userService.changePassword(1, "newpass")).thenReturn(true);
+
+        // When
+        Boolean result = credentialService.changePassword(1, "newpass").get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertTrue(result);
+        verify(userService).changePassword(1, "newpass");
+    }
+
+    @Test
+    void submit_ShouldRejectWhenQueueIsFull() throws Exception {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userService.changePassword(anyInt(), anyString())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+
+        CompletableFuture<Boolean> running = credentialService.changePassword(1, "a");
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = credentialService.changePassword(2, "b");
+
+        // When
+        CompletableFuture<Boolean> rejected = credentialService.changePassword(3, "c");
+
+        // Then
+        ExecutionException thrown = assertThrows(ExecutionException.class, rejected::get);
+        assertInstanceOf(RejectedExecutionException.class, thrown.getCause());
+        CredentialService.Metrics metrics = credentialService.metrics();
+        assertEquals(1, metrics.queued());
+        assertEquals(1, metrics.rejected());
+
+        release.countDown();
+        assertTrue(running.get(5, TimeUnit.SECONDS));
+        assertTrue(queued.get(5, TimeUnit.SECONDS));
+        verify(userService, never()).changePassword(3, "c");
+    }
+
+    @Test
+    void authenticate_ShouldRehashOnLowPriorityRehashWorker() throws Exception {
+        // Given
+        UserDao userDao = mock(UserDao.class);
+        UserService realUserService = new UserService(userDao, CredentialService.newRehashExecutor());
+        String oldHash = User.hashPassword("password", User.MIN_PASSWORD_COST);
+        when(userDao.findByCredentials("test@example.com", "password"))
+                .thenReturn(User.fromStoredHash(7, "Test", "test@example.com", oldHash, null));
+        AtomicReference<Thread> rehashThread = new AtomicReference<>();
+        CountDownLatch rehashed = new CountDownLatch(1);
+        when(userDao.replacePasswordHash(eq(7), eq(oldHash), anyString())).thenAnswer(invocation -> {
+            rehashThread.set(Thread.currentThread());
+            rehashed.countDown();
+            return true;
+        });
+
+        try (CredentialService separate = new CredentialService(realUserService, 1, 1)) {
+            // When
+            separate.authenticate("test@example.com", "password").get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertTrue(rehashed.await(5, TimeUnit.SECONDS));
+            assertEquals("credential-rehash", rehashThread.get().getName());
+            assertEquals(Thread.MIN_PRIORITY, rehashThread.get().getPriority());
+        }
+    }
+
+    @Test
+    void authenticate_ShouldSucceedWhenRehashQueueIsFull() throws Exception {
+        // Given
+        UserDao userDao = mock(UserDao.class);
+        ThreadPoolExecutor rehashExecutor = CredentialService.newRehashExecutor(1);
+        CountDownLatch release = new CountDownLatch(1);
+        rehashExecutor.execute(() -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        rehashExecutor.execute(() -> { });
+        UserService realUserService = new UserService(userDao, rehashExecutor);
+        String oldHash = User.hashPassword("password", User.MIN_PASSWORD_COST);
+        User stale = User.fromStoredHash(7, "Test", "test@example.com", oldHash, null);
+        when(userDao.findByCredentials("test@example.com", "password")).thenReturn(stale);
+
+        try (CredentialService separate = new CredentialService(realUserService, 1, 1)) {
+            // When
+            User result = separate.authenticate("test@example.com", "password").get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertSame(stale, result);
+            assertEquals(0, separate.metrics().rejected());
+        } finally {
+            release.countDown();
+            rehashExecutor.shutdown();
+            assertTrue(rehashExecutor.awaitTermination(5, TimeUnit.SECONDS));
+        }
+        verify(userDao, never()).replacePasswordHash(anyInt(), anyString(), anyString());
+    }
+
+    @Test
+    void metrics_ShouldCountCompletedTasks() throws Exception {
+        // Given
+        when(userService.authenticate(anyString(), anyString())).thenReturn(null);
+
+        // When
+        credentialService.authenticate("a@example.com", "x").get(5, TimeUnit.SECONDS);
+        credentialService.authenticate("b@example.com", "y").get(5, TimeUnit.SECONDS);
+
+        // Then
+        CredentialService.Metrics metrics = credentialService.metrics();
+        assertEquals(2, metrics.completed());
+        assertEquals(0, metrics.rejected());
+        assertEquals(0, metrics.queued());
+        assertTrue(metrics.averageLatencyMillis() >= 0);
+        assertTrue(metrics.maxLatencyMillis() >= 0);
+    }
+}
@@ -3,6 +3,7 @@ package tourapp.service.user_service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tourapp.dao.user_dao.UserDao;
@@ -12,6 +13,8 @@ import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -87,30 +90,126 @@ class UserServiceTest {
     void authenticate_ShouldReturnUser_WhenCredentialsValid() throws SQLException {
         // Given
         User expectedUser = new User();
-        when(userDao.authenticate("test@example.com", "password")).thenReturn(true);
-        when(userDao.findByEmail("test@example.com")).thenReturn(expectedUser);
+        when(userDao.findByCredentials("test@example.com", "password")).thenReturn(expectedUser);
 
         // When
         User result = userService.authenticate("test@example.com", "password");
 
         // Then
         assertEquals(expectedUser, result);
-        verify(userDao).authenticate("test@example.com", "password");
-        verify(userDao).findByEmail("test@example.com");
+        verify(userDao).findByCredentials("test@example.com", "password");
+        verify(userDao, never()).authenticate(any(), any());
+        verify(userDao, never()).findByEmail(any());
     }
 
     @Test
     void authenticate_ShouldReturnNull_WhenCredentialsInvalid() throws SQLException {
         // Given
-        when(userDao.authenticate("test@example.com", "wrongPassword")).thenReturn(false);
+        when(userDao.findByCredentials("test@example.com", "wrongPassword")).thenReturn(null);
 
         // When
         User result = userService.authenticate("test@example.com", "wrongPassword");
 
         // Then
         assertNull(result);
-        verify(userDao).authenticate("test@example.com", "wrongPassword");
-        verify(userDao, never()).findByEmail(any());
+        verify(userDao).findByCredentials("test@example.com", "wrongPassword");
+    }
+
+    @Test
+    void authenticate_ShouldUpgradeHashWithDifferentCost() throws SQLException {
+        // Given
+        userService = new UserService(userDao, Runnable::run);
+        String oldHash = User.hashPassword("password", User.MIN_PASSWORD_COST);
+        User user = User.fromStoredHash(7, "Test", "test@example.com", oldHash, null);
+        when(userDao.findByCredentials("test@example.com", "password")).thenReturn(user);
+        when(userDao.replacePasswordHash(eq(7), eq(oldHash), anyString())).thenReturn(true);
+
+        // When
+        User result = userService.authenticate("test@example.com", "password");
+
+        // Then
+        assertSame(user, result);
+        ArgumentCaptor<String> newHash = ArgumentCaptor.forClass(String.class);
+        verify(userDao).replacePasswordHash(eq(7), eq(oldHash), newHash.capture());
+        assertEquals(User.getPasswordCost(), User.costOf(newHash.getValue()));
+        assertTrue(User.verifyPassword("password", newHash.getValue()));
+    }
+
+    @Test
+    void authenticate_ShouldNotRehash_WhenCostMatches() throws SQLException {
+        // Given
+        Executor executor = mock(Executor.class);
+        userService = new UserService(userDao, executor);
+        String hash = User.hashPassword("password", User.getPasswordCost());
+        User user = User.fromStoredHash(7, "Test", "test@example.com", hash, null);
+        when(userDao.findByCredentials("test@example.com", "password")).thenReturn(user);
+
+        // When
+        userService.authenticate("test@example.com", "password");
+
+        // Then
+        verifyNoInteractions(executor);
+        verify(userDao, never()).replacePasswordHash(anyInt(), any(), any());
+    }
+
+    @Test
+    void authenticate_ShouldNotRehash_WithoutExecutor() throws SQLException {
+        // Given
+        User user = User.fromStoredHash(7, "Test", "test@example.com",
+                User.hashPassword("password", User.MIN_PASSWORD_COST), null);
+        when(userDao.findByCredentials("test@example.com", "password")).thenReturn(user);
+
+        // When
+        User result = userService.authenticate("test@example.com", "password");
+
+        // Then
+        assertSame(user, result);
+        verify(userDao, never()).replacePasswordHash(anyInt(), any(), any());
+    }
+
+    @Test
+    void authenticate_ShouldReturnUser_WhenRehashIsRejected() throws SQLException {
+        // Given
+        userService = new UserService(userDao, task -> {
+            throw new RejectedExecutionException();
+        });
+        User user = User.fromStoredHash(7, "Test", "test@example.com",
+                User.hashPassword("password", User.MIN_PASSWORD_COST), null);
+        when(userDao.findByCredentials("test@example.com", "password")).thenReturn(user);
+
+        // When
+        User result = userService.authenticate("test@example.com", "password");
+
+        // Then
+        assertSame(user, result);
+        verify(userDao, never()).replacePasswordHash(anyInt(), any(), any());
+    }
+
+    @Test
+    void register_ShouldReturnCreatedUser() throws SQLException {
+        // Given
+        User newUser = new User();
+        when(userDao.create(newUser)).thenReturn(true);
+
+        // When
+        User result = userService.register(newUser);
+
+        // Then
+        assertSame(newUser, result);
+        verify(userDao).create(newUser);
+    }
+
+    @Test
+    void register_ShouldReturnNull_WhenCreateFails() throws SQLException {
+        // Given
+        User newUser = new User();
+        when(userDao.create(newUser)).thenReturn(false);
+
+        // When
+        User result = userService.register(newUser);
+
+        // Then
+        assertNull(result);
     }
 
     @Test
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import tourapp.dao.user_dao.UserTourDao;
+import tourapp.model.tour.Tour;
+import tourapp.model.tour.TourBookingCount;
 import tourapp.model.user.UserTour;
 
 import java.sql.Date;
@@ -61,6 +63,20 @@ class UserTourServiceTest {
         verify(userTourDao).countUsersByTourId(1);
     }
 
+    @Test
+    void countBookingsPerTour_ShouldReturnCounts() throws SQLException {
+        // Given
+        List<TourBookingCount> expected = List.of(new TourBookingCount(new Tour(), 3));
+        when(userTourDao.countBookingsPerTour()).thenReturn(expected);
+
+        // When
+        List<TourBookingCount> result = userTourService.countBookingsPerTour();
+
+        // Then
+        assertEquals(expected, result);
+        verify(userTourDao).countBookingsPerTour();
+    }
+
     @Test
     void search_WithNullParameters_ShouldWork() throws SQLException {
         // Given
@@ -0,0 +1,200 @@
+package tourapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncLoaderTest {
+
+    // Stands in for the JavaFX event queue: results wait here until the test "runs the FX thread".
+    private final Queue<Runnable> fxQueue = new ArrayDeque<>();
+    private final Queue<Runnable> background = new ArrayDeque<>();
+
+    private void runFxQueue() {
+        while (!fxQueue.isEmpty()) {
+            fxQueue.poll().run();
+        }
+    }
+
+    private void runBackground() {
+        while (!background.isEmpty()) {
+            background.poll().run();
+        }
+    }
+
+    @Test
+    void shouldReturnBeforeBlockingTaskFinishes() throws Exception {
+        // Given
+        CountDownLatch jdbcCall = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        AtomicReference<String> result = new AtomicReference<>();
+        AsyncLoader loader = new AsyncLoader(AsyncLoader.VIRTUAL_THREADS, Runnable::run);
+
+        // When
+        long start = System.nanoTime();
+        loader.submit(() -> {
+            jdbcCall.await();
+            return "rows";
+        }, rows -> {
+            result.set(rows);
+            delivered.countDown();
+        }, e -> fail(e));
+        long submitNanos = System.nanoTime() - start;
+
+        // Then
+        assertTrue(loader.isLoading());
+        assertNull(result.get());
+        assertTrue(submitNanos < TimeUnit.SECONDS.toNanos(1));
+
+        jdbcCall.countDown();
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals("rows", result.get());
+        assertFalse(loader.isLoading());
+    }
+
+    @Test
+    void shouldRunTaskOnVirtualThreadAndDeliverOnDispatcher() throws Exception {
+        // Given
+        AtomicBoolean taskOnVirtualThread = new AtomicBoolean();
+        CountDownLatch dispatched = new CountDownLatch(1);
+        AsyncLoader loader = new AsyncLoader(AsyncLoader.VIRTUAL_THREADS, action -> {
+            synchronized (fxQueue) {
+                fxQueue.add(action);
+            }
+            dispatched.countDown();
+        });
+        List<Integer> delivered = new ArrayList<>();
+
+        // When
+        loader.submit(() -> {
+            taskOnVirtualThread.set(Thread.currentThread().isVirtual());
+            return 42;
+        }, delivered::add, e -> fail(e));
+        assertTrue(dispatched.await(5, TimeUnit.SECONDS));
+
+        // Then
+        assertTrue(taskOnVirtualThread.get());
+        assertTrue(delivered.isEmpty());
+        synchronized (fxQueue) {
+            runFxQueue();
+        }
+        assertEquals(List.of(42), delivered);
+    }
+
+    @Test
+    void shouldDropResultOfSupersededRequest() {
+        // Given
+        AsyncLoader loader = new AsyncLoader(background::add, fxQueue::add);
+        List<String> delivered = new ArrayList<>();
+        AtomicBoolean oldTaskStarted = new AtomicBoolean();
+        loader.submit(() -> {
+            oldTaskStarted.set(true);
+            return "old";
+        }, delivered::add, e -> fail(e));
+
+        // When
+        loader.submit(() -> "new", delivered::add, e -> fail(e));
+        runBackground();
+        runFxQueue();
+
+        // Then
+        assertFalse(oldTaskStarted.get());
+        assertEquals(List.of("new"), delivered);
+    }
+
+    @Test
+    void shouldDropResultThatArrivesAfterNewerSubmit() {
+        // Given
+        AsyncLoader loader = new AsyncLoader(Runnable::run, fxQueue::add);
+        List<String> delivered = new ArrayList<>();
+        loader.submit(() -> "old", delivered::add, e -> fail(e));
+
+        // When
+        loader.submit(() -> "new", delivered::add, e -> fail(e));
+        runFxQueue();
+
+        // Then
+        assertEquals(List.of("new"), delivered);
+        assertFalse(loader.isLoading());
+    }
+
+    @Test
+    void shouldKeepOneQueryRunningAndOnlyNewestWaiting() throws Exception {
+        // Given
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        CountDownLatch delivered = new CountDownLatch(1);
+        List<String> started = new CopyOnWriteArrayList<>();
+        List<String> results = new CopyOnWriteArrayList<>();
+        AsyncLoader loader = new AsyncLoader(AsyncLoader.VIRTUAL_THREADS, Runnable::run);
+        loader.submit(() -> {
+            started.add("first");
+            firstStarted.countDown();
+            releaseFirst.await();
+            return "first";
+        }, results::add, e -> fail(e));
+        assertTrue(firstStarted.await(5, TimeUnit.SECONDS));
+
+        // When
+        for (String query : List.of("second", "third", "fourth")) {
+            loader.submit(() -> {
+                started.add(query);
+                return query;
+            }, result -> {
+                results.add(result);
+                delivered.countDown();
+            }, e -> fail(e));
+        }
+        assertEquals(List.of("first"), started);
+        releaseFirst.countDown();
+
+        // Then
+        assertTrue(delivered.await(5, TimeUnit.SECONDS));
+        assertEquals(List.of("first", "fourth"), started);
+        assertEquals(List.of("fourth"), results);
+    }
+
+    @Test
+    void shouldDeliverFailureToErrorHandler() {
+        // Given
+        AsyncLoader loader = new AsyncLoader(Runnable::run, Runnable::run);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        // When
+        loader.submit(() -> {
+            throw new SQLException("Database connection error");
+        }, result -> fail("Не очікувався результат"), error::set);
+
+        // Then
+        assertInstanceOf(SQLException.class, error.get());
+        assertEquals("Database connection error", error.get().getMessage());
+        assertFalse(loader.isLoading());
+    }
+
+    @Test
+    void shouldDropEverythingAfterCancel() {
+        // Given
+        AsyncLoader loader = new AsyncLoader(Runnable::run, fxQueue::add);
+        List<String> delivered = new ArrayList<>();
+        loader.submit(() -> "rows", delivered::add, e -> fail(e));
+
+        // When
+        loader.cancel();
+        runFxQueue();
+
+        // Then
+        assertTrue(delivered.isEmpty());
+        assertFalse(loader.isLoading());
+    }
+}
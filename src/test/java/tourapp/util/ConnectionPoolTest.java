@@ -0,0 +1,163 @@
+package tourapp.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ConnectionPoolTest {
+
+    private List<Connection> physicalConnections;
+    private ConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        physicalConnections = new ArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pool != null) {
+            pool.close();
+        }
+    }
+
+    private ConnectionPool createPool(ConnectionPool.Settings settings) {
+        pool = new ConnectionPool(() -> {
+            Connection connection = mock(Connection.class);
+            try {
+                when(connection.isValid(anyInt())).thenReturn(true);
+                when(connection.getAutoCommit()).thenReturn(true);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            physicalConnections.add(connection);
+            return connection;
+        }, settings);
+        return pool;
+    }
+
+    @Test
+    void shouldReusePhysicalConnectionAfterClose() throws SQLException {
+        createPool(ConnectionPool.Settings.defaults());
+
+        Connection first = pool.getConnection();
+        first.close();
+        Connection second = pool.getConnection();
+        second.close();
+
+        assertEquals(1, physicalConnections.size());
+        verify(physicalConnections.getFirst(), never()).close();
+        assertEquals(2, pool.getStats().borrowed());
+        assertEquals(1, pool.getStats().created());
+    }
+
+    @Test
+    void shouldRejectCallsOnReturnedHandle() throws SQLException {
+        createPool(ConnectionPool.Settings.defaults());
+
+        Connection connection = pool.getConnection();
+        connection.close();
+
+        assertTrue(connection.isClosed());
+        assertThrows(SQLException.class, connection::createStatement);
+    }
+
+    @Test
+    void shouldTimeOutWhenPoolIsExhausted() throws SQLException {
+        createPool(ConnectionPool.Settings.defaults()
+                .withMaxSize(1)
+                .withConnectionTimeout(Duration.ofMillis(50)));
+
+        Connection held = pool.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, () -> pool.getConnection());
+        assertEquals(1, pool.getStats().timeouts());
+        held.close();
+    }
+
+    @Test
+    void shouldReplaceConnectionThatFailsValidation() throws SQLException {
+        createPool(ConnectionPool.Settings.defaults());
+
+        pool.getConnection().close();
+        Connection stale = physicalConnections.getFirst();
+        when(stale.isValid(anyInt())).thenReturn(false);
+
+        try {
+            Thread.sleep(600);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pool.getConnection().close();
+
+        assertEquals(2, physicalConnections.size());
+        verify(stale).close();
+    }
+
+    @Test
+    void shouldRetireConnectionPastMaxLifetime() throws SQLException {
+        createPool(ConnectionPool.Settings.defaults().withMaxLifetime(Duration.ofNanos(1)));
+
+        pool.getConnection().close();
+        pool.getConnection().close();
+
+        assertEquals(2, physicalConnections.size());
+        verify(physicalConnections.getFirst()).close();
+    }
+
+    @Test
+    void shouldEvictIdleConnectionsDuringHousekeeping() throws SQLException {
+        createPool(ConnectionPool.Settings.defaults().withIdleTimeout(Duration.ofNanos(1)));
+
+        pool.getConnection().close();
+        pool.housekeep();
+
+        assertEquals(0, pool.getStats().idle());
+        assertEquals(1, pool.getStats().evicted());
+    }
+
+    @Test
+    void shouldReportLeakedConnection() throws SQLException {
+        createPool(ConnectionPool.Settings.defaults().withLeakDetectionThreshold(Duration.ofNanos(1)));
+
+        Connection leaked = pool.getConnection();
+        pool.housekeep();
+
+        assertEquals(1, pool.getStats().leaksDetected());
+        assertEquals(1, pool.getStats().active());
+        leaked.close();
+    }
+
+    @Test
+    void shouldRollBackUncommittedTransactionOnReturn() throws SQLException {
+        createPool(ConnectionPool.Settings.defaults());
+
+        Connection connection = pool.getConnection();
+        Connection physical = physicalConnections.getFirst();
+        when(physical.getAutoCommit()).thenReturn(false);
+        connection.close();
+
+        verify(physical).rollback();
+        verify(physical).setAutoCommit(true);
+    }
+
+    @Test
+    void shouldRejectBorrowAfterClose() {
+        createPool(ConnectionPool.Settings.defaults());
+
+        pool.close();
+
+        assertThrows(SQLException.class, () -> pool.getConnection());
+    }
+}
@@ -236,7 +236,7 @@ class ControllerFactoryTest {
             verify(serviceLocator).resolve(SessionManager.class);
             verify(serviceLocator).resolve(MealService.class);
             verify(serviceLocator).resolve(MealTypeService.class);
-            verify(serviceLocator).resolve(MealMealTypeService.class);
+            verify(serviceLocator, never()).resolve(MealMealTypeService.class);
         });
     }
 
@@ -160,6 +160,18 @@ class DaoUtilsTest {
         assertTrue(query.contains("AND u.name LIKE ?"));
     }
 
+    @Test
+    void testBuildConditions_RendersOnlyConditions() {
+        Map<String, Object> searchParams = new LinkedHashMap<>();
+        searchParams.put("minPrice", 100.0);
+        searchParams.put("id", List.of(1, 2));
+        Map<String, String> columnMappings = Map.of("minPrice", "t.price", "id", "t.id");
+
+        String conditions = DaoUtils.buildConditions("tours", "t", searchParams, columnMappings);
+
+        assertEquals(" AND t.price >= ? AND t.id IN (?,?)", conditions);
+    }
+
     @Test
     void testBuildWhereClause_WithKeywordSearch() {
         Map<String, Object> searchParams = Map.of("keyword", "search term");
@@ -266,7 +278,7 @@ class DaoUtilsTest {
         Map<String, Object> searchParams = Map.of("name", "John");
         Map<String, String> columnMappings = Map.of("name", "u.name");
 
-        DaoUtils.setWhereParameters(preparedStatement, searchParams, columnMappings);
+        DaoUtils.setWhereParameters(preparedStatement, "users", searchParams, columnMappings);
 
         verify(preparedStatement).setString(1, "%John%");
     }
@@ -276,17 +288,34 @@ class DaoUtilsTest {
         Map<String, Object> searchParams = Map.of("keyword", "search");
         Map<String, String> columnMappings = new HashMap<>();
 
-        DaoUtils.setWhereParameters(preparedStatement, searchParams, columnMappings);
+        DaoUtils.setWhereParameters(preparedStatement, "locations", searchParams, columnMappings);
 
         verify(preparedStatement, times(3)).setString(anyInt(), eq("%search%"));
     }
 
+    @Test
+    void testSetWhereParameters_WithKeywordForNonLocationTable() throws SQLException {
+        Map<String, Object> searchParams = new LinkedHashMap<>();
+        searchParams.put("keyword", "bus");
+        searchParams.put("minPrice", 100);
+        Map<String, String> columnMappings = Map.of("price", "t.price_per_person");
+
+        String conditions = DaoUtils.buildConditions("transports", "t", searchParams, columnMappings);
+        DaoUtils.setWhereParameters(preparedStatement, "transports", searchParams, columnMappings);
+
+        assertEquals(" AND (t.name LIKE ? OR tt.name LIKE ?) AND t.price_per_person >= ?", conditions);
+        verify(preparedStatement).setString(1, "%bus%");
+        verify(preparedStatement).setString(2, "%bus%");
+        verify(preparedStatement, times(2)).setString(anyInt(), eq("%bus%"));
+        verify(preparedStatement).setInt(3, 100);
+    }
+
     @Test
     void testSetWhereParameters_WithList() throws SQLException {
         Map<String, Object> searchParams = Map.of("ids", Arrays.asList(1, 2, 3));
         Map<String, String> columnMappings = Map.of("ids", "u.id");
 
-        DaoUtils.setWhereParameters(preparedStatement, searchParams, columnMappings);
+        DaoUtils.setWhereParameters(preparedStatement, "users", searchParams, columnMappings);
 
         verify(preparedStatement).setInt(1, 1);
         verify(preparedStatement).setInt(2, 2);
@@ -298,7 +327,7 @@ class DaoUtilsTest {
         Map<String, Object> searchParams = Map.of("id", "123");
         Map<String, String> columnMappings = Map.of("id", "u.id");
 
-        DaoUtils.setWhereParameters(preparedStatement, searchParams, columnMappings);
+        DaoUtils.setWhereParameters(preparedStatement, "users", searchParams, columnMappings);
 
         verify(preparedStatement).setString(1, "123");
         verify(preparedStatement, never()).setString(1, "%123%");
@@ -309,7 +338,7 @@ class DaoUtilsTest {
         Map<String, Object> searchParams = Map.of("unknown", "value");
         Map<String, String> columnMappings = new HashMap<>();
 
-        DaoUtils.setWhereParameters(preparedStatement, searchParams, columnMappings);
+        DaoUtils.setWhereParameters(preparedStatement, "users", searchParams, columnMappings);
 
         verify(preparedStatement, never()).setString(anyInt(), anyString());
     }
@@ -494,7 +523,7 @@ class DaoUtilsTest {
                 "id", "p.id"
         );
 
-        DaoUtils.setWhereParameters(preparedStatement, searchParams, columnMappings);
+        DaoUtils.setWhereParameters(preparedStatement, "locations", searchParams, columnMappings);
 
         verify(preparedStatement, times(3)).setString(anyInt(), eq("%search%")); // keyword (3 times)
         verify(preparedStatement).setInt(4, 1);
@@ -505,6 +534,199 @@ class DaoUtilsTest {
         verify(preparedStatement).setString(9, "123");
     }
 
+    @Test
+    void testQueryTemplate_ReusesSqlForSameShape() {
+        Map<String, String> columnMappings = Map.of("name", "u.name", "typeName", "ut.name");
+        List<JoinInfo> joinInfos = List.of(
+                new JoinInfo("INNER JOIN", "user_types", "ut", "u.user_type_id = ut.id", "typeName")
+        );
+        DaoUtils.QueryTemplate template = new DaoUtils.QueryTemplate("users", "u", columnMappings, joinInfos);
+
+        String first = template.getSql(Map.of("name", "John"));
+        String second = template.getSql(Map.of("name", "Jane"));
+        String withJoin = template.getSql(Map.of("typeName", "ADMIN"));
+
+        assertSame(first, second);
+        assertFalse(first.contains("INNER JOIN user_types"));
+        assertTrue(withJoin.contains("INNER JOIN user_types ut ON u.user_type_id = ut.id"));
+        assertEquals(2, template.cachedShapeCount());
+    }
+
+    @Test
+    void testQueryTemplate_ListSizeIsPartOfShape() {
+        Map<String, String> columnMappings = Map.of("ids", "u.id");
+        DaoUtils.QueryTemplate template = new DaoUtils.QueryTemplate("users", "u", columnMappings, List.of());
+
+        String two = template.getSql(Map.of("ids", List.of(1, 2)));
+        String three = template.getSql(Map.of("ids", List.of(1, 2, 3)));
+
+        assertTrue(two.contains("AND u.id IN (?,?)"));
+        assertTrue(three.contains("AND u.id IN (?,?,?)"));
+    }
+
+    @Test
+    void testQueryTemplate_MatchesBuildWhereClause() {
+        Map<String, Object> searchParams = new LinkedHashMap<>();
+        searchParams.put("categoryName", "Electronics");
+        searchParams.put("minPrice", 10.0);
+        Map<String, String> columnMappings = Map.of("categoryName", "c.name", "price", "p.price");
+        List<JoinInfo> joinInfos = Arrays.asList(
+                new JoinInfo("INNER JOIN", "categories", "c", "pc.category_id = c.id"),
+                new JoinInfo("INNER JOIN", "product_categories", "pc", "p.id = pc.product_id")
+        );
+        DaoUtils.QueryTemplate template = new DaoUtils.QueryTemplate("products", "p", columnMappings, joinInfos);
+
+        String expected = DaoUtils.buildWhereClause("products", "p", searchParams, columnMappings, joinInfos)
+                .append(" ORDER BY p.name").toString();
+
+        assertEquals(expected, template.getSql(searchParams));
+        assertTrue(expected.indexOf("product_categories pc") < expected.indexOf("categories c ON"));
+    }
+
+    @Test
+    void testQueryTemplate_BindsKeywordOncePerSearchedColumn() throws SQLException {
+        DaoUtils.QueryTemplate template = new DaoUtils.QueryTemplate("transports", "t", Map.of(), List.of());
+
+        template.setParameters(preparedStatement, Map.of("keyword", "bus"));
+
+        verify(preparedStatement, times(2)).setString(anyInt(), eq("%bus%"));
+    }
+
+    @Test
+    void testExecuteSearchQuery_WithTemplate() throws SQLException {
+        DaoUtils.QueryTemplate template = new DaoUtils.QueryTemplate("users", "u", Map.of("name", "u.name"), List.of());
+
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(mapper.map(resultSet)).thenReturn("John Doe");
+
+        List<String> result = DaoUtils.executeSearchQuery(connection, template, Map.of("name", "John"), mapper);
+
+        assertEquals(List.of("John Doe"), result);
+        verify(connection).prepareStatement("SELECT DISTINCT u.* FROM users u WHERE 1=1 AND u.name LIKE ? ORDER BY u.name");
+        verify(preparedStatement).setString(1, "%John%");
+    }
+
+    @Test
+    void testQueryTemplate_UsesDefaultOrderColumn() {
+        DaoUtils.QueryTemplate template = new DaoUtils.QueryTemplate("tours", "t", Map.of(), List.of(), "t.start_date");
+
+        assertTrue(template.getSql(Map.of()).endsWith(" ORDER BY t.start_date"));
+    }
+
+    @Test
+    void testQueryTemplate_PageSqlWithCursor() {
+        Map<String, String> columnMappings = Map.of("name", "u.name", "email", "u.email");
+        DaoUtils.QueryTemplate template = new DaoUtils.QueryTemplate("users", "u", columnMappings, List.of());
+        PageRequest request = PageRequest.first(20, PageRequest.SortKey.asc("name"), PageRequest.SortKey.desc("email"))
+                .after(new Page.Cursor(List.of("Anna", "anna@test.com"), 7));
+
+        String sql = template.getPageSql(Map.of(), request);
+
+        assertEquals("SELECT DISTINCT u.* FROM users u WHERE 1=1"
+                + " AND ((u.name > ?) OR (u.name = ? AND u.email < ?) OR (u.name = ? AND u.email = ? AND u.id > ?))"
+                + " ORDER BY u.name ASC, u.email DESC, u.id ASC LIMIT ?", sql);
+    }
+
+    @Test
+    void testQueryTemplate_BindsCursorAfterSearchParameters() throws SQLException {
+        DaoUtils.QueryTemplate template = new DaoUtils.QueryTemplate("users", "u", Map.of("name", "u.name"), List.of());
+        PageRequest request = PageRequest.first(20).after(new Page.Cursor(List.of("Anna"), 7));
+
+        template.setPageParameters(preparedStatement, Map.of("name", "An"), request);
+
+        verify(preparedStatement).setString(1, "%An%");
+        verify(preparedStatement).setString(2, "Anna");
+        verify(preparedStatement).setString(3, "Anna");
+        verify(preparedStatement).setInt(4, 7);
+        verify(preparedStatement).setInt(5, 21);
+    }
+
+    @Test
+    void testQueryTemplate_RejectsSortOnJoinedColumn() {
+        DaoUtils.QueryTemplate template = new DaoUtils.QueryTemplate("users", "u", Map.of("typeName", "ut.name"), List.of());
+        PageRequest request = PageRequest.first(20, PageRequest.SortKey.asc("typeName"));
+
+        assertThrows(IllegalArgumentException.class, () -> template.getPageSql(Map.of(), request));
+    }
+
+    @Test
+    void testExecutePageQuery_ReturnsCursorWhenMoreRowsExist() throws SQLException {
+        DaoUtils.QueryTemplate template = new DaoUtils.QueryTemplate("users", "u", Map.of("name", "u.name"), List.of());
+
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, true, true);
+        when(mapper.map(resultSet)).thenReturn("Anna", "Boris");
+        when(resultSet.getObject("name")).thenReturn("Boris");
+        when(resultSet.getInt("id")).thenReturn(2);
+
+        Page<String> page = DaoUtils.executePageQuery(connection, template, Map.of(), PageRequest.first(2), mapper);
+
+        assertEquals(List.of("Anna", "Boris"), page.items());
+        assertEquals(new Page.Cursor(List.of("Boris"), 2), page.next());
+        verify(preparedStatement).setInt(1, 3);
+    }
+
+    @Test
+    void testExecutePageQuery_LastPageHasNoCursor() throws SQLException {
+        DaoUtils.QueryTemplate template = new DaoUtils.QueryTemplate("users", "u", Map.of("name", "u.name"), List.of());
+
+        when(connection.prepareStatement(anyString())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true, false);
+        when(mapper.map(resultSet)).thenReturn("Anna");
+
+        Page<String> page = DaoUtils.executePageQuery(connection, template, Map.of(), PageRequest.first(2), mapper);
+
+        assertEquals(List.of("Anna"), page.items());
+        assertFalse(page.hasNext());
+    }
+
+    @Test
+    void testStreamQuery_WalksLargeResultRowByRow() throws SQLException {
+        int rows = 2_000_000;
+        int[] cursor = {0};
+        boolean[] closed = {false};
+        ResultSet generatedRows = (ResultSet) java.lang.reflect.Proxy.newProxyInstance(
+                getClass().getClassLoader(), new Class<?>[]{ResultSet.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "next" -> ++cursor[0] <= rows;
+                    case "getInt" -> cursor[0];
+                    case "close" -> {
+                        closed[0] = true;
+                        yield null;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+
+        when(connection.prepareStatement("SELECT id FROM tours", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY))
+                .thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenReturn(generatedRows);
+
+        long sum;
+        try (var ids = DaoUtils.streamQuery(connection, "SELECT id FROM tours", stmt -> {}, rs -> rs.getInt("id"))) {
+            sum = ids.mapToLong(Integer::longValue).sum();
+        }
+
+        assertEquals((long) rows * (rows + 1) / 2, sum);
+        assertTrue(closed[0]);
+        verify(preparedStatement).setFetchSize(Integer.MIN_VALUE);
+        verify(preparedStatement).close();
+        verify(connection).close();
+    }
+
+    @Test
+    void testStreamQuery_ClosesConnectionWhenQueryFails() throws SQLException {
+        when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(preparedStatement);
+        when(preparedStatement.executeQuery()).thenThrow(new SQLException("Table missing"));
+
+        assertThrows(SQLException.class, () -> DaoUtils.streamQuery(connection, "SELECT * FROM missing", stmt -> {}, mapper));
+
+        verify(preparedStatement).close();
+        verify(connection).close();
+    }
+
     @Test
     void testResultSetMapper_FunctionalInterface() throws SQLException {
         ResultSetMapper<String> testMapper = rs -> rs.getString("name");
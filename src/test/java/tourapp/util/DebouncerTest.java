@@ -0,0 +1,96 @@
+package tourapp.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DebouncerTest {
+
+    private static final Duration DELAY = Duration.ofMillis(50);
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final Debouncer debouncer = new Debouncer(DELAY, scheduler, Runnable::run);
+    private final List<String> calls = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    // Runs after every action scheduled before it, since the scheduler has a single thread.
+    private void awaitQuiet() throws InterruptedException {
+        CountDownLatch drained = new CountDownLatch(1);
+        scheduler.schedule(drained::countDown, DELAY.toMillis() * 2, TimeUnit.MILLISECONDS);
+        assertTrue(drained.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldCoalesceBurstIntoOneCallWithLastInput() throws InterruptedException {
+        // When
+        for (String text : List.of("к", "ка", "кар", "карп", "карпат")) {
+            debouncer.trigger(() -> calls.add(text));
+        }
+        awaitQuiet();
+
+        // Then
+        assertEquals(List.of("карпат"), calls);
+    }
+
+    @Test
+    void shouldRunAgainForInputAfterQuietPeriod() throws InterruptedException {
+        // When
+        debouncer.trigger(() -> calls.add("first"));
+        awaitQuiet();
+        debouncer.trigger(() -> calls.add("second"));
+        awaitQuiet();
+
+        // Then
+        assertEquals(List.of("first", "second"), calls);
+    }
+
+    @Test
+    void shouldNotRunCancelledAction() throws InterruptedException {
+        // When
+        debouncer.trigger(() -> calls.add("typed"));
+        debouncer.cancel();
+        awaitQuiet();
+
+        // Then
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    void shouldDropActionCancelledAfterTimerFired() {
+        // Given
+        List<Runnable> dispatched = new CopyOnWriteArrayList<>();
+        CountDownLatch fired = new CountDownLatch(1);
+        Debouncer queued = new Debouncer(Duration.ZERO, scheduler, action -> {
+            dispatched.add(action);
+            fired.countDown();
+        });
+
+        // When
+        queued.trigger(() -> calls.add("typed"));
+        assertDoesNotThrow(() -> assertTrue(fired.await(5, TimeUnit.SECONDS)));
+        queued.cancel();
+        dispatched.forEach(Runnable::run);
+
+        // Then
+        assertTrue(calls.isEmpty());
+    }
+
+    @Test
+    void shouldRejectNegativeDelay() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Debouncer(Duration.ofMillis(-1), scheduler, Runnable::run));
+    }
+}
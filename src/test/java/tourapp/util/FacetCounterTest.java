@@ -0,0 +1,74 @@
+package tourapp.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FacetCounterTest {
+
+    private FacetCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        counter = new FacetCounter(List.of("country", "meal_types"));
+        // Tour 1: Україна, сніданок + вечеря; tour 2: Україна, сніданок; tour 3: Італія, вечеря; tour 4: no location
+        counter.add(1, "country", "Україна");
+        counter.add(1, "meal_types", "Сніданок");
+        counter.add(1, "meal_types", "Вечеря");
+        counter.add(1, "country", "Україна");
+        counter.add(2, "country", "Україна");
+        counter.add(2, "meal_types", "Сніданок");
+        counter.add(3, "country", "Італія");
+        counter.add(3, "meal_types", "Вечеря");
+        counter.add(4, "country", null);
+        counter.add(4, "meal_types", "Сніданок");
+    }
+
+    @Test
+    void count_ShouldCountEveryOptionWithoutSelections() {
+        // When
+        Map<String, List<FacetValue>> counts = counter.count(Map.of());
+
+        // Then
+        assertEquals(List.of(new FacetValue("Італія", 1), new FacetValue("Україна", 2)), counts.get("country"));
+        assertEquals(List.of(new FacetValue("Вечеря", 2), new FacetValue("Сніданок", 3)), counts.get("meal_types"));
+        assertEquals(4, counter.documentCount());
+    }
+
+    @Test
+    void count_ShouldNarrowOtherFacetsButNotTheSelectedOne() {
+        // When
+        Map<String, List<FacetValue>> counts = counter.count(Map.of("country", List.of("Україна")));
+
+        // Then
+        assertEquals(List.of(new FacetValue("Італія", 1), new FacetValue("Україна", 2)), counts.get("country"));
+        assertEquals(List.of(new FacetValue("Вечеря", 1), new FacetValue("Сніданок", 2)), counts.get("meal_types"));
+    }
+
+    @Test
+    void count_ShouldCombineOptionsOfOneFacetWithOr() {
+        // When
+        Map<String, List<FacetValue>> counts = counter.count(Map.of("meal_types", List.of("Сніданок", "Вечеря")));
+
+        // Then
+        assertEquals(List.of(new FacetValue("Італія", 1), new FacetValue("Україна", 2)), counts.get("country"));
+    }
+
+    @Test
+    void count_ShouldGiveZeroForUnknownSelection() {
+        // When
+        Map<String, List<FacetValue>> counts = counter.count(Map.of("country", List.of("Франція")));
+
+        // Then
+        assertEquals(List.of(new FacetValue("Вечеря", 0), new FacetValue("Сніданок", 0)), counts.get("meal_types"));
+    }
+
+    @Test
+    void add_ShouldRejectUnknownFacet() {
+        assertThrows(IllegalArgumentException.class, () -> counter.add(1, "price", "100"));
+    }
+}
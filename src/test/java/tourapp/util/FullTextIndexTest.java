@@ -0,0 +1,114 @@
+package tourapp.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FullTextIndexTest {
+
+    private FullTextIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new FullTextIndex();
+        index.load(Map.of(
+                1, "Тур до Карпат: гори, ліс і п'ять днів відпочинку",
+                2, "Карпати взимку. Карпати для лижників",
+                3, "Екскурсія Львовом та Карпатами",
+                4, "Морський відпочинок в Одесі"));
+    }
+
+    private List<Integer> ids(String query) {
+        return index.search(query, 10).stream().map(FullTextIndex.Hit::id).toList();
+    }
+
+    @Test
+    void tokenize_ShouldLowercaseSplitAndDropStopWords() {
+        assertEquals(List.of("тур", "карпат", "гори", "ліс", "п'ять", "днів"),
+                FullTextIndex.tokenize("Тур до КАРПАТ: гори, ліс і пʼять днів"));
+    }
+
+    @Test
+    void tokenize_ShouldNormalizeApostrophes() {
+        assertEquals(FullTextIndex.tokenize("п'ять"), FullTextIndex.tokenize("п’ять"));
+        assertEquals(FullTextIndex.tokenize("п'ять"), FullTextIndex.tokenize("пʼять"));
+    }
+
+    @Test
+    void search_ShouldMatchWordPrefixesAndRankByRelevance() {
+        // When
+        List<Integer> result = ids("карпат");
+
+        // Then
+        assertEquals(3, result.size());
+        assertEquals(2, result.getFirst()); // mentioned twice in a short text
+        assertTrue(result.containsAll(List.of(1, 3)));
+    }
+
+    @Test
+    void search_ShouldRankWholeWordAboveLongerForm() {
+        // Given
+        FullTextIndex small = new FullTextIndex();
+        small.load(Map.of(1, "Похід Карпатами", 2, "Похід до Карпат"));
+
+        // When
+        List<FullTextIndex.Hit> hits = small.search("карпат", 10);
+
+        // Then
+        assertEquals(List.of(2, 1), hits.stream().map(FullTextIndex.Hit::id).toList());
+        assertTrue(hits.get(0).score() > hits.get(1).score());
+    }
+
+    @Test
+    void search_ShouldRequireEveryQueryWord() {
+        assertEquals(List.of(3), ids("Львов карпат"));
+        assertEquals(List.of(), ids("Одеса карпат"));
+    }
+
+    @Test
+    void search_ShouldNotExpandShortWords() {
+        assertEquals(List.of(), ids("ка"));
+    }
+
+    @Test
+    void search_ShouldReturnNothingForBlankQuery() {
+        assertEquals(List.of(), ids("  , "));
+    }
+
+    @Test
+    void search_ShouldRespectLimit() {
+        assertEquals(1, index.search("карпат", 1).size());
+    }
+
+    @Test
+    void put_ShouldReplacePreviousText() {
+        // When
+        index.put(4, "Зимові Карпати");
+
+        // Then
+        assertTrue(ids("карпат").contains(4));
+        assertEquals(List.of(), ids("морський"));
+        assertEquals(4, index.size());
+    }
+
+    @Test
+    void remove_ShouldDropDocument() {
+        // When
+        index.remove(1);
+
+        // Then
+        assertFalse(ids("карпат").contains(1));
+        assertEquals(List.of(), ids("ліс"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void load_ShouldMarkIndexLoaded() {
+        assertFalse(new FullTextIndex().isLoaded());
+        assertTrue(index.isLoaded());
+    }
+}
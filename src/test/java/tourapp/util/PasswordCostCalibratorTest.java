@@ -0,0 +1,58 @@
+package tourapp.util;
+
+import org.junit.jupiter.api.Test;
+import tourapp.model.user.User;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordCostCalibratorTest {
+
+    // Simulated machine: cost 4 verifies in 1 ms and every further step doubles that.
+    private static long simulatedNanos(int cost) {
+        return Duration.ofMillis(1).toNanos() << (cost - User.MIN_PASSWORD_COST);
+    }
+
+    @Test
+    void shouldPickLargestCostWithinTarget() {
+        // 1, 2, 4, 8, 16, 32, 64, 128 ms for costs 4..11
+        int cost = PasswordCostCalibrator.calibrate(Duration.ofMillis(100), PasswordCostCalibratorTest::simulatedNanos);
+
+        assertEquals(10, cost);
+    }
+
+    @Test
+    void shouldStopBeforeMeasuringACostThatCannotFit() {
+        List<Integer> measured = new ArrayList<>();
+
+        PasswordCostCalibrator.calibrate(Duration.ofMillis(100), cost -> {
+            measured.add(cost);
+            return simulatedNanos(cost);
+        });
+
+        assertEquals(List.of(4, 5, 6, 7, 8, 9, 10), measured);
+    }
+
+    @Test
+    void shouldFallBackToMinimumOnSlowMachine() {
+        int cost = PasswordCostCalibrator.calibrate(Duration.ofMillis(1), c -> Duration.ofMillis(50).toNanos());
+
+        assertEquals(User.MIN_PASSWORD_COST, cost);
+    }
+
+    @Test
+    void shouldNotExceedUpperBound() {
+        int cost = PasswordCostCalibrator.calibrate(Duration.ofSeconds(10), c -> 0L);
+
+        assertEquals(PasswordCostCalibrator.MAX_CALIBRATED_COST, cost);
+    }
+
+    @Test
+    void shouldRejectNonPositiveTarget() {
+        assertThrows(IllegalArgumentException.class,
+                () -> PasswordCostCalibrator.calibrate(Duration.ZERO, c -> 0L));
+    }
+}
@@ -0,0 +1,136 @@
+package tourapp.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UnitOfWorkTest {
+
+    private List<Connection> physicalConnections;
+    private ConnectionFactory connectionFactory;
+
+    @BeforeEach
+    void setUp() {
+        physicalConnections = new ArrayList<>();
+        connectionFactory = new ConnectionFactory(() -> {
+            Connection connection = mock(Connection.class);
+            when(connection.getAutoCommit()).thenReturn(true);
+            physicalConnections.add(connection);
+            return connection;
+        }, null);
+    }
+
+    @Test
+    void shouldCommitOnceAndShareConnectionWithNestedCalls() throws SQLException {
+        // When
+        Integer result = UnitOfWork.execute(connectionFactory, conn -> {
+            try (Connection nested = connectionFactory.getConnection()) {
+                nested.prepareStatement("DELETE FROM tour_locations WHERE tour_id = ?");
+            }
+            try (Connection nested = connectionFactory.getConnection()) {
+                nested.prepareStatement("INSERT INTO tour_locations (tour_id, location_id) VALUES (?, ?)");
+            }
+            return 42;
+        });
+
+        // Then
+        assertEquals(42, result);
+        assertEquals(1, physicalConnections.size());
+        Connection physical = physicalConnections.getFirst();
+        verify(physical).setAutoCommit(false);
+        verify(physical, times(1)).commit();
+        verify(physical, never()).rollback();
+        verify(physical).setAutoCommit(true);
+        verify(physical, times(1)).close();
+        assertFalse(connectionFactory.isInTransaction());
+    }
+
+    @Test
+    void shouldRollbackAndRethrowWhenWorkFails() throws SQLException {
+        // When
+        SQLException exception = assertThrows(SQLException.class, () ->
+                UnitOfWork.execute(connectionFactory, conn -> {
+                    throw new SQLException("Insert failed");
+                }));
+
+        // Then
+        assertEquals("Insert failed", exception.getMessage());
+        Connection physical = physicalConnections.getFirst();
+        verify(physical).rollback();
+        verify(physical, never()).commit();
+        verify(physical).close();
+        assertFalse(connectionFactory.isInTransaction());
+    }
+
+    @Test
+    void shouldNotLetNestedCallEndTransaction() throws SQLException {
+        // When
+        UnitOfWork.execute(connectionFactory, conn -> {
+            try (Connection nested = connectionFactory.getConnection()) {
+                assertThrows(SQLException.class, nested::commit);
+                assertThrows(SQLException.class, nested::rollback);
+                assertThrows(SQLException.class, () -> nested.setAutoCommit(true));
+                nested.setAutoCommit(false);
+            }
+            return null;
+        });
+
+        // Then
+        Connection physical = physicalConnections.getFirst();
+        verify(physical, times(1)).commit();
+        verify(physical, never()).rollback();
+        verify(physical, times(2)).setAutoCommit(false);
+        verify(physical, times(1)).setAutoCommit(true);
+    }
+
+    @Test
+    void shouldJoinOuterUnitOfWork() throws SQLException {
+        // When
+        UnitOfWork.execute(connectionFactory, outer ->
+                UnitOfWork.execute(connectionFactory, inner -> true));
+
+        // Then
+        assertEquals(1, physicalConnections.size());
+        verify(physicalConnections.getFirst(), times(1)).commit();
+    }
+
+    @Test
+    void shouldUseSeparateConnectionsOutsideUnitOfWork() throws SQLException {
+        // When
+        connectionFactory.getConnection().close();
+        connectionFactory.getConnection().close();
+
+        // Then
+        assertEquals(2, physicalConnections.size());
+    }
+
+    @Test
+    void shouldKeepWorkFailureWhenRestoringAutoCommitFails() throws SQLException {
+        // Given
+        Connection physical = mock(Connection.class);
+        when(physical.getAutoCommit()).thenReturn(true);
+        SQLException restoreError = new SQLException("Connection reset");
+        doThrow(restoreError).when(physical).setAutoCommit(true);
+        ConnectionFactory brokenFactory = new ConnectionFactory(() -> physical, null);
+
+        // When
+        SQLException exception = assertThrows(SQLException.class, () ->
+                UnitOfWork.execute(brokenFactory, conn -> {
+                    throw new SQLException("Insert failed");
+                }));
+
+        // Then
+        assertEquals("Insert failed", exception.getMessage());
+        assertArrayEquals(new Throwable[]{restoreError}, exception.getSuppressed());
+        verify(physical).rollback();
+        verify(physical).close();
+        assertFalse(brokenFactory.isInTransaction());
+    }
+}
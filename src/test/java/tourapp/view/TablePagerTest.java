@@ -0,0 +1,115 @@
+package tourapp.view;
+
+import javafx.scene.Scene;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+import tourapp.util.AsyncLoader;
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
+import tourapp.util.PageRequest.SortKey;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TablePagerTest extends ApplicationTest {
+
+    private TableView<Integer> table;
+    private TableColumn<Integer, Integer> idCol;
+    private TableColumn<Integer, Integer> priceCol;
+    private TableColumn<Integer, Integer> noteCol;
+    private final List<PageRequest> requests = new ArrayList<>();
+
+    @Override
+    public void start(Stage stage) {
+        table = new TableView<>();
+        idCol = new TableColumn<>("ID");
+        priceCol = new TableColumn<>("Ціна");
+        noteCol = new TableColumn<>("Примітка");
+        table.getColumns().setAll(List.of(idCol, priceCol, noteCol));
+        stage.setScene(new Scene(new StackPane(table), 400, 600));
+        stage.show();
+    }
+
+    // Loads synchronously on the calling thread, so every assertion sees the delivered page.
+    private TablePager<Integer> pager() {
+        return new TablePager<>(table, new AsyncLoader(Runnable::run, Runnable::run), e -> fail(e))
+                .sortable(idCol, "id")
+                .sortable(priceCol, "price");
+    }
+
+    // pages pages of size rows each; every page but the last has a next cursor.
+    private TablePager.PageSource<Integer> source(int pages, int size) {
+        return request -> {
+            requests.add(request);
+            int page = request.after() == null ? 0 : request.after().id();
+            List<Integer> rows = IntStream.range(page * size, page * size + size).boxed().toList();
+            Page.Cursor next = page + 1 < pages ? new Page.Cursor(List.of(), page + 1) : null;
+            return new Page<>(rows, next);
+        };
+    }
+
+    @Test
+    void shouldReloadFirstPageInHeaderOrder() {
+        // Given
+        TablePager<Integer> pager = pager();
+        interact(() -> pager.reload(source(1, 5), rows -> { }));
+
+        // When
+        interact(() -> table.getSortOrder().setAll(List.of(priceCol)));
+        interact(() -> priceCol.setSortType(TableColumn.SortType.DESCENDING));
+
+        // Then
+        assertEquals(List.of(), requests.get(0).sort());
+        assertEquals(List.of(SortKey.asc("price")), requests.get(1).sort());
+        assertEquals(List.of(SortKey.desc("price")), requests.get(2).sort());
+        assertNull(requests.get(2).after());
+        assertEquals(3, requests.size());
+    }
+
+    @Test
+    void shouldKeepHeaderOrderOnNextReload() {
+        // Given
+        TablePager<Integer> pager = pager();
+        interact(() -> {
+            pager.reload(source(1, 5), rows -> { });
+            table.getSortOrder().setAll(List.of(idCol));
+        });
+
+        // When
+        interact(() -> pager.reload(source(1, 5), rows -> { }));
+
+        // Then
+        assertEquals(List.of(SortKey.asc("id")), requests.getLast().sort());
+    }
+
+    @Test
+    void shouldOnlySortColumnsWithSortProperty() {
+        // When
+        interact(this::pager);
+
+        // Then
+        assertTrue(idCol.isSortable());
+        assertTrue(priceCol.isSortable());
+        assertFalse(noteCol.isSortable());
+    }
+
+    @Test
+    void shouldLoadNextPagesWhileRowsDoNotOverflowTable() {
+        // Given
+        TablePager<Integer> pager = pager();
+
+        // When
+        interact(() -> pager.reload(source(3, 3), rows -> { }));
+
+        // Then
+        assertEquals(9, table.getItems().size());
+        assertFalse(pager.hasMore());
+    }
+}
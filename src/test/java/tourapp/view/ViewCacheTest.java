@@ -0,0 +1,118 @@
+package tourapp.view;
+
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.testfx.framework.junit5.ApplicationTest;
+
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+public class ViewCacheTest extends ApplicationTest {
+
+    private static final String DASHBOARD = "/tourapp/view/tour/mainDashboard.fxml";
+    private static final String BOOKED = "/tourapp/view/bookedTours.fxml";
+    private static final String PROFILE = "/tourapp/view/user/userCabinet.fxml";
+
+    @Override
+    public void start(Stage stage) {
+    }
+
+    // A scene whose root has the given number of nodes in total.
+    private static Scene sceneOf(int nodes) {
+        VBox root = new VBox();
+        IntStream.range(1, nodes).forEach(i -> root.getChildren().add(new Label("рядок " + i)));
+        return new Scene(root);
+    }
+
+    @Test
+    void shouldReturnCachedScreenForSamePathAndRole() {
+        // Given
+        ViewCache cache = new ViewCache();
+        BaseController controller = mock(BaseController.class);
+        Scene scene = sceneOf(3);
+        cache.put(DASHBOARD, "customer", controller, scene);
+
+        // When
+        ViewCache.Screen screen = cache.get(DASHBOARD, "customer");
+
+        // Then
+        assertSame(controller, screen.controller());
+        assertSame(scene, screen.scene());
+        assertNull(cache.get(DASHBOARD, "admin"));
+        assertEquals(1, cache.stats().hits());
+        assertEquals(1, cache.stats().misses());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyShownScreenOverScreenLimit() {
+        // Given
+        ViewCache cache = new ViewCache(2, 1_000);
+        cache.put(DASHBOARD, "customer", mock(BaseController.class), sceneOf(3));
+        cache.put(BOOKED, "customer", mock(BaseController.class), sceneOf(3));
+        cache.get(DASHBOARD, "customer");
+
+        // When
+        cache.put(PROFILE, "customer", mock(BaseController.class), sceneOf(3));
+
+        // Then
+        assertNotNull(cache.get(DASHBOARD, "customer"));
+        assertNull(cache.get(BOOKED, "customer"));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    void shouldEvictColdScreensOverNodeBudgetButKeepCurrentOne() {
+        // Given
+        ViewCache cache = new ViewCache(10, 100);
+        cache.put(DASHBOARD, "customer", mock(BaseController.class), sceneOf(40));
+        cache.put(BOOKED, "customer", mock(BaseController.class), sceneOf(40));
+
+        // When
+        cache.put(PROFILE, "customer", mock(BaseController.class), sceneOf(150));
+
+        // Then
+        assertEquals(1, cache.stats().screens());
+        assertEquals(150, cache.stats().nodes());
+        assertNotNull(cache.get(PROFILE, "customer"));
+    }
+
+    @Test
+    void shouldRecountNodesWhenScreenIsShownAgain() {
+        // Given
+        ViewCache cache = new ViewCache();
+        Scene scene = sceneOf(5);
+        cache.put(DASHBOARD, "customer", mock(BaseController.class), scene);
+
+        // When
+        ((VBox) scene.getRoot()).getChildren().add(new Label("ще один тур"));
+        cache.get(DASHBOARD, "customer");
+
+        // Then
+        assertEquals(6, cache.stats().nodes());
+    }
+
+    @Test
+    void shouldDropEverythingOnClear() {
+        // Given
+        ViewCache cache = new ViewCache();
+        cache.put(DASHBOARD, "customer", mock(BaseController.class), sceneOf(3));
+
+        // When
+        cache.clear();
+
+        // Then
+        assertNull(cache.get(DASHBOARD, "customer"));
+        assertEquals(0, cache.stats().nodes());
+    }
+
+    @Test
+    void shouldRejectNonPositiveLimits() {
+        assertThrows(IllegalArgumentException.class, () -> new ViewCache(0, 100));
+        assertThrows(IllegalArgumentException.class, () -> new ViewCache(1, 0));
+    }
+}
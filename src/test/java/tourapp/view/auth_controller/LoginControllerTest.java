@@ -12,8 +12,9 @@ import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
 import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.Start;
+import org.testfx.util.WaitForAsyncUtils;
 import tourapp.model.user.User;
-import tourapp.service.user_service.UserService;
+import tourapp.service.user_service.CredentialService;
 import tourapp.util.ControllerFactory;
 import tourapp.util.SessionManager;
 import tourapp.util.validation.FormValidator;
@@ -23,6 +24,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.lang.reflect.Field;
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -30,7 +32,7 @@ import static org.mockito.Mockito.*;
 @ExtendWith(ApplicationExtension.class)
 class LoginControllerTest {
 
-    @Mock private UserService userService;
+    @Mock private CredentialService credentialService;
     @Mock private SessionManager sessionManager;
     @Mock private Stage stage;
     @Mock private ControllerFactory controllerFactory;
@@ -53,7 +55,7 @@ class LoginControllerTest {
 
         formValidatorMock = mockStatic(FormValidator.class);
 
-        controller = spy(new LoginController(userService, sessionManager, stage, controllerFactory));
+        controller = spy(new LoginController(credentialService, sessionManager, stage, controllerFactory));
         setupBasicMocks();
     }
 
@@ -101,13 +103,14 @@ class LoginControllerTest {
         formValidatorMock.when(() ->
                 FormValidator.validateLoginForm(any(), any())).thenReturn(true);
 
-        when(userService.authenticate("test@example.com", "password123")).thenReturn(user);
+        when(credentialService.authenticate("test@example.com", "password123")).thenReturn(CompletableFuture.completedFuture(user));
 
         // When
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService).authenticate("test@example.com", "password123");
+        verify(credentialService).authenticate("test@example.com", "password123");
         verify(sessionManager).startSession(user);
         verify(controller).showInfo("Вітаємо, Test User!");
         verify(controllerFactory).createDashboardController();
@@ -124,9 +127,10 @@ class LoginControllerTest {
 
         // When
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService, never()).authenticate(anyString(), anyString());
+        verify(credentialService, never()).authenticate(anyString(), anyString());
         verify(sessionManager, never()).startSession(any());
         verify(controllerFactory, never()).createDashboardController();
     }
@@ -139,13 +143,14 @@ class LoginControllerTest {
         formValidatorMock.when(() ->
                 FormValidator.validateLoginForm(any(), any())).thenReturn(true);
 
-        when(userService.authenticate("invalid@example.com", "wrongpassword")).thenReturn(null);
+        when(credentialService.authenticate("invalid@example.com", "wrongpassword")).thenReturn(CompletableFuture.completedFuture(null));
 
         // When
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService).authenticate("invalid@example.com", "wrongpassword");
+        verify(credentialService).authenticate("invalid@example.com", "wrongpassword");
         verify(controller).showError("Неправильна електронна пошта або пароль.");
         verify(sessionManager, never()).startSession(any());
         verify(controllerFactory, never()).createDashboardController();
@@ -159,13 +164,14 @@ class LoginControllerTest {
         formValidatorMock.when(() ->
                 FormValidator.validateLoginForm(any(), any())).thenReturn(true);
 
-        when(userService.authenticate("test@example.com", "password123")).thenReturn(user);
+        when(credentialService.authenticate("test@example.com", "password123")).thenReturn(CompletableFuture.completedFuture(user));
 
         // When
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService).authenticate("test@example.com", "password123");
+        verify(credentialService).authenticate("test@example.com", "password123");
         verify(sessionManager).startSession(user);
     }
 
@@ -178,13 +184,14 @@ class LoginControllerTest {
                 FormValidator.validateLoginForm(any(), any())).thenReturn(true);
 
         RuntimeException exception = new RuntimeException("Service unavailable");
-        when(userService.authenticate("test@example.com", "password123")).thenThrow(exception);
+        when(credentialService.authenticate("test@example.com", "password123")).thenReturn(CompletableFuture.failedFuture(exception));
 
         // When
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService).authenticate("test@example.com", "password123");
+        verify(credentialService).authenticate("test@example.com", "password123");
         verify(controller).showError("Сталася помилка при вході: Service unavailable");
         verify(sessionManager, never()).startSession(any());
     }
@@ -198,17 +205,44 @@ class LoginControllerTest {
                 FormValidator.validateLoginForm(any(), any())).thenReturn(true);
 
         SQLException sqlException = new SQLException("Database connection failed");
-        when(userService.authenticate("test@example.com", "password123")).thenThrow(sqlException);
+        when(credentialService.authenticate("test@example.com", "password123")).thenReturn(CompletableFuture.failedFuture(sqlException));
 
         // When
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService).authenticate("test@example.com", "password123");
+        verify(credentialService).authenticate("test@example.com", "password123");
         verify(controller).showError("Сталася помилка при вході: Database connection failed");
         verify(sessionManager, never()).startSession(any());
     }
 
+    @Test
+    void shouldReportProgressWhileAuthenticating() throws Exception {
+        // Given
+        setupUIComponents();
+        setupFormFields("test@example.com", "password123");
+        formValidatorMock.when(() ->
+                FormValidator.validateLoginForm(any(), any())).thenReturn(true);
+
+        CompletableFuture<User> pending = new CompletableFuture<>();
+        when(credentialService.authenticate("test@example.com", "password123")).thenReturn(pending);
+
+        // When
+        controller.handleLogin();
+        controller.handleLogin();
+
+        // Then
+        assertTrue(controller.authenticatingProperty().get());
+        verify(credentialService, times(1)).authenticate("test@example.com", "password123");
+
+        pending.complete(user);
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertFalse(controller.authenticatingProperty().get());
+        verify(sessionManager).startSession(user);
+    }
+
     @Test
     void shouldNavigateToRegisterSuccessfully() {
         // When
@@ -227,14 +261,15 @@ class LoginControllerTest {
         formValidatorMock.when(() ->
                 FormValidator.validateLoginForm(any(), any())).thenReturn(true);
 
-        when(userService.authenticate("test@example.com", "password123")).thenReturn(user);
+        when(credentialService.authenticate("test@example.com", "password123")).thenReturn(CompletableFuture.completedFuture(user));
 
         // When
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        var inOrder = inOrder(userService, sessionManager, controllerFactory, dashboardController);
-        inOrder.verify(userService).authenticate("test@example.com", "password123");
+        var inOrder = inOrder(credentialService, sessionManager, controllerFactory, dashboardController);
+        inOrder.verify(credentialService).authenticate("test@example.com", "password123");
         inOrder.verify(sessionManager).startSession(user);
         inOrder.verify(controllerFactory).createDashboardController();
         inOrder.verify(dashboardController).show();
@@ -250,9 +285,10 @@ class LoginControllerTest {
 
         // When
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService, never()).authenticate(anyString(), anyString());
+        verify(credentialService, never()).authenticate(anyString(), anyString());
         verify(sessionManager, never()).startSession(any());
     }
 
@@ -266,9 +302,10 @@ class LoginControllerTest {
 
         // When
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService, never()).authenticate(anyString(), anyString());
+        verify(credentialService, never()).authenticate(anyString(), anyString());
         verify(sessionManager, never()).startSession(any());
     }
 
@@ -282,9 +319,10 @@ class LoginControllerTest {
 
         // When
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService, never()).authenticate(anyString(), anyString());
+        verify(credentialService, never()).authenticate(anyString(), anyString());
         verify(sessionManager, never()).startSession(any());
     }
 
@@ -297,20 +335,22 @@ class LoginControllerTest {
 
         // First attempt - fail
         setupFormFields("test@example.com", "wrong");
-        when(userService.authenticate("test@example.com", "wrong")).thenReturn(null);
+        when(credentialService.authenticate("test@example.com", "wrong")).thenReturn(CompletableFuture.completedFuture(null));
 
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Second attempt - success
         setupFormFields("test@example.com", "correct");
-        when(userService.authenticate("test@example.com", "correct")).thenReturn(user);
+        when(credentialService.authenticate("test@example.com", "correct")).thenReturn(CompletableFuture.completedFuture(user));
 
         // When
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService).authenticate("test@example.com", "wrong");
-        verify(userService).authenticate("test@example.com", "correct");
+        verify(credentialService).authenticate("test@example.com", "wrong");
+        verify(credentialService).authenticate("test@example.com", "correct");
         verify(sessionManager).startSession(user);
         verify(controller).showError("Неправильна електронна пошта або пароль.");
         verify(controller).showInfo("Вітаємо, Test User!");
@@ -324,13 +364,14 @@ class LoginControllerTest {
         formValidatorMock.when(() ->
                 FormValidator.validateLoginForm(any(), any())).thenReturn(true);
 
-        when(userService.authenticate("test@example.com", "  password123  ")).thenReturn(user);
+        when(credentialService.authenticate("test@example.com", "  password123  ")).thenReturn(CompletableFuture.completedFuture(user));
 
         // When
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService).authenticate("test@example.com", "  password123  ");
+        verify(credentialService).authenticate("test@example.com", "  password123  ");
         verify(sessionManager).startSession(user);
     }
 
@@ -342,13 +383,14 @@ class LoginControllerTest {
         formValidatorMock.when(() ->
                 FormValidator.validateLoginForm(any(), any())).thenReturn(true);
 
-        when(userService.authenticate("test@example.com", "password123")).thenReturn(user);
+        when(credentialService.authenticate("test@example.com", "password123")).thenReturn(CompletableFuture.completedFuture(user));
 
         // When
         controller.handleLogin();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService).authenticate("test@example.com", "password123");
+        verify(credentialService).authenticate("test@example.com", "password123");
         verify(sessionManager).startSession(user);
     }
 
@@ -12,8 +12,10 @@ import org.mockito.MockedStatic;
 import org.mockito.MockitoAnnotations;
 import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.Start;
+import org.testfx.util.WaitForAsyncUtils;
 import tourapp.model.user.User;
 import tourapp.model.user.UserType;
+import tourapp.service.user_service.CredentialService;
 import tourapp.service.user_service.UserService;
 import tourapp.service.user_service.UserTypeService;
 import tourapp.util.ControllerFactory;
@@ -25,6 +27,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
 import java.lang.reflect.Field;
 import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -33,6 +36,7 @@ import static org.mockito.Mockito.*;
 class RegisterControllerTest {
 
     @Mock private UserService userService;
+    @Mock private CredentialService credentialService;
     @Mock private UserTypeService userTypeService;
     @Mock private SessionManager sessionManager;
     @Mock private Stage stage;
@@ -58,7 +62,7 @@ class RegisterControllerTest {
 
         formValidatorMock = mockStatic(FormValidator.class);
 
-        controller = spy(new RegisterController(userService, userTypeService, sessionManager, stage, controllerFactory));
+        controller = spy(new RegisterController(userService, credentialService, userTypeService, sessionManager, stage, controllerFactory));
         setupBasicMocks();
     }
 
@@ -105,17 +109,17 @@ class RegisterControllerTest {
 
         when(userService.findByEmail("test@example.com")).thenReturn(null);
         when(userTypeService.findByExactName("CUSTOMER")).thenReturn(userType);
-        when(userService.create(any(User.class))).thenReturn(true);
-        when(userService.authenticate("test@example.com", "password123")).thenReturn(user);
+        when(credentialService.register(anyString(), anyString(), anyString(), any(UserType.class)))
+                .thenReturn(CompletableFuture.completedFuture(user));
 
         // When
         controller.handleRegister();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
         verify(userService).findByEmail("test@example.com");
         verify(userTypeService).findByExactName("CUSTOMER");
-        verify(userService).create(any(User.class));
-        verify(userService).authenticate("test@example.com", "password123");
+        verify(credentialService).register("testuser", "test@example.com", "password123", userType);
         verify(sessionManager).startSession(user);
         verify(controller).showInfo("Реєстрація успішна!");
         verify(controllerFactory).createDashboardController();
@@ -135,12 +139,44 @@ class RegisterControllerTest {
 
         // When
         controller.handleRegister();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
         verify(userService).findByEmail("existing@example.com");
         verify(controller).showError("Користувач з такою поштою вже існує.");
         verify(userTypeService, never()).findByExactName(anyString());
-        verify(userService, never()).create(any(User.class));
+        verify(credentialService, never()).register(anyString(), anyString(), anyString(), any());
+        assertFalse(controller.registeringProperty().get());
+    }
+
+    @Test
+    void shouldReportProgressWhileRegistering() throws Exception {
+        // Given
+        setupUIComponents();
+        setupFormFields("testuser", "test@example.com", "password123", "password123");
+        formValidatorMock.when(() ->
+                FormValidator.validateRegisterForm(any(), any(), any(), any())).thenReturn(true);
+
+        when(userService.findByEmail("test@example.com")).thenReturn(null);
+        when(userTypeService.findByExactName("CUSTOMER")).thenReturn(userType);
+        CompletableFuture<User> pending = new CompletableFuture<>();
+        when(credentialService.register("testuser", "test@example.com", "password123", userType)).thenReturn(pending);
+
+        // When
+        controller.handleRegister();
+        controller.handleRegister();
+        WaitForAsyncUtils.waitForFxEvents();
+
+        // Then
+        assertTrue(controller.registeringProperty().get());
+        verify(userService, times(1)).findByEmail("test@example.com");
+        verify(credentialService, times(1)).register("testuser", "test@example.com", "password123", userType);
+
+        pending.complete(user);
+        WaitForAsyncUtils.waitForFxEvents();
+
+        assertFalse(controller.registeringProperty().get());
+        verify(sessionManager).startSession(user);
     }
 
     @Test
@@ -156,12 +192,13 @@ class RegisterControllerTest {
 
         // When
         controller.handleRegister();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
         verify(userService).findByEmail("test@example.com");
         verify(userTypeService).findByExactName("CUSTOMER");
         verify(controller).showError("Роль користувача не знайдена. Зверніться до адміністратора.");
-        verify(userService, never()).create(any(User.class));
+        verify(credentialService, never()).register(anyString(), anyString(), anyString(), any());
     }
 
     @Test
@@ -174,20 +211,22 @@ class RegisterControllerTest {
 
         when(userService.findByEmail("test@example.com")).thenReturn(null);
         when(userTypeService.findByExactName("CUSTOMER")).thenReturn(userType);
-        when(userService.create(any(User.class))).thenReturn(false);
+        when(credentialService.register(anyString(), anyString(), anyString(), any(UserType.class)))
+                .thenReturn(CompletableFuture.completedFuture(null));
 
         // When
         controller.handleRegister();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService).create(any(User.class));
+        verify(credentialService).register("testuser", "test@example.com", "password123", userType);
         verify(controller).showError("Не вдалося створити користувача.");
-        verify(userService, never()).authenticate(anyString(), anyString());
+        verify(credentialService, never()).authenticate(anyString(), anyString());
         verify(sessionManager, never()).startSession(any());
     }
 
     @Test
-    void shouldShowErrorWhenAuthenticationAfterRegistrationFails() throws Exception {
+    void shouldStartSessionWithRegisteredUserWithoutReauthenticating() throws Exception {
         // Given
         setupUIComponents();
         setupFormFields("testuser", "test@example.com", "password123", "password123");
@@ -196,17 +235,16 @@ class RegisterControllerTest {
 
         when(userService.findByEmail("test@example.com")).thenReturn(null);
         when(userTypeService.findByExactName("CUSTOMER")).thenReturn(userType);
-        when(userService.create(any(User.class))).thenReturn(true);
-        when(userService.authenticate("test@example.com", "password123")).thenReturn(null);
+        when(credentialService.register(anyString(), anyString(), anyString(), any(UserType.class)))
+                .thenReturn(CompletableFuture.completedFuture(user));
 
         // When
         controller.handleRegister();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(controller).showInfo("Реєстрація успішна!");
-        verify(userService).authenticate("test@example.com", "password123");
-        verify(controller).showError("Помилка автентифікації після реєстрації.");
-        verify(sessionManager, never()).startSession(any());
+        verify(sessionManager).startSession(user);
+        verify(credentialService, never()).authenticate(anyString(), anyString());
     }
 
     @Test
@@ -222,11 +260,34 @@ class RegisterControllerTest {
 
         // When
         controller.handleRegister();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
         verify(controller).showError("Помилка при реєстрації: Database error");
     }
 
+    @Test
+    void shouldShowErrorWhenBackgroundRegistrationFails() throws Exception {
+        // Given
+        setupUIComponents();
+        setupFormFields("testuser", "test@example.com", "password123", "password123");
+        formValidatorMock.when(() ->
+                FormValidator.validateRegisterForm(any(), any(), any(), any())).thenReturn(true);
+
+        when(userService.findByEmail("test@example.com")).thenReturn(null);
+        when(userTypeService.findByExactName("CUSTOMER")).thenReturn(userType);
+        when(credentialService.register(anyString(), anyString(), anyString(), any(UserType.class)))
+                .thenReturn(CompletableFuture.failedFuture(new SQLException("Duplicate entry")));
+
+        // When
+        controller.handleRegister();
+        WaitForAsyncUtils.waitForFxEvents();
+
+        // Then
+        verify(controller).showError("Помилка при реєстрації: Duplicate entry");
+        verify(sessionManager, never()).startSession(any());
+    }
+
     @Test
     void shouldHandleGeneralExceptionDuringRegistration() throws Exception {
         // Given
@@ -240,6 +301,7 @@ class RegisterControllerTest {
 
         // When
         controller.handleRegister();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
         verify(controller).showError("Невідома помилка при реєстрації: General error");
@@ -255,15 +317,16 @@ class RegisterControllerTest {
 
         when(userService.findByEmail("test@example.com")).thenReturn(null);
         when(userTypeService.findByExactName("CUSTOMER")).thenReturn(userType);
-        when(userService.create(any(User.class))).thenReturn(true);
-        when(userService.authenticate("test@example.com", "password123")).thenReturn(user);
+        when(credentialService.register(anyString(), anyString(), anyString(), any(UserType.class)))
+                .thenReturn(CompletableFuture.completedFuture(user));
 
         // When
         controller.handleRegister();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
         verify(userService).findByEmail("test@example.com");
-        verify(userService).authenticate("test@example.com", "password123");
+        verify(credentialService).register("testuser", "test@example.com", "password123", userType);
     }
 
     @Test
@@ -286,18 +349,15 @@ class RegisterControllerTest {
 
         when(userService.findByEmail("test@example.com")).thenReturn(null);
         when(userTypeService.findByExactName("CUSTOMER")).thenReturn(userType);
-        when(userService.create(any(User.class))).thenReturn(true);
-        when(userService.authenticate("test@example.com", "password123")).thenReturn(user);
+        when(credentialService.register(anyString(), anyString(), anyString(), any(UserType.class)))
+                .thenReturn(CompletableFuture.completedFuture(user));
 
         // When
         controller.handleRegister();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        verify(userService).create(argThat(newUser ->
-                "testuser".equals(newUser.getName()) &&
-                        "test@example.com".equals(newUser.getEmail()) &&
-                        userType.equals(newUser.getUserType())
-        ));
+        verify(credentialService).register(eq("testuser"), eq("test@example.com"), eq("password123"), same(userType));
     }
 
     @Test
@@ -310,18 +370,18 @@ class RegisterControllerTest {
 
         when(userService.findByEmail("test@example.com")).thenReturn(null);
         when(userTypeService.findByExactName("CUSTOMER")).thenReturn(userType);
-        when(userService.create(any(User.class))).thenReturn(true);
-        when(userService.authenticate("test@example.com", "password123")).thenReturn(user);
+        when(credentialService.register(anyString(), anyString(), anyString(), any(UserType.class)))
+                .thenReturn(CompletableFuture.completedFuture(user));
 
         // When
         controller.handleRegister();
+        WaitForAsyncUtils.waitForFxEvents();
 
         // Then
-        var inOrder = inOrder(userService, userTypeService, sessionManager, controllerFactory, dashboardController);
+        var inOrder = inOrder(userService, userTypeService, credentialService, sessionManager, controllerFactory, dashboardController);
         inOrder.verify(userService).findByEmail("test@example.com");
         inOrder.verify(userTypeService).findByExactName("CUSTOMER");
-        inOrder.verify(userService).create(any(User.class));
-        inOrder.verify(userService).authenticate("test@example.com", "password123");
+        inOrder.verify(credentialService).register("testuser", "test@example.com", "password123", userType);
         inOrder.verify(sessionManager).startSession(user);
         inOrder.verify(controllerFactory).createDashboardController();
         inOrder.verify(dashboardController).show();
@@ -22,6 +22,8 @@ import tourapp.model.user.UserType;
 import tourapp.service.location_service.LocationService;
 import tourapp.service.location_service.LocationTypeService;
 import tourapp.util.ControllerFactory;
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
 import tourapp.util.SessionManager;
 import tourapp.view.*;
 import tourapp.view.auth_controller.LoginController;
@@ -101,8 +103,8 @@ class LocationControllerTest {
             List<Location> locations = Arrays.asList(testLocation1, testLocation2);
             List<LocationType> locationTypes = Arrays.asList(testLocationType);
 
-            when(locationService.getAll()).thenReturn(locations);
-            when(locationService.search(any(Map.class))).thenReturn(locations);
+            when(locationService.getCountries()).thenReturn(List.of("Україна"));
+            when(locationService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(locations, null));
             when(locationService.getById(1)).thenReturn(testLocation1);
             when(locationService.getById(2)).thenReturn(testLocation2);
             when(locationTypeService.getAll()).thenReturn(locationTypes);
@@ -324,27 +326,27 @@ class LocationControllerTest {
 
         robot.clickOn("#filterButton");
         Thread.sleep(200);
-        verify(locationService, times(1)).search(any(Map.class));
+        verify(locationService, times(1)).searchPage(any(Map.class), any(PageRequest.class));
 
         reset(locationService);
-        when(locationService.search(any(Map.class))).thenReturn(Arrays.asList(testLocation1));
+        when(locationService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(Arrays.asList(testLocation1), null));
 
         robot.clickOn("#keywordField").eraseText(10).write("Київ");
         robot.clickOn("#filterButton");
         Thread.sleep(200);
-        verify(locationService, times(1)).search(argThat(filters ->
-                filters.containsKey("keyword") && "Київ".equals(filters.get("keyword"))));
+        verify(locationService, times(1)).searchPage(argThat(filters ->
+                filters.containsKey("keyword") && "Київ".equals(filters.get("keyword"))), any(PageRequest.class));
 
         robot.clickOn("#resetFiltersButton");
         Thread.sleep(200);
-        verify(locationService, atLeastOnce()).search(any(Map.class));
+        verify(locationService, atLeastOnce()).searchPage(any(Map.class), any(PageRequest.class));
     }
 
     @Test
     void testFilterWithSQLExceptions(FxRobot robot) throws SQLException, InterruptedException {
         waitForFxEvents();
 
-        when(locationService.search(any(Map.class)))
+        when(locationService.searchPage(any(Map.class), any(PageRequest.class)))
                 .thenThrow(new SQLException("Database connection error"));
 
         robot.clickOn("#filterButton");
@@ -437,7 +439,7 @@ class LocationControllerTest {
 
     @Test
     void testInitializationWithExceptions() throws SQLException {
-        when(locationService.getAll()).thenThrow(new SQLException("Database error"));
+        when(locationService.getCountries()).thenThrow(new SQLException("Database error"));
         when(locationTypeService.getAll()).thenThrow(new SQLException("Database error"));
 
         CountDownLatch latch = new CountDownLatch(1);
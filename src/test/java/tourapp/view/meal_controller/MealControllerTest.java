@@ -20,10 +20,11 @@ import tourapp.model.meal.Meal;
 import tourapp.model.meal.MealType;
 import tourapp.model.user.User;
 import tourapp.model.user.UserType;
-import tourapp.service.meal_service.MealMealTypeService;
 import tourapp.service.meal_service.MealService;
 import tourapp.service.meal_service.MealTypeService;
 import tourapp.util.ControllerFactory;
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
 import tourapp.util.SessionManager;
 import tourapp.view.*;
 import tourapp.view.auth_controller.LoginController;
@@ -48,7 +49,6 @@ class MealControllerTest {
 
     @Mock private MealService mealService;
     @Mock private MealTypeService mealTypeService;
-    @Mock private MealMealTypeService mealMealTypeService;
     @Mock private SessionManager sessionManager;
     @Mock private ControllerFactory controllerFactory;
     @Mock private SessionManager.UserSession userSession;
@@ -73,7 +73,7 @@ class MealControllerTest {
         this.stage = stage;
         MockitoAnnotations.openMocks(this);
         setupMocks();
-        controller = spy(new MealController(stage, sessionManager, mealService, mealTypeService, mealMealTypeService, controllerFactory));
+        controller = spy(new MealController(stage, sessionManager, mealService, mealTypeService, controllerFactory));
         BaseController.logger = logger;
         controller.show();
     }
@@ -81,7 +81,7 @@ class MealControllerTest {
     @BeforeEach
     void setUp() {
         setupTestData();
-        reset(mealService, mealTypeService, mealMealTypeService, controllerFactory, navigationController,
+        reset(mealService, mealTypeService, controllerFactory, navigationController,
                 dashboardController, bookedToursController, adminPanelController,
                 userCabinetController, loginController);
         setupMocks();
@@ -107,11 +107,12 @@ class MealControllerTest {
             List<MealType> mealTypes = Arrays.asList(testMealType1, testMealType2);
 
             when(mealService.getAll()).thenReturn(meals);
-            when(mealService.search(any(Map.class))).thenReturn(meals);
+            when(mealService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(meals, null));
             when(mealService.getById(1)).thenReturn(testMeal1);
             when(mealService.getById(2)).thenReturn(testMeal2);
             when(mealTypeService.getAll()).thenReturn(mealTypes);
-            when(mealMealTypeService.findById1(anyInt())).thenReturn(mealTypes);
+            testMeal1.setMealTypes(mealTypes);
+            testMeal2.setMealTypes(List.of(testMealType1));
 
             when(controllerFactory.createNavigationController()).thenReturn(navigationController);
             when(navigationController.createNavigationBar(anyString())).thenReturn(new HBox());
@@ -404,17 +405,17 @@ class MealControllerTest {
 
         robot.clickOn("#filterButton");
         Thread.sleep(200);
-        verify(mealService, times(1)).search(any(Map.class));
+        verify(mealService, times(1)).searchPage(any(Map.class), any(PageRequest.class));
 
         reset(mealService);
-        when(mealService.search(any(Map.class))).thenReturn(Arrays.asList(testMeal1));
+        when(mealService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(Arrays.asList(testMeal1), null));
 
         robot.clickOn("#keywordField").eraseText(20).write("Континентальний");
         robot.clickOn("#filterButton");
         Thread.sleep(200);
-        verify(mealService, times(1)).search(argThat(filters ->
+        verify(mealService, times(1)).searchPage(argThat(filters ->
                 filters.containsKey("name") && "Континентальний".equals(filters.get("name"))
-        ));
+        ), any(PageRequest.class));
 
         reset(mealService);
         Platform.runLater(() -> {
@@ -424,9 +425,9 @@ class MealControllerTest {
         Thread.sleep(200);
         robot.clickOn("#filterButton");
         Thread.sleep(200);
-        verify(mealService, times(1)).search(argThat(filters ->
+        verify(mealService, times(1)).searchPage(argThat(filters ->
                 filters.containsKey("meal_type") && "Сніданок".equals(filters.get("meal_type"))
-        ));
+        ), any(PageRequest.class));
     }
 
     @Test
@@ -444,19 +445,19 @@ class MealControllerTest {
         robot.clickOn("#filterButton");
         Thread.sleep(200);
 
-        verify(mealService, times(1)).search(argThat(filters ->
+        verify(mealService, times(1)).searchPage(argThat(filters ->
                 filters.containsKey("minPrice") &&
                         filters.containsKey("maxPrice") &&
                         Double.valueOf(200.0).equals(filters.get("minPrice")) &&
                         Double.valueOf(500.0).equals(filters.get("maxPrice"))
-        ));
+        ), any(PageRequest.class));
     }
 
     @Test
     void testFilterWithSQLExceptions(FxRobot robot) throws SQLException, InterruptedException {
         waitForFxEvents();
 
-        when(mealService.search(any(Map.class)))
+        when(mealService.searchPage(any(Map.class), any(PageRequest.class)))
                 .thenThrow(new SQLException("Database connection error"));
 
         robot.clickOn("#filterButton");
@@ -694,14 +695,14 @@ class MealControllerTest {
 
     @Test
     void testInitializationWithExceptions() throws SQLException {
-        when(mealService.search(any(Map.class))).thenThrow(new SQLException("Database error"));
+        when(mealService.searchPage(any(Map.class), any(PageRequest.class))).thenThrow(new SQLException("Database error"));
         when(mealTypeService.getAll()).thenThrow(new SQLException("Database error"));
 
         CountDownLatch latch = new CountDownLatch(1);
         Platform.runLater(() -> {
             try {
                 MealController errorController = new MealController(
-                        stage, sessionManager, mealService, mealTypeService, mealMealTypeService, controllerFactory);
+                        stage, sessionManager, mealService, mealTypeService, controllerFactory);
                 assertNotNull(errorController);
             } finally {
                 latch.countDown();
@@ -742,7 +743,7 @@ class MealControllerTest {
 
     @Test
     void testLoadMealsWithEmptyResult(FxRobot robot) throws SQLException, InterruptedException {
-        when(mealService.search(any(Map.class))).thenReturn(Collections.emptyList());
+        when(mealService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(Collections.emptyList(), null));
         doNothing().when(controller).showInfo(anyString());
 
         waitForFxEvents();
@@ -19,6 +19,7 @@ import org.testfx.framework.junit5.Start;
 import org.testfx.matcher.base.NodeMatchers;
 import tourapp.model.location.Location;
 import tourapp.model.tour.Tour;
+import tourapp.model.tour.TourBookingCount;
 import tourapp.model.user.User;
 import tourapp.model.user.UserTour;
 import tourapp.model.user.UserType;
@@ -31,7 +32,6 @@ import tourapp.view.*;
 import tourapp.view.auth_controller.LoginController;
 import tourapp.view.user_controller.UserCabinetController;
 
-import java.io.IOException;
 import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.*;
@@ -107,7 +107,8 @@ class BookedToursControllerTest {
 
             when(userTourService.findById1(1)).thenReturn(Arrays.asList(testUserTour1, testUserTour2));
             when(userTourService.findById2(anyInt())).thenReturn(Arrays.asList(testUserTour1));
-            when(userTourService.countUsersByTourId(anyInt())).thenReturn(2);
+            when(userTourService.countBookingsPerTour()).thenReturn(Arrays.asList(
+                    new TourBookingCount(testTour1, 2), new TourBookingCount(testTour2, 2)));
             when(userService.getById(1)).thenReturn(testCustomer);
             when(tourService.getAll()).thenReturn(Arrays.asList(testTour1, testTour2));
             when(tourService.getById(1)).thenReturn(testTour1);
@@ -406,8 +407,7 @@ class BookedToursControllerTest {
                 assertEquals(280.0, card.getPrefWidth());
                 assertTrue(card.getStyleClass().contains("user-dashboard-card"));
                 assertEquals(6, card.getChildren().size());
-            } catch (IOException e) {
-                throw new RuntimeException(e);
+                assertEquals(testTour1.getDescription(), ((Label) card.getChildren().getFirst()).getText());
             } finally {
                 latch.countDown();
             }
@@ -441,8 +441,8 @@ class BookedToursControllerTest {
             Thread.currentThread().interrupt();
         }
 
-        verify(tourService).getAll();
-        verify(userTourService, times(2)).countUsersByTourId(anyInt());
+        verify(userTourService).countBookingsPerTour();
+        verify(userTourService, never()).countUsersByTourId(anyInt());
     }
 
     @Test
@@ -4,7 +4,6 @@ import javafx.application.Platform;
 import javafx.scene.control.*;
 import javafx.scene.input.KeyCode;
 import javafx.scene.layout.HBox;
-import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,6 +13,7 @@ import org.slf4j.Logger;
 import org.testfx.api.FxRobot;
 import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.Start;
+import org.testfx.util.WaitForAsyncUtils;
 import tourapp.model.location.Location;
 import tourapp.model.meal.Meal;
 import tourapp.model.tour.Tour;
@@ -28,7 +28,11 @@ import tourapp.service.tour_service.TourService;
 import tourapp.service.tour_service.TourTypeService;
 import tourapp.service.transport_service.TransportService;
 import tourapp.service.user_service.UserTourService;
+import tourapp.util.AsyncLoader;
 import tourapp.util.ControllerFactory;
+import tourapp.util.FacetValue;
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
 import tourapp.util.SessionManager;
 import tourapp.view.*;
 import tourapp.view.auth_controller.LoginController;
@@ -122,13 +126,16 @@ class DashboardControllerTest {
 
             when(tourService.getAll()).thenReturn(tours);
             when(tourService.search(any(Map.class))).thenReturn(tours);
+            when(tourService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(tours, null));
             when(tourService.getById(1)).thenReturn(testTour1);
-            when(tourService.getByIdWithDependencies(1)).thenReturn(testTour1);
+            when(tourService.getForDetails(1)).thenReturn(testTour1);
             when(tourService.getLocationsForTour(1)).thenReturn(locations);
             when(locationService.getAll()).thenReturn(locations);
+            when(locationService.getCountries()).thenReturn(List.of(testLocation.getCountry()));
             when(tourTypeService.getAll()).thenReturn(tourTypes);
             when(mealService.getAll()).thenReturn(meal);
             when(transportService.getAll()).thenReturn(transports);
+            when(transportService.getNames()).thenReturn(List.of(testTransport.getName()));
 
             when(controllerFactory.createNavigationController()).thenReturn(navigationController);
             when(navigationController.createNavigationBar(anyString())).thenReturn(new HBox());
@@ -240,7 +247,7 @@ class DashboardControllerTest {
             try {
                 controller.switchViewMode(false);
                 assertTrue(controller.tourTable.isVisible());
-                assertFalse(controller.cardScrollPane.isVisible());
+                assertFalse(controller.tourCardGrid.isVisible());
             } finally {
                 adminLatch.countDown();
             }
@@ -252,7 +259,7 @@ class DashboardControllerTest {
             try {
                 controller.switchViewMode(true);
                 assertFalse(controller.tourTable.isVisible());
-                assertTrue(controller.cardScrollPane.isVisible());
+                assertTrue(controller.tourCardGrid.isVisible());
             } finally {
                 customerLatch.countDown();
             }
@@ -331,17 +338,17 @@ class DashboardControllerTest {
 
         robot.clickOn("#filterButton");
         Thread.sleep(200);
-        verify(tourService, times(1)).search(any(Map.class));
+        verify(tourService, times(1)).searchPage(any(Map.class), any(PageRequest.class));
 
         reset(tourService);
-        when(tourService.search(any(Map.class))).thenReturn(Arrays.asList(testTour1));
+        when(tourService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(Arrays.asList(testTour1), null));
 
         robot.clickOn("#keywordField").eraseText(10).write("Україна");
         robot.clickOn("#filterButton");
         Thread.sleep(200);
-        verify(tourService, times(1)).search(argThat(filters ->
+        verify(tourService, times(1)).searchPage(argThat(filters ->
                 filters.containsKey("description") && "Україна".equals(filters.get("description"))
-        ));
+        ), any(PageRequest.class));
     }
 
     @Test
@@ -494,7 +501,7 @@ class DashboardControllerTest {
         Platform.runLater(() -> {
             try {
                 controller.displayToursAsCards(tours);
-                assertEquals(2, controller.tourCardContainer.getChildren().size());
+                assertEquals(2, controller.tourCardGrid.getCardItems().size());
             } finally {
                 latch.countDown();
             }
@@ -509,14 +516,14 @@ class DashboardControllerTest {
 
     @Test
     void testShowTourDetails() throws SQLException {
-        when(tourService.getByIdWithDependencies(1)).thenReturn(testTour1);
+        when(tourService.getForDetails(1)).thenReturn(testTour1);
 
         Platform.runLater(() -> {
             controller.showTourDetails(testTour1);
         });
         waitForFxEvents();
 
-        verify(tourService).getByIdWithDependencies(1);
+        verify(tourService).getForDetails(1);
         verifyThat(".dialog-pane", isVisible());
     }
 
@@ -704,12 +711,33 @@ class DashboardControllerTest {
         assertTrue(latch.await(5, TimeUnit.SECONDS));
     }
 
+    @Test
+    void testFacetCountsShownNextToOptions() throws SQLException, InterruptedException {
+        when(tourService.getFacetCounts(any(Map.class))).thenReturn(Map.of(
+                "country", List.of(new FacetValue("Україна", 3))));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                controller.updateFacetCounts(Map.of());
+                assertEquals("Україна (3)", controller.facetLabel("country", "Україна"));
+                assertEquals("Італія (0)", controller.facetLabel("country", "Італія"));
+                assertEquals("Всі", controller.facetLabel("country", "Всі"));
+                assertEquals("Автобус", controller.facetLabel("transport_type", "Автобус"));
+            } finally {
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
     @Test
     void testFilterDataLoadingError() throws SQLException, InterruptedException {
-        when(locationService.getAll()).thenThrow(new SQLException("Location error"));
+        when(locationService.getCountries()).thenThrow(new SQLException("Location error"));
         when(tourTypeService.getAll()).thenThrow(new SQLException("TourType error"));
         when(mealTypeService.getAll()).thenThrow(new SQLException("MealType error"));
-        when(transportService.getAll()).thenThrow(new SQLException("Transport error"));
+        when(transportService.getNames()).thenThrow(new SQLException("Transport error"));
         doNothing().when(controller).showError(anyString());
 
         CountDownLatch latch = new CountDownLatch(1);
@@ -742,7 +770,7 @@ class DashboardControllerTest {
     void testMealTypeMultipleSelection(FxRobot robot) throws SQLException, InterruptedException {
         waitForFxEvents();
         reset(tourService);
-        when(tourService.search(any(Map.class))).thenReturn(Arrays.asList(testTour1));
+        when(tourService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(Arrays.asList(testTour1), null));
 
         Platform.runLater(() -> {
             ListView<String> mealList = robot.lookup("#mealTypeFilterList").queryAs(ListView.class);
@@ -754,17 +782,17 @@ class DashboardControllerTest {
         robot.clickOn("#filterButton");
         Thread.sleep(200);
 
-        verify(tourService).search(argThat(filters ->
+        verify(tourService).searchPage(argThat(filters ->
                 filters.containsKey("meal_types") &&
                         filters.get("meal_types") instanceof List
-        ));
+        ), any(PageRequest.class));
     }
 
     @Test
     void testCustomerFilterActiveOnly(FxRobot robot) throws SQLException, InterruptedException {
         when(userSession.isCustomer()).thenReturn(true);
         reset(tourService);
-        when(tourService.search(any(Map.class))).thenReturn(Arrays.asList(testTour1));
+        when(tourService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(Arrays.asList(testTour1), null));
 
         CountDownLatch latch = new CountDownLatch(1);
         Platform.runLater(() -> {
@@ -776,9 +804,35 @@ class DashboardControllerTest {
         });
 
         assertTrue(latch.await(5, TimeUnit.SECONDS));
-        verify(tourService).search(argThat(filters ->
+        verify(tourService).searchPage(argThat(filters ->
                 filters.containsKey("is_active") && Boolean.TRUE.equals(filters.get("is_active"))
-        ));
+        ), any(PageRequest.class));
+    }
+
+    @Test
+    void testCustomerCardsAppendNextPage() throws SQLException, InterruptedException {
+        when(userSession.isCustomer()).thenReturn(true);
+        reset(tourService);
+        Page.Cursor cursor = new Page.Cursor(List.of(testTour1.getStartDate()), testTour1.getId());
+        when(tourService.searchPage(any(Map.class), argThat(request -> request != null && request.after() == null)))
+                .thenReturn(new Page<>(Arrays.asList(testTour1), cursor));
+        when(tourService.searchPage(any(Map.class), argThat(request -> request != null && cursor.equals(request.after()))))
+                .thenReturn(new Page<>(Arrays.asList(testTour2), null));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            try {
+                controller.loadTours();
+                controller.loadNextCardPage();
+                controller.loadNextCardPage();
+                assertEquals(Arrays.asList(testTour1, testTour2), controller.tourCardGrid.getCardItems());
+            } finally {
+                latch.countDown();
+            }
+        });
+
+        assertTrue(latch.await(5, TimeUnit.SECONDS));
+        verify(tourService, times(2)).searchPage(any(Map.class), any(PageRequest.class));
     }
 
     @Test
@@ -792,7 +846,7 @@ class DashboardControllerTest {
         tourWithoutLocations.setActive(true);
         tourWithoutLocations.setLocations(null);
 
-        when(tourService.getByIdWithDependencies(3)).thenReturn(tourWithoutLocations);
+        when(tourService.getForDetails(3)).thenReturn(tourWithoutLocations);
         when(tourService.getLocationsForTour(3)).thenReturn(Arrays.asList(testLocation));
 
         CountDownLatch latch = new CountDownLatch(1);
@@ -807,7 +861,7 @@ class DashboardControllerTest {
 
     @Test
     void testShowTourDetailsNotFound() throws SQLException, InterruptedException {
-        when(tourService.getByIdWithDependencies(999)).thenReturn(null);
+        when(tourService.getForDetails(999)).thenReturn(null);
         doNothing().when(controller).showError(anyString());
 
         Tour nonExistentTour = new Tour();
@@ -1051,15 +1105,15 @@ class DashboardControllerTest {
     void testTourCardDoubleClick(FxRobot robot
     ) throws InterruptedException, SQLException {
         when(userSession.isCustomer()).thenReturn(true);
-        when(tourService.getByIdWithDependencies(1)).thenReturn(testTour1);
+        when(tourService.getForDetails(1)).thenReturn(testTour1);
 
         CountDownLatch latch = new CountDownLatch(1);
         Platform.runLater(() -> {
             try {
-                controller.displayToursAsCards(Arrays.asList(testTour1));
+                TourCard tourCard = controller.createTourCard();
+                tourCard.show(testTour1);
 
-                VBox card = (VBox) controller.tourCardContainer.getChildren().getFirst();
-                card.getOnMouseClicked().handle(new javafx.scene.input.MouseEvent(
+                tourCard.getNode().getOnMouseClicked().handle(new javafx.scene.input.MouseEvent(
                         javafx.scene.input.MouseEvent.MOUSE_CLICKED, 0, 0, 0, 0,
                         javafx.scene.input.MouseButton.PRIMARY, 2, false, false, false, false,
                         true, false, false, false, false, false, null));
@@ -1074,7 +1128,7 @@ class DashboardControllerTest {
     @Test
     void testLoadToursEmptyResult(FxRobot robot) throws SQLException, InterruptedException {
         reset(tourService);
-        when(tourService.search(any(Map.class))).thenReturn(Arrays.asList());
+        when(tourService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(Arrays.asList(), null));
         doNothing().when(controller).showInfo(anyString());
 
         robot.clickOn("#filterButton");
@@ -1083,6 +1137,21 @@ class DashboardControllerTest {
         verify(controller).showInfo("За вказаними критеріями турів не знайдено");
     }
 
+    @Test
+    void testLiveSearchEmptyResultShowsPlaceholderInsteadOfDialog(FxRobot robot) throws SQLException, InterruptedException {
+        reset(tourService);
+        when(tourService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(Arrays.asList(), null));
+        doNothing().when(controller).showInfo(anyString());
+
+        robot.clickOn("#keywordField").write("Немає");
+        Thread.sleep(800);
+
+        verify(tourService, atLeastOnce()).searchPage(any(Map.class), any(PageRequest.class));
+        verify(controller, never()).showInfo("За вказаними критеріями турів не знайдено");
+        Label placeholder = (Label) controller.tourTable.getPlaceholder();
+        assertEquals("За вказаними критеріями турів не знайдено", placeholder.getText());
+    }
+
     @Test
     void testInitializeFiltersException() throws InterruptedException {
         DashboardController errorController = spy(new DashboardController(stage, sessionManager, tourService, locationService,
@@ -1347,4 +1416,34 @@ class DashboardControllerTest {
         verify(controller, never()).showSuccessBookingDialog(any(Tour.class));
         verify(controller, never()).showError(anyString());
     }
+
+    @Test
+    void testFilterDataLoadDoesNotBlockFxThread(FxRobot robot) throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        when(locationService.getCountries()).thenAnswer(invocation -> {
+            release.await(10, TimeUnit.SECONDS);
+            return List.of("Польща");
+        });
+        DashboardController asyncController = new DashboardController(stage, sessionManager, tourService, locationService,
+                tourTypeService, mealTypeService, transportService, userTourService, controllerFactory);
+        asyncController.setBackgroundExecutor(AsyncLoader.VIRTUAL_THREADS);
+
+        // When
+        CountDownLatch returned = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            asyncController.show();
+            returned.countDown();
+        });
+
+        // Then
+        try {
+            assertTrue(returned.await(5, TimeUnit.SECONDS));
+            verify(locationService, timeout(5000)).getCountries();
+        } finally {
+            release.countDown();
+        }
+        ComboBox<?> countryCombo = robot.lookup("#countryFilterCombo").queryComboBox();
+        WaitForAsyncUtils.waitFor(5, TimeUnit.SECONDS, () -> countryCombo.getItems().contains("Польща"));
+    }
 }
@@ -130,7 +130,7 @@ class TourEditControllerTest {
         when(mealService.getAll()).thenReturn(Arrays.asList(testMeal1, testMeal2));
         when(transportService.getAll()).thenReturn(Arrays.asList(testTransport1, testTransport2));
         when(locationService.getAll()).thenReturn(Arrays.asList(testLocation1, testLocation2, testLocation3));
-        when(tourService.getByIdWithDependencies(1)).thenReturn(tourToEdit);
+        when(tourService.getForEdit(1)).thenReturn(tourToEdit);
         when(tourService.getLocationsForTour(1)).thenReturn(Arrays.asList(testLocation1, testLocation2));
         when(tourService.update(any(Tour.class))).thenReturn(true);
     }
@@ -537,7 +537,7 @@ class TourEditControllerTest {
     void testLoadTourDataWithNullTour() throws SQLException {
         WaitForAsyncUtils.waitForFxEvents();
 
-        when(tourService.getByIdWithDependencies(1)).thenReturn(null);
+        when(tourService.getForEdit(1)).thenReturn(null);
 
         Platform.runLater(() -> {
             controller.editStage.close();
@@ -549,7 +549,7 @@ class TourEditControllerTest {
 
         WaitForAsyncUtils.waitForFxEvents();
 
-        verify(tourService, timeout(3000)).getByIdWithDependencies(1);
+        verify(tourService, timeout(3000)).getForEdit(1);
     }
 
     @Test
@@ -22,6 +22,8 @@ import tourapp.model.user.UserType;
 import tourapp.service.transport_service.TransportService;
 import tourapp.service.transport_service.TransportTypeService;
 import tourapp.util.ControllerFactory;
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
 import tourapp.util.SessionManager;
 import tourapp.view.*;
 import tourapp.view.auth_controller.LoginController;
@@ -102,7 +104,7 @@ class TransportControllerTest {
             List<TransportType> transportTypes = Arrays.asList(testTransportType);
 
             when(transportService.getAll()).thenReturn(transports);
-            when(transportService.search(any(Map.class))).thenReturn(transports);
+            when(transportService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(transports, null));
             when(transportService.getById(1)).thenReturn(testTransport1);
             when(transportService.getById(2)).thenReturn(testTransport2);
             when(transportTypeService.getAll()).thenReturn(transportTypes);
@@ -432,7 +434,7 @@ class TransportControllerTest {
     void testFilterWithSQLExceptions(FxRobot robot) throws SQLException, InterruptedException {
         waitForFxEvents();
 
-        when(transportService.search(any(Map.class)))
+        when(transportService.searchPage(any(Map.class), any(PageRequest.class)))
                 .thenThrow(new SQLException("Database connection error"));
 
         robot.clickOn("#filterButton");
@@ -15,6 +15,7 @@ import org.testfx.framework.junit5.ApplicationExtension;
 import org.testfx.framework.junit5.Start;
 import tourapp.model.user.User;
 import tourapp.model.user.UserType;
+import tourapp.service.user_service.CredentialService;
 import tourapp.service.user_service.UserService;
 import tourapp.util.ControllerFactory;
 import tourapp.util.SessionManager;
@@ -49,6 +50,7 @@ class UserCabinetControllerTest {
     @Mock private Logger logger;
 
     private Stage stage;
+    private CredentialService credentialService;
     private User testUser;
     private UserType adminUserType;
     private UserType customerUserType;
@@ -60,8 +62,10 @@ class UserCabinetControllerTest {
         MockitoAnnotations.openMocks(this);
         setupTestData();
         setupMocks();
+        // A real pool over the mocked UserService, so the password tests still stub and verify UserService.
+        credentialService = new CredentialService(userService, 1, 8);
 
-        controller = spy(new UserCabinetController(stage, sessionManager, userService, controllerFactory));
+        controller = spy(new UserCabinetController(stage, sessionManager, userService, credentialService, controllerFactory));
         BaseController.logger = logger;
 
         controller.show();
@@ -128,7 +132,7 @@ class UserCabinetControllerTest {
 
     @Test
     void testShowMethod() {
-        UserCabinetController testController = spy(new UserCabinetController(stage, sessionManager, userService, controllerFactory));
+        UserCabinetController testController = spy(new UserCabinetController(stage, sessionManager, userService, credentialService, controllerFactory));
 
         doNothing().when(testController).loadAndShow(anyString(), anyString());
 
@@ -19,6 +19,8 @@ import tourapp.model.user.UserType;
 import tourapp.service.user_service.UserService;
 import tourapp.service.user_service.UserTypeService;
 import tourapp.util.ControllerFactory;
+import tourapp.util.Page;
+import tourapp.util.PageRequest;
 import tourapp.util.SessionManager;
 import tourapp.view.*;
 import tourapp.view.auth_controller.LoginController;
@@ -98,7 +100,7 @@ class UserControllerTest {
             List<UserType> userTypes = Arrays.asList(adminUserType, customerUserType);
 
             when(userService.getAll()).thenReturn(users);
-            when(userService.searchByTerm(anyString())).thenReturn(users);
+            when(userService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(users, null));
             when(userService.getById(anyInt())).thenReturn(testUser1);
             when(userTypeService.getAll()).thenReturn(userTypes);
 
@@ -309,15 +311,15 @@ class UserControllerTest {
 
         robot.clickOn("#filterButton");
         Thread.sleep(200);
-        verify(userService, atLeastOnce()).getAll();
+        verify(userService, atLeastOnce()).searchPage(any(Map.class), any(PageRequest.class));
 
         reset(userService);
-        when(userService.searchByTerm(anyString())).thenReturn(Arrays.asList(testUser1));
+        when(userService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(Arrays.asList(testUser1), null));
 
         robot.clickOn("#keywordField").eraseText(10).write("Test User");
         robot.clickOn("#filterButton");
         Thread.sleep(200);
-        verify(userService).searchByTerm("Test User");
+        verify(userService).searchPage(argThat(filters -> "Test User".equals(filters.get("keyword"))), any(PageRequest.class));
     }
 
     @Test
@@ -358,7 +360,7 @@ class UserControllerTest {
     void testSearchWithEmptyResults(FxRobot robot) throws Exception {
         waitForFxEvents();
 
-        when(userService.searchByTerm(anyString())).thenReturn(Collections.emptyList());
+        when(userService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(Collections.emptyList(), null));
 
         robot.clickOn("#keywordField").write("nonexistent");
         robot.clickOn("#filterButton");
@@ -455,7 +457,7 @@ class UserControllerTest {
 
         reset(userService);
         when(userService.delete(5)).thenReturn(true);
-        when(userService.getAll()).thenReturn(Arrays.asList(testUser1, testUser2));
+        when(userService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(Arrays.asList(testUser1, testUser2), null));
 
         robot.clickOn("#deleteUserButton");
         Thread.sleep(200);
@@ -636,8 +638,7 @@ class UserControllerTest {
         customerUser.setEmail("customer@test.com");
         customerUser.setUserType(customerUserType);
 
-        List<User> searchResults = Arrays.asList(adminUser, customerUser);
-        when(userService.searchByTerm("Test")).thenReturn(searchResults);
+        when(userService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(List.of(customerUser), null));
 
         robot.clickOn("#keywordField").eraseText(20).write("Test");
 
@@ -650,8 +651,9 @@ class UserControllerTest {
         robot.clickOn("#filterButton");
         Thread.sleep(200);
 
-        verify(userService).searchByTerm("Test");
-        verify(userService, never()).getAll();
+        verify(userService).searchPage(argThat(filters ->
+                "Test".equals(filters.get("keyword")) && Integer.valueOf(customerUserType.getId()).equals(filters.get("userTypeId"))
+        ), any(PageRequest.class));
 
         CountDownLatch latch = new CountDownLatch(1);
         Platform.runLater(() -> {
@@ -677,8 +679,7 @@ class UserControllerTest {
         adminUser.setEmail("admin@test.com");
         adminUser.setUserType(adminUserType);
 
-        List<User> allUsers = Arrays.asList(testUser1, testUser2, adminUser);
-        when(userService.getAll()).thenReturn(allUsers);
+        when(userService.searchPage(any(Map.class), any(PageRequest.class))).thenReturn(new Page<>(List.of(adminUser), null));
 
         robot.clickOn("#keywordField").eraseText(20).write("   ");
 
@@ -691,8 +692,9 @@ class UserControllerTest {
         robot.clickOn("#filterButton");
         Thread.sleep(200);
 
-        verify(userService).getAll();
-        verify(userService, never()).searchByTerm(anyString());
+        verify(userService).searchPage(argThat(filters ->
+                !filters.containsKey("keyword") && Integer.valueOf(adminUserType.getId()).equals(filters.get("userTypeId"))
+        ), any(PageRequest.class));
 
         CountDownLatch latch = new CountDownLatch(1);
         Platform.runLater(() -> {
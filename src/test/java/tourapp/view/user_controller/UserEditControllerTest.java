@@ -14,6 +14,7 @@ import org.testfx.framework.junit5.Start;
 import org.testfx.util.WaitForAsyncUtils;
 import tourapp.model.user.User;
 import tourapp.model.user.UserType;
+import tourapp.service.user_service.CredentialService;
 import tourapp.service.user_service.UserService;
 import tourapp.service.user_service.UserTypeService;
 import tourapp.util.SessionManager;
@@ -46,6 +47,7 @@ class UserEditControllerTest {
     private UserEditController editController;
     private UserEditController createController;
     private Stage primaryStage;
+    private CredentialService credentialService;
     private UserType testUserType1;
     private UserType testUserType2;
     private UserType adminUserType;
@@ -57,8 +59,10 @@ class UserEditControllerTest {
         this.primaryStage = stage;
         setupTestData();
         setupMocks();
+        // A real pool over the mocked UserService, so create and password tests still stub UserService.
+        credentialService = new CredentialService(userService, 1, 8);
 
-        editController = spy(new UserEditController(primaryStage, sessionManager, userService, userTypeService, userToEdit));
+        editController = spy(new UserEditController(primaryStage, sessionManager, userService, credentialService, userTypeService, userToEdit));
         editController.setOnSave(() -> {});
         editController.show();
     }
@@ -345,7 +349,7 @@ class UserEditControllerTest {
                 editController.editStage.close();
             }
 
-            createController = new UserEditController(primaryStage, sessionManager, userService, userTypeService, null);
+            createController = new UserEditController(primaryStage, sessionManager, userService, credentialService, userTypeService, null);
             createController.setOnSave(() -> {});
             createController.show();
         });
@@ -370,13 +374,13 @@ class UserEditControllerTest {
                 editController.editStage.close();
             }
 
-            createController = new UserEditController(primaryStage, sessionManager, userService, userTypeService, null);
+            createController = new UserEditController(primaryStage, sessionManager, userService, credentialService, userTypeService, null);
             createController.show();
         });
 
         WaitForAsyncUtils.waitForFxEvents();
 
-        when(userService.create(any(User.class))).thenReturn(true);
+        when(userService.register(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
         when(userService.findByEmail("new@test.com")).thenReturn(null);
 
         CountDownLatch callbackLatch = new CountDownLatch(1);
@@ -410,7 +414,7 @@ class UserEditControllerTest {
 
         assertTrue(callbackLatch.await(5, TimeUnit.SECONDS), "Callback was not executed within timeout");
 
-        verify(userService, timeout(3000)).create(argThat(user ->
+        verify(userService, timeout(3000)).register(argThat(user ->
                 user.getName().equals("Новий Користувач") &&
                         user.getEmail().equals("new@test.com") &&
                         user.getUserType().equals(testUserType1)));
@@ -425,7 +429,7 @@ class UserEditControllerTest {
                 editController.editStage.close();
             }
 
-            createController = new UserEditController(primaryStage, sessionManager, userService, userTypeService, null);
+            createController = new UserEditController(primaryStage, sessionManager, userService, credentialService, userTypeService, null);
             createController.show();
         });
 
@@ -445,7 +449,7 @@ class UserEditControllerTest {
         robot.clickOn("Зберегти");
         WaitForAsyncUtils.waitForFxEvents();
 
-        verify(userService, never()).create(any(User.class));
+        verify(userService, never()).register(any(User.class));
     }
 
     @Test
@@ -464,7 +468,7 @@ class UserEditControllerTest {
 
         Platform.runLater(() -> {
             UserEditController nonAdminController = new UserEditController(
-                    primaryStage, sessionManager, userService, userTypeService, userToEdit);
+                    primaryStage, sessionManager, userService, credentialService, userTypeService, userToEdit);
             nonAdminController.show();
         });
 
@@ -568,7 +572,7 @@ class UserEditControllerTest {
         Platform.runLater(() -> {
             editController.editStage.close();
             UserEditController newController = new UserEditController(
-                    primaryStage, sessionManager, userService, userTypeService, userToEdit);
+                    primaryStage, sessionManager, userService, credentialService, userTypeService, userToEdit);
             newController.show();
         });
 